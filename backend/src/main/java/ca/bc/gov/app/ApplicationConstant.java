@@ -30,24 +30,104 @@ public final class ApplicationConstant {
           )
       );
 
+  /**
+   * Builds the whole submission detail document, with the business, contacts, addresses and
+   * matching results, as a single json object. The property names are the ones from the submission
+   * details dto, so the document can be read straight into it.
+   */
   public static final String SUBMISSION_DETAILS_QUERY = """
       SELECT
-        s.submission_id,
-        ssc.description as status,
-        stc.description as submission_type,
-        s.submission_date,
-        s.update_timestamp,
-        s.update_user,
-        btc.business_type_code as business_type,
-        sd.incorporation_number,
-        sd.client_number,
-        sd.organization_name,
-        ctc.client_type_code as client_type,
-        ctc.description as client_type_desc,
-        sd.good_standing_ind as good_standing,
-        sd.birthdate,
-        dc.district_code as district,
-        dc.district_code || ' - ' || dc.description as district_desc
+        jsonb_build_object(
+          'submissionId', s.submission_id,
+          'submissionStatus', ssc.description,
+          'submissionType', stc.description,
+          'submittedTimestamp', s.submission_date,
+          'updateTimestamp', s.update_timestamp,
+          'approvedTimestamp', smd.confirmed_match_timestamp,
+          'updateUser', s.update_user,
+          'business', jsonb_build_object(
+            'businessType', btc.business_type_code,
+            'registrationNumber', sd.incorporation_number,
+            'clientNumber', sd.client_number,
+            'organizationName', sd.organization_name,
+            'clientType', ctc.client_type_code,
+            'clientTypeDesc', ctc.description,
+            'goodStandingInd', sd.good_standing_ind,
+            'birthdate', sd.birthdate,
+            'district', dc.district_code,
+            'districtDesc', dc.district_code || ' - ' || dc.description
+          ),
+          'contact', coalesce(
+            (
+              select jsonb_agg(
+                jsonb_build_object(
+                  'index', c.index,
+                  'contactType', c.contact_desc,
+                  'firstName', c.first_name,
+                  'lastName', c.last_name,
+                  'phoneNumber', c.business_phone_number,
+                  'emailAddress', c.email_address,
+                  'locations', locations.names,
+                  'userId', c.idp_user_id
+                ) order by c.index
+              )
+              from (
+                select
+                  ROW_NUMBER() OVER (order by sc.submission_contact_id) - 1 as index,
+                  ctct.description as contact_desc,
+                  sc.first_name,
+                  sc.last_name,
+                  sc.business_phone_number,
+                  sc.email_address,
+                  sc.idp_user_id
+                from nrfc.submission_contact sc
+                left join nrfc.contact_type_code ctct
+                  on ctct.contact_type_code = sc.contact_type_code
+                where sc.submission_id = s.submission_id
+              ) c
+            ),
+            '[]'::jsonb
+          ),
+          'address', coalesce(
+            (
+              select jsonb_agg(
+                jsonb_build_object(
+                  'index', l.index,
+                  'streetAddress', l.street_address,
+                  'country', l.country_desc,
+                  'province', l.province_desc,
+                  'city', l.city_name,
+                  'postalCode', l.postal_code,
+                  'name', l.location_name
+                ) order by l.index
+              )
+              from (
+                select
+                  ROW_NUMBER() OVER (order by sl.submission_location_id) - 1 as index,
+                  sl.street_address,
+                  cc.description as country_desc,
+                  pc.description as province_desc,
+                  sl.city_name,
+                  sl.postal_code,
+                  sl.location_name
+                from nrfc.submission_location sl
+                left join nrfc.country_code cc on cc.country_code = sl.country_code
+                left join nrfc.province_code pc on (
+                  pc.province_code = sl.province_code and pc.country_code = cc.country_code
+                )
+                where sl.submission_id = s.submission_id
+              ) l
+            ),
+            '[]'::jsonb
+          ),
+          'matchers', coalesce(smd.matching_fields::jsonb, '{}'::jsonb),
+          'rejectionReason', case
+            when smd.submission_id is null then '' else smd.confirmed_match_message
+          end,
+          'confirmedMatchUserId', case
+            when smd.submission_id is null then '' else smd.confirmed_match_userid
+          end
+        )::text as document
       FROM nrfc.submission s
       left join nrfc.submission_status_code ssc
         on ssc.submission_status_code = s.submission_status_code
@@ -61,49 +141,52 @@ public final class ApplicationConstant {
         on dc.district_code = sd.district_code
       left join nrfc.client_type_code ctc
         on ctc.client_type_code = sd.client_type_code
+      left join lateral (
+        select coalesce(
+          jsonb_agg(distinct sl.location_name) filter (where sl.location_name is not null),
+          '[]'::jsonb
+        ) as names
+        from nrfc.submission_location sl
+        where sl.submission_id = s.submission_id
+      ) locations on true
+      left join lateral (
+        select
+          m.submission_id,
+          m.matching_fields,
+          m.confirmed_match_message,
+          m.confirmed_match_timestamp,
+          m.confirmed_match_userid
+        from nrfc.submission_matching_detail m
+        where m.submission_id = s.submission_id
+        limit 1
+      ) smd on true
       where s.submission_id = :submissionId""";
 
-  public static final String SUBMISSION_CONTACTS_QUERY = """
-      SELECT
-        ROW_NUMBER() OVER (order by sc.submission_contact_id ) AS index,
-        sc.contact_type_code,
-        ctc.description as contact_desc,
-        sc.first_name,
-        sc.last_name,
-        sc.business_phone_number,
-        sc.email_address,
-        (
-          select STRING_AGG(sl.location_name,', ') as locations 
-          from nrfc.submission_location sl 
-          left join nrfc.submission_location_contact_xref slcx 
-          on slcx.submission_location_id = sl.submission_location_id 
-          left join nrfc.submission_contact sc 
-          on sc.submission_contact_id = slcx.submission_contact_id 
-          where sl.submission_id = :submissionId
-        ) as locations,
-        sc.idp_user_id
-      FROM nrfc.submission_contact sc
-      left join nrfc.contact_type_code ctc on ctc.contact_type_code = sc.contact_type_code
-      where sc.submission_id = :submissionId""";
-
-  public static final String SUBMISSION_LOCATION_QUERY = """
+  /**
+   * Lists the submissions for the dashboard, with the filters added to the where clause. The
+   * total is counted before the limit and offset are applied.
+   */
+  public static final String SUBMISSION_LIST_QUERY = """
       SELECT
-        ROW_NUMBER() OVER (order by sl.submission_location_id ) AS index,
-        sl.street_address,
-        sl.country_code,
-        cc.description as country_desc,
-        sl.province_code,
-        pc.description as province_desc,
-        sl.city_name,
-        sl.postal_code,
-        sl.location_name
-      FROM nrfc.submission_location sl
-      left join nrfc.country_code cc on cc.country_code = sl.country_code
-      left join nrfc.province_code pc on (
-        pc.province_code = sl.province_code and pc.country_code = cc.country_code
-      )
-      where sl.submission_id = :submissionId
-      order by sl.submission_location_id""";
+        s.submission_id,
+        s.submission_type_code,
+        s.submission_status_code,
+        s.submission_date,
+        s.update_user,
+        sd.organization_name,
+        coalesce(ctc.description, sd.client_type_code) as client_type_desc,
+        coalesce(dc.district_code || ' - ' || dc.description, '') as district_desc,
+        count(*) over () as total
+      FROM nrfc.submission s
+      inner join nrfc.submission_detail sd
+        on sd.submission_id = s.submission_id
+      left join nrfc.client_type_code ctc
+        on ctc.client_type_code = sd.client_type_code
+      left join nrfc.district_code dc
+        on dc.district_code = sd.district_code
+      where %s
+      order by s.submission_date desc
+      limit :limit offset :offset""";
 
   public static final String SUBMISSION_TYPE = "submissionType";
   public static final String SUBMISSION_STATUS = "submissionStatus";
@@ -1,7 +1,9 @@
 package ca.bc.gov.app.configuration;
 
 import java.time.Duration;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -9,6 +11,7 @@ import lombok.NoArgsConstructor;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.NestedConfigurationProperty;
 import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
 
 /**
  * The Forest client configuration.
@@ -43,6 +46,13 @@ public class ForestClientConfiguration {
   private int otherMaxSubmissions;
   @NestedConfigurationProperty
   private OpenDataConfiguration openData;
+  @Builder.Default
+  @NestedConfigurationProperty
+  private HealthConfiguration health = new HealthConfiguration();
+  @Builder.Default
+  private Map<String, ConnectionPoolConfiguration> connectionPools = new HashMap<>();
+  @Builder.Default
+  private Map<String, CircuitBreakerConfiguration> circuitBreakers = new HashMap<>();
 
   /**
    * The Common hosted email service configuration.
@@ -59,6 +69,33 @@ public class ForestClientConfiguration {
     private String clientSecret;
     private String scope;
     private List<String> copyEmail;
+    @Builder.Default
+    @NestedConfigurationProperty
+    private ChesOutboxConfiguration outbox = new ChesOutboxConfiguration();
+  }
+
+  /**
+   * The queued emails configuration. Emails are picked in batches, sent with a bounded
+   * concurrency, and retried with an exponential backoff until the maximum backoff.
+   */
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class ChesOutboxConfiguration {
+
+    @Builder.Default
+    private Duration interval = Duration.ofSeconds(10);
+    @Builder.Default
+    private int batchSize = 50;
+    @Builder.Default
+    private int concurrency = 4;
+    @Builder.Default
+    private Duration lease = Duration.ofMinutes(5);
+    @Builder.Default
+    private Duration backoff = Duration.ofSeconds(30);
+    @Builder.Default
+    private Duration maxBackoff = Duration.ofHours(1);
   }
 
   /**
@@ -91,7 +128,8 @@ public class ForestClientConfiguration {
   }
 
   /**
-   * The BC Registry configuration.
+   * The BC Registry configuration. Lookups are cached for the cache time to live, up to the cache
+   * size of each kind of lookup.
    */
   @Data
   @Builder
@@ -102,6 +140,10 @@ public class ForestClientConfiguration {
     private String uri;
     private String apiKey;
     private String accountId;
+    @Builder.Default
+    private Duration cacheTtl = Duration.ofMinutes(5);
+    @Builder.Default
+    private int cacheSize = 1000;
   }
 
   /**
@@ -127,6 +169,10 @@ public class ForestClientConfiguration {
 
     private String url;
     private String apiKey;
+    @Builder.Default
+    private Duration cacheTtl = Duration.ofHours(1);
+    @Builder.Default
+    private int cacheSize = 5000;
   }
 
   /**
@@ -153,7 +199,8 @@ public class ForestClientConfiguration {
   }
 
   /**
-   * The Open Data configuration.
+   * The Open Data configuration. The First Nations datasets are reloaded on each refresh, and saved
+   * on the snapshot path, if set, to be used on the next start until they are reloaded.
    */
   @Data
   @Builder
@@ -165,6 +212,88 @@ public class ForestClientConfiguration {
     private String sacTribeUrl;
     private String openMapsBandUrl;
     private String openMapsTribeUrl;
+    @Builder.Default
+    private Duration refresh = Duration.ofHours(24);
+    private String snapshotPath;
+    @Builder.Default
+    private DataSize maxDatasetSize = DataSize.ofMegabytes(16);
+  }
+
+  /**
+   * The downstream API health configuration. The health of each API is derived from the calls made
+   * to it during the window, and the API is only probed when it had no calls during the window.
+   */
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class HealthConfiguration {
+
+    @Builder.Default
+    private Duration window = Duration.ofMinutes(5);
+    @Builder.Default
+    private int windowSize = 100;
+    @Builder.Default
+    private double errorThreshold = 0.5;
+    @Builder.Default
+    private Duration probeInterval = Duration.ofMinutes(1);
+  }
+
+  /**
+   * The connection pool of an API. Each API has its own pool, so a slow API can only hold its own
+   * connections. Once every connection is busy, calls wait for one up to the pending limit and
+   * timeout, and idle or old connections are closed in the background.
+   */
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class ConnectionPoolConfiguration {
+
+    @Builder.Default
+    private int maxConnections = 50;
+    @Builder.Default
+    private int pendingAcquireMaxCount = 100;
+    @Builder.Default
+    private Duration pendingAcquireTimeout = Duration.ofSeconds(10);
+    @Builder.Default
+    private Duration maxIdleTime = Duration.ofSeconds(30);
+    @Builder.Default
+    private Duration maxLifeTime = Duration.ofMinutes(5);
+    @Builder.Default
+    private Duration evictInBackground = Duration.ofSeconds(30);
+    @Builder.Default
+    private boolean compress = true;
+  }
+
+  /**
+   * The circuit breaker of a group of API calls. Only a limited number of calls run at the same
+   * time. The circuit opens when the share of failed or slow calls among the most recent ones
+   * reaches the threshold, and while open every call fails straight away. Once the wait is over, a
+   * few calls are let through and the circuit closes again if all of them succeed.
+   */
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class CircuitBreakerConfiguration {
+
+    @Builder.Default
+    private boolean enabled = true;
+    @Builder.Default
+    private int maxConcurrentCalls = 10;
+    @Builder.Default
+    private int windowSize = 20;
+    @Builder.Default
+    private int minimumCalls = 10;
+    @Builder.Default
+    private double failureThreshold = 0.5;
+    @Builder.Default
+    private Duration slowCallDuration = Duration.ofSeconds(10);
+    @Builder.Default
+    private Duration waitInOpenState = Duration.ofSeconds(30);
+    @Builder.Default
+    private int halfOpenCalls = 3;
   }
 
   public record NameSecretDto(String name, String secret) {}
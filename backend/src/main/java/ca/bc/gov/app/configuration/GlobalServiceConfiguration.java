@@ -1,5 +1,7 @@
 package ca.bc.gov.app.configuration;
 
+import ca.bc.gov.app.configuration.ForestClientConfiguration.CircuitBreakerConfiguration;
+import ca.bc.gov.app.configuration.ForestClientConfiguration.ConnectionPoolConfiguration;
 import ca.bc.gov.app.converters.ForestClientDetailsSerializerModifier;
 import ca.bc.gov.app.dto.ValidationError;
 import ca.bc.gov.app.dto.bcregistry.BcRegistryAddressDto;
@@ -46,6 +48,8 @@ import ca.bc.gov.app.dto.client.MatchResult;
 import ca.bc.gov.app.dto.client.RelatedClientDto;
 import ca.bc.gov.app.dto.client.RelatedClientEntryDto;
 import ca.bc.gov.app.dto.legacy.AddressSearchDto;
+import ca.bc.gov.app.dto.legacy.ClientMatchCriteriaDto;
+import ca.bc.gov.app.dto.legacy.ClientMatchResultDto;
 import ca.bc.gov.app.dto.legacy.ClientRelatedProjection;
 import ca.bc.gov.app.dto.legacy.ContactSearchDto;
 import ca.bc.gov.app.dto.legacy.ForestClientContactDetailsDto;
@@ -56,6 +60,10 @@ import ca.bc.gov.app.dto.opendata.Feature;
 import ca.bc.gov.app.dto.opendata.FeatureProperties;
 import ca.bc.gov.app.dto.opendata.Geometry;
 import ca.bc.gov.app.dto.opendata.OpenData;
+import ca.bc.gov.app.health.CircuitBreaker;
+import ca.bc.gov.app.health.CircuitBreakerExchangeFilterFunction;
+import ca.bc.gov.app.health.HealthExchangeFilterFunction;
+import ca.bc.gov.app.health.LegacyCallGroups;
 import ca.bc.gov.app.health.ManualHealthIndicator;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -64,10 +72,17 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.flipkart.zjsonpatch.JsonPatch;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.netty.channel.ChannelOption;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
+import jakarta.annotation.PreDestroy;
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.flywaydb.database.postgresql.TransactionalModel;
 import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
@@ -81,6 +96,7 @@ import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.web.reactive.function.client.ExchangeFilterFunctions;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 /**
  * <p><b>Global Service Configuration</b></p>
@@ -139,6 +155,8 @@ import reactor.netty.http.client.HttpClient;
     FeatureProperties.class,
     AddressSearchDto.class,
     ContactSearchDto.class,
+    ClientMatchCriteriaDto.class,
+    ClientMatchResultDto.class,
     Crs.class,
     CrsProperties.class,
     Feature.class,
@@ -160,6 +178,9 @@ import reactor.netty.http.client.HttpClient;
 })
 public class GlobalServiceConfiguration {
 
+  // The connection pool of each API, closed when the application stops
+  private final List<ConnectionProvider> connectionProviders = new CopyOnWriteArrayList<>();
+
   /**
    * Returns a configured instance of WebClient to communicate with the CHES API based on the
    * provided configuration.
@@ -170,9 +191,14 @@ public class GlobalServiceConfiguration {
   @Bean
   public WebClient chesApi(
       ForestClientConfiguration configuration,
+      @Qualifier("chesHealthIndicator") ManualHealthIndicator chesHealthIndicator,
       WebClient.Builder webClientBuilder
   ) {
-    return webClientBuilder.baseUrl(configuration.getChes().getUri()).build();
+    return webClientBuilder
+        .baseUrl(configuration.getChes().getUri())
+        .clientConnector(connector(configuration, "ches"))
+        .filter(new HealthExchangeFilterFunction(chesHealthIndicator))
+        .build();
   }
 
   /**
@@ -189,6 +215,7 @@ public class GlobalServiceConfiguration {
   ) {
     return webClientBuilder
         .baseUrl(configuration.getChes().getTokenUrl())
+        .clientConnector(connector(configuration, "ches-auth"))
         .filter(
             ExchangeFilterFunctions
                 .basicAuthentication(
@@ -212,7 +239,7 @@ public class GlobalServiceConfiguration {
       WebClient.Builder webClientBuilder
   ) {
 
-    HttpClient httpClient = HttpClient.create()
+    HttpClient httpClient = httpClient(configuration, "bcregistry")
         .responseTimeout(Duration.ofMinutes(2))
         .doOnConnected(conn -> conn
             .addHandlerLast(new ReadTimeoutHandler(120))
@@ -223,9 +250,9 @@ public class GlobalServiceConfiguration {
         .baseUrl(configuration.getBcregistry().getUri())
         .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
         .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
-        .defaultHeader(HttpHeaders.ACCEPT_ENCODING, "identity")
         .defaultHeader("x-apikey", configuration.getBcregistry().getApiKey())
         .defaultHeader("Account-Id", configuration.getBcregistry().getAccountId())
+        .filter(new HealthExchangeFilterFunction(bcRegistryApiHealthIndicator))
         .clientConnector(new ReactorClientHttpConnector(httpClient))
         .build();
   }
@@ -235,18 +262,38 @@ public class GlobalServiceConfiguration {
    * provided {@link ForestClientConfiguration}.
    *
    * @param configuration the configuration object for the Forest client
-   * @return a WebClient instance configured for the Oracle Legacy API
+   * @return a WebClient instance configured for the Oracle Legacy API, with a circuit breaker for
+   *     each group of calls
    */
   @Bean
   public WebClient legacyApi(
       ForestClientConfiguration configuration,
-      WebClient.Builder webClientBuilder
+      @Qualifier("legacyApiHealthIndicator") ManualHealthIndicator legacyApiHealthIndicator,
+      WebClient.Builder webClientBuilder,
+      MeterRegistry meterRegistry
   ) {
+    Map<String, CircuitBreaker> circuitBreakers = LegacyCallGroups.GROUPS
+        .stream()
+        .collect(Collectors.toMap(
+            Function.identity(),
+            group -> new CircuitBreaker(
+                "legacy",
+                group,
+                configuration
+                    .getCircuitBreakers()
+                    .getOrDefault("legacy-" + group, new CircuitBreakerConfiguration()),
+                meterRegistry
+            )
+        ));
+
     return webClientBuilder
         .baseUrl(configuration.getLegacy().getUrl())
+        .clientConnector(connector(configuration, "legacy"))
+        // Added first so calls rejected by the circuit breaker do not reach legacy's health
+        .filter(new CircuitBreakerExchangeFilterFunction(circuitBreakers, new LegacyCallGroups()))
+        .filter(new HealthExchangeFilterFunction(legacyApiHealthIndicator))
         .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
         .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
-        .defaultHeader(HttpHeaders.ACCEPT_ENCODING, "identity")
         .build();
   }
 
@@ -259,13 +306,15 @@ public class GlobalServiceConfiguration {
   @Bean
   public WebClient addressCompleteApi(
       ForestClientConfiguration configuration,
+      @Qualifier("canadaPostApiHealthIndicator") ManualHealthIndicator canadaPostApiHealthIndicator,
       WebClient.Builder webClientBuilder
   ) {
     return webClientBuilder
         .baseUrl(configuration.getAddressComplete().getUrl())
+        .clientConnector(connector(configuration, "addresscomplete"))
+        .filter(new HealthExchangeFilterFunction(canadaPostApiHealthIndicator))
         .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
         .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
-        .defaultHeader(HttpHeaders.ACCEPT_ENCODING, "identity")
         .build();
   }
 
@@ -285,9 +334,13 @@ public class GlobalServiceConfiguration {
   ) {
     return webClientBuilder
         .baseUrl(configuration.getOpenData().getSacBandUrl())
+        .clientConnector(connector(configuration, "opendata-sac-band"))
+        .codecs(codecs -> codecs
+            .defaultCodecs()
+            .maxInMemorySize((int) configuration.getOpenData().getMaxDatasetSize().toBytes())
+        )
         .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
         .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
-        .defaultHeader(HttpHeaders.ACCEPT_ENCODING, "identity")
         .build();
   }
 
@@ -307,9 +360,13 @@ public class GlobalServiceConfiguration {
   ) {
     return webClientBuilder
         .baseUrl(configuration.getOpenData().getSacTribeUrl())
+        .clientConnector(connector(configuration, "opendata-sac-tribe"))
+        .codecs(codecs -> codecs
+            .defaultCodecs()
+            .maxInMemorySize((int) configuration.getOpenData().getMaxDatasetSize().toBytes())
+        )
         .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
         .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
-        .defaultHeader(HttpHeaders.ACCEPT_ENCODING, "identity")
         .build();
   }
 
@@ -330,9 +387,13 @@ public class GlobalServiceConfiguration {
   ) {
     return webClientBuilder
         .baseUrl(configuration.getOpenData().getOpenMapsBandUrl())
+        .clientConnector(connector(configuration, "opendata-bcmaps-band"))
+        .codecs(codecs -> codecs
+            .defaultCodecs()
+            .maxInMemorySize((int) configuration.getOpenData().getMaxDatasetSize().toBytes())
+        )
         .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
         .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
-        .defaultHeader(HttpHeaders.ACCEPT_ENCODING, "identity")
         .build();
   }
 
@@ -353,9 +414,9 @@ public class GlobalServiceConfiguration {
   ) {
     return webClientBuilder
         .baseUrl(configuration.getOpenData().getOpenMapsTribeUrl())
+        .clientConnector(connector(configuration, "opendata-bcmaps-tribe"))
         .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
         .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
-        .defaultHeader(HttpHeaders.ACCEPT_ENCODING, "identity")
         .build();
   }
 
@@ -376,16 +437,66 @@ public class GlobalServiceConfiguration {
   @Bean
   public WebClient processorApi(
       ForestClientConfiguration configuration,
+      @Qualifier("processorApiHealthIndicator") ManualHealthIndicator processorApiHealthIndicator,
       WebClient.Builder webClientBuilder
   ) {
     return webClientBuilder
         .baseUrl(configuration.getProcessor().getUrl())
+        .clientConnector(connector(configuration, "processor"))
+        .filter(new HealthExchangeFilterFunction(processorApiHealthIndicator))
         .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
         .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
-        .defaultHeader(HttpHeaders.ACCEPT_ENCODING, "identity")
         .build();
   }
 
+  /**
+   * Creates the connector of an API, using its own {@link #httpClient(ForestClientConfiguration,
+   * String) HTTP client}.
+   *
+   * @param configuration the configuration with the connection pool of each API
+   * @param name          the name of the API
+   * @return a connector using the connection pool of the API
+   */
+  private ReactorClientHttpConnector connector(
+      ForestClientConfiguration configuration,
+      String name
+  ) {
+    return new ReactorClientHttpConnector(httpClient(configuration, name));
+  }
+
+  /**
+   * Creates the HTTP client of an API, with its own pool of connections so a slow API can only hold
+   * its own connections, and asking for gzip responses, used when the API supports it. The pool
+   * usage and the payload sizes are reported by the {@code reactor.netty} metrics.
+   *
+   * @param configuration the configuration with the connection pool of each API
+   * @param name          the name of the API, used to find its pool and to tag its metrics
+   * @return an HTTP client using the connection pool of the API
+   */
+  HttpClient httpClient(ForestClientConfiguration configuration, String name) {
+    ConnectionPoolConfiguration pool = configuration
+        .getConnectionPools()
+        .getOrDefault(name, new ConnectionPoolConfiguration());
+
+    ConnectionProvider connectionProvider = ConnectionProvider
+        .builder(name)
+        .maxConnections(pool.getMaxConnections())
+        .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+        .pendingAcquireTimeout(pool.getPendingAcquireTimeout())
+        .maxIdleTime(pool.getMaxIdleTime())
+        .maxLifeTime(pool.getMaxLifeTime())
+        .evictInBackground(pool.getEvictInBackground())
+        .metrics(true)
+        .build();
+    connectionProviders.add(connectionProvider);
+
+    return HttpClient
+        .create(connectionProvider)
+        .compress(pool.isCompress())
+        // Tagged by API instead of by uri, as most uris carry ids
+        .metrics(true, uri -> name);
+  }
+
   /**
    * Configures and provides an ObjectMapper bean. This ObjectMapper is built using the provided
    * Jackson2ObjectMapperBuilder and is configured with the JavaTimeModule and a custom
@@ -420,4 +531,14 @@ public class GlobalServiceConfiguration {
     return module;
   }
 
+  /**
+   * Closes the connection pool of each API when the application stops, so the open connections
+   * and the background eviction tasks are released.
+   */
+  @PreDestroy
+  public void disposeConnectionPools() {
+    connectionProviders.forEach(ConnectionProvider::dispose);
+    connectionProviders.clear();
+  }
+
 }
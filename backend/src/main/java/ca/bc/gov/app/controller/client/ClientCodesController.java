@@ -7,17 +7,21 @@ import ca.bc.gov.app.service.client.ClientCodeService;
 import ca.bc.gov.app.service.client.ClientCountryProvinceService;
 import ca.bc.gov.app.service.client.ClientDistrictService;
 import ca.bc.gov.app.service.client.ClientLegacyService;
+import ca.bc.gov.app.service.client.ClientReferenceCodeService;
 import ca.bc.gov.app.util.JwtPrincipalUtil;
 import io.micrometer.observation.annotation.Observed;
 import java.time.LocalDate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -38,6 +42,7 @@ public class ClientCodesController {
   private final ClientCountryProvinceService clientCountryProvinceService;
   private final ClientCodeService clientCodeService;
   private final ClientLegacyService legacyService;
+  private final ClientReferenceCodeService referenceCodeService;
   
   /**
    * Retrieves a list of active client type codes.
@@ -304,5 +309,17 @@ public class ClientCodesController {
     log.info("Requesting a list of active relationship codes by client type from legacy.");
     return legacyService.findActiveRelationshipCodesByClientTypeCode(clientTypeCode);
   }
-  
+
+  /**
+   * Reloads the reference codes kept in memory, such as after a code was changed on the database.
+   *
+   * @return a {@link Mono} that completes once the codes are reloaded
+   */
+  @PostMapping("/refresh")
+  @ResponseStatus(HttpStatus.NO_CONTENT)
+  public Mono<Void> refreshCodes() {
+    log.info("Requesting the reference codes to be reloaded.");
+    return referenceCodeService.refresh();
+  }
+
 }
@@ -5,10 +5,13 @@ import ca.bc.gov.app.util.JwtPrincipalUtil;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 
@@ -16,7 +19,14 @@ import lombok.extern.slf4j.Slf4j;
 public class ForestClientObfuscate<T> extends JsonSerializer<T> {
 
   public static final String CLIENT_IDENTIFICATION = "clientIdentification";
-  private final List<String> obfuscateFields = List.of(CLIENT_IDENTIFICATION, "birthdate");
+  private final Set<String> obfuscateFields = Set.of(CLIENT_IDENTIFICATION, "birthdate");
+
+  /**
+   * The properties of each serialized class, as introspecting the class is the most expensive part
+   * of the serialization and a search result serializes the same class for every row.
+   */
+  private final Map<Class<?>, List<BeanPropertyDefinition>> properties =
+      new ConcurrentHashMap<>();
 
   /**
    * Serializes the given value, obfuscating certain fields based on user roles.
@@ -41,9 +51,15 @@ public class ForestClientObfuscate<T> extends JsonSerializer<T> {
 
     gen.writeStartObject();
 
-    var beanProps = provider.getConfig().introspect(provider.constructType(value.getClass()))
-        .findProperties();
+    var beanProps = properties.computeIfAbsent(
+        value.getClass(),
+        type -> List.copyOf(
+            provider.getConfig().introspect(provider.constructType(type)).findProperties()
+        )
+    );
 
+    // The roles are the same for the whole object, so they are only resolved once
+    Set<String> roles = JwtPrincipalUtil.getRoles();
     String clientIdTypeCode = null;
 
     for (var property : beanProps) {
@@ -63,7 +79,7 @@ public class ForestClientObfuscate<T> extends JsonSerializer<T> {
         }
 
         if (obfuscateFields.contains(propName)) {
-          gen.writeString(obfuscate(propName, clientIdTypeCode, rawValue));
+          gen.writeString(obfuscate(propName, clientIdTypeCode, rawValue, roles));
           continue;
         }
 
@@ -81,10 +97,10 @@ public class ForestClientObfuscate<T> extends JsonSerializer<T> {
    * @param propName The name of the property.
    * @param propType The type of the property.
    * @param value The value to obfuscate.
+   * @param roles The roles of the current user.
    * @return The obfuscated value as a string.
    */
-  private String obfuscate(String propName, String propType, Object value) {
-    Set<String> roles = JwtPrincipalUtil.getRoles();
+  private String obfuscate(String propName, String propType, Object value, Set<String> roles) {
 
     // Admins can see the BCSC
     if (
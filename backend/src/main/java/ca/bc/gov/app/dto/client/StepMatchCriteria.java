@@ -0,0 +1,51 @@
+package ca.bc.gov.app.dto.client;
+
+import ca.bc.gov.app.dto.legacy.ClientMatchCriteriaDto;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A legacy search done by a step matcher, along with how a match on it should be reported.
+ *
+ * @param id         the criteria id, unique inside a step
+ * @param fieldName  the field name used in the {@link MatchResult}
+ * @param fuzzy      whether a match is reported as fuzzy
+ * @param partial    whether a match is reported as partial
+ * @param type       the legacy search type
+ * @param parameters the legacy search parameters
+ */
+public record StepMatchCriteria(
+    String id,
+    String fieldName,
+    boolean fuzzy,
+    boolean partial,
+    String type,
+    Map<String, String> parameters
+) {
+
+  /**
+   * Creates a new criteria with the parameters provided as name and value pairs. Parameters without
+   * a value are left out.
+   */
+  public static StepMatchCriteria of(
+      String id,
+      String fieldName,
+      boolean fuzzy,
+      boolean partial,
+      String type,
+      String... parameters
+  ) {
+    Map<String, String> values = new HashMap<>();
+    for (int index = 0; index + 1 < parameters.length; index += 2) {
+      if (parameters[index + 1] != null) {
+        values.put(parameters[index], parameters[index + 1]);
+      }
+    }
+    return new StepMatchCriteria(id, fieldName, fuzzy, partial, type, values);
+  }
+
+  public ClientMatchCriteriaDto toCriteria() {
+    return new ClientMatchCriteriaDto(id, type, parameters);
+  }
+
+}
@@ -0,0 +1,11 @@
+package ca.bc.gov.app.dto.legacy;
+
+import java.util.Map;
+
+public record ClientMatchCriteriaDto(
+    String id,
+    String type,
+    Map<String, String> parameters
+) {
+
+}
@@ -0,0 +1,10 @@
+package ca.bc.gov.app.dto.legacy;
+
+import java.util.List;
+
+public record ClientMatchResultDto(
+    String id,
+    List<ForestClientDto> clients
+) {
+
+}
@@ -46,7 +46,7 @@ public class EmailLogEntity {
   
   @Column("email_address")
   @NotNull
-  @Size(min = 5, max = 100)
+  @Size(min = 5, max = 1000)
   private String emailAddress;
   
   @Column("email_subject")
@@ -64,6 +64,16 @@ public class EmailLogEntity {
   @Column("update_timestamp")
   private LocalDateTime updateDate;
 
+  @Column("email_key")
+  @Size(max = 100)
+  private String emailKey;
+
+  @Column("send_attempts")
+  private int sendAttempts;
+
+  @Column("next_attempt_timestamp")
+  private LocalDateTime nextAttempt;
+
   @Transient
   private Map<String,Object> variables;
 }
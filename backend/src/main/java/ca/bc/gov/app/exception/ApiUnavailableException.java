@@ -0,0 +1,15 @@
+package ca.bc.gov.app.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class ApiUnavailableException extends ResponseStatusException {
+
+  public ApiUnavailableException(String api) {
+    super(HttpStatus.SERVICE_UNAVAILABLE,
+        String.format("The %s system is busy or unavailable, please try again later", api));
+  }
+
+}
@@ -0,0 +1,244 @@
+package ca.bc.gov.app.health;
+
+import ca.bc.gov.app.configuration.ForestClientConfiguration.CircuitBreakerConfiguration;
+import ca.bc.gov.app.exception.ApiUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Circuit breaker and bulkhead for a group of calls to a downstream API. Only the configured number
+ * of calls run at the same time, and any other call fails straight away with an
+ * {@link ApiUnavailableException}, so a slow API does not pile up requests waiting on it. The
+ * circuit opens when the share of failed or slow calls among the most recent ones reaches the
+ * threshold, and every call fails straight away while it is open. Once the wait is over, a few
+ * calls are let through, and the circuit closes if they all succeed or opens again on the first
+ * failure.
+ *
+ * <p>The state ({@code 0} closed, {@code 1} open, {@code 2} half open), the calls running and the
+ * outcome of each call are reported by the {@code service.<name>.circuitbreaker.state},
+ * {@code service.<name>.bulkhead.active} and {@code service.<name>.circuitbreaker.calls} metrics,
+ * tagged by group.
+ */
+@Slf4j
+public class CircuitBreaker {
+
+  enum State {
+    CLOSED, OPEN, HALF_OPEN
+  }
+
+  private final String name;
+  private final String group;
+  private final CircuitBreakerConfiguration configuration;
+  private final Clock clock;
+  private final Counter successCalls;
+  private final Counter failedCalls;
+  private final Counter slowCalls;
+  private final Counter rejectedCalls;
+
+  // The most recent outcomes while closed, true for a failed or slow call
+  private final Deque<Boolean> outcomes = new ArrayDeque<>();
+  private int failures;
+  private State state = State.CLOSED;
+  private Instant openedAt = Instant.MIN;
+  private int activeCalls;
+  private int halfOpenCalls;
+  private int halfOpenSuccesses;
+  private long transitions;
+
+  public CircuitBreaker(
+      String name,
+      String group,
+      CircuitBreakerConfiguration configuration,
+      MeterRegistry meterRegistry
+  ) {
+    this(name, group, configuration, meterRegistry, Clock.systemUTC());
+  }
+
+  CircuitBreaker(
+      String name,
+      String group,
+      CircuitBreakerConfiguration configuration,
+      MeterRegistry meterRegistry,
+      Clock clock
+  ) {
+    this.name = name;
+    this.group = group;
+    this.configuration = configuration;
+    this.clock = clock;
+
+    String prefix = "service." + name;
+    Tags tags = Tags.of("group", group);
+    Gauge
+        .builder(prefix + ".circuitbreaker.state", this, breaker -> breaker.getState().ordinal())
+        .tags(tags)
+        .register(meterRegistry);
+    Gauge
+        .builder(prefix + ".bulkhead.active", this, CircuitBreaker::getActiveCalls)
+        .tags(tags)
+        .register(meterRegistry);
+    String calls = prefix + ".circuitbreaker.calls";
+    this.successCalls = meterRegistry.counter(calls, tags.and("result", "success"));
+    this.failedCalls = meterRegistry.counter(calls, tags.and("result", "failure"));
+    this.slowCalls = meterRegistry.counter(calls, tags.and("result", "slow"));
+    this.rejectedCalls = meterRegistry.counter(calls, tags.and("result", "rejected"));
+  }
+
+  /**
+   * Runs a call through the circuit breaker, or fails straight away if the circuit is open or too
+   * many calls are running. A call counts as failed when it errors, when its value matches the
+   * failure predicate or when it takes longer than the slow call duration. A cancelled call does
+   * not count.
+   *
+   * @param call      the call to run
+   * @param isFailure tells if the value of the call is a failure, such as a server error response
+   * @param <T>       the type of the value
+   * @return a Mono with the value of the call, or an {@link ApiUnavailableException}
+   */
+  public <T> Mono<T> run(Mono<T> call, Predicate<T> isFailure) {
+    if (!configuration.isEnabled()) {
+      return call;
+    }
+
+    return Mono.defer(() -> {
+      Permit permit = acquire();
+      if (permit == null) {
+        rejectedCalls.increment();
+        return Mono.error(new ApiUnavailableException(name));
+      }
+
+      long start = System.nanoTime();
+      AtomicBoolean recorded = new AtomicBoolean();
+      return call
+          .doOnNext(value -> {
+            recorded.set(true);
+            record(permit, isFailure.test(value), Duration.ofNanos(System.nanoTime() - start));
+          })
+          .doOnError(throwable -> {
+            recorded.set(true);
+            record(permit, true, Duration.ofNanos(System.nanoTime() - start));
+          })
+          .doFinally(signalType -> release(permit, recorded.get()));
+    });
+  }
+
+  synchronized State getState() {
+    if (state == State.OPEN && isWaitOver()) {
+      return State.HALF_OPEN;
+    }
+    return state;
+  }
+
+  synchronized int getActiveCalls() {
+    return activeCalls;
+  }
+
+  /**
+   * Takes a slot for a call.
+   *
+   * @return the permit of the call, or null if the call is rejected
+   */
+  private synchronized Permit acquire() {
+    if (state == State.OPEN && isWaitOver()) {
+      moveTo(State.HALF_OPEN);
+    }
+
+    int maxHalfOpenCalls = Math.max(1, configuration.getHalfOpenCalls());
+    if (state == State.OPEN
+        || (state == State.HALF_OPEN && halfOpenCalls >= maxHalfOpenCalls)
+        || activeCalls >= Math.max(1, configuration.getMaxConcurrentCalls())) {
+      return null;
+    }
+
+    activeCalls++;
+    if (state == State.HALF_OPEN) {
+      halfOpenCalls++;
+    }
+    return new Permit(state, transitions);
+  }
+
+  private synchronized void record(Permit permit, boolean failed, Duration duration) {
+    boolean slow = !failed && duration.compareTo(configuration.getSlowCallDuration()) > 0;
+    if (failed) {
+      failedCalls.increment();
+    } else if (slow) {
+      slowCalls.increment();
+    } else {
+      successCalls.increment();
+    }
+
+    // Calls started before the state changed do not count towards the new state
+    if (permit.transitions() != transitions) {
+      return;
+    }
+
+    if (state == State.HALF_OPEN) {
+      if (failed || slow) {
+        moveTo(State.OPEN);
+      } else if (++halfOpenSuccesses >= Math.max(1, configuration.getHalfOpenCalls())) {
+        moveTo(State.CLOSED);
+      }
+      return;
+    }
+
+    outcomes.addLast(failed || slow);
+    if (failed || slow) {
+      failures++;
+    }
+    while (outcomes.size() > Math.max(1, configuration.getWindowSize())) {
+      if (Boolean.TRUE.equals(outcomes.removeFirst())) {
+        failures--;
+      }
+    }
+
+    if (outcomes.size() >= configuration.getMinimumCalls()
+        && (double) failures / outcomes.size() >= configuration.getFailureThreshold()) {
+      moveTo(State.OPEN);
+    }
+  }
+
+  private synchronized void release(Permit permit, boolean recorded) {
+    activeCalls--;
+    // A cancelled test call frees its slot, so the half open circuit does not get stuck
+    if (!recorded && permit.state() == State.HALF_OPEN && permit.transitions() == transitions) {
+      halfOpenCalls--;
+    }
+  }
+
+  private void moveTo(State next) {
+    if (next != State.HALF_OPEN) {
+      log.warn("Circuit breaker for {} {} calls is now {}", name, group, next);
+    }
+    state = next;
+    transitions++;
+    outcomes.clear();
+    failures = 0;
+    halfOpenCalls = 0;
+    halfOpenSuccesses = 0;
+    if (next == State.OPEN) {
+      openedAt = clock.instant();
+    }
+  }
+
+  private boolean isWaitOver() {
+    return !openedAt.plus(configuration.getWaitInOpenState()).isAfter(clock.instant());
+  }
+
+  /**
+   * The slot taken by a call, with the state and the transition it was taken in.
+   */
+  private record Permit(State state, long transitions) {
+
+  }
+
+}
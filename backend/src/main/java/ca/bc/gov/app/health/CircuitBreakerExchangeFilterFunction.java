@@ -0,0 +1,43 @@
+package ca.bc.gov.app.health;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+/**
+ * Runs every call made to a downstream API through the {@link CircuitBreaker} of its group, so a
+ * slow or failing group of calls fails fast without holding the others. Server errors and failed
+ * connections count as failures, while client errors such as a not found count as successful
+ * calls. Calls without a group, such as the health probe, are not limited.
+ *
+ * <p>The call holds its slot until the response status is received, as the API does most of its
+ * work before answering.
+ */
+@RequiredArgsConstructor
+public class CircuitBreakerExchangeFilterFunction implements ExchangeFilterFunction {
+
+  private final Map<String, CircuitBreaker> circuitBreakers;
+  private final Function<ClientRequest, String> groupOf;
+
+  @Override
+  public Mono<ClientResponse> filter(
+      ClientRequest request,
+      ExchangeFunction next
+  ) {
+    return Optional
+        .ofNullable(groupOf.apply(request))
+        .map(circuitBreakers::get)
+        .map(circuitBreaker -> circuitBreaker.run(
+            next.exchange(request),
+            clientResponse -> clientResponse.statusCode().is5xxServerError()
+        ))
+        .orElseGet(() -> next.exchange(request));
+  }
+
+}
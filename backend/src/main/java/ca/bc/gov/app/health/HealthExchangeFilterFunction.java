@@ -1,5 +1,6 @@
 package ca.bc.gov.app.health;
 
+import java.time.Duration;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.reactive.function.client.ClientRequest;
@@ -8,6 +9,11 @@ import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.ExchangeFunction;
 import reactor.core.publisher.Mono;
 
+/**
+ * Records the outcome and latency of every call made to a downstream API on its health indicator.
+ * Server errors and failed connections count as failures, while client errors such as a not found
+ * are part of the regular traffic and count as successful calls.
+ */
 @Slf4j
 @RequiredArgsConstructor
 public class HealthExchangeFilterFunction implements ExchangeFilterFunction {
@@ -19,11 +25,20 @@ public class HealthExchangeFilterFunction implements ExchangeFilterFunction {
       ClientRequest request,
       ExchangeFunction next
   ) {
-    return next.exchange(request)
-        .doOnNext(clientResponse -> healthIndicator.isHealthy(
-            clientResponse.statusCode().is2xxSuccessful(), null)
-        )
-        .doOnError(throwable -> healthIndicator.isHealthy(false, throwable));
+    return Mono.defer(() -> {
+      long start = System.nanoTime();
+      return next.exchange(request)
+          .doOnNext(clientResponse -> healthIndicator.isHealthy(
+              !clientResponse.statusCode().is5xxServerError(),
+              Duration.ofNanos(System.nanoTime() - start),
+              null
+          ))
+          .doOnError(throwable -> healthIndicator.isHealthy(
+              false,
+              Duration.ofNanos(System.nanoTime() - start),
+              throwable
+          ));
+    });
   }
 
 }
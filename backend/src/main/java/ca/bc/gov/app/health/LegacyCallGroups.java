@@ -0,0 +1,71 @@
+package ca.bc.gov.app.health;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.reactive.function.client.ClientRequest;
+
+/**
+ * Tells the group of each call made to the legacy API, so each group gets its own
+ * {@link CircuitBreaker}. The groups are:
+ *
+ * <ul>
+ *   <li>{@code patch}: client updates, the slowest and least frequent calls</li>
+ *   <li>{@code history}: the history logs of a client</li>
+ *   <li>{@code codes}: the code lookups</li>
+ *   <li>{@code matching}: the duplicate checks run while a submission is matched, either the
+ *   batched matches or one of the lookups of a single criterion, so a backlog of submissions does
+ *   not hold the staff searches</li>
+ *   <li>{@code search}: every other search and client lookup, such as the staff search screens
+ *   and the client details</li>
+ * </ul>
+ *
+ * <p>Calls outside of the API, such as the health probe, have no group and are not limited.
+ */
+public class LegacyCallGroups implements Function<ClientRequest, String> {
+
+  public static final String PATCH = "patch";
+  public static final String HISTORY = "history";
+  public static final String CODES = "codes";
+  public static final String MATCHING = "matching";
+  public static final String SEARCH = "search";
+
+  public static final List<String> GROUPS = List.of(PATCH, HISTORY, CODES, MATCHING, SEARCH);
+
+  // The legacy search endpoints used to check for duplicates
+  private static final Set<String> MATCHING_SEARCHES = Set.of(
+      "matches",
+      "address",
+      "contact",
+      "registrationOrName",
+      "individual",
+      "idAndLastName",
+      "id"
+  );
+
+  @Override
+  public String apply(ClientRequest request) {
+    String path = request.url().getPath();
+
+    if (HttpMethod.PATCH.equals(request.method())) {
+      return PATCH;
+    }
+    if (path.startsWith("/api/clients/history-logs/")) {
+      return HISTORY;
+    }
+    if (path.startsWith("/api/codes/")) {
+      return CODES;
+    }
+    if (path.startsWith("/api/search/")
+        && MATCHING_SEARCHES.contains(path.substring("/api/search/".length()).split("/")[0])) {
+      return MATCHING;
+    }
+    if (path.startsWith("/api/search") || path.startsWith("/api/clients/")
+        || path.startsWith("/api/locations/")) {
+      return SEARCH;
+    }
+    return null;
+  }
+
+}
@@ -1,10 +1,14 @@
 package ca.bc.gov.app.health;
 
+import java.time.Duration;
 import org.springframework.boot.actuate.health.HealthIndicator;
 
 public interface ManualHealthIndicator extends HealthIndicator {
 
   void isHealthy(boolean healthy, Throwable error);
 
+  default void isHealthy(boolean healthy, Duration latency, Throwable error) {
+    isHealthy(healthy, error);
+  }
 
 }
@@ -0,0 +1,142 @@
+package ca.bc.gov.app.health;
+
+import ca.bc.gov.app.configuration.ForestClientConfiguration.HealthConfiguration;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.health.Health;
+import reactor.core.publisher.Mono;
+
+/**
+ * Health indicator that derives the health of a downstream API from the calls already made to it,
+ * as recorded by the {@link HealthExchangeFilterFunction}. Only the calls made during the
+ * configured window are used, and the API is down when their error rate reaches the configured
+ * threshold. Reading the health never calls the API. When the API had no calls during the window,
+ * the optional probe is triggered in the background, at most once per probe interval. The probe
+ * call goes through the same {@link HealthExchangeFilterFunction} as any other, so it is only
+ * recorded there, and its own result is dropped.
+ */
+@Slf4j
+public class PassiveHealthIndicator implements ManualHealthIndicator {
+
+  private final HealthConfiguration configuration;
+  private final Supplier<Mono<?>> probe;
+  private final Clock clock;
+  private final Deque<Sample> samples = new ArrayDeque<>();
+  private final AtomicBoolean probing = new AtomicBoolean();
+  private Instant lastProbe = Instant.MIN;
+  private Throwable lastError;
+  private Health lastHealth = Health.unknown().build();
+
+  public PassiveHealthIndicator(HealthConfiguration configuration, Supplier<Mono<?>> probe) {
+    this(configuration, probe, Clock.systemUTC());
+  }
+
+  PassiveHealthIndicator(
+      HealthConfiguration configuration,
+      Supplier<Mono<?>> probe,
+      Clock clock
+  ) {
+    this.configuration = configuration;
+    this.probe = probe;
+    this.clock = clock;
+  }
+
+  @Override
+  public Health health() {
+    Health health = computeHealth();
+    if (health == null) {
+      probeIfIdle();
+      return lastHealth;
+    }
+    return health;
+  }
+
+  @Override
+  public void isHealthy(boolean healthy, Throwable error) {
+    isHealthy(healthy, Duration.ZERO, error);
+  }
+
+  @Override
+  public synchronized void isHealthy(boolean healthy, Duration latency, Throwable error) {
+    samples.addLast(new Sample(clock.instant(), healthy, latency));
+    while (samples.size() > Math.max(1, configuration.getWindowSize())) {
+      samples.removeFirst();
+    }
+    if (error != null) {
+      lastError = error;
+    }
+  }
+
+  /**
+   * Computes the health from the calls made during the window.
+   *
+   * @return the health, or null if there were no calls during the window
+   */
+  private synchronized Health computeHealth() {
+    Instant windowStart = clock.instant().minus(configuration.getWindow());
+    while (!samples.isEmpty() && samples.peekFirst().timestamp().isBefore(windowStart)) {
+      samples.removeFirst();
+    }
+
+    if (samples.isEmpty()) {
+      return null;
+    }
+
+    long failures = samples.stream().filter(sample -> !sample.healthy()).count();
+    double errorRate = (double) failures / samples.size();
+    long averageLatency = (long) samples
+        .stream()
+        .mapToLong(sample -> sample.latency().toMillis())
+        .average()
+        .orElse(0);
+
+    Health.Builder builder =
+        errorRate >= configuration.getErrorThreshold() ? Health.down() : Health.up();
+    if (failures > 0 && lastError != null) {
+      builder.withException(lastError);
+    }
+
+    lastHealth = builder
+        .withDetail("calls", samples.size())
+        .withDetail("errorRate", errorRate)
+        .withDetail("averageLatencyMs", averageLatency)
+        .build();
+    return lastHealth;
+  }
+
+  private void probeIfIdle() {
+    if (probe == null) {
+      return;
+    }
+
+    synchronized (this) {
+      Instant now = clock.instant();
+      if (lastProbe.plus(configuration.getProbeInterval()).isAfter(now)) {
+        return;
+      }
+      lastProbe = now;
+    }
+
+    if (probing.compareAndSet(false, true)) {
+      probe
+          .get()
+          .doFinally(signalType -> probing.set(false))
+          .subscribe(
+              unused -> {
+              },
+              error -> log.debug("Health probe failed: {}", error.getMessage())
+          );
+    }
+  }
+
+  private record Sample(Instant timestamp, boolean healthy, Duration latency) {
+
+  }
+
+}
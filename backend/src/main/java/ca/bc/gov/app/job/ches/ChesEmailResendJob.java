@@ -1,16 +1,23 @@
 package ca.bc.gov.app.job.ches;
 
+import ca.bc.gov.app.configuration.ForestClientConfiguration;
+import ca.bc.gov.app.configuration.ForestClientConfiguration.ChesOutboxConfiguration;
+import ca.bc.gov.app.entity.client.EmailLogEntity;
 import ca.bc.gov.app.repository.client.EmailLogRepository;
 import ca.bc.gov.app.service.ches.ChesService;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
 
 /**
- * Service for resending failed emails. This service is scheduled to run at fixed intervals and
- * resends any emails that previously failed to send.
+ * Service for sending queued and failed emails. Emails are queued on the email log by the
+ * processor, in the same transaction that changes the submission, and any email that failed to be
+ * sent is kept there as well. This service is scheduled to run at fixed intervals and sends the
+ * emails that are due, in batches and with a bounded concurrency.
  */
 @Service
 @Slf4j
@@ -18,47 +25,99 @@ public class ChesEmailResendJob {
 
   private final EmailLogRepository emailLogRepository;
   private final ChesService chesService;
+  private final ForestClientConfiguration configuration;
   private final Counter emailRetryCounter;
+  private final AtomicBoolean running = new AtomicBoolean();
 
   /**
    * Constructs a new ChesEmailResendJob.
    *
    * @param emailLogRepository the repository for accessing email logs
    * @param chesService        the service for sending emails
+   * @param configuration      the configuration with the batch and retry settings
    * @param meterRegistry      the registry for accessing application metrics
    */
   public ChesEmailResendJob(
       EmailLogRepository emailLogRepository,
       ChesService chesService,
+      ForestClientConfiguration configuration,
       MeterRegistry meterRegistry
   ) {
     this.emailLogRepository = emailLogRepository;
     this.chesService = chesService;
+    this.configuration = configuration;
 
     emailRetryCounter = meterRegistry.counter("service.ches", "status", "retry");
   }
 
   /**
-   * Starts the job for resending failed emails. This method is scheduled to run at fixed intervals
-   * and resends any emails that previously failed to send. For each failed email, it increments a
-   * counter and then attempts to resend the email.
+   * Starts the job for sending queued and failed emails. This method is scheduled to run at fixed
+   * intervals, and skips a run while the previous one is still sending.
    */
-  @Scheduled(fixedDelay = 30_000)
+  @Scheduled(fixedDelayString = "${ca.bc.gov.nrs.ches.outbox.interval:PT10S}")
   public void startResendJob() {
-    emailLogRepository
-        .findByEmailSentInd("N")
-        .doOnNext(emailLogEntity -> {
-          log.info("Resending failed email with ID: {}", emailLogEntity.getEmailLogId());
-          emailRetryCounter.increment();
-        })
-        .flatMap(emailLogEntity -> chesService.sendEmail(
-                emailLogEntity.getTemplateName(),
-                emailLogEntity.getEmailAddress(),
-                emailLogEntity.getEmailSubject(),
-                emailLogEntity.getVariables(),
-                emailLogEntity.getEmailLogId()
-            )
-        ).subscribe();
+    sendQueuedEmails()
+        .subscribe(
+            count -> log.debug("Finished email run with {} emails", count),
+            throwable -> log.error("Error sending queued emails", throwable)
+        );
   }
 
-}
\ No newline at end of file
+  /**
+   * Sends the emails that are due, unless the previous run is still sending. Each email is claimed
+   * before being sent, so it is not sent twice by concurrent runs, and a failure schedules the next
+   * attempt with an exponential backoff.
+   *
+   * @return a Mono with the number of emails picked, or empty if the run was skipped
+   */
+  public Mono<Long> sendQueuedEmails() {
+    return Mono.defer(() -> {
+      if (!running.compareAndSet(false, true)) {
+        log.info("Skipping email run, as the previous one is still sending");
+        return Mono.empty();
+      }
+
+      ChesOutboxConfiguration outbox = configuration.getChes().getOutbox();
+
+      return emailLogRepository
+          .findDue(Math.max(1, outbox.getBatchSize()))
+          .flatMap(emailLogEntity -> claim(emailLogEntity, outbox))
+          .doOnNext(emailLogEntity -> {
+            log.info("Sending queued email with ID: {} attempt {}",
+                emailLogEntity.getEmailLogId(),
+                emailLogEntity.getSendAttempts() + 1
+            );
+            if (emailLogEntity.getSendAttempts() > 0) {
+              emailRetryCounter.increment();
+            }
+          })
+          .flatMap(emailLogEntity -> chesService.sendEmail(
+                      emailLogEntity.getTemplateName(),
+                      emailLogEntity.getEmailAddress(),
+                      emailLogEntity.getEmailSubject(),
+                      emailLogEntity.getVariables(),
+                      emailLogEntity.getEmailLogId()
+                  )
+                  .onErrorResume(throwable -> {
+                    log.error("Error sending email with ID: {}", emailLogEntity.getEmailLogId(),
+                        throwable);
+                    return Mono.empty();
+                  }),
+              Math.max(1, outbox.getConcurrency())
+          )
+          .count()
+          .doFinally(signalType -> running.set(false));
+    });
+  }
+
+  private Mono<EmailLogEntity> claim(
+      EmailLogEntity emailLogEntity,
+      ChesOutboxConfiguration outbox
+  ) {
+    return emailLogRepository
+        .claim(emailLogEntity.getEmailLogId(), outbox.getLease().toSeconds())
+        .filter(claimed -> claimed > 0)
+        .map(claimed -> emailLogEntity);
+  }
+
+}
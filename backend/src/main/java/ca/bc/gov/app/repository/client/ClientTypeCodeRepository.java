@@ -4,13 +4,15 @@ import ca.bc.gov.app.entity.client.ClientTypeCodeEntity;
 import java.time.LocalDate;
 import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.data.repository.reactive.ReactiveSortingRepository;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Repository
 public interface ClientTypeCodeRepository
-    extends ReactiveCrudRepository<ClientTypeCodeEntity, String> {
+    extends ReactiveCrudRepository<ClientTypeCodeEntity, String>,
+    ReactiveSortingRepository<ClientTypeCodeEntity, String> {
 
   @Query("""
       SELECT * FROM
@@ -1,14 +1,69 @@
 package ca.bc.gov.app.repository.client;
 
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import org.springframework.stereotype.Repository;
 import ca.bc.gov.app.entity.client.EmailLogEntity;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 @Repository
 public interface EmailLogRepository extends
   ReactiveCrudRepository<EmailLogEntity, Integer> {
 
   Flux<EmailLogEntity> findByEmailSentInd(String emailSentInd);
-  
+
+  /**
+   * Finds up to {@code limit} not sent emails that are due, the oldest first. The due time is
+   * compared with the database clock, the same one used to queue the emails and to schedule their
+   * next attempt, so it does not depend on the clock of each instance.
+   *
+   * @param limit the maximum number of emails
+   * @return the emails that are due
+   */
+  @Query("""
+      SELECT * FROM nrfc.email_log
+      WHERE email_sent_ind = 'N'
+      AND next_attempt_timestamp <= now()
+      ORDER BY next_attempt_timestamp
+      LIMIT :limit"""
+  )
+  Flux<EmailLogEntity> findDue(int limit);
+
+  /**
+   * Claims a not sent email to be sent, so it is not picked again until the lease is over. Only
+   * one of the concurrent claims of the same email updates it.
+   *
+   * @param emailLogId   the email log id, the email is only claimed if it is due
+   * @param leaseSeconds for how long the email is not picked again, in case it is not sent
+   * @return the number of emails claimed, either 1 or 0
+   */
+  @Modifying
+  @Query("""
+      UPDATE nrfc.email_log
+      SET send_attempts = send_attempts + 1,
+      next_attempt_timestamp = now() + make_interval(secs => :leaseSeconds)
+      WHERE email_log_id = :emailLogId
+      AND email_sent_ind = 'N'
+      AND next_attempt_timestamp <= now()"""
+  )
+  Mono<Integer> claim(Integer emailLogId, long leaseSeconds);
+
+  /**
+   * Schedules the next attempt to send an email that failed to be sent.
+   *
+   * @param emailLogId     the email log id
+   * @param backoffSeconds how long to wait before the email can be picked again
+   * @return the number of emails updated, either 1 or 0
+   */
+  @Modifying
+  @Query("""
+      UPDATE nrfc.email_log
+      SET next_attempt_timestamp = now() + make_interval(secs => :backoffSeconds)
+      WHERE email_log_id = :emailLogId
+      AND email_sent_ind = 'N'"""
+  )
+  Mono<Integer> scheduleRetry(Integer emailLogId, long backoffSeconds);
+
 }
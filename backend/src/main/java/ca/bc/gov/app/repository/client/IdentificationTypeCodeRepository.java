@@ -3,13 +3,16 @@ package ca.bc.gov.app.repository.client;
 import java.time.LocalDate;
 import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.data.repository.reactive.ReactiveSortingRepository;
 import org.springframework.stereotype.Repository;
 import ca.bc.gov.app.entity.client.IdentificationTypeCodeEntity;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Repository
-public interface IdentificationTypeCodeRepository extends ReactiveCrudRepository<IdentificationTypeCodeEntity, String> {
+public interface IdentificationTypeCodeRepository
+    extends ReactiveCrudRepository<IdentificationTypeCodeEntity, String>,
+    ReactiveSortingRepository<IdentificationTypeCodeEntity, String> {
 
   @Query("""
       select * 
@@ -92,6 +92,11 @@ public class ApiAuthorizationCustomizer implements Customizer<AuthorizeExchangeS
             ApplicationConstant.USERTYPE_SERVICE_USER
         );
 
+    // Only admins can reload the reference codes
+    authorize
+        .pathMatchers(HttpMethod.POST, "/api/codes/refresh")
+        .hasAnyRole(ApplicationConstant.ROLE_ADMIN);
+
     // Viewer, editor, admin, suspend, BCeIDBusiness and BCSC users can GET from the codes endpoint
     authorize
         .pathMatchers(HttpMethod.GET, "/api/codes/**")
@@ -3,6 +3,8 @@ package ca.bc.gov.app.service.bcregistry;
 import static ca.bc.gov.app.ApplicationConstant.BUSINESS_SUMMARY_FILING_HISTORY;
 
 import ca.bc.gov.app.ApplicationConstant;
+import ca.bc.gov.app.configuration.ForestClientConfiguration;
+import ca.bc.gov.app.configuration.ForestClientConfiguration.BcRegistryConfiguration;
 import ca.bc.gov.app.dto.bcregistry.BcRegistryAddressDto;
 import ca.bc.gov.app.dto.bcregistry.BcRegistryAlternateNameDto;
 import ca.bc.gov.app.dto.bcregistry.BcRegistryBusinessAdressesDto;
@@ -26,7 +28,9 @@ import ca.bc.gov.app.exception.InvalidAccessTokenException;
 import ca.bc.gov.app.exception.NoClientDataFound;
 import ca.bc.gov.app.exception.UnexpectedErrorException;
 import ca.bc.gov.app.util.ClientMapper;
+import ca.bc.gov.app.util.ReactiveCache;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.observation.ObservationRegistry;
 import io.micrometer.observation.annotation.Observed;
 import java.util.ArrayList;
@@ -35,9 +39,11 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.codec.CodecException;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
@@ -48,6 +54,12 @@ import reactor.core.observability.micrometer.Micrometer;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+/**
+ * Looks up businesses on the BC Registry. The same business is usually looked up several times in
+ * a row, such as by the form autocomplete, the client details and the good standing check, so the
+ * facet searches and documents are cached for a short while, and concurrent lookups of the same
+ * business share a single call.
+ */
 @Slf4j
 @Service
 @Observed
@@ -56,15 +68,33 @@ public class BcRegistryService {
   private final WebClient bcRegistryApi;
   private final ObservationRegistry registry;
   private final ObjectMapper objectMapper;
+  private final ReactiveCache<FacetKey, List<BcRegistryFacetSearchResultEntryDto>> facetCache;
+  private final ReactiveCache<String, List<BcRegistryDocumentDto>> documentCache;
 
   public BcRegistryService(
       @Qualifier("bcRegistryApi") WebClient bcRegistryApi,
       ObservationRegistry registry,
-      ObjectMapper objectMapper
+      ObjectMapper objectMapper,
+      ForestClientConfiguration configuration,
+      MeterRegistry meterRegistry
   ) {
     this.bcRegistryApi = bcRegistryApi;
     this.registry = registry;
     this.objectMapper = objectMapper;
+
+    BcRegistryConfiguration bcRegistry = configuration.getBcregistry();
+    this.facetCache = new ReactiveCache<>(
+        "bcregistry.facet",
+        bcRegistry.getCacheSize(),
+        bcRegistry.getCacheTtl(),
+        meterRegistry
+    );
+    this.documentCache = new ReactiveCache<>(
+        "bcregistry.document",
+        bcRegistry.getCacheSize(),
+        bcRegistry.getCacheTtl(),
+        meterRegistry
+    );
   }
 
   /**
@@ -78,6 +108,15 @@ public class BcRegistryService {
    * @throws InvalidAccessTokenException if the access token is invalid or expired
    */
   public Flux<BcRegistryFacetSearchResultEntryDto> searchByFacets(String name, String identifier) {
+    return facetCache
+        .get(
+            new FacetKey(name, identifier),
+            key -> loadFacets(key.name(), key.identifier()).collectList()
+        )
+        .flatMapIterable(Function.identity());
+  }
+
+  private Flux<BcRegistryFacetSearchResultEntryDto> loadFacets(String name, String identifier) {
     log.info("Searching BC Registry for {}", Objects.toString(name, identifier));
     return
         bcRegistryApi
@@ -122,28 +161,23 @@ public class BcRegistryService {
                             buildUnexpectedMessage(exception.statusCode().value(), rawBody)
                         )))
             )
-            .bodyToMono(String.class)
+            .bodyToMono(BcRegistryFacetResponseDto.class)
+            .onErrorMap(CodecException.class, exception -> {
+              log.error("Failed to parse BC Registry facet JSON", exception);
+              return new UnexpectedErrorException(
+                  500,
+                  "Failed to parse BC Registry JSON: " + exception.getMessage()
+              );
+            })
             .name(ApplicationConstant.REQUEST_BCREGISTRY)
             .tag("kind", "facet")
             .tap(Micrometer.observation(registry))
-            .flatMapMany(json -> {
-              try {
-                BcRegistryFacetResponseDto dto =
-                    objectMapper.readValue(json, BcRegistryFacetResponseDto.class);
-                List<BcRegistryFacetSearchResultEntryDto> results =
-                    Optional.ofNullable(dto)
-                        .map(BcRegistryFacetResponseDto::searchResults)
-                        .map(BcRegistryFacetSearchResultsDto::results)
-                        .orElse(List.of());
-                return Flux.fromIterable(results);
-              } catch (Exception e) {
-                log.error("Failed to parse BC Registry facet JSON", e);
-                return Flux.error(new UnexpectedErrorException(
-                    500,
-                    "Failed to parse BC Registry JSON: " + e.getMessage()
-                ));
-              }
-            })
+            .flatMapIterable(dto ->
+                Optional.of(dto)
+                    .map(BcRegistryFacetResponseDto::searchResults)
+                    .map(BcRegistryFacetSearchResultsDto::results)
+                    .orElse(List.of())
+            )
             .filter(entry -> "active".equalsIgnoreCase(entry.status()))
             .doOnNext(
                 content ->
@@ -167,6 +201,12 @@ public class BcRegistryService {
    *                                     the access token used for the request is invalid
    */
   public Flux<BcRegistryDocumentDto> requestDocumentData(String value) {
+    return documentCache
+        .get(value, key -> loadDocumentData(key).collectList())
+        .flatMapIterable(Function.identity());
+  }
+
+  private Flux<BcRegistryDocumentDto> loadDocumentData(String value) {
     log.info("Requesting document for {}", value);
     return
         bcRegistryApi
@@ -252,22 +292,18 @@ public class BcRegistryService {
                 statusCode -> statusCode.isSameCodeAs(HttpStatusCode.valueOf(400)),
                 exception -> Mono.error(new InvalidAccessTokenException())
             )
-            .bodyToMono(String.class)
+            .bodyToMono(BcRegistryDocumentDto.class)
+            .onErrorMap(CodecException.class, exception -> {
+              log.error("Failed to parse BC Registry document JSON for {} / {}: {}",
+                  identifier, documentKey, exception.toString(), exception);
+              // Signal NoClientDataFound so the outer requestDocumentData's
+              // onErrorResume(NoClientDataFound.class, ...) fallback kicks in
+              // and builds the document from the facet search instead.
+              return new NoClientDataFound(identifier);
+            })
             .name(ApplicationConstant.REQUEST_BCREGISTRY)
             .tag("kind", "docget")
             .tap(Micrometer.observation(registry))
-            .flatMap(json -> {
-              try {
-                return Mono.just(objectMapper.readValue(json, BcRegistryDocumentDto.class));
-              } catch (Exception e) {
-                log.error("Failed to parse BC Registry document JSON for {} / {}: {}", 
-                    identifier, documentKey, e.toString(), e);
-                // Signal NoClientDataFound so the outer requestDocumentData's
-                // onErrorResume(NoClientDataFound.class, ...) fallback kicks in
-                // and builds the document from the facet search instead.
-                return Mono.error(new NoClientDataFound(identifier));
-              }
-            })
             .doOnNext(
                 document -> {
                   String legalName = Optional.ofNullable(document)
@@ -405,4 +441,9 @@ public class BcRegistryService {
     String abbreviated = StringUtils.abbreviate(normalized, 500);
     return "BC Registry request failed with status " + status + ": " + abbreviated;
   }
-}
\ No newline at end of file
+
+  private record FacetKey(String name, String identifier) {
+
+  }
+
+}
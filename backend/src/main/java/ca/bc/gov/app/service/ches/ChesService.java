@@ -1,6 +1,7 @@
 package ca.bc.gov.app.service.ches;
 
 import ca.bc.gov.app.configuration.ForestClientConfiguration;
+import ca.bc.gov.app.configuration.ForestClientConfiguration.ChesOutboxConfiguration;
 import ca.bc.gov.app.dto.ches.ChesMailBodyType;
 import ca.bc.gov.app.dto.ches.ChesMailEncoding;
 import ca.bc.gov.app.dto.ches.ChesMailErrorResponse;
@@ -8,7 +9,6 @@ import ca.bc.gov.app.dto.ches.ChesMailPriority;
 import ca.bc.gov.app.dto.ches.ChesMailRequest;
 import ca.bc.gov.app.dto.ches.ChesMailResponse;
 import ca.bc.gov.app.dto.ches.ChesRequestDto;
-import ca.bc.gov.app.dto.ches.CommonExposureJwtDto;
 import ca.bc.gov.app.dto.client.EmailLogDto;
 import ca.bc.gov.app.entity.client.EmailLogEntity;
 import ca.bc.gov.app.exception.BadRequestException;
@@ -23,10 +23,12 @@ import freemarker.template.Template;
 import freemarker.template.TemplateException;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.micrometer.observation.ObservationRegistry;
 import io.micrometer.observation.annotation.Observed;
 import java.io.IOException;
 import java.io.StringWriter;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -43,7 +45,6 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.observability.micrometer.Micrometer;
@@ -55,26 +56,43 @@ import reactor.core.publisher.Mono;
 public class ChesService {
 
   public static final String FAILED_TO_SEND_EMAIL = "Failed to send email: {}";
+
+  private static final List<String> EMAIL_TEMPLATES = List.of(
+      "approval",
+      "matched",
+      "pendingSubmission",
+      "registration",
+      "rejection",
+      "revision"
+  );
+
+  // Rendering is synchronous, so each thread reuses its own writer
+  private static final ThreadLocal<StringWriter> TEMPLATE_WRITER =
+      ThreadLocal.withInitial(() -> new StringWriter(8 * 1024));
+  private static final int TEMPLATE_WRITER_MAX_CAPACITY = 64 * 1024;
+
   private final ForestClientConfiguration configuration;
   private final WebClient chesApi;
-  private final WebClient authApi;
+  private final ChesTokenService tokenService;
   private final Configuration freeMarkerConfiguration;
   private final EmailLogRepository emailLogRepository;
   private final Counter emailCounterSuccess;
   private final Counter emailCounterFailure;
   private final ObservationRegistry registry;
+  private final MeterRegistry meterRegistry;
+  private final Map<String, Template> templates;
 
   public ChesService(
       ForestClientConfiguration configuration,
       @Qualifier("chesApi") WebClient chesApi,
-      @Qualifier("authApi") WebClient authApi,
+      ChesTokenService tokenService,
       EmailLogRepository emailLogRepository,
       MeterRegistry meterRegistry,
       ObservationRegistry registry
   ) {
     this.configuration = configuration;
     this.chesApi = chesApi;
-    this.authApi = authApi;
+    this.tokenService = tokenService;
     this.registry = registry;
     this.freeMarkerConfiguration = new Configuration(Configuration.VERSION_2_3_31);
     this.emailLogRepository = emailLogRepository;
@@ -83,6 +101,8 @@ public class ChesService {
 
     this.emailCounterSuccess = meterRegistry.counter("service.ches", "status", "success");
     this.emailCounterFailure = meterRegistry.counter("service.ches", "status", "failure");
+    this.meterRegistry = meterRegistry;
+    this.templates = loadTemplates();
 
   }
 
@@ -167,6 +187,7 @@ public class ChesService {
     } else {
       EmailLogEntity logEntity = createNewLogEntity(emailLogDto);
       return emailLogRepository.save(logEntity)
+          .flatMap(saved -> scheduleRetry(saved, 1))
           .thenReturn(transactionMsg);
     }
   }
@@ -185,12 +206,43 @@ public class ChesService {
 
     return emailLogRepository
         .save(existingLogEntity)
+        .flatMap(saved -> scheduleRetry(saved, saved.getSendAttempts()))
         .thenReturn(transactionMsg);
   }
 
+  /**
+   * Schedules the next attempt of an email that was not sent, based on the database clock as the
+   * emails are picked by comparing with it.
+   */
+  private Mono<Integer> scheduleRetry(EmailLogEntity logEntity, int attempts) {
+    if (!"N".equals(logEntity.getEmailSentInd())) {
+      return Mono.just(0);
+    }
+    return emailLogRepository.scheduleRetry(
+        logEntity.getEmailLogId(),
+        getRetryBackoff(attempts).toSeconds()
+    );
+  }
+
+  /**
+   * Gets how long to wait before trying to send a failed email again, doubling on each attempt
+   * until the maximum backoff.
+   */
+  private Duration getRetryBackoff(int attempts) {
+    ChesOutboxConfiguration outbox = configuration.getChes().getOutbox();
+    Duration backoff = outbox.getBackoff();
+    for (int attempt = 1; attempt < attempts && backoff.compareTo(outbox.getMaxBackoff()) < 0;
+        attempt++) {
+      backoff = backoff.multipliedBy(2);
+    }
+    return backoff.compareTo(outbox.getMaxBackoff()) < 0 ? backoff : outbox.getMaxBackoff();
+  }
+
   private EmailLogEntity createNewLogEntity(EmailLogDto emailLogDto) {
     EmailLogEntity logEntity = new EmailLogEntity();
     logEntity.setCreateDate(LocalDateTime.now());
+    // The next attempt of a failed email is scheduled once it is saved
+    logEntity.setNextAttempt(LocalDateTime.now());
     logEntity.setTemplateName(emailLogDto.templateName());
     logEntity.setEmailAddress(emailLogDto.emailAddress());
     logEntity.setEmailSubject(emailLogDto.subject());
@@ -241,7 +293,8 @@ public class ChesService {
             .doOnNext(request -> log.info("Sending email using CHES to {} with subject {}",
                 requestContent.emailTo(), subject))
             .flatMap(request ->
-                getToken()
+                tokenService
+                    .getToken()
                     .flatMap(token ->
                         chesApi
                             .post()
@@ -251,7 +304,11 @@ public class ChesService {
                             .body(Mono.just(request), ChesMailRequest.class)
                             .retrieve()
                             .onStatus(httpStatusCode -> httpStatusCode.value() == 401,
-                                response -> Mono.error(new InvalidAccessTokenException()))
+                                response -> {
+                                  // The token was rejected, so the next email gets a new one
+                                  tokenService.invalidate();
+                                  return Mono.error(new InvalidAccessTokenException());
+                                })
                             .onStatus(httpStatusCode -> httpStatusCode.value() == 403,
                                 response -> Mono.error(new InvalidRoleException()))
                             .onStatus(httpStatusCode -> httpStatusCode.value() == 400,
@@ -289,18 +346,57 @@ public class ChesService {
    * an exception occurs during template processing
    */
   public Mono<String> buildTemplate(String templateName, Map<String, Object> variables) {
-    StringWriter writer = new StringWriter();
+    Timer.Sample sample = Timer.start(meterRegistry);
+    StringWriter writer = TEMPLATE_WRITER.get();
     try {
-      Template template = freeMarkerConfiguration.getTemplate(templateName + ".html");
-      template.process(variables, writer);
+      getTemplate(templateName).process(variables, writer);
+      return Mono.just(writer.toString());
     } catch (TemplateException | IOException e) {
       return Mono.error(e);
+    } finally {
+      // Big emails would keep the buffer big for the thread, so it is dropped instead
+      if (writer.getBuffer().capacity() > TEMPLATE_WRITER_MAX_CAPACITY) {
+        TEMPLATE_WRITER.remove();
+      } else {
+        writer.getBuffer().setLength(0);
+      }
+      sample.stop(
+          Timer
+              .builder("service.ches.template")
+              .description("Time taken to render each email template")
+              .tag("template", templateName)
+              .register(meterRegistry)
+      );
     }
+  }
+
+  /**
+   * Gets the compiled template loaded at startup, or loads it if it is not one of the email
+   * templates, such as the ones used in tests.
+   */
+  private Template getTemplate(String templateName) throws IOException {
+    Template template = templates.get(templateName);
+    if (template != null) {
+      return template;
+    }
+    return freeMarkerConfiguration.getTemplate(templateName + ".html");
+  }
 
-    return Mono.just(writer.toString());
+  private Map<String, Template> loadTemplates() {
+    Map<String, Template> loaded = new HashMap<>();
+    for (String templateName : EMAIL_TEMPLATES) {
+      try {
+        loaded.put(templateName, freeMarkerConfiguration.getTemplate(templateName + ".html"));
+      } catch (IOException e) {
+        log.warn("Unable to load email template {}, it will be loaded when used", templateName, e);
+      }
+    }
+    log.info("Loaded email templates {}", loaded.keySet());
+    return Map.copyOf(loaded);
   }
 
-  private static Function<ClientResponse, Mono<? extends Throwable>> get500ErrorMessage() {
+
+  static Function<ClientResponse, Mono<? extends Throwable>> get500ErrorMessage() {
     return response ->
         response
             .bodyToMono(ChesMailErrorResponse.class)
@@ -310,7 +406,7 @@ public class ChesService {
                     errorMessageDetail.detail())));
   }
 
-  private static Function<ClientResponse, Mono<? extends Throwable>> get422ErrorMessage() {
+  static Function<ClientResponse, Mono<? extends Throwable>> get422ErrorMessage() {
     return response ->
         response
             .bodyToMono(ChesMailErrorResponse.class)
@@ -331,7 +427,7 @@ public class ChesService {
                 new UnableToProcessRequestException(errorMessageDetail)));
   }
 
-  private static Function<ClientResponse, Mono<? extends Throwable>> get400ErrorMessage() {
+  static Function<ClientResponse, Mono<? extends Throwable>> get400ErrorMessage() {
     return response ->
         response
             .bodyToMono(ChesMailErrorResponse.class)
@@ -341,27 +437,4 @@ public class ChesService {
                 new BadRequestException(errorMessageDetail)));
   }
 
-  private Mono<String> getToken() {
-
-    return
-        authApi
-            .post()
-            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_FORM_URLENCODED_VALUE)
-            .body(BodyInserters.fromFormData("grant_type", "client_credentials"))
-            .retrieve()
-            .onStatus(httpStatusCode -> httpStatusCode.value() == 401,
-                response -> Mono.error(new InvalidAccessTokenException()))
-            .onStatus(httpStatusCode -> httpStatusCode.value() == 403,
-                response -> Mono.error(new InvalidRoleException()))
-            .onStatus(httpStatusCode -> httpStatusCode.value() == 400, get400ErrorMessage())
-            .onStatus(httpStatusCode -> httpStatusCode.value() == 422, get422ErrorMessage())
-            .onStatus(HttpStatusCode::isError, get500ErrorMessage())
-            .bodyToMono(CommonExposureJwtDto.class)
-            .name("request.ches")
-            .tag("kind", "token")
-            .tap(Micrometer.observation(registry))
-            .map(CommonExposureJwtDto::accessToken)
-            .doOnNext(token -> log.info("Successfully retrieved access token"));
-  }
-
 }
@@ -0,0 +1,128 @@
+package ca.bc.gov.app.service.ches;
+
+import ca.bc.gov.app.dto.ches.CommonExposureJwtDto;
+import ca.bc.gov.app.exception.InvalidAccessTokenException;
+import ca.bc.gov.app.exception.InvalidRoleException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.observability.micrometer.Micrometer;
+import reactor.core.publisher.Mono;
+
+/**
+ * Holds the CHES access token, shared by every email sent. The token is only requested again
+ * shortly before it expires, and concurrent callers wait on the same request instead of each one
+ * requesting a new token. Cache hits and misses are reported by the {@code service.ches.token}
+ * counter.
+ */
+@Service
+@Slf4j
+public class ChesTokenService {
+
+  // Refresh ahead of the expiry, so a token is never sent about to expire
+  private static final Duration REFRESH_AHEAD = Duration.ofSeconds(30);
+
+  private final WebClient authApi;
+  private final ObservationRegistry registry;
+  private final Counter tokenHit;
+  private final Counter tokenMiss;
+
+  private final AtomicReference<AccessToken> current = new AtomicReference<>();
+  private final AtomicReference<Mono<AccessToken>> refreshing = new AtomicReference<>();
+
+  public ChesTokenService(
+      @Qualifier("authApi") WebClient authApi,
+      MeterRegistry meterRegistry,
+      ObservationRegistry registry
+  ) {
+    this.authApi = authApi;
+    this.registry = registry;
+    this.tokenHit = meterRegistry.counter("service.ches.token", "result", "hit");
+    this.tokenMiss = meterRegistry.counter("service.ches.token", "result", "miss");
+  }
+
+  /**
+   * Gets the current access token, requesting a new one if there is none or if it is about to
+   * expire.
+   *
+   * @return a Mono with the access token
+   */
+  public Mono<String> getToken() {
+    return Mono
+        .defer(() -> {
+          AccessToken token = current.get();
+          if (token != null && Instant.now().isBefore(token.refreshAt())) {
+            tokenHit.increment();
+            return Mono.just(token);
+          }
+          tokenMiss.increment();
+          return refreshing.updateAndGet(inFlight -> inFlight != null ? inFlight : refresh());
+        })
+        .map(AccessToken::value);
+  }
+
+  /**
+   * Drops the current token, so the next email requests a new one. Used when CHES rejects the
+   * token before it was expected to expire.
+   */
+  public void invalidate() {
+    current.set(null);
+  }
+
+  private Mono<AccessToken> refresh() {
+    return requestToken()
+        .map(jwt -> new AccessToken(jwt.accessToken(), refreshAt(jwt.expiresIn())))
+        .doOnNext(current::set)
+        .doOnNext(token -> log.info("Successfully retrieved access token, refreshing at {}",
+            token.refreshAt()))
+        .doFinally(signalType -> refreshing.set(null))
+        .cache();
+  }
+
+  private Instant refreshAt(long expiresIn) {
+    Duration lifetime = Duration.ofSeconds(Math.max(expiresIn, 0));
+    // Short lived tokens are refreshed halfway through instead
+    Duration ahead = lifetime.dividedBy(2).compareTo(REFRESH_AHEAD) < 0
+        ? lifetime.dividedBy(2)
+        : REFRESH_AHEAD;
+    return Instant.now().plus(lifetime).minus(ahead);
+  }
+
+  private Mono<CommonExposureJwtDto> requestToken() {
+    return
+        authApi
+            .post()
+            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_FORM_URLENCODED_VALUE)
+            .body(BodyInserters.fromFormData("grant_type", "client_credentials"))
+            .retrieve()
+            .onStatus(httpStatusCode -> httpStatusCode.value() == 401,
+                response -> Mono.error(new InvalidAccessTokenException()))
+            .onStatus(httpStatusCode -> httpStatusCode.value() == 403,
+                response -> Mono.error(new InvalidRoleException()))
+            .onStatus(httpStatusCode -> httpStatusCode.value() == 400,
+                ChesService.get400ErrorMessage())
+            .onStatus(httpStatusCode -> httpStatusCode.value() == 422,
+                ChesService.get422ErrorMessage())
+            .onStatus(HttpStatusCode::isError, ChesService.get500ErrorMessage())
+            .bodyToMono(CommonExposureJwtDto.class)
+            .name("request.ches")
+            .tag("kind", "token")
+            .tap(Micrometer.observation(registry));
+  }
+
+  private record AccessToken(String value, Instant refreshAt) {
+
+  }
+
+}
@@ -1,6 +1,7 @@
 package ca.bc.gov.app.service.client;
 
 import ca.bc.gov.app.configuration.ForestClientConfiguration;
+import ca.bc.gov.app.dto.client.AddressCompleteFindDto;
 import ca.bc.gov.app.dto.client.AddressCompleteFindListDto;
 import ca.bc.gov.app.dto.client.AddressCompleteRetrieveListDto;
 import ca.bc.gov.app.dto.client.AddressError;
@@ -8,9 +9,12 @@ import ca.bc.gov.app.dto.client.ClientAddressDto;
 import ca.bc.gov.app.dto.client.ClientValueTextDto;
 import ca.bc.gov.app.dto.client.CodeNameDto;
 import ca.bc.gov.app.exception.AddressLookupException;
+import ca.bc.gov.app.util.ReactiveCache;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.observation.ObservationRegistry;
 import io.micrometer.observation.annotation.Observed;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
@@ -23,6 +27,11 @@ import reactor.core.observability.micrometer.Micrometer;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+/**
+ * Looks up addresses on the Canada Post AddressComplete API. Users type and retype the same
+ * addresses, so each find is cached by its normalized search term, country and last id, and each
+ * retrieved address by its id, for a while, up to the cache size of each kind of lookup.
+ */
 @Service
 @Slf4j
 @Observed
@@ -31,45 +40,43 @@ public class ClientAddressService {
   private final ForestClientConfiguration.AddressCompleteConfiguration configuration;
   private final WebClient addressCompleteApi;
   private final ObservationRegistry registry;
+  private final ReactiveCache<FindKey, List<AddressCompleteFindDto>> findCache;
+  private final ReactiveCache<String, ClientAddressDto> retrieveCache;
 
   public ClientAddressService(
       ForestClientConfiguration configuration,
       @Qualifier("addressCompleteApi") WebClient addressCompleteApi,
-      ObservationRegistry registry
+      ObservationRegistry registry,
+      MeterRegistry meterRegistry
   ) {
     this.configuration = configuration.getAddressComplete();
     this.addressCompleteApi = addressCompleteApi;
     this.registry = registry;
+    this.findCache = new ReactiveCache<>(
+        "canadapost.find",
+        this.configuration.getCacheSize(),
+        this.configuration.getCacheTtl(),
+        meterRegistry
+    );
+    this.retrieveCache = new ReactiveCache<>(
+        "canadapost.retrieve",
+        this.configuration.getCacheSize(),
+        this.configuration.getCacheTtl(),
+        meterRegistry
+    );
   }
 
   public Flux<CodeNameDto> findPossibleAddresses(
       String country, Integer maxSuggestions, String searchTerm) {
     log.info("Searching for address {} for country {}", searchTerm, country);
     return
-        addressCompleteApi
-            .get()
-            .uri(uriBuilder ->
-                uriBuilder
-                    .path("/find/v2.10/json3.ws")
-                    .queryParam("key", configuration.getApiKey())
-                    .queryParam("Country", country)
-                    .queryParam("MaxSuggestions", maxSuggestions)
-                    .queryParam("SearchTerm", searchTerm)
-                    .build(Map.of())
-            )
-            .retrieve()
-            .bodyToMono(AddressCompleteFindListDto.class)
-            .name("request.canadapost")
-            .tag("kind", "search")
-            .tap(Micrometer.observation(registry))
-            .map(AddressCompleteFindListDto::items)
+        find(new FindKey(
+            StringUtils.upperCase(country, Locale.ROOT),
+            maxSuggestions,
+            StringUtils.lowerCase(StringUtils.normalizeSpace(searchTerm), Locale.ROOT),
+            null
+        ))
             .flatMap(addresses -> {
-              try {
-                handleError(addresses);
-              } catch (AddressLookupException e) {
-                return Mono.error(e);
-              }
-
               boolean findOnly = addresses
                   .stream()
                   .allMatch(address -> "Find" .equalsIgnoreCase(address.next()));
@@ -82,30 +89,7 @@ public class ClientAddressService {
 
               log.info("No retrieve addresses found, searching for lastId {}", lastId);
 
-              return addressCompleteApi
-                  .get()
-                  .uri(uriBuilder ->
-                      uriBuilder
-                          .path("/find/v2.10/json3.ws")
-                          .queryParam("key", configuration.getApiKey())
-                          .queryParam("LastId", lastId)
-                          .build(Map.of()))
-                  .retrieve()
-                  .bodyToMono(AddressCompleteFindListDto.class)
-                  .name("request.canadapost")
-                  .tag("kind", "lastid")
-                  .tap(Micrometer.observation(registry))
-                  .map(AddressCompleteFindListDto::items)
-                  .flatMap(lastIdAddresses -> {
-
-                    try {
-                      handleError(lastIdAddresses);
-                    } catch (AddressLookupException e) {
-                      return Mono.error(e);
-                    }
-
-                    return Mono.just(lastIdAddresses);
-                  });
+              return find(new FindKey(null, null, null, lastId));
             })
             .flatMapMany(Flux::fromIterable)
             .filter(address -> "Retrieve" .equalsIgnoreCase(address.next()))
@@ -117,6 +101,50 @@ public class ClientAddressService {
   }
 
   public Mono<ClientAddressDto> getAddress(String addressId) {
+    return retrieveCache.get(addressId, this::retrieveAddress);
+  }
+
+  /**
+   * Finds the addresses matching a search term, or the addresses inside a previous find result
+   * when the last id is set.
+   */
+  private Mono<List<AddressCompleteFindDto>> find(FindKey key) {
+    return findCache.get(key, findKey ->
+        addressCompleteApi
+            .get()
+            .uri(uriBuilder -> {
+              uriBuilder
+                  .path("/find/v2.10/json3.ws")
+                  .queryParam("key", configuration.getApiKey());
+              if (findKey.lastId() != null) {
+                uriBuilder.queryParam("LastId", findKey.lastId());
+              } else {
+                uriBuilder
+                    .queryParam("Country", findKey.country())
+                    .queryParam("MaxSuggestions", findKey.maxSuggestions())
+                    .queryParam("SearchTerm", findKey.searchTerm());
+              }
+              return uriBuilder.build(Map.of());
+            })
+            .retrieve()
+            .bodyToMono(AddressCompleteFindListDto.class)
+            .name("request.canadapost")
+            .tag("kind", findKey.lastId() != null ? "lastid" : "search")
+            .tap(Micrometer.observation(registry))
+            .map(AddressCompleteFindListDto::items)
+            .flatMap(addresses -> {
+              try {
+                handleError(addresses);
+              } catch (AddressLookupException e) {
+                return Mono.error(e);
+              }
+
+              return Mono.just(addresses);
+            })
+    );
+  }
+
+  private Mono<ClientAddressDto> retrieveAddress(String addressId) {
     log.info("Get address with Id {}", addressId);
     return
         addressCompleteApi
@@ -186,4 +214,14 @@ public class ClientAddressService {
       throw new AddressLookupException(addresses.get(0).description());
     }
   }
+
+  private record FindKey(
+      String country,
+      Integer maxSuggestions,
+      String searchTerm,
+      String lastId
+  ) {
+
+  }
+
 }
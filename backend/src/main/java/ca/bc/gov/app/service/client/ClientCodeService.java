@@ -1,25 +1,18 @@
 package ca.bc.gov.app.service.client;
 
-import static org.springframework.data.relational.core.query.Query.query;
-
 import ca.bc.gov.app.dto.client.CodeNameDto;
 import ca.bc.gov.app.dto.client.IdentificationTypeDto;
 import ca.bc.gov.app.entity.client.ClientTypeCodeEntity;
 import ca.bc.gov.app.entity.client.ContactTypeCodeEntity;
-import ca.bc.gov.app.predicates.QueryPredicates;
-import ca.bc.gov.app.repository.client.ClientTypeCodeRepository;
-import ca.bc.gov.app.repository.client.ContactTypeCodeRepository;
-import ca.bc.gov.app.repository.client.IdentificationTypeCodeRepository;
+import ca.bc.gov.app.entity.client.IdentificationTypeCodeEntity;
+import ca.bc.gov.app.service.client.ClientReferenceCodeService.ReferenceCodes;
 import io.micrometer.observation.annotation.Observed;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -30,10 +23,7 @@ import reactor.core.publisher.Mono;
 @Observed
 public class ClientCodeService {
 
-  private final ClientTypeCodeRepository clientTypeCodeRepository;
-  private final ContactTypeCodeRepository contactTypeCodeRepository;
-  private final IdentificationTypeCodeRepository identificationTypeCodeRepository;
-  private final R2dbcEntityTemplate template;
+  private final ClientReferenceCodeService referenceCodeService;
 
   /**
    * <p><b>Find Active Client Type Codes</b></p>
@@ -48,8 +38,10 @@ public class ClientCodeService {
   public Flux<CodeNameDto> findActiveClientTypeCodes(LocalDate targetDate) {
     log.info("Loading active client type codes for {}", targetDate);
     return
-        clientTypeCodeRepository
-            .findActiveAt(targetDate)
+        referenceCodeService
+            .getCodes()
+            .flatMapIterable(ReferenceCodes::clientTypes)
+            .filter(entity -> ClientReferenceCodeService.isActiveAt(entity, targetDate))
             .map(entity -> new CodeNameDto(
                     entity.getCode(),
                     entity.getDescription()
@@ -71,8 +63,11 @@ public class ClientCodeService {
    */
   public Mono<CodeNameDto> getClientTypeByCode(String code) {
     log.info("Loading client type for {}", code);
-    return clientTypeCodeRepository
-        .findByCode(code)
+    return referenceCodeService
+        .getCodes()
+        .flatMap(codes ->
+            ReferenceCodes.findFirst(codes.clientTypes(), ClientTypeCodeEntity::getCode, code)
+        )
         .map(entity -> new CodeNameDto(entity.getCode(),
             entity.getDescription()));
   }
@@ -86,22 +81,14 @@ public class ClientCodeService {
  * @return A Mono emitting a map with client type codes as keys and their descriptions as values.
  */
 public Mono<Map<String, String>> getClientTypes() {
-  return template
-      .select(
-          query(
-              QueryPredicates.isBefore(LocalDateTime.now(), "effectiveAt")
-                  .and(
-                      QueryPredicates.isAfter(LocalDateTime.now(), "expiredAt")
-                          .or(QueryPredicates.isNull("expiredAt"))
-                  )
-          ),
-          ClientTypeCodeEntity.class
-      )
-      .collectList()
-      // Convert the list into a map using code as the key and description as value
-      .map(clientTypeCodeEntities ->
-          clientTypeCodeEntities
+  return referenceCodeService
+      .getCodes()
+      .map(codes ->
+          codes
+              .clientTypes()
               .stream()
+              .filter(entity -> ClientReferenceCodeService.isActiveAt(entity, LocalDate.now()))
+              // Convert the list into a map using code as the key and description as value
               .collect(Collectors.toMap(ClientTypeCodeEntity::getCode,
                   ClientTypeCodeEntity::getDescription))
       );
@@ -118,8 +105,18 @@ public Mono<Map<String, String>> getClientTypes() {
    */
   public Flux<CodeNameDto> listClientContactTypeCodes(LocalDate activeDate, int page, int size) {
     log.info("Loading contact types for page {} with size {}", page, size);
-    return contactTypeCodeRepository
-        .findActiveAt(activeDate, PageRequest.of(page, size))
+    return referenceCodeService
+        .getCodes()
+        .flatMapMany(codes -> ClientReferenceCodeService.page(
+                codes
+                    .contactTypes()
+                    .stream()
+                    .filter(entity -> ClientReferenceCodeService.isActiveAt(entity, activeDate))
+                    .toList(),
+                page,
+                size
+            )
+        )
         .map(entity -> new CodeNameDto(
             entity.getContactTypeCode(),
             entity.getDescription()));
@@ -134,8 +131,10 @@ public Mono<Map<String, String>> getClientTypes() {
    */
   public Flux<IdentificationTypeDto> getAllActiveIdentificationTypes(LocalDate targetDate) {
     log.info("Loading active identification type codes by {}", targetDate);
-    return identificationTypeCodeRepository
-        .findActiveAt(targetDate)
+    return referenceCodeService
+        .getCodes()
+        .flatMapIterable(ReferenceCodes::identificationTypes)
+        .filter(entity -> ClientReferenceCodeService.isActiveAt(entity, targetDate))
         .map(entity -> new IdentificationTypeDto(
             entity.getCode(),
             entity.getDescription(),
@@ -151,16 +150,24 @@ public Mono<Map<String, String>> getClientTypes() {
    */
   public Mono<CodeNameDto> getIdentificationTypeByCode(String idCode) {
     log.info("Loading identification type by {}", idCode);
-    return identificationTypeCodeRepository
-        .findByCode(idCode)
+    return referenceCodeService
+        .getCodes()
+        .flatMap(codes -> ReferenceCodes.findFirst(
+                codes.identificationTypes(),
+                IdentificationTypeCodeEntity::getCode,
+                idCode
+            )
+        )
         .map(entity -> new CodeNameDto(entity.getCode(),
             entity.getDescription()));
   }
 
   public Mono<Map<String,String>> fetchContactTypesFromList(Set<String> contactTypes) {
 
-    return contactTypeCodeRepository
-        .findByContactTypeCodeIn(contactTypes)
+    return referenceCodeService
+        .getCodes()
+        .flatMapIterable(ReferenceCodes::contactTypes)
+        .filter(entity -> contactTypes.contains(entity.getContactTypeCode()))
         .collectMap(
             ContactTypeCodeEntity::getContactTypeCode,
             ContactTypeCodeEntity::getDescription
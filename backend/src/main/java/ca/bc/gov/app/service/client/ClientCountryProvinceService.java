@@ -2,15 +2,14 @@ package ca.bc.gov.app.service.client;
 
 import ca.bc.gov.app.dto.client.ClientValueTextDto;
 import ca.bc.gov.app.dto.client.CodeNameDto;
-import ca.bc.gov.app.repository.client.CountryCodeRepository;
-import ca.bc.gov.app.repository.client.ProvinceCodeRepository;
+import ca.bc.gov.app.entity.client.CountryCodeEntity;
+import ca.bc.gov.app.entity.client.ProvinceCodeEntity;
+import ca.bc.gov.app.service.client.ClientReferenceCodeService.ReferenceCodes;
 import io.micrometer.observation.annotation.Observed;
 import java.time.LocalDate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -24,8 +23,7 @@ import reactor.core.publisher.Mono;
 @Observed
 public class ClientCountryProvinceService {
 
-  private final CountryCodeRepository countryCodeRepository;
-  private final ProvinceCodeRepository provinceCodeRepository;
+  private final ClientReferenceCodeService referenceCodeService;
 
   /**
    * Lists active countries for the requested page.
@@ -41,9 +39,10 @@ public class ClientCountryProvinceService {
       LocalDate currentDate
   ) {
     log.info("Loading countries for page {} with size {}", page, size);
-    return countryCodeRepository
-        .findAllBy(PageRequest.of(page, size, Sort.by("order", "description")))
-        .filter(entity -> isActiveOn(currentDate, entity.getEffectiveAt(), entity.getExpiredAt()))
+    return referenceCodeService
+        .getCodes()
+        .flatMapMany(codes -> ClientReferenceCodeService.page(codes.countries(), page, size))
+        .filter(entity -> ClientReferenceCodeService.isActiveOn(entity, currentDate))
         .map(entity -> new CodeNameDto(entity.getCountryCode(), entity.getDescription()));
   }
 
@@ -57,8 +56,18 @@ public class ClientCountryProvinceService {
    */
   public Flux<CodeNameDto> listProvinces(String countryCode, int page, int size) {
     log.info("Loading provinces for {} with page {} and size {}", countryCode, page, size);
-    return provinceCodeRepository
-        .findByCountryCode(countryCode, PageRequest.of(page, size, Sort.by("description")))
+    return referenceCodeService
+        .getCodes()
+        .flatMapMany(codes -> ClientReferenceCodeService.page(
+                codes
+                    .provinces()
+                    .stream()
+                    .filter(entity -> StringUtils.equals(entity.getCountryCode(), countryCode))
+                    .toList(),
+                page,
+                size
+            )
+        )
         .map(entity -> new CodeNameDto(entity.getProvinceCode(), entity.getDescription()));
   }
 
@@ -71,8 +80,14 @@ public class ClientCountryProvinceService {
    */
   public Mono<CodeNameDto> getCountryByCode(String countryCode) {
     log.info("Loading country for {}", countryCode);
-    return countryCodeRepository
-        .findByCountryCode(countryCode)
+    return referenceCodeService
+        .getCodes()
+        .flatMap(codes -> ReferenceCodes.findFirst(
+                codes.countries(),
+                CountryCodeEntity::getCountryCode,
+                countryCode
+            )
+        )
         .map(entity -> new CodeNameDto(entity.getCountryCode(), entity.getDescription()));
   }
 
@@ -85,8 +100,14 @@ public class ClientCountryProvinceService {
    * @see ClientValueTextDto
    */
   public Mono<ClientValueTextDto> loadCountry(String countryDescription) {
-    return countryCodeRepository
-        .findByDescription(countryDescription)
+    return referenceCodeService
+        .getCodes()
+        .flatMap(codes -> ReferenceCodes.findFirst(
+                codes.countries(),
+                CountryCodeEntity::getDescription,
+                countryDescription
+            )
+        )
         .map(entity -> new ClientValueTextDto(entity.getCountryCode(), entity.getDescription()))
         .defaultIfEmpty(new ClientValueTextDto(StringUtils.EMPTY, countryDescription));
   }
@@ -108,8 +129,7 @@ public class ClientCountryProvinceService {
         countryCode,
         provinceCode
     );
-    return provinceCodeRepository
-        .findByCountryCodeAndProvinceCode(countryCode, provinceCode)
+    return findProvince(countryCode, provinceCode)
         .map(entity -> new CodeNameDto(entity.getProvinceCode(), entity.getDescription()));
   }
 
@@ -123,17 +143,23 @@ public class ClientCountryProvinceService {
    * @see ClientValueTextDto
    */
   public Mono<ClientValueTextDto> loadProvince(String countryCode, String provinceCode) {
-    return provinceCodeRepository
-        .findByCountryCodeAndProvinceCode(countryCode, provinceCode)
+    return findProvince(countryCode, provinceCode)
         .map(entity -> new ClientValueTextDto(entity.getProvinceCode(), entity.getDescription()))
         .defaultIfEmpty(new ClientValueTextDto(provinceCode, provinceCode));
   }
 
-  private boolean isActiveOn(LocalDate currentDate, LocalDate effectiveAt, LocalDate expiredAt) {
-    boolean isBeforeExpiry = currentDate.isBefore(expiredAt) || currentDate.isEqual(expiredAt);
-    boolean isAfterEffective = currentDate.isAfter(effectiveAt)
-        || currentDate.isEqual(effectiveAt);
-    return isBeforeExpiry && isAfterEffective;
+  private Mono<ProvinceCodeEntity> findProvince(String countryCode, String provinceCode) {
+    return referenceCodeService
+        .getCodes()
+        .flatMap(codes -> Mono.justOrEmpty(
+                codes
+                    .provinces()
+                    .stream()
+                    .filter(entity -> StringUtils.equals(entity.getCountryCode(), countryCode))
+                    .filter(entity -> StringUtils.equals(entity.getProvinceCode(), provinceCode))
+                    .findFirst()
+            )
+        );
   }
 
 }
@@ -2,13 +2,12 @@ package ca.bc.gov.app.service.client;
 
 import ca.bc.gov.app.dto.client.CodeNameDto;
 import ca.bc.gov.app.dto.client.DistrictDto;
-import ca.bc.gov.app.repository.client.DistrictCodeRepository;
+import ca.bc.gov.app.entity.client.DistrictCodeEntity;
+import ca.bc.gov.app.service.client.ClientReferenceCodeService.ReferenceCodes;
 import io.micrometer.observation.annotation.Observed;
 import java.time.LocalDate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -19,7 +18,7 @@ import reactor.core.publisher.Mono;
 @Observed
 public class ClientDistrictService {
 
-  private final DistrictCodeRepository districtCodeRepository;
+  private final ClientReferenceCodeService referenceCodeService;
 
   /**
    * <p><b>List natural resource districts</b></p>
@@ -38,13 +37,10 @@ public class ClientDistrictService {
       LocalDate currentDate
       ) {
     log.info("Loading natural resource districts for page {} with size {}", page, size);
-    return districtCodeRepository
-        .findAllBy(PageRequest.of(page, size, Sort.by("description")))
-        .filter(entity -> (currentDate.isBefore(entity.getExpiredAt())
-            || currentDate.isEqual(entity.getExpiredAt()))
-            &&
-            (currentDate.isAfter(entity.getEffectiveAt())
-                || currentDate.isEqual(entity.getEffectiveAt())))
+    return referenceCodeService
+        .getCodes()
+        .flatMapMany(codes -> ClientReferenceCodeService.page(codes.districts(), page, size))
+        .filter(entity -> ClientReferenceCodeService.isActiveOn(entity, currentDate))
         .map(entity -> new CodeNameDto(entity.getCode(), entity.getDescription()));
   }
 
@@ -63,8 +59,7 @@ public class ClientDistrictService {
    */
   public Mono<DistrictDto> getDistrictByCode(String districtCode) {
     log.info("Loading district for {}", districtCode);
-    return districtCodeRepository
-        .findByCode(districtCode)
+    return findByCode(districtCode)
         .map(entity -> new DistrictDto(
                 entity.getCode(),
                 entity.getDescription(),
@@ -84,11 +79,19 @@ public class ClientDistrictService {
  */
 public Mono<String> getDistrictFullDescByCode(String districtCode) {
   return Mono.justOrEmpty(districtCode)
-      .flatMap(districtCodeRepository::findByCode)
+      .flatMap(this::findByCode)
       .map(districtCodeEntity -> districtCodeEntity.getCode() + " - "
           + districtCodeEntity.getDescription())
       .defaultIfEmpty("");
 }
 
+  private Mono<DistrictCodeEntity> findByCode(String districtCode) {
+    return referenceCodeService
+        .getCodes()
+        .flatMap(codes ->
+            ReferenceCodes.findFirst(codes.districts(), DistrictCodeEntity::getCode, districtCode)
+        );
+  }
+
 
 }
@@ -9,6 +9,8 @@ import ca.bc.gov.app.dto.client.CodeNameDto;
 import ca.bc.gov.app.dto.client.RelatedClientDto;
 import ca.bc.gov.app.dto.client.RelatedClientEntryDto;
 import ca.bc.gov.app.dto.legacy.AddressSearchDto;
+import ca.bc.gov.app.dto.legacy.ClientMatchCriteriaDto;
+import ca.bc.gov.app.dto.legacy.ClientMatchResultDto;
 import ca.bc.gov.app.dto.legacy.ClientRelatedProjection;
 import ca.bc.gov.app.dto.legacy.ContactSearchDto;
 import ca.bc.gov.app.dto.legacy.ForestClientDetailsDto;
@@ -437,6 +439,34 @@ public class ClientLegacyService {
 
   }
 
+  /**
+   * Evaluates several search criteria in a single call to the legacy system. Each criterion is
+   * answered as the equivalent search endpoint would, and the results are tagged with the criterion
+   * id.
+   *
+   * @param criteria The list of criteria to be evaluated.
+   * @return A Flux with one ClientMatchResultDto per criterion.
+   */
+  public Flux<ClientMatchResultDto> matchClients(List<ClientMatchCriteriaDto> criteria) {
+
+    if (CollectionUtils.isEmpty(criteria)) {
+      return Flux.empty();
+    }
+
+    return
+        legacyApi
+            .post()
+            .uri("/api/search/matches")
+            .body(BodyInserters.fromValue(criteria))
+            .exchangeToFlux(response -> response.bodyToFlux(ClientMatchResultDto.class))
+            .name(REQUEST_LEGACY)
+            .tag("kind", "matchSearch")
+            .doOnNext(
+                result -> log.info("Found {} Legacy client(s) for match criteria {}",
+                    result.clients().size(), result.id())
+            );
+  }
+
   /**
    * Searches for clients in the legacy system based on the provided address details.
    *
@@ -0,0 +1,213 @@
+package ca.bc.gov.app.service.client;
+
+import ca.bc.gov.app.entity.client.ClientTypeCodeEntity;
+import ca.bc.gov.app.entity.client.ContactTypeCodeEntity;
+import ca.bc.gov.app.entity.client.CountryCodeEntity;
+import ca.bc.gov.app.entity.client.DistrictCodeEntity;
+import ca.bc.gov.app.entity.client.ExpirableBaseEntity;
+import ca.bc.gov.app.entity.client.IdentificationTypeCodeEntity;
+import ca.bc.gov.app.entity.client.ProvinceCodeEntity;
+import ca.bc.gov.app.repository.client.ClientTypeCodeRepository;
+import ca.bc.gov.app.repository.client.ContactTypeCodeRepository;
+import ca.bc.gov.app.repository.client.CountryCodeRepository;
+import ca.bc.gov.app.repository.client.DistrictCodeRepository;
+import ca.bc.gov.app.repository.client.IdentificationTypeCodeRepository;
+import ca.bc.gov.app.repository.client.ProvinceCodeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Keeps every reference code table in memory, as they only change a few times a year. The codes
+ * are loaded once, in the same order the code endpoints return them, and are reloaded on a
+ * schedule or when {@link #refresh()} is called, such as from the admin refresh endpoint. The
+ * effective and expiry dates are checked in memory by the services using the codes.
+ *
+ * <p>Cache hits and misses are reported by the {@code service.codes.cache} counter.
+ */
+@Service
+@Slf4j
+public class ClientReferenceCodeService {
+
+  private final ClientTypeCodeRepository clientTypeCodeRepository;
+  private final ContactTypeCodeRepository contactTypeCodeRepository;
+  private final CountryCodeRepository countryCodeRepository;
+  private final DistrictCodeRepository districtCodeRepository;
+  private final IdentificationTypeCodeRepository identificationTypeCodeRepository;
+  private final ProvinceCodeRepository provinceCodeRepository;
+  private final Counter cacheHit;
+  private final Counter cacheMiss;
+
+  private final AtomicReference<ReferenceCodes> current = new AtomicReference<>();
+  private final AtomicReference<Mono<ReferenceCodes>> loading = new AtomicReference<>();
+
+  public ClientReferenceCodeService(
+      ClientTypeCodeRepository clientTypeCodeRepository,
+      ContactTypeCodeRepository contactTypeCodeRepository,
+      CountryCodeRepository countryCodeRepository,
+      DistrictCodeRepository districtCodeRepository,
+      IdentificationTypeCodeRepository identificationTypeCodeRepository,
+      ProvinceCodeRepository provinceCodeRepository,
+      MeterRegistry meterRegistry
+  ) {
+    this.clientTypeCodeRepository = clientTypeCodeRepository;
+    this.contactTypeCodeRepository = contactTypeCodeRepository;
+    this.countryCodeRepository = countryCodeRepository;
+    this.districtCodeRepository = districtCodeRepository;
+    this.identificationTypeCodeRepository = identificationTypeCodeRepository;
+    this.provinceCodeRepository = provinceCodeRepository;
+    this.cacheHit = meterRegistry.counter("service.codes.cache", "result", "hit");
+    this.cacheMiss = meterRegistry.counter("service.codes.cache", "result", "miss");
+  }
+
+  /**
+   * Gets the reference codes, loading them if they were not loaded yet. Concurrent callers wait on
+   * the same load.
+   *
+   * @return a Mono with all reference codes
+   */
+  public Mono<ReferenceCodes> getCodes() {
+    return Mono.defer(() -> {
+      ReferenceCodes codes = current.get();
+      if (codes != null) {
+        cacheHit.increment();
+        return Mono.just(codes);
+      }
+      cacheMiss.increment();
+      return load();
+    });
+  }
+
+  /**
+   * Reloads the reference codes. The current codes are still used until the new ones are loaded.
+   *
+   * @return a Mono that completes once the codes are reloaded
+   */
+  public Mono<Void> refresh() {
+    return Mono.defer(this::load).then();
+  }
+
+  /**
+   * Reloads the reference codes on a schedule, so changes made straight on the database are picked
+   * up without a restart.
+   */
+  @Scheduled(
+      fixedDelayString = "${ca.bc.gov.nrs.codes.refresh:PT6H}",
+      initialDelayString = "${ca.bc.gov.nrs.codes.refresh:PT6H}"
+  )
+  public void scheduledRefresh() {
+    refresh()
+        .subscribe(
+            unused -> {
+            },
+            throwable -> log.error("Error reloading reference codes", throwable)
+        );
+  }
+
+  /**
+   * Checks if a code is active at the given date, the same way the active codes queries do. The
+   * code must be effective at the date and not expired yet.
+   */
+  public static boolean isActiveAt(ExpirableBaseEntity entity, LocalDate activeDate) {
+    return !entity.getEffectiveAt().isAfter(activeDate)
+        && (entity.getExpiredAt() == null || entity.getExpiredAt().isAfter(activeDate));
+  }
+
+  /**
+   * Checks if a code is active at the given date, counting the expiry date as still active.
+   */
+  public static boolean isActiveOn(ExpirableBaseEntity entity, LocalDate activeDate) {
+    return !entity.getEffectiveAt().isAfter(activeDate)
+        && (entity.getExpiredAt() == null || !entity.getExpiredAt().isBefore(activeDate));
+  }
+
+  /**
+   * Gets a page of an in memory list, the same way a paged query would.
+   */
+  public static <T> Flux<T> page(List<T> entries, int page, int size) {
+    return Flux
+        .fromIterable(entries)
+        .skip((long) page * size)
+        .take(size);
+  }
+
+  private Mono<ReferenceCodes> load() {
+    return loading.updateAndGet(inFlight -> inFlight != null ? inFlight : loadCodes());
+  }
+
+  private Mono<ReferenceCodes> loadCodes() {
+    Sort byDescription = Sort.by("description");
+
+    return Mono
+        .zip(
+            list(clientTypeCodeRepository.findAll(byDescription)),
+            list(contactTypeCodeRepository.findAll(byDescription)),
+            list(countryCodeRepository.findAll(Sort.by("order", "description"))),
+            list(districtCodeRepository.findAll(byDescription)),
+            list(identificationTypeCodeRepository.findAll(byDescription)),
+            list(provinceCodeRepository.findAll(byDescription))
+        )
+        .map(codes -> new ReferenceCodes(
+                codes.getT1(),
+                codes.getT2(),
+                codes.getT3(),
+                codes.getT4(),
+                codes.getT5(),
+                codes.getT6()
+            )
+        )
+        .doOnNext(current::set)
+        .doOnNext(codes -> log.info(
+            "Loaded reference codes: {} client types, {} contact types, {} countries, "
+                + "{} districts, {} identification types, {} provinces",
+            codes.clientTypes().size(),
+            codes.contactTypes().size(),
+            codes.countries().size(),
+            codes.districts().size(),
+            codes.identificationTypes().size(),
+            codes.provinces().size()
+        ))
+        .doFinally(signalType -> loading.set(null))
+        .cache();
+  }
+
+  private <T> Mono<List<T>> list(Flux<T> entries) {
+    return entries.collectList().map(List::copyOf);
+  }
+
+  /**
+   * The reference codes, each one in the order it is listed.
+   */
+  public record ReferenceCodes(
+      List<ClientTypeCodeEntity> clientTypes,
+      List<ContactTypeCodeEntity> contactTypes,
+      List<CountryCodeEntity> countries,
+      List<DistrictCodeEntity> districts,
+      List<IdentificationTypeCodeEntity> identificationTypes,
+      List<ProvinceCodeEntity> provinces
+  ) {
+
+    /**
+     * Finds the first code with the given key, such as the code or description.
+     */
+    public static <T> Mono<T> findFirst(List<T> entries, Function<T, String> key, String value) {
+      return Mono.justOrEmpty(
+          entries
+              .stream()
+              .filter(entry -> value != null && value.equals(key.apply(entry)))
+              .findFirst()
+      );
+    }
+
+  }
+
+}
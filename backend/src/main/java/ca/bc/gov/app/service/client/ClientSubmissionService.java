@@ -4,17 +4,13 @@ import static ca.bc.gov.app.util.ClientMapper.getLocationIdByName;
 import static ca.bc.gov.app.util.ClientMapper.mapAllToSubmissionLocationEntity;
 import static ca.bc.gov.app.util.ClientMapper.mapToSubmissionContactEntity;
 import static ca.bc.gov.app.util.ClientMapper.mapToSubmissionDetailEntity;
-import static org.springframework.data.relational.core.query.Query.query;
 import ca.bc.gov.app.ApplicationConstant;
 import ca.bc.gov.app.configuration.ForestClientConfiguration;
 import ca.bc.gov.app.dto.client.ClientContactDto;
 import ca.bc.gov.app.dto.client.ClientListSubmissionDto;
 import ca.bc.gov.app.dto.client.ClientSubmissionDistrictListDto;
 import ca.bc.gov.app.dto.client.ClientSubmissionDto;
-import ca.bc.gov.app.dto.submissions.SubmissionAddressDto;
 import ca.bc.gov.app.dto.submissions.SubmissionApproveRejectDto;
-import ca.bc.gov.app.dto.submissions.SubmissionBusinessDto;
-import ca.bc.gov.app.dto.submissions.SubmissionContactDto;
 import ca.bc.gov.app.dto.submissions.SubmissionDetailsDto;
 import ca.bc.gov.app.entity.client.SubmissionDetailEntity;
 import ca.bc.gov.app.entity.client.SubmissionEntity;
@@ -25,9 +21,6 @@ import ca.bc.gov.app.exception.RequestAlreadyProcessedException;
 import ca.bc.gov.app.exception.SubmissionNotCompletedException;
 import ca.bc.gov.app.models.client.SubmissionStatusEnum;
 import ca.bc.gov.app.models.client.SubmissionTypeCodeEnum;
-import ca.bc.gov.app.predicates.QueryPredicates;
-import ca.bc.gov.app.predicates.SubmissionDetailPredicates;
-import ca.bc.gov.app.predicates.SubmissionPredicates;
 import ca.bc.gov.app.repository.client.SubmissionContactRepository;
 import ca.bc.gov.app.repository.client.SubmissionDetailRepository;
 import ca.bc.gov.app.repository.client.SubmissionLocationContactRepository;
@@ -37,31 +30,30 @@ import ca.bc.gov.app.repository.client.SubmissionRepository;
 import ca.bc.gov.app.service.ches.ChesService;
 import ca.bc.gov.app.util.JwtPrincipalUtil;
 import ca.bc.gov.app.util.RetryUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import io.micrometer.observation.annotation.Observed;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.lang3.tuple.Pair;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
-import org.springframework.data.relational.core.query.Criteria;
-import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -72,7 +64,6 @@ import reactor.util.retry.Retry;
 @Observed
 public class ClientSubmissionService {
 
-  private final ClientCodeService codeService;
   private final ClientDistrictService districtService;
   private final SubmissionRepository submissionRepository;
   private final SubmissionDetailRepository submissionDetailRepository;
@@ -84,9 +75,10 @@ public class ClientSubmissionService {
   private final R2dbcEntityTemplate template;
   private final ForestClientConfiguration configuration;
   private final WebClient processorApi;
+  private final ObjectMapper mapper;
+  private final TransactionalOperator transactionalOperator;
   
   public ClientSubmissionService(
-      ClientCodeService codeService,
       ClientDistrictService districtService,
       SubmissionRepository submissionRepository,
       SubmissionDetailRepository submissionDetailRepository,
@@ -97,9 +89,10 @@ public class ClientSubmissionService {
       ChesService chesService,
       R2dbcEntityTemplate template,
       ForestClientConfiguration configuration,
-      @Qualifier("processorApi") WebClient processorApi
+      @Qualifier("processorApi") WebClient processorApi,
+      ObjectMapper mapper,
+      TransactionalOperator transactionalOperator
   ) {
-    this.codeService = codeService;
     this.districtService = districtService;
     this.submissionRepository = submissionRepository;
     this.submissionDetailRepository = submissionDetailRepository;
@@ -111,6 +104,8 @@ public class ClientSubmissionService {
     this.template = template;
     this.configuration = configuration;
     this.processorApi = processorApi;
+    this.mapper = mapper;
+    this.transactionalOperator = transactionalOperator;
   }
 
   public Flux<ClientSubmissionDistrictListDto> pendingSubmissions() {
@@ -140,43 +135,47 @@ public class ClientSubmissionService {
         submittedAt
     );
 
+    Map<String, Object> parameters = new HashMap<>();
+    String filters = listSubmissionFilters(
+        requestStatus,
+        clientType,
+        district,
+        name,
+        submittedAt,
+        parameters
+    );
+    parameters.put("limit", size);
+    parameters.put("offset", (long) page * size);
+
     return
-        codeService.getClientTypes()
-        .flatMapMany(clientTypes ->
-            loadSubmissions(page, size, requestStatus, submittedAt)
-                .flatMapSequential(submissionPair ->
-                    loadSubmissionDetail(clientType, name, submissionPair.getRight())
-                        .flatMap(submissionDetail ->
-                            districtService
-                                .getDistrictFullDescByCode(submissionDetail.getDistrictCode())
-                                .map(districtFullDesc ->
-                                    new ClientListSubmissionDto(
-                                        submissionPair.getRight().getSubmissionId(),
-                                        submissionPair.getRight().getSubmissionType()
-                                            .getDescription(),
-                                        submissionDetail.getOrganizationName(),
-                                        clientTypes.getOrDefault(
-                                            submissionDetail.getClientTypeCode(),
-                                            submissionDetail.getClientTypeCode()
-                                        ),
-                                        districtFullDesc,
-                                        Optional
-                                            .ofNullable(
-                                                submissionPair.getRight().getSubmissionDate())
-                                            .map(date -> date.format(
-                                                DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")))
-                                            .orElse(StringUtils.EMPTY),
-                                        StringUtils.defaultString(
-                                            removeProvider(submissionPair.getRight().getUpdatedBy())
-                                        ),
-                                        submissionPair.getRight().getSubmissionStatus()
-                                            .getDescription(),
-                                        submissionPair.getLeft()
-                                    )
-                                )
-                        )
+        template
+            .getDatabaseClient()
+            .sql(String.format(ApplicationConstant.SUBMISSION_LIST_QUERY, filters))
+            .bindValues(parameters)
+            .map((row, metadata) ->
+                new ClientListSubmissionDto(
+                    Objects.requireNonNull(row.get("submission_id", Integer.class)),
+                    SubmissionTypeCodeEnum
+                        .valueOf(row.get("submission_type_code", String.class))
+                        .getDescription(),
+                    row.get("organization_name", String.class),
+                    row.get("client_type_desc", String.class),
+                    row.get("district_desc", String.class),
+                    Optional
+                        .ofNullable(row.get("submission_date", LocalDateTime.class))
+                        .map(date -> date.format(
+                            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")))
+                        .orElse(StringUtils.EMPTY),
+                    removeProvider(
+                        StringUtils.defaultString(row.get("update_user", String.class))
+                    ),
+                    SubmissionStatusEnum
+                        .valueOf(row.get("submission_status_code", String.class))
+                        .getDescription(),
+                    row.get("total", Long.class)
                 )
-        );
+            )
+            .all();
   }
 
   /**
@@ -224,11 +223,12 @@ public class ClientSubmissionService {
                     // It will be populated once the processor creates the forest_client entry
                     .handle(RetryUtil.handleRetry(submissionId))
                     // This configures the retry conditions and configuration
-                    // We use a backoff strategy with a jitter of 12% and a max of 5 retries
+                    // We use a backoff strategy with a jitter of 12% and a max of 7 retries
+                    // The processor starts right away, so the first checks are close together
                     // It should take around 30~40 seconds to give up and return an error
                     .retryWhen(
                         Retry
-                            .backoff(5, Duration.ofSeconds(1))
+                            .backoff(7, Duration.ofMillis(250))
                             .jitter(0.12)
                             .doBeforeRetry(retrySignal -> log.warn(
                                     "[Check #{}] Checking submission {} completion in oracle",
@@ -264,106 +264,21 @@ public class ClientSubmissionService {
 
     log.info("Getting submission detail for submission {}", id);
 
-    DatabaseClient client = template.getDatabaseClient();
-
-    Mono<SubmissionDetailsDto> detailsBusiness =
-        client
+    return
+        template
+            .getDatabaseClient()
             .sql(ApplicationConstant.SUBMISSION_DETAILS_QUERY)
             .bind(ApplicationConstant.SUBMISSION_ID, id)
-            .map((row, metadata) ->
-                new SubmissionDetailsDto(
-                    row.get("submission_id", Long.class),
-                    row.get("status", String.class),
-                    row.get("submission_type", String.class),
-                    row.get("submission_date", LocalDateTime.class),
-                    row.get("update_timestamp", LocalDateTime.class),
-                    null,
-                    row.get("update_user", String.class),
-                    new SubmissionBusinessDto(
-                        row.get("business_type", String.class),
-                        row.get("incorporation_number", String.class),
-                        row.get("client_number", String.class),
-                        row.get("organization_name", String.class),
-                        row.get("client_type", String.class),
-                        row.get("client_type_desc", String.class),
-                        row.get("good_standing", String.class),
-                        row.get("birthdate", LocalDate.class),
-                        row.get("district", String.class),
-                        row.get("district_desc", String.class)
-                    ),
-                    List.of(),
-                    List.of(),
-                    Map.of(),
-                    "",
-                    ""
-                )
-            )
+            .map((row, metadata) -> row.get("document", String.class))
             .one()
-            .map(dto -> dto.withUpdateUser(removeProvider(dto.updateUser())));
-
-    Flux<SubmissionContactDto> contacts =
-        client
-            .sql(ApplicationConstant.SUBMISSION_CONTACTS_QUERY
-            )
-            .bind(ApplicationConstant.SUBMISSION_ID, id)
-            .map((row, metadata) -> new SubmissionContactDto(
-                Objects.requireNonNull(row.get("index", Integer.class)) - 1,
-                row.get("contact_desc", String.class),
-                row.get("first_name", String.class),
-                row.get("last_name", String.class),
-                row.get("business_phone_number", String.class),
-                row.get("email_address", String.class),
-                Arrays.stream(StringUtils.defaultString(row.get("locations", String.class))
-                        .split(", "))
-                    .collect(Collectors.toSet()),
-                row.get("idp_user_id", String.class)
-            ))
-            .all();
-
-    Flux<SubmissionAddressDto> addresses =
-        client
-            .sql(ApplicationConstant.SUBMISSION_LOCATION_QUERY
+            .flatMap(document ->
+                Mono.fromCallable(() -> mapper.readValue(document, SubmissionDetailsDto.class))
             )
-            .bind(ApplicationConstant.SUBMISSION_ID, id)
-            .map((row, metadata) -> new SubmissionAddressDto(
-                Objects.requireNonNull(row.get("index", Integer.class)) - 1,
-                row.get("street_address", String.class),
-                row.get("country_desc", String.class),
-                row.get("province_desc", String.class),
-                row.get("city_name", String.class),
-                row.get("postal_code", String.class),
-                row.get("location_name", String.class)
-            ))
-            .all();
-
-    return detailsBusiness
-        .flatMap(submissionDetailsDto ->
-            contacts
-                .collectList()
-                .map(submissionDetailsDto::withContact)
-        )
-        .flatMap(submissionDetailsDto ->
-            addresses
-                .collectList()
-                .map(submissionDetailsDto::withAddress)
-        )
-        .flatMap(submissionDetailsDto ->
-            submissionMatchDetailRepository
-                .findBySubmissionId(id.intValue())
-                .doOnNext(this::cleanMatchers)
-                .map(matched ->
-                    submissionDetailsDto
-                        .withApprovedTimestamp(matched.getUpdatedAt())
-                        .withMatchers(matched.getMatchers())
-                        .withRejectionReason(matched.getMatchingMessage())
-                        .withConfirmedMatchUserId(matched.getCreatedBy())
-                )
-                .defaultIfEmpty(
-                    submissionDetailsDto
-                        .withMatchers(Map.of())
-                )
-        );
-
+            .map(dto ->
+                dto
+                    .withUpdateUser(removeProvider(dto.updateUser()))
+                    .withMatchers(cleanMatchers(dto.matchers()))
+            );
   }
 
   @SuppressWarnings("java:S1172")
@@ -512,6 +427,9 @@ public class ClientSubmissionService {
                     .flatMap(submissionMatchDetailRepository::save)
                     .map(SubmissionMatchDetailEntity::getSubmissionId)
             )
+            // The processor is notified when the submission is committed, so the whole
+            // submission is saved at once, otherwise it could be processed half saved
+            .as(transactionalOperator::transactional)
             .flatMap(submissionId ->
                 Mono
                     .just(submissionId)
@@ -529,14 +447,15 @@ public class ClientSubmissionService {
             );
   }
 
-  private void cleanMatchers(SubmissionMatchDetailEntity entity) {
-    entity.getMatchers().entrySet().forEach(entry -> {
+  private Map<String, Object> cleanMatchers(Map<String, Object> matchers) {
+    matchers.entrySet().forEach(entry -> {
       if (entry.getValue() instanceof String value) {
         String[] values = value.split(",");
         LinkedHashSet<String> uniqueValues = new LinkedHashSet<>(Arrays.asList(values));
         entry.setValue(String.join(",", uniqueValues));
       }
     });
+    return matchers;
   }
 
   private Flux<SubmissionLocationContactEntity> saveAndAssociateContact(
@@ -617,75 +536,93 @@ public class ClientSubmissionService {
     return descMap;
   }
 
-  private Mono<SubmissionDetailEntity> loadSubmissionDetail(String[] clientType,
-      String[] name, SubmissionEntity submission) {
-    return template
-        .selectOne(
-            query(
-                Criteria
-                    .where(ApplicationConstant.SUBMISSION_ID)
-                    .is(submission.getSubmissionId())
-                    .and(
-                        QueryPredicates
-                            .orEqualTo(clientType, "clientTypeCode")
-                            .and(SubmissionDetailPredicates.orName(name))
-                    )
-            ),
-            SubmissionDetailEntity.class
-        );
-  }
-
-  private Flux<Pair<Long, SubmissionEntity>> loadSubmissions(
-      int page,
-      int size,
+  /**
+   * Builds the where clause of the submission list, binding the values into the parameters. When
+   * no status or submission date is provided, only the new submissions and the ones approved or put
+   * into review recently are listed.
+   */
+  private String listSubmissionFilters(
       SubmissionStatusEnum[] requestStatus,
-      String[] submittedAt) {
+      String[] clientType,
+      String[] district,
+      String[] name,
+      String[] submittedAt,
+      Map<String, Object> parameters
+  ) {
+    List<String> filters = new ArrayList<>();
+
+    List<String> statuses = nonBlank(
+        Optional
+            .ofNullable(requestStatus)
+            .map(values -> Stream.of(values).filter(Objects::nonNull).map(Enum::name))
+            .orElseGet(Stream::empty)
+            .toArray(String[]::new)
+    );
+    if (!statuses.isEmpty()) {
+      filters.add("s.submission_status_code in (:status)");
+      parameters.put("status", statuses);
+    }
 
-    Criteria userQuery = SubmissionPredicates
-        .orSubmittedAt(submittedAt)
-        .and(SubmissionPredicates.orStatus(requestStatus));
+    // Submitted on or before any of the dates, so on or before the latest one
+    nonBlank(submittedAt)
+        .stream()
+        .map(value -> LocalDate.parse(value, DateTimeFormatter.ISO_DATE))
+        .max(Comparator.naturalOrder())
+        .ifPresent(value -> {
+          filters.add("s.submission_date <= :submittedAt");
+          parameters.put("submittedAt", value.plusDays(1).atStartOfDay());
+        });
 
     //If no user provided query found, then use the default one
-    if (userQuery.isEmpty()) {
+    if (filters.isEmpty()) {
       //List all submission of status N, or submissions of type AAC and RNC that were updated in the last X time
-      userQuery = QueryPredicates
-          .orEqualTo(new String[]{"N"}, ApplicationConstant.SUBMISSION_STATUS)
-          .or(
-              QueryPredicates
-                  .isAfter(
-                      LocalDateTime
-                          .now()
-                          .minus(configuration.getSubmissionLimit())
-                          .withHour(0)
-                          .withMinute(0)
-                          .withSecond(0),
-                      "updateTimestamp"
-                  )
-                  .and(
-                      QueryPredicates
-                          //When I said AAC and RNC, I meant AAC or RNC for query purpose
-                          .orEqualTo(new String[]{"AAC", "RNC"},
-                              ApplicationConstant.SUBMISSION_TYPE)
-                  )
-          );
+      filters.add("""
+          (s.submission_status_code = 'N'
+          or (s.update_timestamp >= :updatedAfter and s.submission_type_code in ('AAC','RNC')))""");
+      parameters.put(
+          "updatedAfter",
+          LocalDateTime
+              .now()
+              .minus(configuration.getSubmissionLimit())
+              .withHour(0)
+              .withMinute(0)
+              .withSecond(0)
+      );
     }
 
-    final Criteria finalUserQuery = userQuery;
+    List<String> clientTypes = nonBlank(clientType);
+    if (!clientTypes.isEmpty()) {
+      filters.add("sd.client_type_code in (:clientType)");
+      parameters.put("clientType", clientTypes);
+    }
 
-    return
-        template
-            .count(query(userQuery), SubmissionEntity.class)
-            .flatMapMany(count ->
-                template
-                    .select(
-                        query(finalUserQuery)
-                            .with(PageRequest.of(page, size))
-                            .sort(Sort.by("submissionDate").descending()),
-                        SubmissionEntity.class
-                    )
-                    .map(submission -> Pair.of(count, submission))
-            );
+    List<String> districts = nonBlank(district);
+    if (!districts.isEmpty()) {
+      filters.add("sd.district_code in (:district)");
+      parameters.put("district", districts);
+    }
+
+    List<String> names = nonBlank(name);
+    if (!names.isEmpty()) {
+      List<String> nameFilters = new ArrayList<>();
+      for (int index = 0; index < names.size(); index++) {
+        nameFilters.add("upper(sd.organization_name) like upper(:name" + index + ")");
+        parameters.put("name" + index, names.get(index));
+      }
+      filters.add("(" + String.join(" or ", nameFilters) + ")");
+    }
+
+    return String.join(" and ", filters);
+  }
 
+  private List<String> nonBlank(String[] values) {
+    return Optional
+        .ofNullable(values)
+        .map(Arrays::asList)
+        .orElse(List.of())
+        .stream()
+        .filter(StringUtils::isNotBlank)
+        .toList();
   }
 
   private String processRejectionReason(SubmissionApproveRejectDto request) {
@@ -2,18 +2,17 @@ package ca.bc.gov.app.service.client.matches;
 
 import ca.bc.gov.app.dto.client.ClientContactDto;
 import ca.bc.gov.app.dto.client.ClientSubmissionDto;
-import ca.bc.gov.app.dto.client.MatchResult;
+import ca.bc.gov.app.dto.client.StepMatchCriteria;
 import ca.bc.gov.app.dto.client.StepMatchEnum;
-import ca.bc.gov.app.dto.legacy.ContactSearchDto;
 import ca.bc.gov.app.exception.InvalidRequestObjectException;
 import ca.bc.gov.app.service.client.ClientLegacyService;
 import io.micrometer.observation.annotation.Observed;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.Logger;
 import org.springframework.stereotype.Component;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Component
@@ -57,7 +56,8 @@ public class ContactStepMatcher implements StepMatcher {
    * <li>A full match for the email address (both on location and contact)</li>
    * <li>A full match for each phone number (both on location and contact)</li>
    * </ol>
-   * <p>The results of these searches are then processed and reduced to a single result.</p>
+   * <p>All searches are sent to legacy in a single call, and the results of these searches are
+   * then processed and reduced to a single result.</p>
    *
    * @param dto The ClientSubmissionDto object containing the client data to be matched.
    * @return A Mono<Void> indicating when the matching process is complete.
@@ -81,7 +81,7 @@ public class ContactStepMatcher implements StepMatcher {
     // This is just to make sure index is filled in
     AtomicInteger indexCounter = new AtomicInteger(0);
 
-    return
+    List<StepMatchCriteria> criteria =
         dto
             .location()
             .contacts()
@@ -89,82 +89,63 @@ public class ContactStepMatcher implements StepMatcher {
             .stream()
             // Fix nonexistent index
             .map(address -> address.withIndexed(indexCounter.getAndIncrement()))
-            //Concat all the results for each address
-            .map(this::processSingleContact)
-            .reduce(Flux.empty(), Flux::concat)
-            .as(this::reduceMatchResults);
+            //Collect the criteria for each contact
+            .flatMap(address -> processSingleContact(address).stream())
+            .toList();
+
+    return legacyService
+        .matchClients(criteria.stream().map(StepMatchCriteria::toCriteria).toList())
+        .as(response -> processResults(response, criteria))
+        .as(this::reduceMatchResults);
   }
 
-  private Flux<MatchResult> processSingleContact(ClientContactDto contact) {
-
-    Mono<MatchResult> contactEmailFull = processResult(
-        legacyService
-            .searchGeneric(
-                "email",
-                contact.email()
-            ),
-        FIELD_NAME_PREFIX + contact.index() + "].email",
-        true,
-        false
-    );
-
-    Mono<MatchResult> businessPhoneFull = processResult(
-        legacyService
-            .searchGeneric(
-                PHONE_CONSTANT,
-                contact.phoneNumber()
-            ),
-        FIELD_NAME_PREFIX + contact.index() + "].phoneNumber",
-        true,
-        false
-    );
-
-    Mono<MatchResult> secondaryPhoneFull = processResult(
-        legacyService
-            .searchGeneric(
-                PHONE_CONSTANT,
-                contact.secondaryPhoneNumber()
-            ),
-        FIELD_NAME_PREFIX + contact.index() + "].secondaryPhoneNumber",
-        true,
-        false
+  private List<StepMatchCriteria> processSingleContact(ClientContactDto contact) {
+    return List.of(
+        StepMatchCriteria.of(
+            "email[" + contact.index() + "]",
+            FIELD_NAME_PREFIX + contact.index() + "].email",
+            true,
+            false,
+            "email",
+            "email", contact.email()
+        ),
+        StepMatchCriteria.of(
+            "businessPhone[" + contact.index() + "]",
+            FIELD_NAME_PREFIX + contact.index() + "].phoneNumber",
+            true,
+            false,
+            PHONE_CONSTANT,
+            PHONE_CONSTANT, contact.phoneNumber()
+        ),
+        StepMatchCriteria.of(
+            "secondaryPhone[" + contact.index() + "]",
+            FIELD_NAME_PREFIX + contact.index() + "].secondaryPhoneNumber",
+            true,
+            false,
+            PHONE_CONSTANT,
+            PHONE_CONSTANT, contact.secondaryPhoneNumber()
+        ),
+        StepMatchCriteria.of(
+            "fax[" + contact.index() + "]",
+            FIELD_NAME_PREFIX + contact.index() + "].faxNumber",
+            true,
+            false,
+            PHONE_CONSTANT,
+            PHONE_CONSTANT, contact.faxNumber()
+        ),
+        StepMatchCriteria.of(
+            "contact[" + contact.index() + "]",
+            FIELD_NAME_PREFIX + contact.index() + "].firstName",
+            true,
+            true,
+            "contact",
+            "firstName", contact.firstName(),
+            "lastName", contact.lastName(),
+            "email", contact.email(),
+            "phone", contact.phoneNumber(),
+            "phone2", contact.secondaryPhoneNumber(),
+            "fax", contact.faxNumber()
+        )
     );
-
-    Mono<MatchResult> faxPhoneFull = processResult(
-        legacyService
-            .searchGeneric(
-                PHONE_CONSTANT,
-                contact.faxNumber()
-            ),
-        FIELD_NAME_PREFIX + contact.index() + "].faxNumber",
-        true,
-        false
-    );
-
-    Mono<MatchResult> contactFull = processResult(
-        legacyService
-            .searchContact(
-                new ContactSearchDto(
-                    contact.firstName(),
-                    null,
-                    contact.lastName(),
-                    contact.email(),
-                    contact.phoneNumber(),
-                    contact.secondaryPhoneNumber(),
-                    contact.faxNumber()
-                )
-            ),
-        FIELD_NAME_PREFIX + contact.index() + "].firstName",
-        true,
-        true
-    );
-
-    return Flux.concat(
-            contactEmailFull,
-            businessPhoneFull,
-            secondaryPhoneFull,
-            faxPhoneFull,
-            contactFull
-        );
   }
-}
\ No newline at end of file
+}
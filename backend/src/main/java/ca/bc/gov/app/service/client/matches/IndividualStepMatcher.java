@@ -1,17 +1,19 @@
 package ca.bc.gov.app.service.client.matches;
 
+import ca.bc.gov.app.dto.client.ClientBusinessInformationDto;
 import ca.bc.gov.app.dto.client.ClientSubmissionDto;
 import ca.bc.gov.app.dto.client.IdentificationTypeEnum;
+import ca.bc.gov.app.dto.client.StepMatchCriteria;
 import ca.bc.gov.app.dto.client.StepMatchEnum;
-import ca.bc.gov.app.dto.legacy.ForestClientDto;
 import ca.bc.gov.app.service.client.ClientLegacyService;
 import io.micrometer.observation.annotation.Observed;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.Logger;
 import org.springframework.stereotype.Component;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
@@ -70,7 +72,8 @@ public class IndividualStepMatcher implements StepMatcher {
    * <li>A full search for individuals with a document ID.</li>
    * <li>A full search for the document itself.</li>
    * </ol>
-   * <p>The results of these searches are then processed and reduced to a single result.</p>
+   * <p>All searches are sent to legacy in a single call, and the results of these searches are
+   * then processed and reduced to a single result.</p>
    *
    * @param dto The ClientSubmissionDto object containing the client data to be matched.
    * @return A Mono<Void> indicating when the matching process is complete.
@@ -78,73 +81,61 @@ public class IndividualStepMatcher implements StepMatcher {
   @Override
   public Mono<Void> matchStep(ClientSubmissionDto dto) {
 
-    // Search for individual without document id
-    Flux<ForestClientDto> individualFuzzyMatch =
-        legacyService
-            .searchIndividual(
-                dto.businessInformation().firstName(),
-                dto.businessInformation().lastName(),
-                dto.businessInformation().birthdate(),
-                null
-            )
-            .doOnNext(client -> log.info("Match found for individual fuzzy match: {}",
-                client.clientNumber())
-            );
+    ClientBusinessInformationDto businessInformation = dto.businessInformation();
+    String birthdate = Objects.toString(businessInformation.birthdate(), null);
 
-    // Search for individual with document id
-    Flux<ForestClientDto> individualFullMatch =
-        legacyService
-            .searchIndividual(
-                dto.businessInformation().firstName(),
-                dto.businessInformation().lastName(),
-                dto.businessInformation().birthdate(),
-                dto.businessInformation().clientIdentification()
-            )
-            .doOnNext(client -> log.info("Match found for individual full match: {}",
-                client.clientNumber())
-            );
+    List<StepMatchCriteria> criteria = new ArrayList<>(List.of(
+
+        // Search for individual without document id
+        StepMatchCriteria.of(
+            "individual",
+            //using this name for reference only to denote that is only the individual
+            //information that was matched
+            "businessInformation.individual",
+            true,
+            true,
+            "individual",
+            "firstName", businessInformation.firstName(),
+            "lastName", businessInformation.lastName(),
+            "dob", birthdate
+        ),
+
+        // Search for individual with document id
+        StepMatchCriteria.of(
+            "individualAndDocument",
+            //using this name for reference only to denote that is the individual data
+            //plus the document id that was matched
+            "businessInformation.individualAndDocument",
+            true, // Not actually fuzzy, but we want to treat it as such
+            false,
+            "individual",
+            "firstName", businessInformation.firstName(),
+            "lastName", businessInformation.lastName(),
+            "dob", birthdate,
+            "identification", businessInformation.clientIdentification()
+        )
+    ));
 
     // Search for document itself
-    Flux<ForestClientDto> documentFullMatch =
-        Mono
-            .justOrEmpty(dto.businessInformation().idType())
-            .filter(Objects::nonNull)
-            .filter(idType -> !IdentificationTypeEnum.OTHR.name().equalsIgnoreCase(idType))
-            .flatMapMany(idType ->
-                legacyService.searchDocument(idType,
-                    dto.businessInformation().clientIdentification())
-            )
-            .doOnNext(client -> log.info("Match found for individual document full match: {}",
-                client.clientNumber())
-            );
+    if (businessInformation.idType() != null
+        && !IdentificationTypeEnum.OTHR.name().equalsIgnoreCase(businessInformation.idType())
+    ) {
+      criteria.add(
+          StepMatchCriteria.of(
+              "document",
+              "businessInformation.clientIdentification",
+              false,
+              false,
+              "id",
+              "idType", businessInformation.idType(),
+              "identification", businessInformation.clientIdentification()
+          )
+      );
+    }
 
-    return
-        reduceMatchResults(
-            Flux
-                .concat(
-                    processResult(
-                        individualFuzzyMatch,
-                        //using this name for reference only to denote that is only the individual
-                        //information that was matched
-                        "businessInformation.individual",
-                        true,
-                        true
-                    ),
-                    processResult(
-                        individualFullMatch,
-                        //using this name for reference only to denote that is the individual data
-                        //plus the document id that was matched
-                        "businessInformation.individualAndDocument",
-                        true, // Not actually fuzzy, but we want to treat it as such
-                        false
-                    ),
-                    processResult(
-                        documentFullMatch,
-                        "businessInformation.clientIdentification",
-                        false,
-                        false
-                    )
-                )
-        );
+    return legacyService
+        .matchClients(criteria.stream().map(StepMatchCriteria::toCriteria).toList())
+        .as(response -> processResults(response, criteria))
+        .as(this::reduceMatchResults);
   }
 }
@@ -2,18 +2,17 @@ package ca.bc.gov.app.service.client.matches;
 
 import ca.bc.gov.app.dto.client.ClientAddressDto;
 import ca.bc.gov.app.dto.client.ClientSubmissionDto;
-import ca.bc.gov.app.dto.client.MatchResult;
+import ca.bc.gov.app.dto.client.StepMatchCriteria;
 import ca.bc.gov.app.dto.client.StepMatchEnum;
-import ca.bc.gov.app.dto.legacy.AddressSearchDto;
 import ca.bc.gov.app.exception.InvalidRequestObjectException;
 import ca.bc.gov.app.service.client.ClientLegacyService;
 import io.micrometer.observation.annotation.Observed;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.Logger;
 import org.springframework.stereotype.Component;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Component
@@ -57,7 +56,8 @@ public class LocationStepMatcher implements StepMatcher {
    * <li>A full match for the email address (both on location and contact)</li>
    * <li>A full match for each phone number (both on location and contact)</li>
    * </ol>
-   * <p>The results of these searches are then processed and reduced to a single result.</p>
+   * <p>All searches are sent to legacy in a single call, and the results of these searches are
+   * then processed and reduced to a single result.</p>
    *
    * @param dto The ClientSubmissionDto object containing the client data to be matched.
    * @return A Mono<Void> indicating when the matching process is complete.
@@ -81,7 +81,7 @@ public class LocationStepMatcher implements StepMatcher {
     // This is just to make sure index is filled in
     AtomicInteger indexCounter = new AtomicInteger(0);
 
-    return
+    List<StepMatchCriteria> criteria =
         dto
             .location()
             .addresses()
@@ -89,83 +89,63 @@ public class LocationStepMatcher implements StepMatcher {
             .stream()
             // Fix nonexistent index
             .map(address -> address.withIndexed(indexCounter.getAndIncrement()))
-            //Concat all the results for each location
-            .map(this::processSingleLocation)
-            .reduce(Flux.empty(), Flux::concat)
-            .as(this::reduceMatchResults);
+            //Collect the criteria for each location
+            .flatMap(address -> processSingleLocation(address).stream())
+            .toList();
+
+    return legacyService
+        .matchClients(criteria.stream().map(StepMatchCriteria::toCriteria).toList())
+        .as(response -> processResults(response, criteria))
+        .as(this::reduceMatchResults);
   }
 
-  private Flux<MatchResult> processSingleLocation(ClientAddressDto location) {
-
-    Mono<MatchResult> contactEmailFull = processResult(
-        legacyService
-            .searchGeneric(
-                "email",
-                location.emailAddress()
-            ),
-        FIELD_NAME_PREFIX + location.index() + "].emailAddress",
-        true,
-        false
-    );
-
-    Mono<MatchResult> businessPhoneFull = processResult(
-        legacyService
-            .searchGeneric(
-                PHONE_CONSTANT,
-                location.businessPhoneNumber()
-            ),
-        FIELD_NAME_PREFIX + location.index() + "].businessPhoneNumber",
-        true,
-        false
-    );
-
-    Mono<MatchResult> secondaryPhoneFull = processResult(
-        legacyService
-            .searchGeneric(
-                PHONE_CONSTANT,
-                location.secondaryPhoneNumber()
-            ),
-        FIELD_NAME_PREFIX + location.index() + "].secondaryPhoneNumber",
-        true,
-        false
-    );
-
-    Mono<MatchResult> faxPhoneFull = processResult(
-        legacyService
-            .searchGeneric(
-                PHONE_CONSTANT,
-                location.faxNumber()
-            ),
-        FIELD_NAME_PREFIX + location.index() + "].faxNumber",
-        true,
-        false
+  private List<StepMatchCriteria> processSingleLocation(ClientAddressDto location) {
+    return List.of(
+        StepMatchCriteria.of(
+            "email[" + location.index() + "]",
+            FIELD_NAME_PREFIX + location.index() + "].emailAddress",
+            true,
+            false,
+            "email",
+            "email", location.emailAddress()
+        ),
+        StepMatchCriteria.of(
+            "businessPhone[" + location.index() + "]",
+            FIELD_NAME_PREFIX + location.index() + "].businessPhoneNumber",
+            true,
+            false,
+            PHONE_CONSTANT,
+            PHONE_CONSTANT, location.businessPhoneNumber()
+        ),
+        StepMatchCriteria.of(
+            "secondaryPhone[" + location.index() + "]",
+            FIELD_NAME_PREFIX + location.index() + "].secondaryPhoneNumber",
+            true,
+            false,
+            PHONE_CONSTANT,
+            PHONE_CONSTANT, location.secondaryPhoneNumber()
+        ),
+        StepMatchCriteria.of(
+            "fax[" + location.index() + "]",
+            FIELD_NAME_PREFIX + location.index() + "].faxNumber",
+            true,
+            false,
+            PHONE_CONSTANT,
+            PHONE_CONSTANT, location.faxNumber()
+        ),
+        StepMatchCriteria.of(
+            "address[" + location.index() + "]",
+            FIELD_NAME_PREFIX + location.index() + "].streetAddress",
+            true,
+            false,
+            "address",
+            "address", location.streetAddress(),
+            "city", location.city(),
+            "province", location.province().value(),
+            "postalCode", location.postalCode(),
+            "country", location.country().text()
+        )
     );
-
-    Mono<MatchResult> locationFull = processResult(
-        legacyService
-            .searchLocation(
-                new AddressSearchDto(
-                    location.streetAddress(),
-                    location.city(),
-                    location.province().value(),
-                    location.postalCode(),
-                    location.country().text()
-                )
-            ),
-        FIELD_NAME_PREFIX + location.index() + "].streetAddress",
-        true,
-        false
-    );
-
-    return Flux.concat(
-        contactEmailFull,
-        businessPhoneFull,
-        secondaryPhoneFull,
-        faxPhoneFull,
-        locationFull
-    );
-
-
   }
 
-}
\ No newline at end of file
+}
@@ -1,15 +1,16 @@
 package ca.bc.gov.app.service.client.matches;
 
+import ca.bc.gov.app.dto.client.ClientBusinessInformationDto;
 import ca.bc.gov.app.dto.client.ClientSubmissionDto;
+import ca.bc.gov.app.dto.client.StepMatchCriteria;
 import ca.bc.gov.app.dto.client.StepMatchEnum;
-import ca.bc.gov.app.dto.legacy.ForestClientDto;
 import ca.bc.gov.app.service.client.ClientLegacyService;
 import io.micrometer.observation.annotation.Observed;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.Logger;
 import org.springframework.stereotype.Component;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Component
@@ -50,69 +51,53 @@ public class OthersStepMatcher implements StepMatcher {
    * <li>A full match should happen for the Client name</li>
    * <li>A full match should happen for the Acronym</li>
    * </ol>
-   * <p>The results of these searches are then processed and reduced to a single result.</p>
+   * <p>All searches are sent to legacy in a single call, and the results of these searches are
+   * then processed and reduced to a single result.</p>
    *
    * @param dto The ClientSubmissionDto object containing the client data to be matched.
    * @return A Mono<Void> indicating when the matching process is complete.
    */
   @Override
   public Mono<Void> matchStep(ClientSubmissionDto dto) {
-    Flux<ForestClientDto> clientNameFullMatch =
-        legacyService
-            .searchGeneric(
-                "clientName",
-                dto.businessInformation().businessName()
-            ).doOnNext(client -> log.info("Match found for client name full match: {}",
-                client.clientNumber())
-            );
 
-    Flux<ForestClientDto> clientNameFuzzyMatch =
-        legacyService
-            .searchGeneric(
-                "match",
-                "companyName",
-                dto.businessInformation().businessName()
-            ).doOnNext(client -> log.info("Match found for client name fuzzy match: {}",
-                client.clientNumber())
-            );
+    ClientBusinessInformationDto businessInformation = dto.businessInformation();
 
-    Flux<ForestClientDto> clientAcronymFullMatch =
-        legacyService
-            .searchGeneric(
-                "acronym",
-                dto.businessInformation().clientAcronym()
-            ).doOnNext(client -> log.info("Match found for client acronym full match: {}",
-                client.clientNumber())
-            );
+    List<StepMatchCriteria> criteria = List.of(
+        //A fuzzy match should happen for the Client name
+        StepMatchCriteria.of(
+            "clientNameFuzzy",
+            "businessInformation.businessName",
+            true,
+            true,
+            "match",
+            "companyName", businessInformation.businessName()
+        ),
 
-    return reduceMatchResults(
-        Flux.concat(
+        //A full match should happen for the Client name
+        StepMatchCriteria.of(
+            "clientName",
+            "businessInformation.businessName",
+            false,
+            false,
+            "clientName",
+            "clientName", businessInformation.businessName()
+        ),
 
-            //A fuzzy match should happen for the Client name
-            processResult(
-                clientNameFuzzyMatch,
-                "businessInformation.businessName",
-                true,
-                true
-            ),
-
-            //A full match should happen for the Client name
-            processResult(
-                clientNameFullMatch,
-                "businessInformation.businessName",
-                false,
-                false
-            ),
-
-            //A full match should happen for the Acronym
-            processResult(
-                clientAcronymFullMatch,
-                "businessInformation.clientAcronym",
-                false,
-                false
-            )
+        //A full match should happen for the Acronym
+        StepMatchCriteria.of(
+            "clientAcronym",
+            "businessInformation.clientAcronym",
+            false,
+            false,
+            "acronym",
+            "acronym", businessInformation.clientAcronym()
         )
     );
+
+    return legacyService
+        .matchClients(criteria.stream().map(StepMatchCriteria::toCriteria).toList())
+        .as(response -> processResults(response, criteria))
+        .as(this::reduceMatchResults);
   }
 
 }
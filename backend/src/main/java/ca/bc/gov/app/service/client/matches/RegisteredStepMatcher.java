@@ -1,18 +1,18 @@
 package ca.bc.gov.app.service.client.matches;
 
+import ca.bc.gov.app.dto.client.ClientBusinessInformationDto;
 import ca.bc.gov.app.dto.client.ClientSubmissionDto;
+import ca.bc.gov.app.dto.client.StepMatchCriteria;
 import ca.bc.gov.app.dto.client.StepMatchEnum;
-import ca.bc.gov.app.dto.legacy.ForestClientDto;
 import ca.bc.gov.app.service.client.ClientLegacyService;
 import io.micrometer.observation.annotation.Observed;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.springframework.stereotype.Component;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
@@ -76,7 +76,8 @@ public class RegisteredStepMatcher implements StepMatcher {
    * <li>A full match should happen for the Acronym</li>
    * <li>A full match should happen for the combination of First name, Last name and date of birth if the user is a Sole Proprietor</li>
    * </ol>
-   * <p>The results of these searches are then processed and reduced to a single result.</p>
+   * <p>All searches are sent to legacy in a single call, and the results of these searches are
+   * then processed and reduced to a single result.</p>
    *
    * @param dto The ClientSubmissionDto object containing the client data to be matched.
    * @return A Mono<Void> indicating when the matching process is complete.
@@ -84,153 +85,96 @@ public class RegisteredStepMatcher implements StepMatcher {
   @Override
   public Mono<Void> matchStep(ClientSubmissionDto dto) {
 
-    // Search for individual without document id
-    Flux<ForestClientDto> individualFuzzyMatch =
-        Mono
-            .just(dto.businessInformation())
-            //If it's a Registered Sole Proprietorship
-            .filter(businessInformation -> businessInformation.clientType().equals("RSP"))
-            //And we have First and Last name
-            .filter(businessInformation -> !StringUtils.isAllBlank(
-                    businessInformation.firstName(),
-                    businessInformation.lastName()
-                )
-            )
-            //And we have a birthdate
-            .filter(businessInformation -> businessInformation.birthdate() != null)
-            .flatMapMany(businessInformation ->
-                legacyService.searchIndividual(
-                    businessInformation.firstName(),
-                    businessInformation.lastName(),
-                    businessInformation.birthdate(),
-                    null
-                )
-            )
-            .doOnNext(client -> log.info("Match found for sole proprietor fuzzy match: {}",
-                client.clientNumber())
-            );
-
-    Flux<ForestClientDto> clientRegistrationFullMatch =
-        legacyService
-            .searchLegacy(
-                dto.businessInformation().registrationNumber(),
-                null,
-                null,
-                null
-            ).doOnNext(client -> log.info("Match found for registration number full match: {}",
-                client.clientNumber())
-            );
-
-    Flux<ForestClientDto> clientNameFullMatch =
-        legacyService
-            .searchGeneric(
-                "clientName",
-                dto.businessInformation().businessName()
-            ).doOnNext(client -> log.info("Match found for client name full match: {}",
-                client.clientNumber())
-            );
-
-    Flux<ForestClientDto> clientNameFuzzyMatch =
-        legacyService
-            .searchGeneric(
-                "match",
-                "companyName",
-                dto.businessInformation().businessName()
-            ).doOnNext(client -> log.info("Match found for client name fuzzy match: {}",
-                client.clientNumber())
-            );
-
-    Flux<ForestClientDto> clientAcronymFullMatch =
-        legacyService
-            .searchGeneric(
-                "acronym",
-                dto.businessInformation().clientAcronym()
-            ).doOnNext(client -> log.info("Match found for client acronym full match: {}",
-                client.clientNumber())
-            );
-
-    Flux<ForestClientDto> dbaFuzzyMatch =
-        legacyService
-            .searchGeneric(
-                "doingBusinessAs",
-                "dbaName",
-                dto.businessInformation().doingBusinessAs()
-            ).doOnNext(client -> log.info("Match found for doing business as fuzzy match: {}",
-                client.clientNumber())
-            );
-
-    Flux<ForestClientDto> dbaFullMatch =
-        legacyService
-            .searchGeneric(
-                "doingBusinessAs",
-                Map.of(
-                    "dbaName", List.of(dto.businessInformation().doingBusinessAs()),
-                    "isFuzzy", List.of("false")
-                )
-            ).doOnNext(client -> log.info("Match found for doing business as full match: {}",
-                client.clientNumber())
-            );
-
-    return reduceMatchResults(
-        Flux.concat(
-
-            //A fuzzy match should happen for the Client name
-            processResult(
-                clientNameFuzzyMatch,
-                BUSINESS_FIELD_NAME,
-                true,
-                true
-            ),
-
-            //A full match should happen for the Client name
-            processResult(
-                clientNameFullMatch,
-                BUSINESS_FIELD_NAME,
-                true, //Not actually true, just to force a warning instead
-                false
-            ),
-
-            //A full match should happen for the Incorporation number
-            processResult(
-                clientRegistrationFullMatch,
-                "businessInformation.registrationNumber",
-                false,
-                false
-            ),
-
-            //A fuzzy match should happen for the Doing Business as
-            processResult(
-                dbaFuzzyMatch,
-                "businessInformation.doingBusinessAs",
-                true,
-                true
-            ),
-
-            //A full match should happen for the Doing Business as
-            processResult(
-                dbaFullMatch,
-                "businessInformation.doingBusinessAs",
-                false,
-                false
-            ),
-
-            //A full match should happen for the Acronym
-            processResult(
-                clientAcronymFullMatch,
-                "businessInformation.clientAcronym",
-                false,
-                false
-            ),
-
-            //A full match should happen for the combination of First name, Last name and date of birth if the user is a Sole Proprietor
-            //We point to the businessName as this is the only field the user has access to
-            processResult(
-                individualFuzzyMatch,
-                "businessInformation.individual",
-                true,
-                true
-            )
+    ClientBusinessInformationDto businessInformation = dto.businessInformation();
+
+    List<StepMatchCriteria> criteria = new ArrayList<>(List.of(
+
+        //A fuzzy match should happen for the Client name
+        StepMatchCriteria.of(
+            "clientNameFuzzy",
+            BUSINESS_FIELD_NAME,
+            true,
+            true,
+            "match",
+            "companyName", businessInformation.businessName()
+        ),
+
+        //A full match should happen for the Client name
+        StepMatchCriteria.of(
+            "clientName",
+            BUSINESS_FIELD_NAME,
+            true, //Not actually true, just to force a warning instead
+            false,
+            "clientName",
+            "clientName", businessInformation.businessName()
+        ),
+
+        //A full match should happen for the Incorporation number
+        StepMatchCriteria.of(
+            "registrationNumber",
+            "businessInformation.registrationNumber",
+            false,
+            false,
+            "registrationOrName",
+            "registrationNumber", businessInformation.registrationNumber()
+        ),
+
+        //A fuzzy match should happen for the Doing Business as
+        StepMatchCriteria.of(
+            "doingBusinessAsFuzzy",
+            "businessInformation.doingBusinessAs",
+            true,
+            true,
+            "doingBusinessAs",
+            "dbaName", businessInformation.doingBusinessAs()
+        ),
+
+        //A full match should happen for the Doing Business as
+        StepMatchCriteria.of(
+            "doingBusinessAs",
+            "businessInformation.doingBusinessAs",
+            false,
+            false,
+            "doingBusinessAs",
+            "dbaName", businessInformation.doingBusinessAs(),
+            "isFuzzy", "false"
+        ),
+
+        //A full match should happen for the Acronym
+        StepMatchCriteria.of(
+            "clientAcronym",
+            "businessInformation.clientAcronym",
+            false,
+            false,
+            "acronym",
+            "acronym", businessInformation.clientAcronym()
         )
-    );
+    ));
+
+    //A full match should happen for the combination of First name, Last name and date of birth
+    //if the user is a Sole Proprietor. We point to the businessName as this is the only field the
+    //user has access to
+    if ("RSP".equals(businessInformation.clientType())
+        && !StringUtils.isAllBlank(businessInformation.firstName(), businessInformation.lastName())
+        && businessInformation.birthdate() != null
+    ) {
+      criteria.add(
+          StepMatchCriteria.of(
+              "individual",
+              "businessInformation.individual",
+              true,
+              true,
+              "individual",
+              "firstName", businessInformation.firstName(),
+              "lastName", businessInformation.lastName(),
+              "dob", businessInformation.birthdate().toString()
+          )
+      );
+    }
+
+    return legacyService
+        .matchClients(criteria.stream().map(StepMatchCriteria::toCriteria).toList())
+        .as(response -> processResults(response, criteria))
+        .as(this::reduceMatchResults);
   }
 }
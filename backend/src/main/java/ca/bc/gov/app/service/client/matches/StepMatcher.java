@@ -2,10 +2,13 @@ package ca.bc.gov.app.service.client.matches;
 
 import ca.bc.gov.app.dto.client.ClientSubmissionDto;
 import ca.bc.gov.app.dto.client.MatchResult;
+import ca.bc.gov.app.dto.client.StepMatchCriteria;
 import ca.bc.gov.app.dto.client.StepMatchEnum;
+import ca.bc.gov.app.dto.legacy.ClientMatchResultDto;
 import ca.bc.gov.app.dto.legacy.ForestClientDto;
 import ca.bc.gov.app.exception.DataMatchException;
 import java.util.Comparator;
+import java.util.List;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -67,6 +70,36 @@ public interface StepMatcher {
         .map(clientNumbers -> new MatchResult(fieldName, clientNumbers, isFuzzy, isPartial));
   }
 
+  /**
+   * <p>This default method processes the response of a combined legacy match, where every
+   * criterion of the step was evaluated in a single call. The clients found for each criterion are
+   * processed by {@link #processResult(Flux, String, boolean, boolean)}, in the same order as the
+   * criteria were provided.</p>
+   *
+   * @param response A Flux of ClientMatchResultDto objects, one per criterion.
+   * @param criteria The criteria sent to the legacy match.
+   * @return A Flux of MatchResult objects, one for each criterion with matching clients.
+   */
+  default Flux<MatchResult> processResults(
+      Flux<ClientMatchResultDto> response,
+      List<StepMatchCriteria> criteria
+  ) {
+    return response
+        .collectMap(ClientMatchResultDto::id, ClientMatchResultDto::clients)
+        .flatMapMany(clientsById ->
+            Flux
+                .fromIterable(criteria)
+                .concatMap(criterion ->
+                    processResult(
+                        Flux.fromIterable(clientsById.getOrDefault(criterion.id(), List.of())),
+                        criterion.fieldName(),
+                        criterion.fuzzy(),
+                        criterion.partial()
+                    )
+                )
+        );
+  }
+
   /**
    * <p>This default method is used to reduce match results. If there's any match result, it will
    * throw a DataMatchException, if not, it will return an empty Mono. It takes a Flux of
@@ -1,6 +1,7 @@
 package ca.bc.gov.app.service.opendata;
 
 import ca.bc.gov.app.ApplicationConstant;
+import ca.bc.gov.app.dto.opendata.FeatureProperties;
 import ca.bc.gov.app.dto.opendata.OpenData;
 import java.util.Locale;
 import lombok.extern.slf4j.Slf4j;
@@ -16,6 +17,8 @@ public abstract class AbstractOpenDataService {
   abstract String getVersion();
   abstract String getOutputFormat();
   abstract String getSearchField();
+  abstract String getDatasetName();
+  abstract String getSearchValue(FeatureProperties properties);
 
 
   public Mono<OpenData> getFeature(String nationName) {
@@ -54,4 +57,27 @@ public abstract class AbstractOpenDataService {
         .doOnNext(openData -> log.info("OpenData: {}", openData));
   }
 
+  /**
+   * Loads every feature of the dataset at once, to be searched in memory.
+   */
+  public Mono<OpenData> getFeatures() {
+    return getWebClient()
+        .get()
+        .uri(pathBuilder ->
+            pathBuilder
+                .queryParam("service", "WFS")
+                .queryParam("request", "GetFeature")
+                .queryParam("typeName", getTypeName())
+                .queryParam("version", getVersion())
+                .queryParam("outputFormat", getOutputFormat())
+                .build()
+        )
+        .retrieve()
+        .bodyToMono(OpenData.class)
+        .doOnNext(openData -> log.info("Loaded {} features from {}",
+            openData.features() == null ? 0 : openData.features().size(),
+            getDatasetName()
+        ));
+  }
+
 }
@@ -1,5 +1,6 @@
 package ca.bc.gov.app.service.opendata;
 
+import ca.bc.gov.app.dto.opendata.FeatureProperties;
 import ca.bc.gov.app.dto.opendata.OpenData;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -47,4 +48,14 @@ public class BcMapsService extends AbstractOpenDataService {
     return getFeature(nationName)
         .doOnNext(openData -> log.info("BC Maps: {}", openData));
   }
+
+  @Override
+  String getDatasetName() {
+    return "bcmaps";
+  }
+
+  @Override
+  String getSearchValue(FeatureProperties properties) {
+    return properties.firstNationBCName();
+  }
 }
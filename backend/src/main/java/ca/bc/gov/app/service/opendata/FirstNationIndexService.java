@@ -0,0 +1,260 @@
+package ca.bc.gov.app.service.opendata;
+
+import ca.bc.gov.app.configuration.ForestClientConfiguration;
+import ca.bc.gov.app.configuration.ForestClientConfiguration.OpenDataConfiguration;
+import ca.bc.gov.app.dto.opendata.Feature;
+import ca.bc.gov.app.dto.opendata.OpenData;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Keeps the First Nations datasets in memory, as they only have a few thousand features that rarely
+ * change, so searching for a First Nation does not call the open data APIs. Each dataset is
+ * reloaded on a schedule and saved as a snapshot, if a snapshot path is set, to be used on the next
+ * start until it is reloaded. A dataset that was not loaded yet is searched on its API.
+ *
+ * <p>Names are matched ignoring case, accents and punctuation, the same way the APIs match any
+ * part of the name, and a number is matched against the nation id.
+ */
+@Service
+@Slf4j
+public class FirstNationIndexService {
+
+  private final List<AbstractOpenDataService> datasets;
+  private final ForestClientConfiguration configuration;
+  private final ObjectMapper mapper;
+
+  private final Map<String, List<IndexedFeature>> index = new ConcurrentHashMap<>();
+  private final AtomicReference<Mono<Void>> loading = new AtomicReference<>();
+
+  public FirstNationIndexService(
+      BcMapsService bcMapsService,
+      SacFirstNationService sacFirstNationService,
+      SacFirstNationTribeService sacFirstNationTribeService,
+      ForestClientConfiguration configuration,
+      ObjectMapper mapper
+  ) {
+    this.datasets = List.of(bcMapsService, sacFirstNationService, sacFirstNationTribeService);
+    this.configuration = configuration;
+    this.mapper = mapper;
+  }
+
+  /**
+   * Searches a dataset for the First Nations matching the name or id.
+   *
+   * @param dataset    the dataset to be searched
+   * @param nationName the name, or part of the name, or the id of the First Nation
+   * @return a Mono with the matching features, or empty if none matches
+   */
+  public Mono<OpenData> search(AbstractOpenDataService dataset, String nationName) {
+    return Mono.defer(() -> {
+      List<IndexedFeature> features = index.get(dataset.getDatasetName());
+      if (features == null) {
+        return dataset.getFeature(nationName);
+      }
+
+      String query = normalize(nationName);
+      if (query.isEmpty()) {
+        return Mono.empty();
+      }
+
+      List<Feature> matches = features
+          .stream()
+          .filter(feature -> feature.matches(query))
+          .map(IndexedFeature::feature)
+          .toList();
+
+      return matches.isEmpty()
+          ? Mono.empty()
+          : Mono.just(new OpenData("FeatureCollection", null, matches));
+    });
+  }
+
+  /**
+   * Loads the snapshots saved by the previous run once the application is ready, so searches are
+   * done in memory straight away, and then reloads the datasets from the APIs.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void warmUp() {
+    loadSnapshots()
+        .then(refresh())
+        .subscribe(
+            unused -> {
+            },
+            throwable -> log.error("Error loading the First Nations datasets", throwable)
+        );
+  }
+
+  /**
+   * Reloads the datasets from the APIs. A dataset that fails to load keeps its current features.
+   * Concurrent callers wait on the same load.
+   *
+   * @return a Mono that completes once the datasets are reloaded
+   */
+  public Mono<Void> refresh() {
+    return Mono.defer(() ->
+        loading.updateAndGet(inFlight -> inFlight != null ? inFlight : loadDatasets())
+    );
+  }
+
+  @Scheduled(
+      fixedDelayString = "${ca.bc.gov.nrs.openData.refresh:PT24H}",
+      initialDelayString = "${ca.bc.gov.nrs.openData.refresh:PT24H}"
+  )
+  public void scheduledRefresh() {
+    refresh()
+        .subscribe(
+            unused -> {
+            },
+            throwable -> log.error("Error reloading the First Nations datasets", throwable)
+        );
+  }
+
+  /**
+   * Loads the saved snapshot of each dataset that was not loaded yet.
+   *
+   * @return a Mono that completes once the snapshots are loaded
+   */
+  public Mono<Void> loadSnapshots() {
+    return Flux
+        .fromIterable(datasets)
+        .filter(dataset -> !index.containsKey(dataset.getDatasetName()))
+        .flatMap(dataset ->
+            Mono
+                .justOrEmpty(snapshotFile(dataset))
+                .filter(Files::exists)
+                .flatMap(file ->
+                    Mono
+                        .fromCallable(() -> mapper.readValue(file.toFile(), OpenData.class))
+                        .subscribeOn(Schedulers.boundedElastic())
+                )
+                .doOnNext(openData -> index(dataset, openData, "snapshot"))
+                .onErrorResume(throwable -> {
+                  log.warn("Could not load the {} First Nations snapshot: {}",
+                      dataset.getDatasetName(),
+                      throwable.getMessage()
+                  );
+                  return Mono.empty();
+                })
+        )
+        .then();
+  }
+
+  private Mono<Void> loadDatasets() {
+    return Flux
+        .fromIterable(datasets)
+        .flatMap(dataset ->
+            dataset
+                .getFeatures()
+                .filter(openData -> openData.features() != null && !openData.features().isEmpty())
+                .doOnNext(openData -> index(dataset, openData, "API"))
+                .flatMap(openData -> saveSnapshot(dataset, openData))
+                .onErrorResume(throwable -> {
+                  log.warn("Could not reload the {} First Nations dataset: {}",
+                      dataset.getDatasetName(),
+                      throwable.getMessage()
+                  );
+                  return Mono.empty();
+                })
+        )
+        .then()
+        .doFinally(signalType -> loading.set(null))
+        .cache();
+  }
+
+  private void index(AbstractOpenDataService dataset, OpenData openData, String source) {
+    List<IndexedFeature> features = Optional
+        .ofNullable(openData.features())
+        .orElse(List.of())
+        .stream()
+        .filter(feature -> feature.properties() != null)
+        .map(feature -> new IndexedFeature(
+                feature,
+                normalize(dataset.getSearchValue(feature.properties())),
+                String.valueOf(feature.properties().getNationId())
+            )
+        )
+        .toList();
+
+    index.put(dataset.getDatasetName(), features);
+    log.info("Indexed {} First Nations from the {} {}",
+        features.size(),
+        dataset.getDatasetName(),
+        source
+    );
+  }
+
+  private Mono<Void> saveSnapshot(AbstractOpenDataService dataset, OpenData openData) {
+    return Mono
+        .justOrEmpty(snapshotFile(dataset))
+        .flatMap(file ->
+            Mono
+                .fromCallable(() -> {
+                  Files.createDirectories(file.getParent());
+                  // Written aside and moved, so a failed write does not replace the last snapshot
+                  Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+                  mapper.writeValue(temporary.toFile(), openData);
+                  return Files.move(
+                      temporary,
+                      file,
+                      StandardCopyOption.REPLACE_EXISTING,
+                      StandardCopyOption.ATOMIC_MOVE
+                  );
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+        )
+        .doOnNext(file -> log.info("Saved the {} First Nations snapshot to {}",
+            dataset.getDatasetName(),
+            file
+        ))
+        .then();
+  }
+
+  private Optional<Path> snapshotFile(AbstractOpenDataService dataset) {
+    return Optional
+        .ofNullable(configuration.getOpenData())
+        .map(OpenDataConfiguration::getSnapshotPath)
+        .filter(StringUtils::isNotBlank)
+        .map(path -> Path.of(path, dataset.getDatasetName() + ".json"));
+  }
+
+  /**
+   * Normalizes a name to be compared, in lower case, without accents and apostrophes, and with any
+   * other punctuation as a single space.
+   */
+  static String normalize(String value) {
+    return StringUtils
+        .stripAccents(Objects.toString(value, StringUtils.EMPTY))
+        .toLowerCase(Locale.ROOT)
+        .replaceAll("['’`]", StringUtils.EMPTY)
+        .replaceAll("[^a-z0-9]+", StringUtils.SPACE)
+        .trim();
+  }
+
+  private record IndexedFeature(Feature feature, String name, String id) {
+
+    boolean matches(String query) {
+      return name.contains(query) || id.equals(query);
+    }
+
+  }
+
+}
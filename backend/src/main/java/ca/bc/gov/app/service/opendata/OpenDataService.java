@@ -5,7 +5,7 @@ import ca.bc.gov.app.dto.client.ClientAddressDto;
 import ca.bc.gov.app.dto.client.ClientValueTextDto;
 import ca.bc.gov.app.dto.opendata.Feature;
 import ca.bc.gov.app.dto.opendata.OpenData;
-import ca.bc.gov.app.repository.client.ProvinceCodeRepository;
+import ca.bc.gov.app.service.client.ClientReferenceCodeService;
 import java.util.Comparator;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +15,11 @@ import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+/**
+ * Searches the First Nations on the BC Maps dataset first, then on the SAC band and tribal council
+ * datasets, using the first one with any match. The datasets and the province codes are kept in
+ * memory, so a search does not call the open data APIs nor the database.
+ */
 @RequiredArgsConstructor
 @Slf4j
 @Service
@@ -23,13 +28,14 @@ public class OpenDataService {
   private final BcMapsService bcMapsService;
   private final SacFirstNationService sacFirstNationService;
   private final SacFirstNationTribeService sacFirstNationTribeService;
-  private final ProvinceCodeRepository provinceCodeRepository;
+  private final FirstNationIndexService firstNationIndexService;
+  private final ClientReferenceCodeService codeService;
 
   public Flux<ClientDetailsDto> getFirstNationData(String nationName) {
-    return bcMapsService
-        .getFirstNationData(nationName)
-        .switchIfEmpty(sacFirstNationService.getFirstNationData(nationName))
-        .switchIfEmpty(sacFirstNationTribeService.getFirstNationData(nationName))
+    return firstNationIndexService
+        .search(bcMapsService, nationName)
+        .switchIfEmpty(firstNationIndexService.search(sacFirstNationService, nationName))
+        .switchIfEmpty(firstNationIndexService.search(sacFirstNationTribeService, nationName))
         .flatMapIterable(OpenData::features)
         .doOnNext(openDataFeature ->
             log.info("Returning first nation data for nationName: {} {}", nationName,
@@ -80,8 +86,12 @@ public class OpenDataService {
   
   private Mono<ClientValueTextDto> loadProvince(String countryCode, String province) {
     return
-        provinceCodeRepository
-            .findByCountryCodeAndProvinceCode(countryCode, province)
+        codeService
+            .getCodes()
+            .flatMapIterable(ClientReferenceCodeService.ReferenceCodes::provinces)
+            .filter(entity -> countryCode.equals(entity.getCountryCode()))
+            .filter(entity -> entity.getProvinceCode().equals(province))
+            .next()
             .map(
                 entity -> new ClientValueTextDto(entity.getProvinceCode(), entity.getDescription())
             )
@@ -1,5 +1,6 @@
 package ca.bc.gov.app.service.opendata;
 
+import ca.bc.gov.app.dto.opendata.FeatureProperties;
 import ca.bc.gov.app.dto.opendata.OpenData;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -47,4 +48,14 @@ public class SacFirstNationService extends AbstractOpenDataService {
   String getSearchField() {
     return "Donnees_Ouvertes-Open_Data_Premiere_Nation_First_Nation:Nom_de_bande___Band_Name";
   }
+
+  @Override
+  String getDatasetName() {
+    return "sac-band";
+  }
+
+  @Override
+  String getSearchValue(FeatureProperties properties) {
+    return properties.bandName();
+  }
 }
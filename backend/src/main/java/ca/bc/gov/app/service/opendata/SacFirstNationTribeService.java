@@ -1,5 +1,6 @@
 package ca.bc.gov.app.service.opendata;
 
+import ca.bc.gov.app.dto.opendata.FeatureProperties;
 import ca.bc.gov.app.dto.opendata.OpenData;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -47,4 +48,14 @@ public class SacFirstNationTribeService extends AbstractOpenDataService {
   String getSearchField() {
     return "Donnees_Ouvertes-Open_Data_Conseil_Tribal_Tribal_Council:Nom_du_conseil_tribal___Tribal_Council_Name";
   }
+
+  @Override
+  String getDatasetName() {
+    return "sac-tribe";
+  }
+
+  @Override
+  String getSearchValue(FeatureProperties properties) {
+    return properties.tribeName();
+  }
 }
@@ -11,6 +11,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.NoArgsConstructor;
@@ -27,6 +28,13 @@ import org.springframework.security.oauth2.server.resource.authentication.JwtAut
 @NoArgsConstructor(access = lombok.AccessLevel.PRIVATE)
 public class JwtPrincipalUtil {
 
+  /**
+   * The last role csv that was split, as the same roles are read for every serialized row of a
+   * request.
+   */
+  private static final AtomicReference<ParsedRoles> lastRoles =
+      new AtomicReference<>(new ParsedRoles(StringUtils.EMPTY, Set.of()));
+
   /**
    * Retrieves the provider of the JWT token from the given JwtAuthenticationToken principal. The
    * provider is extracted from the token attributes under the key "custom:idp_name". If the
@@ -257,10 +265,16 @@ public class JwtPrincipalUtil {
    */
   public static Set<String> getRoles() {
     String roleCsv = MDC.get(ApplicationConstant.MDC_USERROLES);
-    if (StringUtils.isNotBlank(roleCsv)) {
-      return Set.of(roleCsv.split(","));
+    if (StringUtils.isBlank(roleCsv)) {
+      return Set.of();
     }
-    return Set.of();
+
+    ParsedRoles parsed = lastRoles.get();
+    if (!parsed.roleCsv().equals(roleCsv)) {
+      parsed = new ParsedRoles(roleCsv, Set.of(roleCsv.split(",")));
+      lastRoles.set(parsed);
+    }
+    return parsed.roles();
   }
 
   private static Set<String> getClaimGroups(Map<String, Object> tokenAttributes) {
@@ -458,5 +472,8 @@ public class JwtPrincipalUtil {
     return processName(claims).get("fullName");
   }
 
+  private record ParsedRoles(String roleCsv, Set<String> roles) {
+
+  }
 
 }
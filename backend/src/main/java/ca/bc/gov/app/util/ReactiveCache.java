@@ -0,0 +1,113 @@
+package ca.bc.gov.app.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import reactor.core.publisher.Mono;
+
+/**
+ * A bounded in memory cache for reactive lookups, such as calls to an external API. Concurrent
+ * lookups of the same key wait on the same call, each value is kept for the time to live after it
+ * is loaded, and the least recently used key is dropped once the cache is full. Errors are not
+ * kept, so the next lookup calls again. A time to live of zero keeps nothing, but concurrent
+ * lookups still share the same call.
+ *
+ * <p>Cache hits and misses are reported by the {@code service.<name>.cache} counter.
+ *
+ * @param <K> the type of the key
+ * @param <V> the type of the value
+ */
+public class ReactiveCache<K, V> {
+
+  private final Duration ttl;
+  private final Clock clock;
+  private final Counter cacheHit;
+  private final Counter cacheMiss;
+  private final Map<K, Entry<V>> entries;
+
+  public ReactiveCache(String name, int maxSize, Duration ttl, MeterRegistry meterRegistry) {
+    this(name, maxSize, ttl, meterRegistry, Clock.systemUTC());
+  }
+
+  ReactiveCache(
+      String name,
+      int maxSize,
+      Duration ttl,
+      MeterRegistry meterRegistry,
+      Clock clock
+  ) {
+    this.ttl = ttl;
+    this.clock = clock;
+    this.cacheHit = meterRegistry.counter("service." + name + ".cache", "result", "hit");
+    this.cacheMiss = meterRegistry.counter("service." + name + ".cache", "result", "miss");
+    // Access ordered, so the eldest entry is the least recently used one
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+        return size() > Math.max(1, maxSize);
+      }
+    };
+  }
+
+  /**
+   * Gets the value of a key, loading it if it is not cached or if it expired.
+   *
+   * @param key    the key to look up
+   * @param loader loads the value of the key, only called on a miss
+   * @return a Mono with the value, shared by every concurrent lookup of the key
+   */
+  public Mono<V> get(K key, Function<K, Mono<V>> loader) {
+    return Mono.defer(() -> {
+      synchronized (entries) {
+        Entry<V> entry = entries.get(key);
+        if (entry != null && !entry.isExpired(clock.instant(), ttl)) {
+          cacheHit.increment();
+          return entry.value;
+        }
+
+        cacheMiss.increment();
+        Entry<V> created = new Entry<>();
+        created.value = loader
+            .apply(key)
+            .doOnSuccess(value -> created.loadedAt = clock.instant())
+            .doOnError(throwable -> remove(key, created))
+            .cache();
+        entries.put(key, created);
+        return created.value;
+      }
+    });
+  }
+
+  /**
+   * Drops every cached value.
+   */
+  public void clear() {
+    synchronized (entries) {
+      entries.clear();
+    }
+  }
+
+  private void remove(K key, Entry<V> entry) {
+    synchronized (entries) {
+      entries.remove(key, entry);
+    }
+  }
+
+  private static class Entry<V> {
+
+    private Mono<V> value;
+    // Only set once loaded, so a value still loading never expires
+    private volatile Instant loadedAt;
+
+    boolean isExpired(Instant now, Duration ttl) {
+      return loadedAt != null && !loadedAt.plus(ttl).isAfter(now);
+    }
+
+  }
+
+}
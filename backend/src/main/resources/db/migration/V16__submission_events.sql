@@ -0,0 +1,28 @@
+CREATE OR REPLACE FUNCTION nrfc.notify_submission_event()
+RETURNS trigger AS $$
+BEGIN
+  IF TG_OP = 'UPDATE'
+    AND NEW.submission_status_code IS NOT DISTINCT FROM OLD.submission_status_code
+    AND NEW.submission_type_code IS NOT DISTINCT FROM OLD.submission_type_code THEN
+    RETURN NEW;
+  END IF;
+
+  PERFORM pg_notify(
+    'submission_events',
+    NEW.submission_id || ',' || NEW.submission_status_code || ',' || NEW.submission_type_code
+  );
+
+  RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+COMMENT ON FUNCTION nrfc.notify_submission_event()
+IS 'Notifies the processor on the submission_events channel when a submission is created or its status or type changes. The payload is submission_id,status,type';
+
+DROP TRIGGER IF EXISTS submission_event_trg ON nrfc.submission;
+
+CREATE TRIGGER submission_event_trg
+AFTER INSERT OR UPDATE OF submission_status_code, submission_type_code
+ON nrfc.submission
+FOR EACH ROW
+EXECUTE FUNCTION nrfc.notify_submission_event();
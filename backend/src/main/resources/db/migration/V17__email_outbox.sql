@@ -0,0 +1,25 @@
+ALTER TABLE nrfc.email_log
+ADD COLUMN IF NOT EXISTS email_key VARCHAR(100) NULL,
+ADD COLUMN IF NOT EXISTS send_attempts INTEGER NOT NULL DEFAULT 0,
+ADD COLUMN IF NOT EXISTS next_attempt_timestamp TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+
+ALTER TABLE nrfc.email_log
+ALTER COLUMN email_address TYPE VARCHAR(1000);
+
+ALTER TABLE nrfc.email_log
+DROP CONSTRAINT IF EXISTS email_log_email_key_uk;
+
+ALTER TABLE nrfc.email_log
+ADD CONSTRAINT email_log_email_key_uk UNIQUE (email_key);
+
+COMMENT ON COLUMN nrfc.email_log.email_key
+IS 'Unique key of a queued email, so the same email is only queued once. Empty for emails sent directly.';
+
+COMMENT ON COLUMN nrfc.email_log.send_attempts
+IS 'Number of times the email was picked to be sent.';
+
+COMMENT ON COLUMN nrfc.email_log.next_attempt_timestamp
+IS 'Timestamp from when the email can be picked to be sent again.';
+
+COMMENT ON COLUMN nrfc.email_log.email_address
+IS 'Comma separated email addresses to which the email is sent.';
@@ -0,0 +1,9 @@
+ALTER TABLE nrfc.submission
+ADD COLUMN IF NOT EXISTS lease_owner VARCHAR(100) NULL,
+ADD COLUMN IF NOT EXISTS lease_expiry_timestamp TIMESTAMP NULL;
+
+COMMENT ON COLUMN nrfc.submission.lease_owner
+IS 'Identifier of the processor instance that claimed the submission for processing. Empty when not claimed.';
+
+COMMENT ON COLUMN nrfc.submission.lease_expiry_timestamp
+IS 'Timestamp from when the submission can be claimed again by any processor instance, such as when the owner stopped before completing it.';
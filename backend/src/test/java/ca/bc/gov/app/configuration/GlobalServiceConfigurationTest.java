@@ -0,0 +1,106 @@
+package ca.bc.gov.app.configuration;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+
+import ca.bc.gov.app.configuration.ForestClientConfiguration.ConnectionPoolConfiguration;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@DisplayName("Unit Test | Global Service Configuration")
+class GlobalServiceConfigurationTest {
+
+  private static final String SLOW_URI = "/slow";
+  private static final String FAST_URI = "/fast";
+
+  @RegisterExtension
+  static WireMockExtension apiStub = WireMockExtension
+      .newInstance()
+      .options(wireMockConfig().dynamicPort())
+      .build();
+
+  private final GlobalServiceConfiguration serviceConfiguration = new GlobalServiceConfiguration();
+
+  private final ForestClientConfiguration configuration = ForestClientConfiguration
+      .builder()
+      .connectionPools(Map.of(
+          "slow", singleConnectionPool(),
+          "fast", singleConnectionPool()
+      ))
+      .build();
+
+  @AfterEach
+  void tearDown() {
+    serviceConfiguration.disposeConnectionPools();
+  }
+
+  @Test
+  @DisplayName("A saturated pool does not hold the calls to another API")
+  void shouldIsolatePools() {
+    apiStub.stubFor(
+        get(urlPathEqualTo(SLOW_URI)).willReturn(aResponse().withStatus(200).withFixedDelay(1500))
+    );
+    apiStub.stubFor(get(urlPathEqualTo(FAST_URI)).willReturn(aResponse().withStatus(200)));
+
+    WebClient slowApi = webClient("slow");
+    WebClient fastApi = webClient("fast");
+
+    // The first slow call takes the only connection of its pool, so the second one waits for it
+    // until the acquire timeout, while the other API still answers straight away
+    Flux
+        .merge(
+            call(slowApi, SLOW_URI, "slow"),
+            Mono.delay(Duration.ofMillis(200)).then(call(slowApi, SLOW_URI, "slow")),
+            Mono.delay(Duration.ofMillis(200)).then(call(fastApi, FAST_URI, "fast"))
+        )
+        .as(StepVerifier::create)
+        .expectNext("fast 200")
+        .expectNext("slow rejected")
+        .expectNext("slow 200")
+        .expectComplete()
+        .verify(Duration.ofSeconds(5));
+  }
+
+  private WebClient webClient(String name) {
+    return WebClient
+        .builder()
+        .baseUrl(apiStub.baseUrl())
+        .clientConnector(
+            new ReactorClientHttpConnector(serviceConfiguration.httpClient(configuration, name))
+        )
+        .build();
+  }
+
+  private Mono<String> call(WebClient api, String uri, String name) {
+    return api
+        .get()
+        .uri(uri)
+        .exchangeToMono(response ->
+            response
+                .releaseBody()
+                .thenReturn(name + " " + response.statusCode().value())
+        )
+        .onErrorResume(throwable -> Mono.just(name + " rejected"));
+  }
+
+  private static ConnectionPoolConfiguration singleConnectionPool() {
+    return ConnectionPoolConfiguration
+        .builder()
+        .maxConnections(1)
+        .pendingAcquireTimeout(Duration.ofMillis(500))
+        .build();
+  }
+
+}
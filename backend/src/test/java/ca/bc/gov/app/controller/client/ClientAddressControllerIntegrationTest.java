@@ -1,7 +1,9 @@
 package ca.bc.gov.app.controller.client;
 
+import static com.github.tomakehurst.wiremock.client.WireMock.containing;
 import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
@@ -11,6 +13,7 @@ import ca.bc.gov.app.AddressTestConstants;
 import ca.bc.gov.app.ApplicationConstant;
 import ca.bc.gov.app.extensions.AbstractTestContainerIntegrationTest;
 import ca.bc.gov.app.extensions.WiremockLogNotifier;
+import ca.bc.gov.app.service.client.ClientAddressService;
 import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
 import java.time.Duration;
 import java.util.Map;
@@ -18,6 +21,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
 
 @DisplayName("Integrated Test | FSA Client Address Controller")
 class ClientAddressControllerIntegrationTest  extends AbstractTestContainerIntegrationTest {
@@ -38,6 +44,9 @@ class ClientAddressControllerIntegrationTest  extends AbstractTestContainerInteg
       .configureStaticDsl(true)
       .build();
 
+  @Autowired
+  private ClientAddressService addressService;
+
   @BeforeEach
   public void reset() {
     wireMockExtension.resetAll();
@@ -206,4 +215,47 @@ class ClientAddressControllerIntegrationTest  extends AbstractTestContainerInteg
         .expectStatus()
         .isOk();
   }
+
+  @Test
+  @DisplayName("Concurrent lookups of the same address share the same call")
+  void shouldShareConcurrentRetrieves() {
+    wireMockExtension
+        .stubFor(
+            get(urlPathEqualTo(RETRIEVE_URI))
+                .withQueryParam("key", equalTo(AddressTestConstants.ADDRESS_API_KEY))
+                .withQueryParam("id", equalTo("CA|CP|B|0000002"))
+                .willReturn(okJson(AddressTestConstants.GET_ADDRESS).withFixedDelay(500))
+        );
+
+    Flux
+        .merge(
+            addressService.getAddress("CA|CP|B|0000002"),
+            addressService.getAddress("CA|CP|B|0000002"),
+            addressService.getAddress("CA|CP|B|0000002")
+        )
+        .as(StepVerifier::create)
+        .expectNextCount(3)
+        .verifyComplete();
+
+    wireMockExtension.verify(1, getRequestedFor(urlPathEqualTo(RETRIEVE_URI)));
+  }
+
+  @Test
+  @DisplayName("Ask for compressed responses")
+  void shouldAskForCompressedResponses() {
+    wireMockExtension
+        .stubFor(
+            get(urlPathEqualTo(RETRIEVE_URI))
+                .withHeader("Accept-Encoding", containing("gzip"))
+                .withQueryParam("key", equalTo(AddressTestConstants.ADDRESS_API_KEY))
+                .withQueryParam("id", equalTo("CA|CP|B|0000003"))
+                .willReturn(okJson(AddressTestConstants.GET_ADDRESS))
+        );
+
+    addressService
+        .getAddress("CA|CP|B|0000003")
+        .as(StepVerifier::create)
+        .expectNextCount(1)
+        .verifyComplete();
+  }
 }
@@ -332,5 +332,36 @@ class ClientCodesControllerIntegrationTest extends AbstractTestContainerIntegrat
         .expectBody(CodeNameDto.class)
         .isEqualTo(new CodeNameDto("FNID", "First Nation status card"));
   }
-  
+
+  @Test
+  @DisplayName("reload the codes as admin")
+  void shouldRefreshCodes() {
+
+    client
+        .mutateWith(mockUser().roles(ApplicationConstant.ROLE_ADMIN))
+        .post()
+        .uri("/api/codes/refresh")
+        .exchange()
+        .expectStatus().isNoContent();
+
+    client
+        .get()
+        .uri("/api/codes/{idCode}", Map.of("idCode", "FNID"))
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody(CodeNameDto.class)
+        .isEqualTo(new CodeNameDto("FNID", "First Nation status card"));
+  }
+
+  @Test
+  @DisplayName("not reload the codes as other users")
+  void shouldNotRefreshCodes() {
+
+    client
+        .post()
+        .uri("/api/codes/refresh")
+        .exchange()
+        .expectStatus().isForbidden();
+  }
+
 }
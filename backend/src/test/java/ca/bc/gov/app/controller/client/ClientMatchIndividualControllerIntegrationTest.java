@@ -1,8 +1,9 @@
 package ca.bc.gov.app.controller.client;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
-import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.matchingJsonPath;
 import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
 import static org.junit.jupiter.api.Named.named;
@@ -20,6 +21,7 @@ import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.Map;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -79,33 +81,18 @@ class ClientMatchIndividualControllerIntegrationTest extends AbstractTestContain
 
     legacyStub
         .stubFor(
-            get(urlPathEqualTo("/api/search/individual"))
-                .withQueryParam("firstName", equalTo(dto.businessInformation().firstName()))
-                .withQueryParam("lastName", equalTo(dto.businessInformation().lastName()))
-                .withQueryParam("dob", equalTo(dto.businessInformation().birthdate().format(
-                    DateTimeFormatter.ISO_DATE))
+            post(urlPathEqualTo("/api/search/matches"))
+                .withRequestBody(
+                    matchingJsonPath("$[?(@.id == 'individual')].parameters.dob",
+                        equalTo(dto.businessInformation().birthdate().format(
+                            DateTimeFormatter.ISO_DATE))
+                    )
                 )
-                .willReturn(okJson(individualFuzzyMatch))
-        );
-
-    legacyStub
-        .stubFor(
-            get(urlPathEqualTo("/api/search/individual"))
-                .withQueryParam("firstName", equalTo(dto.businessInformation().firstName()))
-                .withQueryParam("lastName", equalTo(dto.businessInformation().lastName()))
-                .withQueryParam("dob", equalTo(dto.businessInformation().birthdate().format(
-                    DateTimeFormatter.ISO_DATE))
-                )
-                .withQueryParam("identification",
-                    equalTo(dto.businessInformation().clientIdentification()))
-                .willReturn(okJson(individualFullMatch))
-        );
-
-    legacyStub
-        .stubFor(
-            get(urlPathEqualTo("/api/search/id/" + dto.businessInformation().idType() + "/"
-                + dto.businessInformation().clientIdentification()))
-                .willReturn(okJson(documentMatch))
+                .willReturn(okJson(ClientMatchDataGenerator.getMatchResultsJson(Map.of(
+                    "individual", individualFuzzyMatch,
+                    "individualAndDocument", individualFullMatch,
+                    "document", documentMatch
+                ))))
         );
 
     ResponseSpec response =
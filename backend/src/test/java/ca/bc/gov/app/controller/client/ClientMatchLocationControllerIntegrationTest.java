@@ -1,7 +1,7 @@
 package ca.bc.gov.app.controller.client;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
-import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.matchingJsonPath;
 import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
 import static com.github.tomakehurst.wiremock.client.WireMock.post;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
@@ -18,6 +18,7 @@ import ca.bc.gov.app.extensions.ClientMatchDataGenerator;
 import ca.bc.gov.app.extensions.WiremockLogNotifier;
 import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
 import java.time.Duration;
+import java.util.Map;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -79,36 +80,18 @@ class ClientMatchLocationControllerIntegrationTest extends AbstractTestContainer
 
     legacyStub
         .stubFor(
-            get(urlPathEqualTo("/api/search/email"))
-                .withQueryParam("email", equalTo("a@a.com"))
-                .willReturn(okJson(emailMatch))
-        );
-
-    legacyStub
-        .stubFor(
-            get(urlPathEqualTo("/api/search/phone"))
-                .withQueryParam("phone", equalTo("2505551234"))
-                .willReturn(okJson(businessPhoneMatch))
-        );
-
-    legacyStub
-        .stubFor(
-            get(urlPathEqualTo("/api/search/phone"))
-                .withQueryParam("phone", equalTo("2505555678"))
-                .willReturn(okJson(secondaryPhoneMatch))
-        );
-
-    legacyStub
-        .stubFor(
-            get(urlPathEqualTo("/api/search/phone"))
-                .withQueryParam("phone", equalTo("2505559012"))
-                .willReturn(okJson(faxMatch))
-        );
-
-    legacyStub
-        .stubFor(
-            post(urlPathEqualTo("/api/search/address"))
-                .willReturn(okJson(addressMatch))
+            post(urlPathEqualTo("/api/search/matches"))
+                .withRequestBody(
+                    matchingJsonPath("$[?(@.id == 'email[0]')].parameters.email",
+                        equalTo("a@a.com"))
+                )
+                .willReturn(okJson(ClientMatchDataGenerator.getMatchResultsJson(Map.of(
+                    "email[0]", emailMatch,
+                    "businessPhone[0]", businessPhoneMatch,
+                    "secondaryPhone[0]", secondaryPhoneMatch,
+                    "fax[0]", faxMatch,
+                    "address[0]", addressMatch
+                ))))
         );
 
     ResponseSpec response =
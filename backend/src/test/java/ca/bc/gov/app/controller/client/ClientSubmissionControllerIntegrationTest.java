@@ -56,6 +56,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.test.web.reactive.server.WebTestClient.ListBodySpec;
 import org.springframework.web.util.UriBuilder;
@@ -73,6 +74,9 @@ class ClientSubmissionControllerIntegrationTest
   
   @Autowired
   private SubmissionDetailRepository detailRepository;
+
+  @Autowired
+  private DatabaseClient databaseClient;
   
   private final AtomicLong submissionId = new AtomicLong(0L);
 
@@ -433,6 +437,28 @@ class ClientSubmissionControllerIntegrationTest
                 .hasFieldOrPropertyWithValue("contactTypeCode", "LP")
         )
         .verifyComplete();
+
+    // Every part of the submission is written by the same transaction, so the processor is only
+    // notified once the whole submission is there
+    databaseClient
+        .sql("""
+            SELECT COUNT(DISTINCT parts.xmin::text) AS transactions FROM (
+              SELECT xmin FROM nrfc.submission WHERE submission_id = :submissionId
+              UNION ALL
+              SELECT xmin FROM nrfc.submission_detail WHERE submission_id = :submissionId
+              UNION ALL
+              SELECT xmin FROM nrfc.submission_location WHERE submission_id = :submissionId
+              UNION ALL
+              SELECT xmin FROM nrfc.submission_contact WHERE submission_id = :submissionId
+              UNION ALL
+              SELECT xmin FROM nrfc.submission_matching_detail WHERE submission_id = :submissionId
+            ) parts""")
+        .bind("submissionId", (int) submissionId.get())
+        .map(row -> row.get("transactions", Long.class))
+        .one()
+        .as(StepVerifier::create)
+        .expectNext(1L)
+        .verifyComplete();
   }
 
   @Test
@@ -465,6 +491,8 @@ class ClientSubmissionControllerIntegrationTest
             Arguments.of(null, null, null, 10, true),
             Arguments.of("requestStatus", "N", null, null, true),
             Arguments.of("clientType", "RSP", null, null, true),
+            Arguments.of("clientType", "RSP", 0, 1, true),
+            Arguments.of("district", "DMH", null, null, false),
             Arguments.of("name", "Goldfinger", null, null, true),
             Arguments.of("name", "Auric", null, null, false),
             Arguments.of(null, null, 1, null, false),
@@ -13,11 +13,15 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
 import org.slf4j.MDC;
 
+@Slf4j
 @DisplayName("Unit Test | Forest Client Obfuscate Serializer")
 class ForestClientObfuscateTest {
 
@@ -82,6 +86,33 @@ class ForestClientObfuscateTest {
         .contains("\"birthdate\":\"1070-12-13T00:00\"");
   }
 
+  @Test
+  @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+  @DisplayName("should report the serialization cost of 1000 rows")
+  void shouldMeasureSerialization() throws Exception {
+    MDC.put(ApplicationConstant.MDC_USERROLES, ApplicationConstant.ROLE_VIEWER);
+    List<ForestClientInformationDto> rows = IntStream
+        .range(0, 1000)
+        .mapToObj(index -> getDto().client().withClientNumber(String.format("%08d", index)))
+        .toList();
+    int iterations = Integer.getInteger("benchmark.iterations", 200);
+
+    // Warm up the serializer before measuring
+    for (int index = 0; index < 20; index++) {
+      mapper.writeValueAsString(rows);
+    }
+
+    long start = System.nanoTime();
+    for (int index = 0; index < iterations; index++) {
+      mapper.writeValueAsString(rows);
+    }
+    long perThousand = (System.nanoTime() - start) / iterations;
+
+    log.info("Serialized 1000 rows in {} us on average over {} runs", perThousand / 1000,
+        iterations);
+    assertThat(perThousand).isPositive();
+  }
+
   private ForestClientDetailsDto getDto() {
     return new ForestClientDetailsDto(
         new ForestClientInformationDto(
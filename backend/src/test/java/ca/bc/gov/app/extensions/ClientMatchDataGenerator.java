@@ -6,13 +6,17 @@ import ca.bc.gov.app.dto.client.ClientContactDto;
 import ca.bc.gov.app.dto.client.ClientLocationDto;
 import ca.bc.gov.app.dto.client.ClientSubmissionDto;
 import ca.bc.gov.app.dto.client.ClientValueTextDto;
+import ca.bc.gov.app.dto.legacy.ClientMatchResultDto;
 import ca.bc.gov.app.dto.legacy.ForestClientDto;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
+import reactor.core.publisher.Flux;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class ClientMatchDataGenerator {
@@ -369,4 +373,26 @@ public class ClientMatchDataGenerator {
     );
   }
 
+  public static Flux<ClientMatchResultDto> getMatchResults(
+      Map<String, Flux<ForestClientDto>> results
+  ) {
+    return Flux
+        .fromIterable(results.entrySet())
+        .concatMap(entry ->
+            entry
+                .getValue()
+                .collectList()
+                .map(clients -> new ClientMatchResultDto(entry.getKey(), clients))
+        );
+  }
+
+  public static String getMatchResultsJson(Map<String, String> results) {
+    return results
+        .entrySet()
+        .stream()
+        .map(entry -> String.format("{\"id\":\"%s\",\"clients\":%s}",
+            entry.getKey(), entry.getValue()))
+        .collect(Collectors.joining(",", "[", "]"));
+  }
+
 }
@@ -0,0 +1,168 @@
+package ca.bc.gov.app.health;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ca.bc.gov.app.configuration.ForestClientConfiguration.CircuitBreakerConfiguration;
+import ca.bc.gov.app.exception.ApiUnavailableException;
+import ca.bc.gov.app.utils.MovingClock;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@DisplayName("Unit Test | Circuit Breaker Exchange Filter Function")
+class CircuitBreakerExchangeFilterFunctionTest {
+
+  private static final String SEARCH_URI = "/api/search/clientNumber/00000001";
+  private static final String CODES_URI = "/api/codes/client-types";
+
+  @RegisterExtension
+  static WireMockExtension legacyStub = WireMockExtension
+      .newInstance()
+      .options(wireMockConfig().dynamicPort())
+      .build();
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final CircuitBreakerConfiguration configuration = CircuitBreakerConfiguration
+      .builder()
+      .maxConcurrentCalls(2)
+      .windowSize(2)
+      .minimumCalls(2)
+      .failureThreshold(0.5)
+      .slowCallDuration(Duration.ofMillis(300))
+      .waitInOpenState(Duration.ofSeconds(30))
+      .halfOpenCalls(1)
+      .build();
+
+  private MovingClock clock;
+  private WebClient legacyApi;
+
+  @BeforeEach
+  void setUp() {
+    clock = new MovingClock();
+    Map<String, CircuitBreaker> circuitBreakers = Map.of(
+        "search", new CircuitBreaker("legacy", "search", configuration, meterRegistry, clock),
+        "codes", new CircuitBreaker("legacy", "codes", configuration, meterRegistry, clock)
+    );
+
+    legacyApi = WebClient
+        .builder()
+        .baseUrl(legacyStub.baseUrl())
+        .filter(new CircuitBreakerExchangeFilterFunction(
+            circuitBreakers,
+            new LegacyCallGroups()
+        ))
+        .build();
+  }
+
+  @Test
+  @DisplayName("Reject the calls over the concurrency limit")
+  void shouldRejectOverConcurrencyLimit() {
+    stub(SEARCH_URI, 200, 500);
+
+    Flux
+        .merge(call(SEARCH_URI), call(SEARCH_URI), call(SEARCH_URI), call(SEARCH_URI))
+        .collectList()
+        .as(StepVerifier::create)
+        .assertNext(results -> assertThat(results)
+            .containsExactlyInAnyOrder("rejected", "rejected", "200", "200")
+        )
+        .verifyComplete();
+
+    legacyStub.verify(2, getRequestedFor(urlPathEqualTo(SEARCH_URI)));
+  }
+
+  @Test
+  @DisplayName("Fail fast once calls are too slow, without holding the other groups")
+  void shouldOpenOnSlowCalls() {
+    stub(SEARCH_URI, 200, 500);
+    stub(CODES_URI, 200, 0);
+
+    expect(SEARCH_URI, "200");
+    expect(SEARCH_URI, "200");
+    expect(SEARCH_URI, "rejected");
+    expect(CODES_URI, "200");
+
+    legacyStub.verify(2, getRequestedFor(urlPathEqualTo(SEARCH_URI)));
+    assertThat(state("search")).isEqualTo(1);
+    assertThat(state("codes")).isZero();
+  }
+
+  @Test
+  @DisplayName("Close the circuit once legacy recovers")
+  void shouldCloseOnceRecovered() {
+    stub(SEARCH_URI, 500, 0);
+
+    expect(SEARCH_URI, "500");
+    expect(SEARCH_URI, "500");
+    expect(SEARCH_URI, "rejected");
+    assertThat(state("search")).isEqualTo(1);
+
+    stub(SEARCH_URI, 200, 0);
+    clock.advance(Duration.ofSeconds(30));
+    assertThat(state("search")).isEqualTo(2);
+
+    expect(SEARCH_URI, "200");
+    assertThat(state("search")).isZero();
+  }
+
+  @Test
+  @DisplayName("Client errors do not open the circuit")
+  void shouldIgnoreClientErrors() {
+    stub(SEARCH_URI, 404, 0);
+
+    expect(SEARCH_URI, "404");
+    expect(SEARCH_URI, "404");
+    expect(SEARCH_URI, "404");
+
+    assertThat(state("search")).isZero();
+  }
+
+  private void stub(String uri, int status, int delay) {
+    legacyStub.stubFor(
+        get(urlPathEqualTo(uri))
+            .willReturn(aResponse().withStatus(status).withFixedDelay(delay))
+    );
+  }
+
+  private void expect(String uri, String expected) {
+    call(uri)
+        .as(StepVerifier::create)
+        .expectNext(expected)
+        .verifyComplete();
+  }
+
+  private Mono<String> call(String uri) {
+    return legacyApi
+        .get()
+        .uri(uri)
+        .exchangeToMono(response ->
+            response
+                .releaseBody()
+                .thenReturn(String.valueOf(response.statusCode().value()))
+        )
+        .onErrorResume(ApiUnavailableException.class, exception -> Mono.just("rejected"));
+  }
+
+  private double state(String group) {
+    return meterRegistry
+        .get("service.legacy.circuitbreaker.state")
+        .tag("group", group)
+        .gauge()
+        .value();
+  }
+
+}
@@ -0,0 +1,141 @@
+package ca.bc.gov.app.health;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ca.bc.gov.app.dto.legacy.AddressSearchDto;
+import ca.bc.gov.app.dto.legacy.ClientMatchCriteriaDto;
+import ca.bc.gov.app.dto.legacy.ContactSearchDto;
+import ca.bc.gov.app.service.client.ClientLegacyService;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import java.net.URI;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.reactivestreams.Publisher;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@DisplayName("Unit Test | Legacy Call Groups")
+class LegacyCallGroupsTest {
+
+  private final LegacyCallGroups groups = new LegacyCallGroups();
+  private final AtomicReference<ClientRequest> sent = new AtomicReference<>();
+
+  private final ClientLegacyService service = new ClientLegacyService(
+      WebClient
+          .builder()
+          .baseUrl("http://legacy")
+          .exchangeFunction(request -> {
+            sent.set(request);
+            return Mono.just(
+                ClientResponse
+                    .create(HttpStatus.OK)
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .body("[]")
+                    .build()
+            );
+          })
+          .build()
+  );
+
+  @ParameterizedTest(name = "{0} is a {1} call")
+  @MethodSource("legacyCalls")
+  @DisplayName("Group each call made to legacy")
+  void shouldGroupLegacyCalls(
+      String call,
+      String expectedGroup,
+      Function<ClientLegacyService, Publisher<?>> legacyCall
+  ) {
+    Flux
+        .from(legacyCall.apply(service))
+        .onErrorComplete()
+        .blockLast();
+
+    assertThat(sent.get()).isNotNull();
+    assertThat(groups.apply(sent.get())).isEqualTo(expectedGroup);
+  }
+
+  @Test
+  @DisplayName("Calls outside of the API are not grouped")
+  void shouldNotGroupHealthProbe() {
+    assertThat(groups.apply(
+        ClientRequest.create(HttpMethod.GET, URI.create("http://legacy/health")).build()
+    )).isNull();
+  }
+
+  private static Stream<Arguments> legacyCalls() {
+    return Stream.of(
+        call("registration or name", LegacyCallGroups.MATCHING, service ->
+            service.searchLegacy("FM00000001", "BAXTER", "idir\\jbaxter", null)),
+        call("id and last name", LegacyCallGroups.MATCHING, service ->
+            service.searchIdAndLastName("00000001", "BAXTER")),
+        call("individual", LegacyCallGroups.MATCHING, service ->
+            service.searchIndividual("JAMES", "BAXTER", LocalDate.of(1959, 5, 18), "123456")),
+        call("document", LegacyCallGroups.MATCHING, service ->
+            service.searchDocument("BCDL", "123456")),
+        call("matches", LegacyCallGroups.MATCHING, service ->
+            service.matchClients(List.of(
+                new ClientMatchCriteriaDto("acronym", "acronym", Map.of("acronym", "BAX"))
+            ))),
+        call("address", LegacyCallGroups.MATCHING, service ->
+            service.searchLocation(
+                new AddressSearchDto("2975 Jutland Rd", "Victoria", "BC", "V8T5J9", "Canada")
+            )),
+        call("contact", LegacyCallGroups.MATCHING, service ->
+            service.searchContact(
+                new ContactSearchDto("JAMES", null, "BAXTER", "mail@mail.ca", null, null, null)
+            )),
+        call("client number", LegacyCallGroups.SEARCH, service ->
+            service.searchByClientNumber("00000001")),
+        call("generic", LegacyCallGroups.SEARCH, service ->
+            service.searchGeneric("acronym", "BAX")),
+        call("keyword", LegacyCallGroups.SEARCH, service ->
+            service.search(0, 10, "BAXTER")),
+        call("related clients", LegacyCallGroups.SEARCH, service ->
+            service.getRelatedClientList("00000001")),
+        call("relation", LegacyCallGroups.SEARCH, service ->
+            service.searchRelatedClients("00000001", "BC", "BAXTER")),
+        call("client users", LegacyCallGroups.SEARCH, service ->
+            service.getClientIdirUsersByUserId("jbaxter")),
+        call("locations", LegacyCallGroups.SEARCH, service ->
+            service.findAllLocationUpdatedWithClient("00000001", "DAC")),
+        call("client statuses", LegacyCallGroups.CODES, service ->
+            service.findActiveClientStatusCodes()),
+        call("client statuses by role", LegacyCallGroups.CODES, service ->
+            service.findActiveClientStatusCodesByClientTypeAndRole("C", Set.of("CLIENT_ADMIN"))),
+        call("client types", LegacyCallGroups.CODES, service ->
+            service.findActiveClientTypeCodes()),
+        call("update reasons", LegacyCallGroups.CODES, service ->
+            service.findActiveUpdateReasonsByClientTypeAndActionCode("C", "NAME")),
+        call("history logs", LegacyCallGroups.HISTORY, service ->
+            service.retrieveHistoryLogs("00000001", 0, 10, List.of("client"))),
+        call("patch", LegacyCallGroups.PATCH, service ->
+            service.patchClient("00000001", JsonNodeFactory.instance.arrayNode(), "jbaxter"))
+    );
+  }
+
+  private static Arguments call(
+      String call,
+      String group,
+      Function<ClientLegacyService, Publisher<?>> legacyCall
+  ) {
+    return Arguments.of(call, group, legacyCall);
+  }
+
+}
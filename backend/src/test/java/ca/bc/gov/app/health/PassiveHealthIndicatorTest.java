@@ -0,0 +1,151 @@
+package ca.bc.gov.app.health;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ca.bc.gov.app.configuration.ForestClientConfiguration.HealthConfiguration;
+import ca.bc.gov.app.utils.MovingClock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+@DisplayName("Unit Test | Passive Health Indicator")
+class PassiveHealthIndicatorTest {
+
+  private final HealthConfiguration configuration = HealthConfiguration
+      .builder()
+      .window(Duration.ofMinutes(5))
+      .windowSize(10)
+      .errorThreshold(0.5)
+      .probeInterval(Duration.ofMinutes(1))
+      .build();
+
+  private final AtomicInteger probes = new AtomicInteger();
+  private MovingClock clock;
+  private PassiveHealthIndicator indicator;
+
+  @BeforeEach
+  void setUp() {
+    probes.set(0);
+    clock = new MovingClock();
+    indicator = new PassiveHealthIndicator(
+        configuration,
+        () -> Mono.fromRunnable(probes::incrementAndGet),
+        clock
+    );
+  }
+
+  @Test
+  @DisplayName("Up when most calls succeed, without probing")
+  void shouldBeUpFromTraffic() {
+    indicator.isHealthy(true, Duration.ofMillis(100), null);
+    indicator.isHealthy(true, Duration.ofMillis(300), null);
+    indicator.isHealthy(false, Duration.ofMillis(200), new IllegalStateException("timeout"));
+
+    var health = indicator.health();
+
+    assertThat(health.getStatus()).isEqualTo(Status.UP);
+    assertThat(health.getDetails())
+        .containsEntry("calls", 3)
+        .containsEntry("averageLatencyMs", 200L);
+    assertThat(probes).hasValue(0);
+  }
+
+  @Test
+  @DisplayName("Down when the error rate reaches the threshold")
+  void shouldBeDownFromTraffic() {
+    indicator.isHealthy(true, Duration.ofMillis(100), null);
+    indicator.isHealthy(false, Duration.ofMillis(100), new IllegalStateException("timeout"));
+
+    var health = indicator.health();
+
+    assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+    assertThat(health.getDetails())
+        .containsEntry("error", "java.lang.IllegalStateException: timeout");
+  }
+
+  @Test
+  @DisplayName("Only the most recent calls are used")
+  void shouldKeepWindowSize() {
+    for (int index = 0; index < 10; index++) {
+      indicator.isHealthy(false, Duration.ZERO, null);
+    }
+    for (int index = 0; index < 10; index++) {
+      indicator.isHealthy(true, Duration.ZERO, null);
+    }
+
+    assertThat(indicator.health().getStatus()).isEqualTo(Status.UP);
+  }
+
+  @Test
+  @DisplayName("Probe once per interval when idle")
+  void shouldProbeWhenIdle() {
+    indicator.isHealthy(false, Duration.ZERO, null);
+    assertThat(indicator.health().getStatus()).isEqualTo(Status.DOWN);
+
+    // The failed call is now out of the window, so the last known health is kept
+    clock.advance(Duration.ofMinutes(6));
+    assertThat(indicator.health().getStatus()).isEqualTo(Status.DOWN);
+    assertThat(indicator.health().getStatus()).isEqualTo(Status.DOWN);
+    assertThat(probes).hasValue(1);
+
+    clock.advance(Duration.ofMinutes(1));
+    indicator.health();
+    assertThat(probes).hasValue(2);
+  }
+
+  @Test
+  @DisplayName("A failed probe is recorded once")
+  void shouldRecordFailedProbeOnce() {
+    Health health = probe(HttpStatus.INTERNAL_SERVER_ERROR);
+
+    assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+    assertThat(health.getDetails()).containsEntry("calls", 1);
+  }
+
+  @Test
+  @DisplayName("A probe answered with a client error is not a failure")
+  void shouldNotFailProbeOnClientError() {
+    Health health = probe(HttpStatus.NOT_FOUND);
+
+    assertThat(health.getStatus()).isEqualTo(Status.UP);
+    assertThat(health.getDetails()).containsEntry("calls", 1);
+  }
+
+  /**
+   * Probes an idle indicator through a client that records its calls, as the API clients do, and
+   * reads the health once the probe is done.
+   */
+  private Health probe(HttpStatus status) {
+    AtomicReference<WebClient> client = new AtomicReference<>();
+    PassiveHealthIndicator probed = new PassiveHealthIndicator(
+        configuration,
+        () -> client
+            .get()
+            .get()
+            .uri("/health")
+            .retrieve()
+            .toBodilessEntity(),
+        clock
+    );
+    client.set(
+        WebClient
+            .builder()
+            .exchangeFunction(request -> Mono.just(ClientResponse.create(status).build()))
+            .filter(new HealthExchangeFilterFunction(probed))
+            .build()
+    );
+
+    assertThat(probed.health().getStatus()).isEqualTo(Status.UNKNOWN);
+    return probed.health();
+  }
+
+}
@@ -0,0 +1,252 @@
+package ca.bc.gov.app.job.ches;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.forbidden;
+import static com.github.tomakehurst.wiremock.client.WireMock.ok;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ca.bc.gov.app.TestConstants;
+import ca.bc.gov.app.extensions.AbstractTestContainerIntegrationTest;
+import ca.bc.gov.app.repository.client.EmailLogRepository;
+import ca.bc.gov.app.service.ches.ChesTokenService;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@DisplayName("Integrated Test | Ches Email Resend Job")
+class ChesEmailResendJobIntegrationTest extends AbstractTestContainerIntegrationTest {
+
+  private static final String EMAIL_URI = "/chess/uri/email";
+  private static final String EMAIL_KEY = "resend-job-test";
+  private static final String VARIABLES = """
+      {
+        "userName": "Jhon",
+        "business": {
+          "name": "Jhon's business",
+          "clientNumber": "00000001",
+          "districtName": "Test district",
+          "districtEmail": "district@mail.ca"
+        }
+      }""";
+
+  @RegisterExtension
+  static WireMockExtension wireMockExtension = WireMockExtension
+      .newInstance()
+      .options(wireMockConfig().port(10010))
+      .configureStaticDsl(true)
+      .build();
+
+  @Autowired
+  private ChesEmailResendJob job;
+
+  @Autowired
+  private EmailLogRepository emailLogRepository;
+
+  @Autowired
+  private ChesTokenService tokenService;
+
+  @Autowired
+  private DatabaseClient databaseClient;
+
+  @BeforeEach
+  void setUp() {
+    tokenService.invalidate();
+    wireMockExtension.resetAll();
+    wireMockExtension
+        .stubFor(
+            post("/token/uri")
+                .willReturn(
+                    ok(TestConstants.CHES_TOKEN_MESSAGE)
+                        .withHeader("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                )
+        );
+  }
+
+  @AfterEach
+  void tearDown() {
+    databaseClient
+        .sql("DELETE FROM nrfc.email_log WHERE email_key = :emailKey")
+        .bind("emailKey", EMAIL_KEY)
+        .then()
+        .block();
+  }
+
+  @Test
+  @DisplayName("Retry a failed email with an exponential backoff")
+  void shouldRetryWithBackoff() {
+    wireMockExtension.stubFor(post(EMAIL_URI).willReturn(forbidden()));
+    Integer emailLogId = queueEmail();
+
+    // First attempt, the next one is after the backoff
+    sendQueuedEmails();
+    assertThat(attempt(emailLogId))
+        .containsEntry("send_attempts", 1)
+        .containsEntry("email_sent_ind", "N")
+        .containsEntry("wait", 30L);
+
+    // Not picked again until the backoff is over
+    sendQueuedEmails();
+    assertThat(attempt(emailLogId)).containsEntry("send_attempts", 1);
+
+    // Second attempt, the backoff doubles
+    makeDue(emailLogId);
+    sendQueuedEmails();
+    assertThat(attempt(emailLogId))
+        .containsEntry("send_attempts", 2)
+        .containsEntry("email_sent_ind", "N")
+        .containsEntry("wait", 60L);
+
+    wireMockExtension.verify(2, postRequestedFor(urlPathEqualTo(EMAIL_URI)));
+  }
+
+  @Test
+  @DisplayName("Cap the backoff after many attempts")
+  void shouldCapBackoff() {
+    wireMockExtension.stubFor(post(EMAIL_URI).willReturn(forbidden()));
+    Integer emailLogId = queueEmail();
+    databaseClient
+        .sql("UPDATE nrfc.email_log SET send_attempts = 20 WHERE email_log_id = :emailLogId")
+        .bind("emailLogId", emailLogId)
+        .then()
+        .block();
+
+    sendQueuedEmails();
+
+    assertThat(attempt(emailLogId))
+        .containsEntry("send_attempts", 21)
+        .containsEntry("wait", 3600L);
+  }
+
+  @Test
+  @DisplayName("Send a queued email once")
+  void shouldSendOnce() {
+    wireMockExtension
+        .stubFor(
+            post(EMAIL_URI)
+                .willReturn(
+                    ok(TestConstants.CHES_SUCCESS_MESSAGE)
+                        .withHeader("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                )
+        );
+    Integer emailLogId = queueEmail();
+
+    sendQueuedEmails();
+    assertThat(attempt(emailLogId))
+        .containsEntry("send_attempts", 1)
+        .containsEntry("email_sent_ind", "Y");
+
+    makeDue(emailLogId);
+    sendQueuedEmails();
+    wireMockExtension.verify(1, postRequestedFor(urlPathEqualTo(EMAIL_URI)));
+  }
+
+  @Test
+  @DisplayName("Claim an email only once")
+  void shouldClaimOnce() {
+    Integer emailLogId = queueEmail();
+
+    Mono
+        .zip(
+            emailLogRepository.claim(emailLogId, 300),
+            emailLogRepository.claim(emailLogId, 300)
+        )
+        .map(claims -> claims.getT1() + claims.getT2())
+        .as(StepVerifier::create)
+        .expectNext(1)
+        .verifyComplete();
+
+    assertThat(attempt(emailLogId))
+        .containsEntry("send_attempts", 1)
+        .containsEntry("wait", 300L);
+  }
+
+  @Test
+  @DisplayName("Skip a run while the previous one is still sending")
+  void shouldSkipOverlappingRun() {
+    wireMockExtension.stubFor(post(EMAIL_URI).willReturn(forbidden().withFixedDelay(500)));
+    Integer emailLogId = queueEmail();
+
+    Mono
+        .zip(
+            job.sendQueuedEmails().defaultIfEmpty(-1L),
+            job.sendQueuedEmails().defaultIfEmpty(-1L)
+        )
+        .as(StepVerifier::create)
+        .assertNext(runs -> {
+          assertThat(runs.getT1()).isPositive();
+          assertThat(runs.getT2()).isEqualTo(-1L);
+        })
+        .verifyComplete();
+
+    assertThat(attempt(emailLogId)).containsEntry("send_attempts", 1);
+    wireMockExtension.verify(1, postRequestedFor(urlPathEqualTo(EMAIL_URI)));
+  }
+
+  private void sendQueuedEmails() {
+    job
+        .sendQueuedEmails()
+        .as(StepVerifier::create)
+        .expectNextCount(1)
+        .verifyComplete();
+  }
+
+  /**
+   * Queues an email the same way the processor does, so its first attempt is due right away.
+   */
+  private Integer queueEmail() {
+    return databaseClient
+        .sql("""
+            INSERT INTO nrfc.email_log
+            (email_key, email_sent_ind, template_name, email_address, email_subject,
+            email_variables)
+            VALUES (:emailKey, 'N', 'approval', 'jhon@mail.ca', 'Resend job test',
+            CAST(:variables AS JSONB))
+            RETURNING email_log_id""")
+        .bind("emailKey", EMAIL_KEY)
+        .bind("variables", VARIABLES)
+        .map(row -> row.get("email_log_id", Integer.class))
+        .one()
+        .block();
+  }
+
+  /**
+   * Makes an email due, as if its backoff was over.
+   */
+  private void makeDue(Integer emailLogId) {
+    databaseClient
+        .sql("UPDATE nrfc.email_log SET next_attempt_timestamp = now() "
+             + "WHERE email_log_id = :emailLogId")
+        .bind("emailLogId", emailLogId)
+        .then()
+        .block();
+  }
+
+  /**
+   * Reads the attempts of an email, and how many seconds until it can be picked again.
+   */
+  private Map<String, Object> attempt(Integer emailLogId) {
+    return databaseClient
+        .sql("""
+            SELECT send_attempts, email_sent_ind,
+            ROUND(EXTRACT(EPOCH FROM next_attempt_timestamp - now()))::bigint AS wait
+            FROM nrfc.email_log
+            WHERE email_log_id = :emailLogId""")
+        .bind("emailLogId", emailLogId)
+        .fetch()
+        .one()
+        .block();
+  }
+
+}
@@ -24,6 +24,7 @@ import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
 import static com.github.tomakehurst.wiremock.client.WireMock.equalToJson;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
 import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.status;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
@@ -50,6 +51,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
 import reactor.test.StepVerifier;
 import reactor.test.StepVerifier.FirstStep;
 
@@ -205,6 +207,38 @@ class BcRegistryServiceIntegrationTest extends AbstractTestContainerIntegrationT
         .verify();
   }
 
+  @Test
+  @DisplayName("should share concurrent searches for the same business")
+  void shouldShareConcurrentSearches() {
+
+    bcRegistryStub
+        .stubFor(
+            post(urlPathEqualTo("/registry-search/api/v2/search/businesses"))
+                .willReturn(
+                    aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(BCREG_FACET_ANY)
+                        .withFixedDelay(500)
+                )
+        );
+
+    Flux
+        .merge(
+            service.searchByFacets("C0123456", null),
+            service.searchByFacets("C0123456", null),
+            service.searchByFacets("C0123456", null)
+        )
+        .as(StepVerifier::create)
+        .expectNextCount(3)
+        .verifyComplete();
+
+    bcRegistryStub.verify(
+        1,
+        postRequestedFor(urlPathEqualTo("/registry-search/api/v2/search/businesses"))
+    );
+  }
+
   private static Stream<Arguments> byFacets() {
     return Stream.of(
         Arguments.of(
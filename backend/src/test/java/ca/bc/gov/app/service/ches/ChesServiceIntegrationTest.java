@@ -19,6 +19,7 @@ import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Test;
@@ -37,6 +38,9 @@ class ChesServiceIntegrationTest extends AbstractTestContainerIntegrationTest {
   @Autowired
   private ChesService service;
 
+  @Autowired
+  private ChesTokenService tokenService;
+
   @RegisterExtension
   static WireMockExtension wireMockExtension = WireMockExtension
       .newInstance()
@@ -44,7 +48,11 @@ class ChesServiceIntegrationTest extends AbstractTestContainerIntegrationTest {
       .configureStaticDsl(true)
       .build();
 
-
+  @BeforeEach
+  void setUp() {
+    // Each test stubs its own token response
+    tokenService.invalidate();
+  }
 
   @Test
   @DisplayName("Do not send emails when not authorized")
@@ -241,6 +249,25 @@ class ChesServiceIntegrationTest extends AbstractTestContainerIntegrationTest {
         .verify();
   }
 
+  @Test
+  @DisplayName("Email template was built")
+  void shouldBuildEmailTemplateRepeatedly() {
+    Map<String, Object> variables = Map.of(
+        "userName", "John",
+        "districtName", "Cariboo",
+        "districtEmail", "mail@cariboo.ca,other@cariboo.ca",
+        "business", Map.of("name", "Star Dot Star")
+    );
+
+    String first = service.buildTemplate("registration", variables).block();
+
+    service
+        .buildTemplate("registration", variables)
+        .as(StepVerifier::create)
+        .expectNext(first)
+        .verifyComplete();
+  }
+
 
   private void mockOAuthSuccess() {
     wireMockExtension
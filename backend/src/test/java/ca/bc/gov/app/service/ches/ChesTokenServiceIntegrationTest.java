@@ -0,0 +1,120 @@
+package ca.bc.gov.app.service.ches;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.ok;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ca.bc.gov.app.extensions.AbstractTestContainerIntegrationTest;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@DisplayName("Integrated Test | Ches Token Service")
+class ChesTokenServiceIntegrationTest extends AbstractTestContainerIntegrationTest {
+
+  private static final String SHORT_LIVED_TOKEN = """
+      {
+          "access_token": "%s",
+          "expires_in": 1,
+          "refresh_expires_in": 0,
+          "token_type": "Bearer",
+          "not-before-policy": 0,
+          "scope": ""
+      }""";
+
+  @RegisterExtension
+  static WireMockExtension wireMockExtension = WireMockExtension
+      .newInstance()
+      .options(wireMockConfig().port(10010))
+      .configureStaticDsl(true)
+      .build();
+
+  @Autowired
+  private ChesTokenService service;
+
+  @BeforeEach
+  void setUp() {
+    service.invalidate();
+    wireMockExtension.resetAll();
+  }
+
+  @Test
+  @DisplayName("Reuse the token while it is valid")
+  void shouldReuseToken() {
+    mockToken("first");
+
+    Flux
+        .range(0, 10)
+        .flatMap(index -> service.getToken())
+        .collectList()
+        .as(StepVerifier::create)
+        .assertNext(tokens -> assertThat(tokens).hasSize(10).containsOnly("first"))
+        .verifyComplete();
+
+    wireMockExtension.verify(1, postRequestedFor(urlEqualTo("/token/uri")));
+  }
+
+  @Test
+  @DisplayName("Refresh the token before it expires")
+  void shouldRefreshToken() {
+    mockToken("first");
+
+    service
+        .getToken()
+        .as(StepVerifier::create)
+        .expectNext("first")
+        .verifyComplete();
+
+    mockToken("second");
+
+    // The token lasts for 1 second, so it is refreshed after half of it
+    Mono
+        .delay(Duration.ofMillis(600))
+        .then(service.getToken())
+        .as(StepVerifier::create)
+        .expectNext("second")
+        .verifyComplete();
+
+    wireMockExtension.verify(2, postRequestedFor(urlEqualTo("/token/uri")));
+  }
+
+  @Test
+  @DisplayName("Request a new token after it was invalidated")
+  void shouldRequestAfterInvalidate() {
+    mockToken("first");
+
+    service
+        .getToken()
+        .doOnNext(token -> service.invalidate())
+        .then(service.getToken())
+        .as(StepVerifier::create)
+        .expectNext("first")
+        .verifyComplete();
+
+    wireMockExtension.verify(2, postRequestedFor(urlEqualTo("/token/uri")));
+  }
+
+  private void mockToken(String token) {
+    wireMockExtension
+        .stubFor(
+            post("/token/uri")
+                .willReturn(
+                    ok(SHORT_LIVED_TOKEN.formatted(token))
+                        .withHeader("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                        .withFixedDelay(50)
+                )
+        );
+  }
+
+}
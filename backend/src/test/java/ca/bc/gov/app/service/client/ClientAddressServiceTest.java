@@ -0,0 +1,142 @@
+package ca.bc.gov.app.service.client;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ca.bc.gov.app.AddressTestConstants;
+import ca.bc.gov.app.configuration.ForestClientConfiguration;
+import ca.bc.gov.app.configuration.ForestClientConfiguration.AddressCompleteConfiguration;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.test.StepVerifier;
+
+@DisplayName("Unit Test | Client Address Service")
+class ClientAddressServiceTest {
+
+  private static final String FIND_URI = "/find/v2.10/json3.ws";
+  private static final String RETRIEVE_URI = "/retrieve/v2.11/json3.ws";
+
+  @RegisterExtension
+  static WireMockExtension addressCompleteStub = WireMockExtension
+      .newInstance()
+      .options(wireMockConfig().dynamicPort())
+      .build();
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private ClientAddressService service;
+
+  @BeforeEach
+  void setUp() {
+    service = new ClientAddressService(
+        ForestClientConfiguration
+            .builder()
+            .addressComplete(
+                AddressCompleteConfiguration
+                    .builder()
+                    .url(addressCompleteStub.baseUrl())
+                    .apiKey(AddressTestConstants.ADDRESS_API_KEY)
+                    .cacheTtl(Duration.ofHours(1))
+                    .cacheSize(10)
+                    .build()
+            )
+            .build(),
+        WebClient.builder().baseUrl(addressCompleteStub.baseUrl()).build(),
+        ObservationRegistry.NOOP,
+        meterRegistry
+    );
+  }
+
+  @Test
+  @DisplayName("Serve a repeated find from the cache, whatever the case and spacing")
+  void shouldCacheNormalizedFind() {
+    addressCompleteStub.stubFor(
+        get(urlPathEqualTo(FIND_URI))
+            .withQueryParam("key", equalTo(AddressTestConstants.ADDRESS_API_KEY))
+            .withQueryParam("Country", equalTo("CA"))
+            .withQueryParam("MaxSuggestions", equalTo("7"))
+            .withQueryParam("SearchTerm", equalTo("511-860 rue"))
+            .willReturn(okJson(AddressTestConstants.POSSIBLE_ADDRESSES))
+    );
+
+    service
+        .findPossibleAddresses("CA", 7, "511-860 Rue")
+        .as(StepVerifier::create)
+        .expectNextCount(1)
+        .verifyComplete();
+
+    service
+        .findPossibleAddresses("ca", 7, "  511-860   RUE ")
+        .as(StepVerifier::create)
+        .expectNextCount(1)
+        .verifyComplete();
+
+    addressCompleteStub.verify(1, getRequestedFor(urlPathEqualTo(FIND_URI)));
+    assertThat(cacheCount("find", "miss")).isEqualTo(1);
+    assertThat(cacheCount("find", "hit")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Serve a repeated retrieve from the cache")
+  void shouldCacheRetrieve() {
+    addressCompleteStub.stubFor(
+        get(urlPathEqualTo(RETRIEVE_URI))
+            .withQueryParam("key", equalTo(AddressTestConstants.ADDRESS_API_KEY))
+            .withQueryParam("id", equalTo("CA|CP|B|0000001"))
+            .willReturn(okJson(AddressTestConstants.GET_ADDRESS))
+    );
+
+    for (int attempt = 0; attempt < 3; attempt++) {
+      service
+          .getAddress("CA|CP|B|0000001")
+          .as(StepVerifier::create)
+          .expectNextCount(1)
+          .verifyComplete();
+    }
+
+    addressCompleteStub.verify(1, getRequestedFor(urlPathEqualTo(RETRIEVE_URI)));
+    assertThat(cacheCount("retrieve", "miss")).isEqualTo(1);
+    assertThat(cacheCount("retrieve", "hit")).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("Do not cache a failed lookup")
+  void shouldNotCacheErrors() {
+    addressCompleteStub.stubFor(
+        get(urlPathEqualTo(RETRIEVE_URI))
+            .withQueryParam("id", equalTo("CA|CP|B|0000009"))
+            .willReturn(okJson(AddressTestConstants.ERROR))
+    );
+
+    for (int attempt = 0; attempt < 2; attempt++) {
+      service
+          .getAddress("CA|CP|B|0000009")
+          .as(StepVerifier::create)
+          .expectError()
+          .verify();
+    }
+
+    addressCompleteStub.verify(2, getRequestedFor(urlPathEqualTo(RETRIEVE_URI)));
+    assertThat(cacheCount("retrieve", "hit")).isZero();
+  }
+
+  private double cacheCount(String lookup, String result) {
+    return meterRegistry
+        .get("service.canadapost." + lookup + ".cache")
+        .tag("result", result)
+        .counter()
+        .count();
+  }
+
+}
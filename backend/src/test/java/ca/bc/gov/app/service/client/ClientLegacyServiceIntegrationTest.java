@@ -14,6 +14,7 @@ import ca.bc.gov.app.ApplicationConstant;
 import ca.bc.gov.app.dto.client.ClientListDto;
 import ca.bc.gov.app.dto.client.CodeNameDto;
 import ca.bc.gov.app.dto.legacy.AddressSearchDto;
+import ca.bc.gov.app.dto.legacy.ClientMatchCriteriaDto;
 import ca.bc.gov.app.dto.legacy.ContactSearchDto;
 import ca.bc.gov.app.dto.legacy.ForestClientDetailsDto;
 import ca.bc.gov.app.dto.legacy.ForestClientInformationDto;
@@ -140,6 +141,42 @@ class ClientLegacyServiceIntegrationTest extends AbstractTestContainerIntegratio
         .verifyComplete();
   }
 
+  @Test
+  @DisplayName("searching legacy for multiple criteria at once")
+  void shouldMatchMultipleCriteria() {
+    legacyStub
+        .stubFor(
+            post(urlPathEqualTo("/api/search/matches"))
+                .willReturn(okJson(
+                    "[{\"id\":\"acronym\",\"clients\":[{\"clientNumber\":\"00000001\"}]},"
+                    + "{\"id\":\"email\",\"clients\":[]}]"
+                ))
+        );
+
+    service.matchClients(List.of(
+            new ClientMatchCriteriaDto("acronym", "acronym", Map.of("acronym", "ABC")),
+            new ClientMatchCriteriaDto("email", "email", Map.of("email", "mail@mail.ca"))
+        ))
+        .as(StepVerifier::create)
+        .assertNext(result -> {
+          assertEquals("acronym", result.id());
+          assertEquals("00000001", result.clients().get(0).clientNumber());
+        })
+        .assertNext(result -> {
+          assertEquals("email", result.id());
+          assertTrue(result.clients().isEmpty());
+        })
+        .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("no call is made when there is no criteria")
+  void shouldNotMatchWithoutCriteria() {
+    service.matchClients(List.of())
+        .as(StepVerifier::create)
+        .verifyComplete();
+  }
+
 
   private static Stream<String> invalidValues() {
     return Stream.of(
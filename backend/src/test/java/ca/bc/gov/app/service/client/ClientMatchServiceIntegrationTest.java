@@ -2,10 +2,12 @@ package ca.bc.gov.app.service.client;
 
 import static ca.bc.gov.app.extensions.ClientMatchDataGenerator.getDto;
 import static ca.bc.gov.app.extensions.ClientMatchDataGenerator.getIndividualDto;
+import static ca.bc.gov.app.extensions.ClientMatchDataGenerator.getMatchResultsJson;
 import static ca.bc.gov.app.extensions.ClientMatchDataGenerator.getRandomData;
 import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
-import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.matchingJsonPath;
 import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
@@ -23,7 +25,9 @@ import ca.bc.gov.app.extensions.WiremockLogNotifier;
 import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 import org.apache.commons.lang3.StringUtils;
 import org.assertj.core.api.Condition;
@@ -88,33 +92,18 @@ class ClientMatchServiceIntegrationTest extends AbstractTestContainerIntegration
 
     legacyStub
         .stubFor(
-            get(urlPathEqualTo("/api/search/individual"))
-                .withQueryParam("firstName", equalTo(dto.businessInformation().firstName()))
-                .withQueryParam("lastName", equalTo(dto.businessInformation().lastName()))
-                .withQueryParam("dob", equalTo(dto.businessInformation().birthdate().format(
-                    DateTimeFormatter.ISO_DATE))
-                )
-                .willReturn(okJson(individualFuzzyMatch))
-        );
-
-    legacyStub
-        .stubFor(
-            get(urlPathEqualTo("/api/search/individual"))
-                .withQueryParam("firstName", equalTo(dto.businessInformation().firstName()))
-                .withQueryParam("lastName", equalTo(dto.businessInformation().lastName()))
-                .withQueryParam("dob", equalTo(dto.businessInformation().birthdate().format(
-                    DateTimeFormatter.ISO_DATE))
+            post(urlPathEqualTo("/api/search/matches"))
+                .withRequestBody(
+                    matchingJsonPath("$[?(@.id == 'individual')].parameters.dob",
+                        equalTo(dto.businessInformation().birthdate().format(
+                            DateTimeFormatter.ISO_DATE))
+                    )
                 )
-                .withQueryParam("identification",
-                    equalTo(dto.businessInformation().clientIdentification()))
-                .willReturn(okJson(individualFullMatch))
-        );
-
-    legacyStub
-        .stubFor(
-            get(urlPathEqualTo("/api/search/id/" + dto.businessInformation().idType() + "/"
-                + dto.businessInformation().clientIdentification()))
-                .willReturn(okJson(documentMatch))
+                .willReturn(okJson(getMatchResultsJson(Map.of(
+                    "individual", individualFuzzyMatch,
+                    "individualAndDocument", individualFullMatch,
+                    "document", documentMatch
+                ))))
         );
 
     StepVerifier.FirstStep<Void> matcher =
@@ -169,67 +158,34 @@ class ClientMatchServiceIntegrationTest extends AbstractTestContainerIntegration
 
     legacyStub.resetAll();
 
+    Map<String, String> results = new HashMap<>();
+    results.put("registrationNumber", clientRegistrationFullMatch);
+    results.put("clientName", fullNameMatch);
+    results.put("clientNameFuzzy", clientNameFuzzyMatch);
+
     if (dto.businessInformation().clientType().equalsIgnoreCase("RSP")) {
-      legacyStub
-          .stubFor(
-              get(urlPathEqualTo("/api/search/individual"))
-                  .withQueryParam("firstName", equalTo(dto.businessInformation().firstName()))
-                  .withQueryParam("lastName", equalTo(dto.businessInformation().lastName()))
-                  .withQueryParam("dob", equalTo(dto.businessInformation().birthdate().format(
-                      DateTimeFormatter.ISO_DATE))
-                  )
-                  .willReturn(okJson(individualFuzzyMatch))
-          );
+      results.put("individual", individualFuzzyMatch);
     }
 
-    legacyStub
-        .stubFor(
-            get(urlPathEqualTo("/api/search/registrationOrName"))
-                .withQueryParam("registrationNumber",
-                    equalTo(dto.businessInformation().registrationNumber()))
-                .willReturn(okJson(clientRegistrationFullMatch))
-        );
-
-    legacyStub
-        .stubFor(
-            get(urlPathEqualTo("/api/search/clientName"))
-                .withQueryParam("clientName", equalTo(dto.businessInformation().businessName()))
-                .willReturn(okJson(fullNameMatch))
-        );
-
-    legacyStub
-        .stubFor(
-            get(urlPathEqualTo("/api/search/match"))
-                .withQueryParam("companyName", equalTo(dto.businessInformation().businessName()))
-                .willReturn(okJson(clientNameFuzzyMatch))
-        );
-
     if (StringUtils.isNotBlank(dto.businessInformation().clientAcronym())) {
-      legacyStub
-          .stubFor(
-              get(urlPathEqualTo("/api/search/acronym"))
-                  .withQueryParam("acronym", equalTo(dto.businessInformation().clientAcronym()))
-                  .willReturn(okJson(acronymMatch))
-          );
+      results.put("clientAcronym", acronymMatch);
     }
 
     if (StringUtils.isNotBlank(dto.businessInformation().doingBusinessAs())) {
-      legacyStub
-          .stubFor(
-              get(urlPathEqualTo("/api/search/doingBusinessAs"))
-                  .withQueryParam("dbaName", equalTo(dto.businessInformation().doingBusinessAs()))
-                  .willReturn(okJson(dbaFuzzyMatch))
-          );
-
-      legacyStub
-          .stubFor(
-              get(urlPathEqualTo("/api/search/doingBusinessAs"))
-                  .withQueryParam("dbaName", equalTo(dto.businessInformation().doingBusinessAs()))
-                  .withQueryParam("isFuzzy", equalTo("false"))
-                  .willReturn(okJson(dbaFullMatch))
-          );
+      results.put("doingBusinessAsFuzzy", dbaFuzzyMatch);
+      results.put("doingBusinessAs", dbaFullMatch);
     }
 
+    legacyStub
+        .stubFor(
+            post(urlPathEqualTo("/api/search/matches"))
+                .withRequestBody(
+                    matchingJsonPath("$[?(@.id == 'registrationNumber')].parameters.registrationNumber",
+                        equalTo(dto.businessInformation().registrationNumber()))
+                )
+                .willReturn(okJson(getMatchResultsJson(results)))
+        );
+
     StepVerifier.FirstStep<Void> matcher =
         service
             .matchClients(dto, 1)
@@ -278,29 +234,24 @@ class ClientMatchServiceIntegrationTest extends AbstractTestContainerIntegration
 
     legacyStub.resetAll();
 
-    legacyStub
-        .stubFor(
-            get(urlPathEqualTo("/api/search/clientName"))
-                .withQueryParam("clientName", equalTo(dto.businessInformation().businessName()))
-                .willReturn(okJson(fullNameMatch))
-        );
+    Map<String, String> results = new HashMap<>();
+    results.put("clientName", fullNameMatch);
+    results.put("clientNameFuzzy", clientNameFuzzyMatch);
+
+    if (StringUtils.isNotBlank(dto.businessInformation().clientAcronym())) {
+      results.put("clientAcronym", acronymMatch);
+    }
 
     legacyStub
         .stubFor(
-            get(urlPathEqualTo("/api/search/match"))
-                .withQueryParam("companyName", equalTo(dto.businessInformation().businessName()))
-                .willReturn(okJson(clientNameFuzzyMatch))
+            post(urlPathEqualTo("/api/search/matches"))
+                .withRequestBody(
+                    matchingJsonPath("$[?(@.id == 'clientName')].parameters.clientName",
+                        equalTo(dto.businessInformation().businessName()))
+                )
+                .willReturn(okJson(getMatchResultsJson(results)))
         );
 
-    if (StringUtils.isNotBlank(dto.businessInformation().clientAcronym())) {
-      legacyStub
-          .stubFor(
-              get(urlPathEqualTo("/api/search/acronym"))
-                  .withQueryParam("acronym", equalTo(dto.businessInformation().clientAcronym()))
-                  .willReturn(okJson(acronymMatch))
-          );
-    }
-
     StepVerifier.FirstStep<Void> matcher =
         service
             .matchClients(dto, 1)
@@ -350,35 +301,23 @@ class ClientMatchServiceIntegrationTest extends AbstractTestContainerIntegration
 
     legacyStub.resetAll();
 
-    legacyStub
-        .stubFor(
-            get(urlPathEqualTo("/api/search/clientName"))
-                .withQueryParam("clientName", equalTo(dto.businessInformation().businessName()))
-                .willReturn(okJson(fullNameMatch))
-        );
-
-    legacyStub
-        .stubFor(
-            get(urlPathEqualTo("/api/search/match"))
-                .withQueryParam("companyName", equalTo(dto.businessInformation().businessName()))
-                .willReturn(okJson(clientNameFuzzyMatch))
-        );
+    Map<String, String> results = new HashMap<>();
+    results.put("registrationNumber", clientRegistrationFullMatch);
+    results.put("clientName", fullNameMatch);
+    results.put("clientNameFuzzy", clientNameFuzzyMatch);
 
     if (StringUtils.isNotBlank(dto.businessInformation().clientAcronym())) {
-      legacyStub
-          .stubFor(
-              get(urlPathEqualTo("/api/search/acronym"))
-                  .withQueryParam("acronym", equalTo(dto.businessInformation().clientAcronym()))
-                  .willReturn(okJson(acronymMatch))
-          );
+      results.put("clientAcronym", acronymMatch);
     }
 
     legacyStub
         .stubFor(
-            get(urlPathEqualTo("/api/search/registrationOrName"))
-                .withQueryParam("registrationNumber",
-                    equalTo(dto.businessInformation().registrationNumber()))
-                .willReturn(okJson(clientRegistrationFullMatch))
+            post(urlPathEqualTo("/api/search/matches"))
+                .withRequestBody(
+                    matchingJsonPath("$[?(@.id == 'clientName')].parameters.clientName",
+                        equalTo(dto.businessInformation().businessName()))
+                )
+                .willReturn(okJson(getMatchResultsJson(results)))
         );
 
     StepVerifier.FirstStep<Void> matcher =
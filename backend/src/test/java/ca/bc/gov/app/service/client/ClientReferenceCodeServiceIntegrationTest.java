@@ -0,0 +1,56 @@
+package ca.bc.gov.app.service.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ca.bc.gov.app.extensions.AbstractTestContainerIntegrationTest;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import reactor.test.StepVerifier;
+
+@DisplayName("Integrated Test | Client Reference Code Service")
+class ClientReferenceCodeServiceIntegrationTest extends AbstractTestContainerIntegrationTest {
+
+  @Autowired
+  private ClientReferenceCodeService service;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @Test
+  @DisplayName("load all reference codes")
+  void shouldLoadCodes() {
+    service
+        .refresh()
+        .then(service.getCodes())
+        .as(StepVerifier::create)
+        .assertNext(codes -> {
+          assertThat(codes.clientTypes()).isNotEmpty();
+          assertThat(codes.contactTypes()).isNotEmpty();
+          assertThat(codes.countries()).isNotEmpty();
+          assertThat(codes.districts()).isNotEmpty();
+          assertThat(codes.identificationTypes()).isNotEmpty();
+          assertThat(codes.provinces()).isNotEmpty();
+        })
+        .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("reuse the loaded codes")
+  void shouldReuseCodes() {
+    double hits = meterRegistry.counter("service.codes.cache", "result", "hit").count();
+
+    service
+        .refresh()
+        .then(service.getCodes())
+        .zipWith(service.getCodes())
+        .as(StepVerifier::create)
+        .assertNext(codes -> assertThat(codes.getT1()).isSameAs(codes.getT2()))
+        .verifyComplete();
+
+    assertThat(meterRegistry.counter("service.codes.cache", "result", "hit").count())
+        .isGreaterThanOrEqualTo(hits + 2);
+  }
+
+}
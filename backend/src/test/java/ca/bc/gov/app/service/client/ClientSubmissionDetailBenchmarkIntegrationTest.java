@@ -0,0 +1,279 @@
+package ca.bc.gov.app.service.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ca.bc.gov.app.dto.submissions.SubmissionAddressDto;
+import ca.bc.gov.app.dto.submissions.SubmissionBusinessDto;
+import ca.bc.gov.app.dto.submissions.SubmissionContactDto;
+import ca.bc.gov.app.dto.submissions.SubmissionDetailsDto;
+import ca.bc.gov.app.extensions.AbstractTestContainerIntegrationTest;
+import ca.bc.gov.app.repository.client.SubmissionMatchDetailRepository;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+/**
+ * Compares the single query submission detail with the previous chain of sequential queries. The
+ * results are always compared, and the timing comparison only runs with
+ * {@code -Dbenchmark=true}, as it takes a while and depends on the machine.
+ */
+@Slf4j
+@DisplayName("Integrated Test | Submission Detail Benchmark")
+class ClientSubmissionDetailBenchmarkIntegrationTest extends AbstractTestContainerIntegrationTest {
+
+  private static final String DETAILS_QUERY = """
+      SELECT
+        s.submission_id,
+        ssc.description as status,
+        stc.description as submission_type,
+        s.submission_date,
+        s.update_timestamp,
+        s.update_user,
+        btc.business_type_code as business_type,
+        sd.incorporation_number,
+        sd.client_number,
+        sd.organization_name,
+        ctc.client_type_code as client_type,
+        ctc.description as client_type_desc,
+        sd.good_standing_ind as good_standing,
+        sd.birthdate,
+        dc.district_code as district,
+        dc.district_code || ' - ' || dc.description as district_desc
+      FROM nrfc.submission s
+      left join nrfc.submission_status_code ssc
+        on ssc.submission_status_code = s.submission_status_code
+      left join nrfc.submission_type_code stc
+        on stc.submission_type_code = s.submission_type_code
+      left join nrfc.submission_detail sd
+        on sd.submission_id = s.submission_id
+      left join nrfc.business_type_code btc
+        on btc.business_type_code = sd.business_type_code
+      left join nrfc.district_code dc
+        on dc.district_code = sd.district_code
+      left join nrfc.client_type_code ctc
+        on ctc.client_type_code = sd.client_type_code
+      where s.submission_id = :submissionId""";
+
+  private static final String CONTACTS_QUERY = """
+      SELECT
+        ROW_NUMBER() OVER (order by sc.submission_contact_id ) AS index,
+        ctc.description as contact_desc,
+        sc.first_name,
+        sc.last_name,
+        sc.business_phone_number,
+        sc.email_address,
+        (
+          select STRING_AGG(sl.location_name,', ') as locations
+          from nrfc.submission_location sl
+          left join nrfc.submission_location_contact_xref slcx
+          on slcx.submission_location_id = sl.submission_location_id
+          left join nrfc.submission_contact sc
+          on sc.submission_contact_id = slcx.submission_contact_id
+          where sl.submission_id = :submissionId
+        ) as locations,
+        sc.idp_user_id
+      FROM nrfc.submission_contact sc
+      left join nrfc.contact_type_code ctc on ctc.contact_type_code = sc.contact_type_code
+      where sc.submission_id = :submissionId""";
+
+  private static final String LOCATION_QUERY = """
+      SELECT
+        ROW_NUMBER() OVER (order by sl.submission_location_id ) AS index,
+        sl.street_address,
+        cc.description as country_desc,
+        pc.description as province_desc,
+        sl.city_name,
+        sl.postal_code,
+        sl.location_name
+      FROM nrfc.submission_location sl
+      left join nrfc.country_code cc on cc.country_code = sl.country_code
+      left join nrfc.province_code pc on (
+        pc.province_code = sl.province_code and pc.country_code = cc.country_code
+      )
+      where sl.submission_id = :submissionId
+      order by sl.submission_location_id""";
+
+  @Autowired
+  private ClientSubmissionService service;
+
+  @Autowired
+  private SubmissionMatchDetailRepository submissionMatchDetailRepository;
+
+  @Autowired
+  private DatabaseClient client;
+
+  @ParameterizedTest(name = "Submission {0}")
+  @ValueSource(longs = {364L, 365L})
+  @DisplayName("Single query returns the same details as the sequential queries")
+  void shouldMatchSequentialQueries(Long submissionId) {
+    Mono
+        .zip(service.getSubmissionDetail(submissionId), sequentialDetail(submissionId))
+        .as(StepVerifier::create)
+        .assertNext(details ->
+            assertThat(details.getT1())
+                .usingRecursiveComparison()
+                .isEqualTo(details.getT2())
+        )
+        .verifyComplete();
+  }
+
+  @Test
+  @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+  @DisplayName("Compare the single query with the sequential queries")
+  void shouldCompareDetailQueries() {
+    int iterations = Integer.getInteger("benchmark.iterations", 500);
+
+    // Warm up both paths, so the connection pool and the query plans are ready
+    measure(10, service::getSubmissionDetail);
+    measure(10, this::sequentialDetail);
+
+    Duration sequential = measure(iterations, this::sequentialDetail);
+    Duration single = measure(iterations, service::getSubmissionDetail);
+
+    log.info(
+        "Submission detail over {} reads: sequential {} ms ({} us/read), single {} ms ({} us/read)",
+        iterations,
+        sequential.toMillis(),
+        sequential.toNanos() / 1000 / iterations,
+        single.toMillis(),
+        single.toNanos() / 1000 / iterations
+    );
+
+    assertThat(single).isPositive();
+  }
+
+  private Duration measure(int iterations, Function<Long, Mono<SubmissionDetailsDto>> read) {
+    long start = System.nanoTime();
+    Flux
+        .range(0, iterations)
+        .concatMap(index -> read.apply(index % 2 == 0 ? 364L : 365L))
+        .blockLast();
+    return Duration.ofNanos(System.nanoTime() - start);
+  }
+
+  /**
+   * The submission detail as it was loaded before, with one query per section, each one waiting
+   * for the previous one.
+   */
+  private Mono<SubmissionDetailsDto> sequentialDetail(Long id) {
+    Mono<SubmissionDetailsDto> detailsBusiness =
+        client
+            .sql(DETAILS_QUERY)
+            .bind("submissionId", id)
+            .map((row, metadata) ->
+                new SubmissionDetailsDto(
+                    row.get("submission_id", Long.class),
+                    row.get("status", String.class),
+                    row.get("submission_type", String.class),
+                    row.get("submission_date", LocalDateTime.class),
+                    row.get("update_timestamp", LocalDateTime.class),
+                    null,
+                    removeProvider(row.get("update_user", String.class)),
+                    new SubmissionBusinessDto(
+                        row.get("business_type", String.class),
+                        row.get("incorporation_number", String.class),
+                        row.get("client_number", String.class),
+                        row.get("organization_name", String.class),
+                        row.get("client_type", String.class),
+                        row.get("client_type_desc", String.class),
+                        row.get("good_standing", String.class),
+                        row.get("birthdate", LocalDate.class),
+                        row.get("district", String.class),
+                        row.get("district_desc", String.class)
+                    ),
+                    List.of(),
+                    List.of(),
+                    Map.of(),
+                    "",
+                    ""
+                )
+            )
+            .one();
+
+    Flux<SubmissionContactDto> contacts =
+        client
+            .sql(CONTACTS_QUERY)
+            .bind("submissionId", id)
+            .map((row, metadata) -> new SubmissionContactDto(
+                Objects.requireNonNull(row.get("index", Integer.class)) - 1,
+                row.get("contact_desc", String.class),
+                row.get("first_name", String.class),
+                row.get("last_name", String.class),
+                row.get("business_phone_number", String.class),
+                row.get("email_address", String.class),
+                Arrays.stream(StringUtils.defaultString(row.get("locations", String.class))
+                        .split(", "))
+                    .collect(Collectors.toSet()),
+                row.get("idp_user_id", String.class)
+            ))
+            .all();
+
+    Flux<SubmissionAddressDto> addresses =
+        client
+            .sql(LOCATION_QUERY)
+            .bind("submissionId", id)
+            .map((row, metadata) -> new SubmissionAddressDto(
+                Objects.requireNonNull(row.get("index", Integer.class)) - 1,
+                row.get("street_address", String.class),
+                row.get("country_desc", String.class),
+                row.get("province_desc", String.class),
+                row.get("city_name", String.class),
+                row.get("postal_code", String.class),
+                row.get("location_name", String.class)
+            ))
+            .all();
+
+    return detailsBusiness
+        .flatMap(dto -> contacts.collectList().map(dto::withContact))
+        .flatMap(dto -> addresses.collectList().map(dto::withAddress))
+        .flatMap(dto ->
+            submissionMatchDetailRepository
+                .findBySubmissionId(id.intValue())
+                .map(matched ->
+                    dto
+                        .withApprovedTimestamp(matched.getUpdatedAt())
+                        .withMatchers(cleanMatchers(matched.getMatchers()))
+                        .withRejectionReason(matched.getMatchingMessage())
+                        .withConfirmedMatchUserId(matched.getCreatedBy())
+                )
+                .defaultIfEmpty(dto)
+        );
+  }
+
+  private Map<String, Object> cleanMatchers(Map<String, Object> matchers) {
+    return matchers
+        .entrySet()
+        .stream()
+        .collect(Collectors.toMap(
+            Map.Entry::getKey,
+            entry -> entry.getValue() instanceof String value
+                ? String.join(",", new LinkedHashSet<>(Arrays.asList(value.split(","))))
+                : entry.getValue()
+        ));
+  }
+
+  private String removeProvider(String input) {
+    String[] parts = input.split("\\\\");
+    return parts.length > 1 ? parts[1] : input;
+  }
+
+}
@@ -1,18 +1,17 @@
 package ca.bc.gov.app.service.client.matches;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import ca.bc.gov.app.dto.client.ClientSubmissionDto;
 import ca.bc.gov.app.dto.client.MatchResult;
-import ca.bc.gov.app.dto.legacy.ContactSearchDto;
 import ca.bc.gov.app.dto.legacy.ForestClientDto;
 import ca.bc.gov.app.exception.DataMatchException;
 import ca.bc.gov.app.extensions.ClientMatchDataGenerator;
 import ca.bc.gov.app.service.client.ClientLegacyService;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
 import org.assertj.core.api.Condition;
@@ -46,11 +45,18 @@ class ContactStepMatcherTest {
       boolean error,
       boolean fuzzy
   ) {
-    when(legacyService.searchGeneric(anyString(), anyString()))
-        .thenReturn(emailMatch, businessPhoneMatch, secondaryPhoneMatch, faxMatch);
-
-    when(legacyService.searchContact(any(ContactSearchDto.class)))
-        .thenReturn(contactMatch);
+    when(legacyService.matchClients(anyList()))
+        .thenReturn(
+            ClientMatchDataGenerator.getMatchResults(
+                Map.of(
+                    "email[0]", emailMatch,
+                    "businessPhone[0]", businessPhoneMatch,
+                    "secondaryPhone[0]", secondaryPhoneMatch,
+                    "fax[0]", faxMatch,
+                    "contact[0]", contactMatch
+                )
+            )
+        );
 
     StepVerifier.FirstStep<Void> matcher =
         locationStepMatcher
@@ -2,8 +2,7 @@ package ca.bc.gov.app.service.client.matches;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.jupiter.api.Named.named;
-import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -15,6 +14,7 @@ import ca.bc.gov.app.exception.DataMatchException;
 import ca.bc.gov.app.extensions.ClientMatchDataGenerator;
 import ca.bc.gov.app.service.client.ClientLegacyService;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
@@ -55,22 +55,17 @@ class FirstNationsStepMatcherTest {
       boolean fuzzy
   ) {
 
-    when(
-        legacyService
-            .searchLegacy(
-                anyString(),
-                eq(null),
-                eq(null),
-                eq(null)
+    when(legacyService.matchClients(anyList()))
+        .thenReturn(
+            ClientMatchDataGenerator.getMatchResults(
+                Map.of(
+                    "registrationNumber", clientRegistrationFullMatch,
+                    "clientNameFuzzy", clientNameFuzzyMatch,
+                    "clientName", fullNameMatch,
+                    "clientAcronym", acronymMatch
+                )
             )
-    )
-        .thenReturn(clientRegistrationFullMatch);
-
-    when(legacyService.searchGeneric(anyString(), anyString()))
-        .thenReturn(fullNameMatch, acronymMatch);
-
-    when(legacyService.searchGeneric(anyString(), anyString(), anyString()))
-        .thenReturn(clientNameFuzzyMatch);
+        );
 
     StepVerifier.FirstStep<Void> matcher =
         stepMatcher
@@ -1,9 +1,7 @@
 package ca.bc.gov.app.service.client.matches;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -16,6 +14,7 @@ import ca.bc.gov.app.extensions.ClientMatchDataGenerator;
 import ca.bc.gov.app.service.client.ClientLegacyService;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
 import org.assertj.core.api.Condition;
@@ -54,36 +53,16 @@ class IndividualStepMatcherTest {
       boolean error,
       boolean fuzzy
   ) {
-    when(
-        legacyService
-            .searchIndividual(
-                anyString(),
-                anyString(),
-                any(LocalDate.class),
-                eq(null)
+    when(legacyService.matchClients(anyList()))
+        .thenReturn(
+            ClientMatchDataGenerator.getMatchResults(
+                Map.of(
+                    "individual", individualFuzzyMatch,
+                    "individualAndDocument", individualFullMatch,
+                    "document", documentMatch
+                )
             )
-    )
-        .thenReturn(individualFuzzyMatch);
-
-    when(
-        legacyService
-            .searchIndividual(
-                anyString(),
-                anyString(),
-                any(LocalDate.class),
-                anyString()
-            )
-    )
-        .thenReturn(individualFullMatch);
-
-    when(
-        legacyService
-            .searchDocument(
-                anyString(),
-                anyString()
-            )
-    )
-        .thenReturn(documentMatch);
+        );
 
     StepVerifier.FirstStep<Void> matcher =
         individualStepMatcher
@@ -1,19 +1,18 @@
 package ca.bc.gov.app.service.client.matches;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import ca.bc.gov.app.dto.client.ClientSubmissionDto;
 import ca.bc.gov.app.dto.client.MatchResult;
-import ca.bc.gov.app.dto.legacy.AddressSearchDto;
 import ca.bc.gov.app.dto.legacy.ForestClientDto;
 import ca.bc.gov.app.exception.DataMatchException;
 import ca.bc.gov.app.extensions.ClientMatchDataGenerator;
 import ca.bc.gov.app.service.client.ClientLegacyService;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
 import org.assertj.core.api.Condition;
@@ -47,11 +46,18 @@ class LocationStepMatcherTest {
       boolean error,
       boolean fuzzy
   ) {
-    when(legacyService.searchGeneric(anyString(), anyString()))
-        .thenReturn(emailMatch, businessPhoneMatch, secondaryPhoneMatch, faxMatch);
-
-    when(legacyService.searchLocation(any(AddressSearchDto.class)))
-        .thenReturn(addressMatch);
+    when(legacyService.matchClients(anyList()))
+        .thenReturn(
+            ClientMatchDataGenerator.getMatchResults(
+                Map.of(
+                    "email[0]", emailMatch,
+                    "businessPhone[0]", businessPhoneMatch,
+                    "secondaryPhone[0]", secondaryPhoneMatch,
+                    "fax[0]", faxMatch,
+                    "address[0]", addressMatch
+                )
+            )
+        );
 
     StepVerifier.FirstStep<Void> matcher =
         locationStepMatcher
@@ -2,10 +2,7 @@ package ca.bc.gov.app.service.client.matches;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.jupiter.api.Named.named;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyMap;
-import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -18,6 +15,7 @@ import ca.bc.gov.app.extensions.ClientMatchDataGenerator;
 import ca.bc.gov.app.service.client.ClientLegacyService;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
@@ -62,36 +60,20 @@ class RegisteredStepMatcherTest {
       boolean error,
       boolean fuzzy
   ) {
-    when(
-        legacyService
-            .searchIndividual(
-                anyString(),
-                anyString(),
-                any(LocalDate.class),
-                eq(null)
+    when(legacyService.matchClients(anyList()))
+        .thenReturn(
+            ClientMatchDataGenerator.getMatchResults(
+                Map.of(
+                    "individual", individualFuzzyMatch,
+                    "clientNameFuzzy", clientNameFuzzyMatch,
+                    "registrationNumber", clientRegistrationFullMatch,
+                    "clientName", fullNameMatch,
+                    "clientAcronym", acronymMatch,
+                    "doingBusinessAsFuzzy", dbaFuzzyMatch,
+                    "doingBusinessAs", dbaFullMatch
+                )
             )
-    )
-        .thenReturn(individualFuzzyMatch);
-
-    when(
-        legacyService
-            .searchLegacy(
-                anyString(),
-                eq(null),
-                eq(null),
-                eq(null)
-            )
-    )
-        .thenReturn(clientRegistrationFullMatch);
-
-    when(legacyService.searchGeneric(anyString(), anyString()))
-        .thenReturn(fullNameMatch, acronymMatch);
-
-    when(legacyService.searchGeneric(anyString(), anyString(), anyString()))
-        .thenReturn(clientNameFuzzyMatch, dbaFuzzyMatch);
-
-    when(legacyService.searchGeneric(anyString(), anyMap()))
-        .thenReturn(dbaFullMatch);
+        );
 
     StepVerifier.FirstStep<Void> matcher =
         registeredStepMatcher
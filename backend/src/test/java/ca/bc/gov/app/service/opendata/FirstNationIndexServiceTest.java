@@ -0,0 +1,194 @@
+package ca.bc.gov.app.service.opendata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ca.bc.gov.app.configuration.ForestClientConfiguration;
+import ca.bc.gov.app.configuration.ForestClientConfiguration.OpenDataConfiguration;
+import ca.bc.gov.app.dto.opendata.Feature;
+import ca.bc.gov.app.dto.opendata.FeatureProperties;
+import ca.bc.gov.app.dto.opendata.OpenData;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@DisplayName("Unit Test | First Nation Index Service")
+class FirstNationIndexServiceTest {
+
+  private final ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+  private final AtomicInteger calls = new AtomicInteger();
+
+  @TempDir
+  Path snapshots;
+
+  private BcMapsService bcMapsService;
+  private SacFirstNationService sacFirstNationService;
+  private SacFirstNationTribeService sacFirstNationTribeService;
+
+  @ParameterizedTest(name = "{0} on {1}")
+  @MethodSource("searches")
+  @DisplayName("Search the datasets in memory")
+  void shouldSearchInMemory(String nationName, String dataset, String expected) {
+    FirstNationIndexService service = create(true);
+
+    service
+        .refresh()
+        .then(service.search(dataset(dataset), nationName))
+        .map(OpenData::features)
+        .flatMapIterable(Function.identity())
+        .map(Feature::properties)
+        .map(FeatureProperties::getNationName)
+        .as(StepVerifier::create)
+        .expectNext(expected)
+        .verifyComplete();
+
+    // One call per dataset to load it, and none to search
+    assertThat(calls).hasValue(3);
+  }
+
+  @Test
+  @DisplayName("No match on a loaded dataset does not call the API")
+  void shouldNotMatch() {
+    FirstNationIndexService service = create(true);
+
+    service
+        .refresh()
+        .then(service.search(bcMapsService, "Tupi Guarani"))
+        .as(StepVerifier::create)
+        .verifyComplete();
+
+    assertThat(calls).hasValue(3);
+  }
+
+  @Test
+  @DisplayName("Search the API while the dataset is not loaded")
+  void shouldSearchApiWhenNotLoaded() {
+    FirstNationIndexService service = create(false);
+
+    service
+        .refresh()
+        .then(service.search(bcMapsService, "Squamish"))
+        .as(StepVerifier::create)
+        .verifyComplete();
+
+    // One failed call per dataset to load it, and one more to search
+    assertThat(calls).hasValue(4);
+  }
+
+  @Test
+  @DisplayName("Search the snapshot on a cold start without the APIs")
+  void shouldLoadSnapshot() {
+    create(true)
+        .refresh()
+        .as(StepVerifier::create)
+        .verifyComplete();
+
+    assertThat(snapshots.resolve("bcmaps.json")).exists();
+    assertThat(snapshots.resolve("sac-band.json")).exists();
+    assertThat(snapshots.resolve("sac-tribe.json")).exists();
+
+    calls.set(0);
+    FirstNationIndexService service = create(false);
+
+    service
+        .loadSnapshots()
+        .then(service.search(sacFirstNationTribeService, "atikamekw"))
+        .map(openData -> openData.features().size())
+        .as(StepVerifier::create)
+        .expectNext(1)
+        .verifyComplete();
+
+    assertThat(calls).hasValue(0);
+  }
+
+  private static Stream<Arguments> searches() {
+    return Stream.of(
+        Arguments.of("Squamish", "bcmaps", "Squamish Nation"),
+        Arguments.of("SQUAMISH NATION", "bcmaps", "Squamish Nation"),
+        Arguments.of("lilwat", "bcmaps", "Lil’wat Nation"),
+        Arguments.of("555", "bcmaps", "Squamish Nation"),
+        Arguments.of("premiere", "sac-band", "Abitibiwinni Première Nation"),
+        Arguments.of("Webequie", "sac-band", "Webequie"),
+        Arguments.of("Atikamekw Sipi", "sac-tribe",
+            "ATIKAMEKW SIPI - CONSEIL DE LA NATION ATIKAMEKW")
+    );
+  }
+
+  private AbstractOpenDataService dataset(String name) {
+    return Stream
+        .of(bcMapsService, sacFirstNationService, sacFirstNationTribeService)
+        .filter(dataset -> dataset.getDatasetName().equals(name))
+        .findFirst()
+        .orElseThrow();
+  }
+
+  private FirstNationIndexService create(boolean available) {
+    bcMapsService = new BcMapsService(webClient(available, "bcmaps.json"));
+    sacFirstNationService = new SacFirstNationService(webClient(available, "sac-band.json"));
+    sacFirstNationTribeService =
+        new SacFirstNationTribeService(webClient(available, "sac-tribe.json"));
+
+    return new FirstNationIndexService(
+        bcMapsService,
+        sacFirstNationService,
+        sacFirstNationTribeService,
+        ForestClientConfiguration
+            .builder()
+            .openData(
+                OpenDataConfiguration
+                    .builder()
+                    .snapshotPath(snapshots.toString())
+                    .build()
+            )
+            .build(),
+        mapper
+    );
+  }
+
+  private WebClient webClient(boolean available, String fixture) {
+    return WebClient
+        .builder()
+        .exchangeFunction(request -> {
+          calls.incrementAndGet();
+          if (!available) {
+            return Mono.just(ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build());
+          }
+          return Mono.just(
+              ClientResponse
+                  .create(HttpStatus.OK)
+                  .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                  .body(readFixture(fixture))
+                  .build()
+          );
+        })
+        .build();
+  }
+
+  private String readFixture(String fixture) {
+    try (InputStream stream = getClass().getResourceAsStream("/opendata/" + fixture)) {
+      return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+}
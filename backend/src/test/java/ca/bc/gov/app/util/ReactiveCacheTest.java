@@ -0,0 +1,112 @@
+package ca.bc.gov.app.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ca.bc.gov.app.utils.MovingClock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@DisplayName("Unit Test | Reactive Cache")
+class ReactiveCacheTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final AtomicInteger calls = new AtomicInteger();
+  private final Function<String, Mono<String>> loader =
+      key -> Mono.fromSupplier(() -> key + calls.incrementAndGet());
+
+  private MovingClock clock;
+  private ReactiveCache<String, String> cache;
+
+  @BeforeEach
+  void setUp() {
+    calls.set(0);
+    clock = new MovingClock();
+    cache = new ReactiveCache<>("test", 2, Duration.ofMinutes(5), meterRegistry, clock);
+  }
+
+  @Test
+  @DisplayName("Keep the value until it expires")
+  void shouldKeepUntilExpired() {
+    expect("a", loader, "a1");
+    expect("a", loader, "a1");
+
+    clock.advance(Duration.ofMinutes(5));
+    expect("a", loader, "a2");
+
+    assertThat(meterRegistry.counter("service.test.cache", "result", "hit").count())
+        .isEqualTo(1);
+    assertThat(meterRegistry.counter("service.test.cache", "result", "miss").count())
+        .isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("Concurrent lookups share the same call")
+  void shouldShareConcurrentLookups() {
+    Function<String, Mono<String>> slowLoader =
+        key -> Mono.delay(Duration.ofMillis(100)).then(loader.apply(key));
+
+    Mono
+        .zip(cache.get("a", slowLoader), cache.get("a", slowLoader), cache.get("a", slowLoader))
+        .as(StepVerifier::create)
+        .assertNext(values -> assertThat(values.toList()).containsOnly("a1"))
+        .verifyComplete();
+
+    assertThat(calls).hasValue(1);
+  }
+
+  @Test
+  @DisplayName("Errors are not kept")
+  void shouldNotKeepErrors() {
+    cache
+        .get("a", key -> Mono.error(new IllegalStateException("unavailable")))
+        .as(StepVerifier::create)
+        .expectError(IllegalStateException.class)
+        .verify();
+
+    expect("a", loader, "a1");
+  }
+
+  @Test
+  @DisplayName("Drop the least recently used key once full")
+  void shouldDropLeastRecentlyUsed() {
+    expect("a", loader, "a1");
+    expect("b", loader, "b2");
+    expect("a", loader, "a1");
+    expect("c", loader, "c3");
+
+    expect("a", loader, "a1");
+    expect("b", loader, "b4");
+  }
+
+  @Test
+  @DisplayName("Keep nothing without a time to live, but still share concurrent lookups")
+  void shouldOnlyShareWithoutTtl() {
+    cache = new ReactiveCache<>("test", 2, Duration.ZERO, meterRegistry, clock);
+    Function<String, Mono<String>> slowLoader =
+        key -> Mono.delay(Duration.ofMillis(100)).then(loader.apply(key));
+
+    Mono
+        .zip(cache.get("a", slowLoader), cache.get("a", slowLoader))
+        .as(StepVerifier::create)
+        .assertNext(values -> assertThat(values.toList()).containsOnly("a1"))
+        .verifyComplete();
+
+    expect("a", loader, "a2");
+  }
+
+  private void expect(String key, Function<String, Mono<String>> loader, String expected) {
+    cache
+        .get(key, loader)
+        .as(StepVerifier::create)
+        .expectNext(expected)
+        .verifyComplete();
+  }
+
+}
@@ -27,6 +27,24 @@ public class ForestClientConfiguration {
   public static class LegacyDataConfiguration {
 
     private Duration predictiveCap;
+    private int clientNumberBlock;
+    private int matchConcurrency;
+
+    @NestedConfigurationProperty
+    private PredictiveIndexConfiguration predictiveIndex;
+  }
+
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class PredictiveIndexConfiguration {
+
+    private boolean enabled;
+    private Duration refresh;
+    private Duration rebuild;
+    private Duration refreshOverlap;
+    private int overlayLimit;
   }
 
 }
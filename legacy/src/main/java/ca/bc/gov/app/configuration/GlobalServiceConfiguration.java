@@ -2,6 +2,8 @@ package ca.bc.gov.app.configuration;
 
 import ca.bc.gov.app.dto.AddressSearchDto;
 import ca.bc.gov.app.dto.ClientDoingBusinessAsDto;
+import ca.bc.gov.app.dto.ClientMatchCriteriaDto;
+import ca.bc.gov.app.dto.ClientMatchResultDto;
 import ca.bc.gov.app.dto.ClientNameCodeDto;
 import ca.bc.gov.app.dto.CodeNameDto;
 import ca.bc.gov.app.dto.ContactSearchDto;
@@ -10,9 +12,11 @@ import ca.bc.gov.app.dto.ForestClientContactDetailsDto;
 import ca.bc.gov.app.dto.ForestClientContactDto;
 import ca.bc.gov.app.dto.ForestClientDetailsDto;
 import ca.bc.gov.app.dto.ForestClientDto;
+import ca.bc.gov.app.dto.ForestClientGraphDto;
 import ca.bc.gov.app.dto.ForestClientInformationDto;
 import ca.bc.gov.app.dto.ForestClientLocationDetailsDto;
 import ca.bc.gov.app.dto.ForestClientLocationDto;
+import ca.bc.gov.app.dto.PredictiveSearchIndexRowDto;
 import ca.bc.gov.app.dto.PredictiveSearchResultDto;
 import ca.bc.gov.app.dto.RelatedClientDto;
 import ca.bc.gov.app.dto.RelatedClientEntryDto;
@@ -38,6 +42,8 @@ import org.springframework.http.codec.json.Jackson2JsonEncoder;
 @RegisterReflectionForBinding({
     AddressSearchDto.class,
     ClientDoingBusinessAsDto.class,
+    ClientMatchCriteriaDto.class,
+    ClientMatchResultDto.class,
     ClientNameCodeDto.class,
     CodeNameDto.class,
     ContactSearchDto.class,
@@ -45,10 +51,12 @@ import org.springframework.http.codec.json.Jackson2JsonEncoder;
     ForestClientContactDto.class,
     ForestClientDetailsDto.class,
     ForestClientDto.class,
+    ForestClientGraphDto.class,
     ForestClientInformationDto.class,
     ForestClientLocationDetailsDto.class,
     ForestClientLocationDto.class,
     PredictiveSearchResultDto.class,
+    PredictiveSearchIndexRowDto.class,
     JsonPatch.class,
     JsonNode.class,
     ForestClientContactDetailsDto.class,
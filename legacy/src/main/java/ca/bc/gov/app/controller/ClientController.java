@@ -1,8 +1,10 @@
 package ca.bc.gov.app.controller;
 
 import ca.bc.gov.app.dto.ForestClientDto;
+import ca.bc.gov.app.dto.ForestClientGraphDto;
 import ca.bc.gov.app.dto.HistoryLogDto;
 import ca.bc.gov.app.entity.ClientRelatedProjection;
+import ca.bc.gov.app.service.ClientGraphService;
 import ca.bc.gov.app.service.ClientRelatedService;
 import ca.bc.gov.app.service.ClientService;
 import io.micrometer.observation.annotation.Observed;
@@ -34,6 +36,7 @@ public class ClientController {
 
   private final ClientService service;
   private final ClientRelatedService relatedService;
+  private final ClientGraphService graphService;
 
   @PostMapping
   @ResponseStatus(HttpStatus.CREATED)
@@ -42,6 +45,14 @@ public class ClientController {
     return service.saveAndGetIndex(dto);
   }
 
+  @PostMapping("/bulk")
+  @ResponseStatus(HttpStatus.CREATED)
+  public Mono<String> saveClientGraph(@RequestBody ForestClientGraphDto dto) {
+    log.info("Receiving request to save client {} with all its details",
+        dto.client() != null ? dto.client().name() : null);
+    return graphService.save(dto);
+  }
+
   @GetMapping("/history-logs/{clientNumber}")
   public Flux<HistoryLogDto> findHistoryLogsByClientNumber(
       @PathVariable String clientNumber,
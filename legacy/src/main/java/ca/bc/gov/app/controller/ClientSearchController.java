@@ -1,10 +1,13 @@
 package ca.bc.gov.app.controller;
 
 import ca.bc.gov.app.dto.AddressSearchDto;
+import ca.bc.gov.app.dto.ClientMatchCriteriaDto;
+import ca.bc.gov.app.dto.ClientMatchResultDto;
 import ca.bc.gov.app.dto.ContactSearchDto;
 import ca.bc.gov.app.dto.ForestClientDetailsDto;
 import ca.bc.gov.app.dto.ForestClientDto;
 import ca.bc.gov.app.dto.PredictiveSearchResultDto;
+import ca.bc.gov.app.service.ClientMatchService;
 import ca.bc.gov.app.service.ClientSearchService;
 import io.micrometer.observation.annotation.Observed;
 import java.time.LocalDate;
@@ -36,6 +39,7 @@ import reactor.core.publisher.Mono;
 public class ClientSearchController {
 
   private final ClientSearchService service;
+  private final ClientMatchService matchService;
 
   /**
    * Handles the HTTP GET request to search for clients by registration number or company name.
@@ -91,6 +95,22 @@ public class ClientSearchController {
     return service.matchBy(companyName);
   }
 
+  /**
+   * Handles the HTTP POST request to evaluate several search criteria at once. Each criterion is
+   * answered the same way as its equivalent search endpoint, and the results are tagged with the
+   * criterion id.
+   *
+   * @param criteria the list of criteria to be evaluated
+   * @return a Flux containing one ClientMatchResultDto per criterion
+   */
+  @PostMapping("/matches")
+  public Flux<ClientMatchResultDto> matchByCriteria(
+      @RequestBody List<ClientMatchCriteriaDto> criteria
+  ) {
+    log.info("Receiving request to match by {} criteria", criteria.size());
+    return matchService.matchBy(criteria);
+  }
+
   /**
    * Handles the HTTP GET request to search for clients by client ID and last name.
    *
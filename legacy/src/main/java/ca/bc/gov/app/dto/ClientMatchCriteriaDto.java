@@ -0,0 +1,22 @@
+package ca.bc.gov.app.dto;
+
+import java.util.Map;
+
+/**
+ * A single search to be evaluated by the combined match endpoint.
+ *
+ * @param id         identifies the criterion in the response, chosen by the caller
+ * @param type       the search type, named after the equivalent {@code /api/search} endpoint
+ * @param parameters the search parameters, named after the equivalent endpoint parameters
+ */
+public record ClientMatchCriteriaDto(
+    String id,
+    String type,
+    Map<String, String> parameters
+) {
+
+  public String parameter(String name) {
+    return parameters == null ? null : parameters.get(name);
+  }
+
+}
@@ -0,0 +1,10 @@
+package ca.bc.gov.app.dto;
+
+import java.util.List;
+
+public record ClientMatchResultDto(
+    String id,
+    List<ForestClientDto> clients
+) {
+
+}
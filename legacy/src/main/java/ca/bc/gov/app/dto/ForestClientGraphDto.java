@@ -0,0 +1,17 @@
+package ca.bc.gov.app.dto;
+
+import java.util.List;
+
+/**
+ * A whole client as created by the processor, with its locations, the contacts of each location
+ * and the optional doing business as name. The client number of the children is set from the
+ * client once it is created.
+ */
+public record ForestClientGraphDto(
+    ForestClientDto client,
+    List<ForestClientLocationDto> locations,
+    List<ForestClientContactDto> contacts,
+    ClientDoingBusinessAsDto doingBusinessAs
+) {
+
+}
@@ -0,0 +1,42 @@
+package ca.bc.gov.app.dto;
+
+/**
+ * Flattened predictive search row, one per client and doing business as name, used to build the
+ * in-memory predictive search index. It carries every column used by the predictive search
+ * {@code WHERE} and {@code SCORE} clauses, plus the columns returned to the caller.
+ */
+public record PredictiveSearchIndexRowDto(
+    String clientNumber,
+    String clientAcronym,
+    String clientName,
+    String clientFirstName,
+    String clientMiddleName,
+    String doingBusinessAs,
+    String clientIdentification,
+    String registryCompanyTypeCode,
+    String corpRegnNmbr,
+    String address,
+    String postalCode,
+    String emailAddress,
+    String city,
+    String clientType,
+    String clientStatus
+) {
+
+  public PredictiveSearchResultDto toResult(long score) {
+    return new PredictiveSearchResultDto(
+        clientNumber,
+        clientAcronym,
+        clientName,
+        clientFirstName,
+        doingBusinessAs,
+        clientIdentification,
+        clientMiddleName,
+        city,
+        clientType,
+        clientStatus,
+        score
+    );
+  }
+
+}
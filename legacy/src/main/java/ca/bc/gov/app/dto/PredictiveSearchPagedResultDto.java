@@ -0,0 +1,43 @@
+package ca.bc.gov.app.dto;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+/**
+ * A predictive search result row carrying the total number of matching rows, calculated by the
+ * database with {@code COUNT(*) OVER ()} in the same query that reads the page.
+ */
+public record PredictiveSearchPagedResultDto(
+    String clientNumber,
+    String clientAcronym,
+    String clientName,
+    String clientFirstName,
+    String doingBusinessAs,
+    String clientIdentification,
+    String clientMiddleName,
+    String city,
+    String clientType,
+    String clientStatus,
+    long score,
+    long totalCount
+) {
+
+  public Pair<PredictiveSearchResultDto, Long> toPair() {
+    return Pair.of(
+        new PredictiveSearchResultDto(
+            clientNumber,
+            clientAcronym,
+            clientName,
+            clientFirstName,
+            doingBusinessAs,
+            clientIdentification,
+            clientMiddleName,
+            city,
+            clientType,
+            clientStatus,
+            score
+        ),
+        totalCount
+    );
+  }
+
+}
@@ -0,0 +1,12 @@
+package ca.bc.gov.app.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidMatchCriteriaException extends ResponseStatusException {
+  public InvalidMatchCriteriaException(String type) {
+    super(HttpStatus.BAD_REQUEST, String.format("Unsupported match criteria type %s", type));
+  }
+}
@@ -0,0 +1,13 @@
+package ca.bc.gov.app.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidMatchParameterException extends ResponseStatusException {
+  public InvalidMatchParameterException(String parameterName, String value) {
+    super(HttpStatus.BAD_REQUEST,
+        String.format("Invalid value %s for parameter %s", value, parameterName));
+  }
+}
@@ -16,6 +16,9 @@ public final class ForestClientQueries {
   public static final String SELECT_COUNT_C_CLIENT_NUMBER =
       "SELECT COUNT(C.CLIENT_NUMBER) ";
 
+  public static final String TOTAL_COUNT_OVER =
+      ", COUNT(*) OVER () AS TOTAL_COUNT ";
+
   public static final String CLIENT_INFORMATION_HISTORY = """
       WITH BASE_DATA AS (
         SELECT
@@ -143,14 +146,14 @@ public final class ForestClientQueries {
         A.UPDATE_USERID,
         A.CHANGE_TYPE,
         A.ACTION_CODE,
-        A.REASON
+        A.REASON,
+        A.FIELD_ORDER
       FROM AUDIT_DATA A
       WHERE (
         (OLD_VALUE IS NULL AND TRIM(NEW_VALUE) IS NOT NULL) OR
         (OLD_VALUE IS NOT NULL AND NEW_VALUE IS NULL) OR
         (TRIM(OLD_VALUE) <> TRIM(NEW_VALUE))
       )
-      ORDER BY A.IDX DESC, A.FIELD_ORDER ASC
       """;
   
   public static final String LOCATION_HISTORY = """
@@ -366,14 +369,14 @@ public final class ForestClientQueries {
           A.UPDATE_USERID,
           A.CHANGE_TYPE,
           A.ACTION_CODE,
-          A.REASON
+          A.REASON,
+          A.FIELD_ORDER
       FROM AUDIT_DATA A
       WHERE (
           (OLD_VALUE IS NULL AND TRIM(NEW_VALUE) IS NOT NULL) OR
           (OLD_VALUE IS NOT NULL AND NEW_VALUE IS NULL) OR
           (TRIM(OLD_VALUE) <> TRIM(NEW_VALUE))
       )
-      ORDER BY A.IDX DESC, A.FIELD_ORDER ASC
       """;
   
   public static final String CONTACT_HISTORY = """
@@ -488,7 +491,8 @@ public final class ForestClientQueries {
           A.UPDATE_USERID,
           A.CHANGE_TYPE,
           '' AS ACTION_CODE,
-          '' AS REASON
+          '' AS REASON,
+          A.FIELD_ORDER
       FROM AUDIT_DATA A
       WHERE (
           (A.CHANGE_TYPE = 'DEL' AND OLD_VALUE IS NOT NULL AND NEW_VALUE IS NOT NULL) OR
@@ -496,7 +500,6 @@ public final class ForestClientQueries {
           (OLD_VALUE IS NOT NULL AND NEW_VALUE IS NULL) OR
           (TRIM(OLD_VALUE) <> TRIM(NEW_VALUE))
       )
-      ORDER BY A.IDX DESC, A.FIELD_ORDER ASC
       """;
   
   public static final String DOING_BUSINESS_AS_HISTORY = """
@@ -555,14 +558,14 @@ public final class ForestClientQueries {
           A.UPDATE_USERID,
           A.CHANGE_TYPE,
           '' AS ACTION_CODE,
-          '' AS REASON
+          '' AS REASON,
+          A.FIELD_ORDER
       FROM AUDIT_DATA A
       WHERE (
           (OLD_VALUE IS NULL AND TRIM(NEW_VALUE) IS NOT NULL) OR
           (OLD_VALUE IS NOT NULL AND NEW_VALUE IS NULL) OR
           (TRIM(OLD_VALUE) <> TRIM(NEW_VALUE))
       )
-      ORDER BY A.IDX DESC, A.FIELD_ORDER ASC
       """;
   
   public static final String RELATED_CLIENT_HISTORY = """
@@ -677,7 +680,8 @@ public final class ForestClientQueries {
           A.UPDATE_USERID,
           A.CHANGE_TYPE,
           '' AS ACTION_CODE,
-          '' AS REASON
+          '' AS REASON,
+          A.FIELD_ORDER
       FROM AUDIT_DATA A
       WHERE (
           (A.CHANGE_TYPE = 'DEL' AND OLD_VALUE IS NOT NULL AND NEW_VALUE IS NOT NULL) OR
@@ -685,9 +689,62 @@ public final class ForestClientQueries {
           (OLD_VALUE IS NOT NULL AND NEW_VALUE IS NULL) OR
           (TRIM(OLD_VALUE) <> TRIM(NEW_VALUE))
       )
-      ORDER BY A.IDX DESC, A.FIELD_ORDER ASC
       """;
 
+  public static final String HISTORY_LOGS_SOURCE = """
+      SELECT
+        H.TABLE_NAME,
+        TO_CHAR(H.IDX) AS IDX,
+        H.IDENTIFIER_LABEL,
+        H.COLUMN_NAME,
+        H.OLD_VALUE,
+        H.NEW_VALUE,
+        H.UPDATE_TIMESTAMP,
+        H.UPDATE_USERID,
+        H.CHANGE_TYPE,
+        H.ACTION_CODE,
+        H.REASON,
+        H.FIELD_ORDER
+      FROM (
+      %s
+      ) H""";
+
+  public static final String HISTORY_LOGS_PAGE = """
+      SELECT
+        P.TABLE_NAME,
+        P.IDX,
+        P.IDENTIFIER_LABEL,
+        P.COLUMN_NAME,
+        P.OLD_VALUE,
+        P.NEW_VALUE,
+        P.UPDATE_TIMESTAMP,
+        P.UPDATE_USERID,
+        P.CHANGE_TYPE,
+        P.ACTION_CODE,
+        P.REASON,
+        P.TOTAL_COUNT
+      FROM (
+        SELECT
+          R.*,
+          MAX(R.ENTRY_RANK) OVER () AS TOTAL_COUNT
+        FROM (
+          SELECT
+            L.*,
+            DENSE_RANK() OVER (
+              ORDER BY
+                CASE WHEN L.IDENTIFIER_LABEL = 'Client created' THEN 1 ELSE 0 END,
+                L.UPDATE_TIMESTAMP DESC,
+                L.TABLE_NAME,
+                L.IDX DESC
+            ) AS ENTRY_RANK
+          FROM (
+          %s
+          ) L
+        ) R
+      ) P
+      WHERE P.ENTRY_RANK > :offset AND P.ENTRY_RANK <= :offset + :limit
+      ORDER BY P.ENTRY_RANK, P.FIELD_ORDER""";
+
   public static final String FIND_CLIENT_BY_REGISTRATION_OR_NAME = """
       SELECT * FROM FOREST_CLIENT x
       WHERE (UPPER(x.REGISTRY_COMPANY_TYPE_CODE) || x.CORP_REGN_NMBR) = UPPER(:registrationNumber)
@@ -962,6 +1019,7 @@ public final class ForestClientQueries {
   public static final String FIND_BY_PREDICTIVE_SEARCH_WITH_LIKE =
       FIND_BY_PREDICTIVE_SEARCH_SELECT
       + FIND_BY_PREDICTIVE_SEARCH_SCORE_LIKE
+      + TOTAL_COUNT_OVER
       + FIND_BY_PREDICTIVE_SEARCH_FROM
       + FIND_BY_PREDICTIVE_SEARCH_LIKE_WHERE
       + ORDER_BY
@@ -975,15 +1033,53 @@ public final class ForestClientQueries {
   public static final String FIND_BY_PREDICTIVE_SEARCH_WITH_SIMILARITY =
       FIND_BY_PREDICTIVE_SEARCH_SELECT
       + FIND_BY_PREDICTIVE_SEARCH_SCORE_SIMILARITY
+      + TOTAL_COUNT_OVER
       + FIND_BY_PREDICTIVE_SEARCH_FROM
       + FIND_BY_PREDICTIVE_SEARCH_SIMILARITY_WHERE
       + ORDER_BY
       + ORACLE_PAGINATION;
 
-  public static final String COUNT_BY_PREDICTIVE_SEARCH_WITH_SIMILARITY =
-      SELECT_COUNT_C_CLIENT_NUMBER
+  public static final String PREDICTIVE_INDEX_SELECT = """
+      SELECT
+          C.CLIENT_NUMBER,
+          C.CLIENT_ACRONYM,
+          C.CLIENT_NAME,
+          C.LEGAL_FIRST_NAME AS CLIENT_FIRST_NAME,
+          C.LEGAL_MIDDLE_NAME AS CLIENT_MIDDLE_NAME,
+          DBA.DOING_BUSINESS_AS_NAME AS DOING_BUSINESS_AS,
+          C.CLIENT_IDENTIFICATION,
+          C.REGISTRY_COMPANY_TYPE_CODE,
+          C.CORP_REGN_NMBR,
+          CL.ADDRESS_1 AS ADDRESS,
+          CL.POSTAL_CODE,
+          CL.EMAIL_ADDRESS,
+          CL.CITY,
+          CTC.DESCRIPTION AS CLIENT_TYPE,
+          CSC.DESCRIPTION AS CLIENT_STATUS
+      """
       + FIND_BY_PREDICTIVE_SEARCH_FROM
-      + FIND_BY_PREDICTIVE_SEARCH_SIMILARITY_WHERE;
+      + """
+      WHERE CL.CLIENT_LOCN_CODE = '00'
+      """;
+
+  public static final String FIND_PREDICTIVE_INDEX_ROWS =
+      PREDICTIVE_INDEX_SELECT
+      + " ORDER BY C.CLIENT_NUMBER ASC";
+
+  public static final String FIND_PREDICTIVE_INDEX_ROWS_BY_CLIENT_NUMBERS =
+      PREDICTIVE_INDEX_SELECT
+      + " AND C.CLIENT_NUMBER IN (:clientNumbers) ORDER BY C.CLIENT_NUMBER ASC";
+
+  public static final String FIND_PREDICTIVE_INDEX_CHANGED_CLIENTS = """
+      SELECT CLIENT_NUMBER FROM THE.FOREST_CLIENT
+      WHERE UPDATE_TIMESTAMP >= :since OR ADD_TIMESTAMP >= :since
+      UNION
+      SELECT CLIENT_NUMBER FROM THE.CLIENT_LOCATION
+      WHERE UPDATE_TIMESTAMP >= :since OR ADD_TIMESTAMP >= :since
+      UNION
+      SELECT CLIENT_NUMBER FROM THE.CLIENT_DOING_BUSINESS_AS
+      WHERE UPDATE_TIMESTAMP >= :since OR ADD_TIMESTAMP >= :since
+      """;
 
   public static final String FIND_BY_EMPTY_FULL_SEARCH = """
       SELECT
@@ -997,7 +1093,8 @@ public final class ForestClientQueries {
           CL.CITY AS CITY,
           CTC.DESCRIPTION AS CLIENT_TYPE,
           CSC.DESCRIPTION AS CLIENT_STATUS,
-          100 AS SCORE
+          100 AS SCORE,
+          COUNT(*) OVER () AS TOTAL_COUNT
       FROM THE.FOREST_CLIENT C
           LEFT JOIN THE.CLIENT_DOING_BUSINESS_AS DBA ON C.CLIENT_NUMBER = DBA.CLIENT_NUMBER
           LEFT JOIN THE.CLIENT_TYPE_CODE CTC ON C.CLIENT_TYPE_CODE = CTC.CLIENT_TYPE_CODE
@@ -1010,19 +1107,6 @@ public final class ForestClientQueries {
       OFFSET :offset ROWS FETCH NEXT :limit ROWS ONLY
       """;
 
-  public static final String COUNT_BY_EMPTY_FULL_SEARCH = """
-      SELECT
-          COUNT(C.CLIENT_NUMBER)
-      FROM THE.FOREST_CLIENT C
-      LEFT JOIN THE.CLIENT_DOING_BUSINESS_AS DBA ON C.CLIENT_NUMBER = DBA.CLIENT_NUMBER
-      LEFT JOIN THE.CLIENT_TYPE_CODE CTC ON C.CLIENT_TYPE_CODE = CTC.CLIENT_TYPE_CODE
-      LEFT JOIN THE.CLIENT_LOCATION CL ON C.CLIENT_NUMBER = CL.CLIENT_NUMBER
-      LEFT JOIN THE.CLIENT_STATUS_CODE CSC ON C.CLIENT_STATUS_CODE = CSC.CLIENT_STATUS_CODE
-      WHERE
-        CL.CLIENT_LOCN_CODE = '00'
-        AND (C.UPdate_TIMESTAMP >= :date OR C.ADD_TIMESTAMP >= :date)
-      """;
-
   public static final String SEARCH_OTHER_CORP_NUMBER = """
       SELECT *
       FROM FOREST_CLIENT fc
@@ -1235,27 +1319,19 @@ public final class ForestClientQueries {
         )
       """;
 
-  public static final String RELATED_CLIENT_AUTOCOMPLETE_COUNT_WITH_LIKE =
-      SELECT_COUNT_C_CLIENT_NUMBER
-      + RELATED_CLIENT_AUTOCOMPLETE_FROM
-      + RELATED_CLIENT_AUTOCOMPLETE_LIKE;
-
   public static final String RELATED_CLIENT_AUTOCOMPLETE_WITH_LIKE =
       RELATED_CLIENT_AUTOCOMPLETE_SELECT
       + RELATED_CLIENT_AUTOCOMPLETE_LIKE_ORDER
+      + TOTAL_COUNT_OVER
       + RELATED_CLIENT_AUTOCOMPLETE_FROM
       + RELATED_CLIENT_AUTOCOMPLETE_LIKE
       + ORDER_BY
       + ORACLE_PAGINATION;
 
-  public static final String RELATED_CLIENT_AUTOCOMPLETE_COUNT_WITH_SIMILARITY =
-      SELECT_COUNT_C_CLIENT_NUMBER
-      + RELATED_CLIENT_AUTOCOMPLETE_FROM
-      + RELATED_CLIENT_AUTOCOMPLETE_SIMILARITY;
-
   public static final String RELATED_CLIENT_AUTOCOMPLETE_WITH_SIMILARITY =
       RELATED_CLIENT_AUTOCOMPLETE_SELECT
       + FIND_BY_PREDICTIVE_SEARCH_SCORE_SIMILARITY
+      + TOTAL_COUNT_OVER
       + RELATED_CLIENT_AUTOCOMPLETE_FROM
       + RELATED_CLIENT_AUTOCOMPLETE_SIMILARITY
       + ORDER_BY
@@ -1,11 +1,13 @@
 package ca.bc.gov.app.repository;
 
 import ca.bc.gov.app.dto.ForestClientInformationDto;
-import ca.bc.gov.app.dto.HistoryLogDto;
+import ca.bc.gov.app.dto.PredictiveSearchIndexRowDto;
+import ca.bc.gov.app.dto.PredictiveSearchPagedResultDto;
 import ca.bc.gov.app.dto.PredictiveSearchResultDto;
 import ca.bc.gov.app.entity.ClientRelatedProjection;
 import ca.bc.gov.app.entity.ForestClientEntity;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -41,40 +43,29 @@ public interface ForestClientRepository extends ReactiveCrudRepository<ForestCli
   Mono<ForestClientInformationDto> findDetailsByClientNumber(String clientNumber);
 
   @Query(ForestClientQueries.FIND_BY_PREDICTIVE_SEARCH_WITH_LIKE)
-  Flux<PredictiveSearchResultDto> findByPredictiveSearchWithLike(
+  Flux<PredictiveSearchPagedResultDto> findByPredictiveSearchWithLike(
       String value, int limit, long offset);
 
   @Query(ForestClientQueries.COUNT_BY_PREDICTIVE_SEARCH_WITH_LIKE)
   Mono<Long> countByPredictiveSearchWithLike(String value);
   
   @Query(ForestClientQueries.FIND_BY_PREDICTIVE_SEARCH_WITH_SIMILARITY)
-  Flux<PredictiveSearchResultDto> findByPredictiveSearchWithSimilarity(
+  Flux<PredictiveSearchPagedResultDto> findByPredictiveSearchWithSimilarity(
       String value, int limit, long offset);
 
-  @Query(ForestClientQueries.COUNT_BY_PREDICTIVE_SEARCH_WITH_SIMILARITY)
-  Mono<Long> countByPredictiveSearchWithSimilarity(String value);
+  @Query(ForestClientQueries.FIND_PREDICTIVE_INDEX_ROWS)
+  Flux<PredictiveSearchIndexRowDto> findPredictiveIndexRows();
+
+  @Query(ForestClientQueries.FIND_PREDICTIVE_INDEX_ROWS_BY_CLIENT_NUMBERS)
+  Flux<PredictiveSearchIndexRowDto> findPredictiveIndexRowsByClientNumbers(
+      @Param("clientNumbers") Collection<String> clientNumbers);
+
+  @Query(ForestClientQueries.FIND_PREDICTIVE_INDEX_CHANGED_CLIENTS)
+  Flux<String> findPredictiveIndexChangedClients(LocalDateTime since);
 
   @Query(ForestClientQueries.FIND_BY_EMPTY_FULL_SEARCH)
-  Flux<PredictiveSearchResultDto> findByEmptyFullSearch(
+  Flux<PredictiveSearchPagedResultDto> findByEmptyFullSearch(
       int limit, long offset, LocalDateTime date);
-  
-  @Query(ForestClientQueries.COUNT_BY_EMPTY_FULL_SEARCH)
-  Mono<Long> countByEmptyFullSearch(LocalDateTime date);
-  
-  @Query(ForestClientQueries.CLIENT_INFORMATION_HISTORY)
-  Flux<HistoryLogDto> findClientInformationHistoryLogsByClientNumber(String clientNumber);
-  
-  @Query(ForestClientQueries.LOCATION_HISTORY)
-  Flux<HistoryLogDto> findLocationHistoryLogsByClientNumber(String clientNumber);
-  
-  @Query(ForestClientQueries.CONTACT_HISTORY)
-  Flux<HistoryLogDto> findContactHistoryLogsByClientNumber(String clientNumber);
-  
-  @Query(ForestClientQueries.DOING_BUSINESS_AS_HISTORY)
-  Flux<HistoryLogDto> findDoingBusinessAsHistoryLogsByClientNumber(String clientNumber);
-  
-  @Query(ForestClientQueries.RELATED_CLIENT_HISTORY)
-  Flux<HistoryLogDto> findRelatedClientAsHistoryLogsByClientNumber(String clientNumber);
 
   @Query(ForestClientQueries.SEARCH_OTHER_CORP_NUMBER)
   Flux<ForestClientEntity> findByCompanyTypeOrNumber(
@@ -87,19 +78,13 @@ public interface ForestClientRepository extends ReactiveCrudRepository<ForestCli
   Flux<ClientRelatedProjection> findByClientRelatedList(String clientNumber);
 
   @Query(ForestClientQueries.RELATED_CLIENT_AUTOCOMPLETE_WITH_LIKE)
-  Flux<PredictiveSearchResultDto> findByRelatedClientWithLike(
+  Flux<PredictiveSearchPagedResultDto> findByRelatedClientWithLike(
       String mainClientNumber, String relationType, String value, int limit, long offset);
 
-  @Query(ForestClientQueries.RELATED_CLIENT_AUTOCOMPLETE_COUNT_WITH_LIKE)
-  Mono<Long> countByRelatedClientWithLike(String mainClientNumber, String relationType, String value);
-
   @Query(ForestClientQueries.RELATED_CLIENT_AUTOCOMPLETE_WITH_SIMILARITY)
-  Flux<PredictiveSearchResultDto> findByRelatedClientWithSimilarity(
+  Flux<PredictiveSearchPagedResultDto> findByRelatedClientWithSimilarity(
       String mainClientNumber, String relationType, String value, int limit, long offset);
 
-  @Query(ForestClientQueries.RELATED_CLIENT_AUTOCOMPLETE_COUNT_WITH_SIMILARITY)
-  Mono<Long> countByRelatedClientWithSimilarity(String mainClientNumber, String relationType, String value);
-
   @Query(ForestClientQueries.CLIENT_IDIR_USERS_AUTOCOMPLETE)
   Flux<String> getClientIdirUsers(String userId);
 
@@ -6,6 +6,7 @@ import ca.bc.gov.app.entity.ForestClientContactEntity;
 import ca.bc.gov.app.mappers.ForestClientContactMapper;
 import ca.bc.gov.app.repository.ForestClientContactRepository;
 import io.micrometer.observation.annotation.Observed;
+import java.time.LocalDateTime;
 import java.util.Locale;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,6 +28,17 @@ public class ClientContactService {
   private final ForestClientContactMapper mapper;
 
   public Mono<String> saveAndGetIndex(ForestClientContactDto dto) {
+    return saveAndGetIndex(dto, LocalDateTime.now());
+  }
+
+  /**
+   * Saves a new client contact with the given creation time and returns the client number.
+   *
+   * @param dto       the contact to save
+   * @param timestamp the time recorded as the creation and update time of the contact
+   * @return a Mono with the client number, or empty if the contact already exists
+   */
+  public Mono<String> saveAndGetIndex(ForestClientContactDto dto, LocalDateTime timestamp) {
     log.info("Saving forest client contact {} {}", dto.clientNumber(), dto.contactName());
     return
         Mono
@@ -56,6 +68,7 @@ public class ClientContactService {
                 )
             )
             .map(mapper::toEntity)
+            .map(entity -> entity.withCreatedAt(timestamp).withUpdatedAt(timestamp))
             .flatMap(entity -> getNextContactId().map(entity::withClientContactId))
             .flatMap(entity -> entityTemplate
                 .insert(ForestClientContactEntity.class)
@@ -0,0 +1,158 @@
+package ca.bc.gov.app.service;
+
+import ca.bc.gov.app.dto.ForestClientContactDto;
+import ca.bc.gov.app.dto.ForestClientDto;
+import ca.bc.gov.app.dto.ForestClientGraphDto;
+import ca.bc.gov.app.dto.ForestClientLocationDto;
+import ca.bc.gov.app.entity.ForestClientEntity;
+import ca.bc.gov.app.exception.MissingRequiredParameterException;
+import ca.bc.gov.app.mappers.AbstractForestClientMapper;
+import io.micrometer.observation.annotation.Observed;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.data.r2dbc.core.R2dbcEntityOperations;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * Persists a whole client, with its locations, contacts and doing business as, in a single
+ * transaction. If any part of the client fails to be saved, nothing is kept, so the caller can
+ * safely send the same client again.
+ *
+ * <p>Each part is still checked for existence before being inserted, the same way the individual
+ * endpoints do it, so a client that already has a number only gets the parts it is missing.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Observed
+public class ClientGraphService {
+
+  private final R2dbcEntityOperations entityTemplate;
+  private final AbstractForestClientMapper<ForestClientDto, ForestClientEntity> mapper;
+  private final ClientNumberAllocator clientNumberAllocator;
+  private final ClientLocationService locationService;
+  private final ClientContactService contactService;
+  private final ClientDoingBusinessAsService doingBusinessAsService;
+  private final TransactionalOperator transactionalOperator;
+
+  /**
+   * Saves the client and all its parts, returning the client number.
+   *
+   * @param graph the client and its parts
+   * @return a Mono with the client number, either the existing one or the newly created one
+   */
+  public Mono<String> save(ForestClientGraphDto graph) {
+    if (graph.client() == null) {
+      return Mono.error(new MissingRequiredParameterException("client"));
+    }
+
+    boolean existing = StringUtils.isNotBlank(graph.client().clientNumber());
+
+    // The number is allocated outside the transaction, as the reserved block is shared
+    return Mono
+        .justOrEmpty(graph.client().clientNumber())
+        .filter(StringUtils::isNotBlank)
+        .switchIfEmpty(clientNumberAllocator.nextClientNumber())
+        .flatMap(clientNumber ->
+            saveGraph(graph, clientNumber, existing)
+                .as(transactionalOperator::transactional)
+                .onErrorResume(
+                    error -> !existing && ClientNumberAllocator.isClientNumberTaken(error),
+                    error -> clientNumberAllocator.resync().then(Mono.error(error))
+                )
+                // Any other error leaves a new number unused, so it is given back
+                .doOnError(
+                    error -> !existing && !ClientNumberAllocator.isClientNumberTaken(error),
+                    error -> clientNumberAllocator.release(clientNumber)
+                )
+        )
+        // A taken number means the counter was behind, so it is resynced and retried
+        .retryWhen(
+            Retry
+                .max(existing ? 0 : 1)
+                .doBeforeRetry(retrySignal -> log.warn(
+                    "Client number for {} was already taken. Will retry",
+                    graph.client().name()
+                ))
+                .filter(ClientNumberAllocator::isClientNumberTaken)
+        );
+  }
+
+  private Mono<String> saveGraph(
+      ForestClientGraphDto graph,
+      String clientNumber,
+      boolean existing
+  ) {
+    List<ForestClientLocationDto> locations =
+        Optional.ofNullable(graph.locations()).orElse(List.of());
+    List<ForestClientContactDto> contacts =
+        Optional.ofNullable(graph.contacts()).orElse(List.of());
+
+    // Legacy keeps timestamps to the second, and the audit of a location or contact is found by
+    // its timestamp, so each one is recorded a second after the previous one instead of all
+    // sharing the same second
+    LocalDateTime createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+    return saveClient(graph.client(), clientNumber, existing)
+        .thenMany(
+            Flux
+                .fromIterable(locations)
+                .map(location -> location.withClientNumber(clientNumber))
+                .index()
+                .concatMap(location -> locationService.saveAndGetIndex(
+                    location.getT2(),
+                    createdAt.plusSeconds(location.getT1() + 1)
+                ))
+        )
+        .thenMany(
+            Flux
+                .fromIterable(contacts)
+                .map(contact -> contact.withClientNumber(clientNumber))
+                .index()
+                .concatMap(contact -> contactService.saveAndGetIndex(
+                    contact.getT2(),
+                    createdAt.plusSeconds(locations.size() + contact.getT1() + 1)
+                ))
+        )
+        .then(
+            Mono
+                .justOrEmpty(graph.doingBusinessAs())
+                .filter(dba -> StringUtils.isNotBlank(dba.doingBusinessAsName()))
+                .map(dba -> dba.withClientNumber(clientNumber))
+                .flatMap(doingBusinessAsService::saveAndGetIndex)
+        )
+        .thenReturn(clientNumber)
+        .doOnNext(number -> log.info(
+            "Saved forest client {} {} with {} locations and {} contacts",
+            number,
+            graph.client().name(),
+            locations.size(),
+            contacts.size()
+        ));
+  }
+
+  private Mono<ForestClientEntity> saveClient(
+      ForestClientDto client,
+      String clientNumber,
+      boolean existing
+  ) {
+    if (existing) {
+      log.info("Client with number {} already exists", clientNumber);
+      return Mono.empty();
+    }
+
+    return entityTemplate
+        .insert(ForestClientEntity.class)
+        .using(mapper.toEntity(client).withClientNumber(clientNumber));
+  }
+
+}
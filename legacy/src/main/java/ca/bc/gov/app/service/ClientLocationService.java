@@ -10,6 +10,7 @@ import ca.bc.gov.app.mappers.AbstractForestClientMapper;
 import ca.bc.gov.app.repository.ForestClientLocationRepository;
 import ca.bc.gov.app.repository.LocationUpdateReasonRepository;
 import io.micrometer.observation.annotation.Observed;
+import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.r2dbc.core.R2dbcEntityOperations;
@@ -57,6 +58,18 @@ public class ClientLocationService {
    *         or empty if the location already exists
    */
   public Mono<String> saveAndGetIndex(ForestClientLocationDto dto) {
+    return saveAndGetIndex(dto, LocalDateTime.now());
+  }
+
+  /**
+   * Saves a new client location with the given creation time and returns the client number.
+   *
+   * @param dto       the location data transfer object containing the location details
+   * @param timestamp the time recorded as the creation and update time of the location
+   * @return a {@link Mono} emitting the client number of the saved location,
+   *         or empty if the location already exists
+   */
+  public Mono<String> saveAndGetIndex(ForestClientLocationDto dto, LocalDateTime timestamp) {
 
     return
         //Load the country detail from the database
@@ -78,6 +91,7 @@ public class ClientLocationService {
                     )
             )
             .map(mapper::toEntity)
+            .map(entity -> entity.withCreatedAt(timestamp).withUpdatedAt(timestamp))
             .flatMap(entity -> entityTemplate
                 .insert(ForestClientLocationEntity.class)
                 .using(entity)
@@ -0,0 +1,177 @@
+package ca.bc.gov.app.service;
+
+import ca.bc.gov.app.configuration.ForestClientConfiguration;
+import ca.bc.gov.app.configuration.ForestClientConfiguration.LegacyDataConfiguration;
+import ca.bc.gov.app.dto.AddressSearchDto;
+import ca.bc.gov.app.dto.ClientMatchCriteriaDto;
+import ca.bc.gov.app.dto.ClientMatchResultDto;
+import ca.bc.gov.app.dto.ContactSearchDto;
+import ca.bc.gov.app.dto.ForestClientDto;
+import ca.bc.gov.app.exception.InvalidMatchCriteriaException;
+import ca.bc.gov.app.exception.InvalidMatchParameterException;
+import ca.bc.gov.app.exception.MissingRequiredParameterException;
+import io.micrometer.observation.annotation.Observed;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.BooleanUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+/**
+ * Evaluates several searches in a single request, as done by the submission step matchers. Each
+ * criterion is answered by the same {@link ClientSearchService} method used by the equivalent
+ * {@code /api/search} endpoint, and a few criteria are evaluated in parallel, bounded by
+ * {@code ca.bc.gov.nrs.data.matchConcurrency}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Observed
+public class ClientMatchService {
+
+  private static final Set<String> MATCH_TYPES = Set.of(
+      "registrationOrName",
+      "individual",
+      "match",
+      "idAndLastName",
+      "id",
+      "email",
+      "phone",
+      "address",
+      "contact",
+      "acronym",
+      "doingBusinessAs",
+      "clientName"
+  );
+
+  private final ClientSearchService searchService;
+  private final ForestClientConfiguration configuration;
+
+  /**
+   * Evaluates every criterion and returns the matching clients of each one, in the same order as
+   * the criteria were provided. A criterion missing any of its required parameters matches
+   * nothing, the same way the backend skips a search when the value is blank.
+   *
+   * @param criteria the criteria to be evaluated
+   * @return a Flux with one result per criterion, tagged with the criterion id
+   */
+  public Flux<ClientMatchResultDto> matchBy(List<ClientMatchCriteriaDto> criteria) {
+
+    Optional<String> invalidType = criteria
+        .stream()
+        .map(ClientMatchCriteriaDto::type)
+        .filter(type -> type == null || !MATCH_TYPES.contains(type))
+        .findFirst();
+
+    if (invalidType.isPresent()) {
+      return Flux.error(new InvalidMatchCriteriaException(invalidType.get()));
+    }
+
+    log.info("Matching {} criteria", criteria.size());
+
+    return Flux
+        .fromIterable(criteria)
+        .flatMapSequential(criterion ->
+                Flux
+                    .defer(() -> search(criterion))
+                    .onErrorResume(MissingRequiredParameterException.class, error -> {
+                      log.info("Skipping match criteria {} of type {}: {}",
+                          criterion.id(), criterion.type(), error.getReason());
+                      return Flux.empty();
+                    })
+                    .collectList()
+                    .doOnNext(clients -> log.info("Match criteria {} of type {} found {} clients",
+                        criterion.id(), criterion.type(), clients.size()))
+                    .map(clients -> new ClientMatchResultDto(criterion.id(), clients)),
+            getMatchConcurrency()
+        );
+  }
+
+  /**
+   * Gets how many criteria are evaluated at once. Each search holds a connection while running, so
+   * this is kept below the connection pool size, leaving connections to the staff searches.
+   */
+  private int getMatchConcurrency() {
+    return Optional
+        .ofNullable(configuration.getData())
+        .map(LegacyDataConfiguration::getMatchConcurrency)
+        .filter(matchConcurrency -> matchConcurrency > 0)
+        .orElse(1);
+  }
+
+  private LocalDate parseDate(ClientMatchCriteriaDto criterion, String parameterName) {
+    String value = criterion.parameter(parameterName);
+    if (StringUtils.isBlank(value)) {
+      return null;
+    }
+    try {
+      return LocalDate.parse(value);
+    } catch (DateTimeParseException exception) {
+      throw new InvalidMatchParameterException(parameterName, value);
+    }
+  }
+
+  private Flux<ForestClientDto> search(ClientMatchCriteriaDto criterion) {
+    return switch (criterion.type()) {
+      case "registrationOrName" -> searchService.findByRegistrationNumberOrCompanyName(
+          criterion.parameter("registrationNumber"),
+          criterion.parameter("companyName")
+      );
+      case "individual" -> searchService.findByIndividual(
+          criterion.parameter("firstName"),
+          criterion.parameter("lastName"),
+          parseDate(criterion, "dob"),
+          criterion.parameter("identification"),
+          true
+      );
+      case "match" -> searchService.matchBy(criterion.parameter("companyName"));
+      case "idAndLastName" -> searchService.findByIdAndLastName(
+          criterion.parameter("clientId"),
+          criterion.parameter("lastName")
+      );
+      case "id" -> searchService.findByIdentification(
+          criterion.parameter("idType"),
+          criterion.parameter("identification")
+      );
+      case "email" -> searchService.findByGeneralEmail(criterion.parameter("email"));
+      case "phone" -> searchService.findByGeneralPhoneNumber(criterion.parameter("phone"));
+      case "address" -> searchService.findByEntireAddress(
+          new AddressSearchDto(
+              criterion.parameter("address"),
+              criterion.parameter("city"),
+              criterion.parameter("province"),
+              criterion.parameter("postalCode"),
+              criterion.parameter("country")
+          )
+      );
+      case "contact" -> searchService.findByContact(
+          new ContactSearchDto(
+              criterion.parameter("firstName"),
+              criterion.parameter("middleName"),
+              criterion.parameter("lastName"),
+              criterion.parameter("email"),
+              criterion.parameter("phone"),
+              criterion.parameter("phone2"),
+              criterion.parameter("fax")
+          )
+      );
+      case "acronym" -> searchService.findByAcronym(criterion.parameter("acronym"));
+      case "doingBusinessAs" -> searchService.findByDoingBusinessAs(
+          criterion.parameter("dbaName"),
+          BooleanUtils.toBooleanDefaultIfNull(
+              BooleanUtils.toBooleanObject(criterion.parameter("isFuzzy")),
+              true
+          )
+      );
+      case "clientName" -> searchService.findByClientName(criterion.parameter("clientName"));
+      default -> Flux.error(new InvalidMatchCriteriaException(criterion.type()));
+    };
+  }
+
+}
@@ -0,0 +1,198 @@
+package ca.bc.gov.app.service;
+
+import ca.bc.gov.app.configuration.ForestClientConfiguration;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.spi.Parameters;
+import io.r2dbc.spi.R2dbcException;
+import io.r2dbc.spi.R2dbcType;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.data.r2dbc.core.R2dbcEntityOperations;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * Hands out client numbers from blocks reserved on the {@code MAX_CLIENT_NMBR} table. Each block
+ * is reserved by a single atomic update of the counter, the same way the legacy
+ * {@code reserve_client_number} function does it for one number, so concurrent reservations never
+ * overlap and {@code FOREST_CLIENT} is not scanned for every new client.
+ *
+ * <p>Numbers that were reserved but never used, either because the block was dropped or the
+ * application stopped, are reported as gaps in the logs and in the {@code client.number.gaps}
+ * metric.
+ */
+@Service
+@Slf4j
+public class ClientNumberAllocator {
+
+  private static final int DEFAULT_BLOCK_SIZE = 10;
+
+  // The Oracle unique constraint error, and the primary key of FOREST_CLIENT on CLIENT_NUMBER
+  private static final int UNIQUE_CONSTRAINT_ERROR = 1;
+  private static final String CLIENT_NUMBER_CONSTRAINT = "FOREST_CLIENT_PK";
+
+  private static final String RESERVE_BLOCK = """
+      BEGIN
+        UPDATE max_client_nmbr
+           SET client_number = LPAD(TO_NUMBER(client_number) + :blockSize, 8, '0')
+        RETURNING client_number INTO :clientNumber;
+      END;""";
+
+  // Only used when a reserved number is already taken, which means the counter is behind
+  private static final String RESYNC_BLOCK = """
+      BEGIN
+        UPDATE max_client_nmbr
+           SET client_number = LPAD(
+             GREATEST(
+               TO_NUMBER(client_number),
+               (SELECT TO_NUMBER(NVL(MAX(CLIENT_NUMBER), '0')) FROM FOREST_CLIENT)
+             ) + :blockSize,
+             8,
+             '0'
+           )
+        RETURNING client_number INTO :clientNumber;
+      END;""";
+
+  private final R2dbcEntityOperations entityTemplate;
+  private final ForestClientConfiguration configuration;
+  private final Counter gapCounter;
+
+  private final Deque<Long> available = new ArrayDeque<>();
+  private final AtomicReference<Mono<Void>> reservation = new AtomicReference<>();
+
+  public ClientNumberAllocator(
+      R2dbcEntityOperations entityTemplate,
+      ForestClientConfiguration configuration,
+      MeterRegistry registry
+  ) {
+    this.entityTemplate = entityTemplate;
+    this.configuration = configuration;
+    this.gapCounter = Counter
+        .builder("client.number.gaps")
+        .description("Client numbers reserved but never used")
+        .register(registry);
+  }
+
+  /**
+   * Gets the next available client number, reserving a new block when the current one is over.
+   * Concurrent callers share the same reservation.
+   *
+   * @return a Mono with the formatted client number
+   */
+  public Mono<String> nextClientNumber() {
+    return Mono.defer(() -> {
+      Long next = poll();
+      if (next != null) {
+        return Mono.just(StringUtils.leftPad(String.valueOf(next), 8, '0'));
+      }
+      return reserve(RESERVE_BLOCK).then(nextClientNumber());
+    });
+  }
+
+  /**
+   * Gives back a number that was not used because the client could not be saved, so it is handed
+   * out again instead of becoming a gap.
+   *
+   * @param clientNumber the unused client number
+   */
+  public synchronized void release(String clientNumber) {
+    available.addFirst(Long.parseLong(clientNumber));
+  }
+
+  /**
+   * Drops the current block and reserves a new one after the highest client number in use. This
+   * is required when a reserved number is already taken, as it means the counter was left behind
+   * by another process.
+   *
+   * @return a Mono that completes once the new block is reserved
+   */
+  public Mono<Void> resync() {
+    drop("counter resync");
+    return reserve(RESYNC_BLOCK);
+  }
+
+  /**
+   * Tells if an error is caused by a client number that is already taken, which means the counter
+   * is behind. Any other error, such as another constraint being violated, is not solved by a new
+   * number.
+   *
+   * @param error the error raised while saving a client
+   * @return true if the client number is already taken
+   */
+  public static boolean isClientNumberTaken(Throwable error) {
+    for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+      String message = StringUtils.defaultString(cause.getMessage());
+      boolean uniqueViolation =
+          (cause instanceof R2dbcException r2dbcException
+              && r2dbcException.getErrorCode() == UNIQUE_CONSTRAINT_ERROR)
+          || message.contains("ORA-00001");
+      if (uniqueViolation && message.contains(CLIENT_NUMBER_CONSTRAINT)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    drop("shutdown");
+  }
+
+  private Mono<Void> reserve(String statement) {
+    return reservation.updateAndGet(current ->
+        current != null ? current : reserveBlock(statement)
+    );
+  }
+
+  private Mono<Void> reserveBlock(String statement) {
+    int blockSize = getBlockSize();
+    return entityTemplate
+        .getDatabaseClient()
+        .sql(statement)
+        .bind("blockSize", blockSize)
+        .bind("clientNumber", Parameters.out(R2dbcType.VARCHAR))
+        .map(readable -> readable.get(0, String.class))
+        .one()
+        .map(Long::parseLong)
+        .doOnNext(last -> {
+          long first = last - blockSize + 1;
+          log.info("Reserved client numbers {} to {}", first, last);
+          synchronized (this) {
+            for (long number = first; number <= last; number++) {
+              available.addLast(number);
+            }
+          }
+        })
+        .doFinally(signalType -> reservation.set(null))
+        .then()
+        .cache();
+  }
+
+  private synchronized Long poll() {
+    return available.pollFirst();
+  }
+
+  private synchronized void drop(String reason) {
+    if (!available.isEmpty()) {
+      log.warn("Client numbers {} to {} were reserved but not used due to {}, leaving {} gaps",
+          available.peekFirst(), available.peekLast(), reason, available.size());
+      gapCounter.increment(available.size());
+      available.clear();
+    }
+  }
+
+  private int getBlockSize() {
+    return Optional
+        .ofNullable(configuration.getData())
+        .map(ForestClientConfiguration.LegacyDataConfiguration::getClientNumberBlock)
+        .filter(size -> size > 0)
+        .orElse(DEFAULT_BLOCK_SIZE);
+  }
+
+}
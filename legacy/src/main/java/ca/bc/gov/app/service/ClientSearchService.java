@@ -8,6 +8,7 @@ import ca.bc.gov.app.dto.AddressSearchDto;
 import ca.bc.gov.app.dto.ContactSearchDto;
 import ca.bc.gov.app.dto.ForestClientDetailsDto;
 import ca.bc.gov.app.dto.ForestClientDto;
+import ca.bc.gov.app.dto.PredictiveSearchPagedResultDto;
 import ca.bc.gov.app.dto.PredictiveSearchResultDto;
 import ca.bc.gov.app.entity.ClientDoingBusinessAsEntity;
 import ca.bc.gov.app.entity.ForestClientContactEntity;
@@ -20,12 +21,14 @@ import ca.bc.gov.app.repository.ClientDoingBusinessAsRepository;
 import ca.bc.gov.app.repository.ForestClientContactRepository;
 import ca.bc.gov.app.repository.ForestClientLocationRepository;
 import ca.bc.gov.app.repository.ForestClientRepository;
+import ca.bc.gov.app.service.search.PredictiveSearchIndexService;
 import io.micrometer.observation.annotation.Observed;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -58,6 +61,8 @@ public class ClientSearchService {
 
   public static final String CLIENT_NAME = "clientName";
   public static final String CLIENT_IDENTIFICATION = "clientIdentification";
+  // Oracle caps IN lists at 1000 entries, and searchClientByQuery caps the results at 1000 rows
+  private static final int CLIENT_BATCH_SIZE = 500;
 
   private final ForestClientRepository forestClientRepository;
   private final ClientDoingBusinessAsRepository doingBusinessAsRepository;
@@ -70,6 +75,7 @@ public class ClientSearchService {
 
   private final R2dbcEntityTemplate template;
   private final ForestClientConfiguration configuration;
+  private final PredictiveSearchIndexService predictiveSearchIndexService;
 
   /**
    * This method is used to find clients based on their registration number or company
@@ -102,14 +108,14 @@ public class ClientSearchService {
         .doOnNext(
             dto -> log.info("Found client with registration name {} or company name {} as {} {}",
                 registrationNumber, companyName, dto.getClientNumber(), dto.getClientName()))
-        .switchIfEmpty(Flux.from(Mono.justOrEmpty(Optional.ofNullable(companyName)))
-            .filter(StringUtils::isNotBlank).flatMap(
-                name -> doingBusinessAsRepository.findByDoingBusinessAsName(
-                        name.toUpperCase(Locale.ROOT))
-                    .doOnNext(dto -> log.info("Found client doing business as: {} {}",
-                        dto.getClientNumber(), dto.getDoingBusinessAsName()))
-                    .map(ClientDoingBusinessAsEntity::getClientNumber)
-                    .flatMap(forestClientRepository::findByClientNumber)))
+        .switchIfEmpty(findClientsByNumbers(
+            Flux.from(Mono.justOrEmpty(Optional.ofNullable(companyName)))
+                .filter(StringUtils::isNotBlank).flatMap(
+                    name -> doingBusinessAsRepository.findByDoingBusinessAsName(
+                            name.toUpperCase(Locale.ROOT))
+                        .doOnNext(dto -> log.info("Found client doing business as: {} {}",
+                            dto.getClientNumber(), dto.getDoingBusinessAsName()))
+                        .map(ClientDoingBusinessAsEntity::getClientNumber))))
         .map(forestClientMapper::toDto).distinct(ForestClientDto::clientNumber)
         .sort(Comparator.comparing(ForestClientDto::clientNumber));
   }
@@ -300,16 +306,13 @@ public class ClientSearchService {
 
     Criteria queryCriteria = where("emailAddress").is(email).ignoreCase(true);
 
-    Flux<ForestClientDto> locations = searchClientByQuery(queryCriteria,
-        ForestClientLocationEntity.class).flatMap(entity -> searchClientByQuery(
-        where(ApplicationConstants.CLIENT_NUMBER_LITERAL).is(entity.getClientNumber()),
-        ForestClientEntity.class)).map(forestClientMapper::toDto);
-    Flux<ForestClientDto> contacts = searchClientByQuery(queryCriteria,
-        ForestClientContactEntity.class).flatMap(entity -> searchClientByQuery(
-        where(ApplicationConstants.CLIENT_NUMBER_LITERAL).is(entity.getClientNumber()),
-        ForestClientEntity.class)).map(forestClientMapper::toDto);
+    Flux<String> locations = searchClientByQuery(queryCriteria,
+        ForestClientLocationEntity.class).map(ForestClientLocationEntity::getClientNumber);
+    Flux<String> contacts = searchClientByQuery(queryCriteria,
+        ForestClientContactEntity.class).map(ForestClientContactEntity::getClientNumber);
 
-    return Flux.concat(locations, contacts).distinct(ForestClientDto::clientNumber)
+    return findClientsByNumbers(Flux.concat(locations, contacts)).map(forestClientMapper::toDto)
+        .distinct(ForestClientDto::clientNumber)
         .sort(Comparator.comparing(ForestClientDto::clientNumber)).doOnNext(
             dto -> log.info("Found client with email {} as  {} {}", email, dto.clientNumber(),
                 dto.clientName()));
@@ -334,18 +337,15 @@ public class ClientSearchService {
     Criteria queryCriteria = where("businessPhone").is(phoneNumber).or("cellPhone").is(phoneNumber)
         .or("faxNumber").is(phoneNumber);
 
-    Flux<ForestClientDto> locations = searchClientByQuery(
-        queryCriteria.or("homePhone").is(phoneNumber), ForestClientLocationEntity.class).flatMap(
-          entity -> searchClientByQuery(
-            where(ApplicationConstants.CLIENT_NUMBER_LITERAL).is(entity.getClientNumber()),
-            ForestClientEntity.class)).map(forestClientMapper::toDto);
+    Flux<String> locations = searchClientByQuery(
+        queryCriteria.or("homePhone").is(phoneNumber), ForestClientLocationEntity.class)
+        .map(ForestClientLocationEntity::getClientNumber);
 
-    Flux<ForestClientDto> contacts = searchClientByQuery(queryCriteria,
-        ForestClientContactEntity.class).flatMap(entity -> searchClientByQuery(
-        where(ApplicationConstants.CLIENT_NUMBER_LITERAL).is(entity.getClientNumber()),
-        ForestClientEntity.class)).map(forestClientMapper::toDto);
+    Flux<String> contacts = searchClientByQuery(queryCriteria,
+        ForestClientContactEntity.class).map(ForestClientContactEntity::getClientNumber);
 
-    return Flux.concat(locations, contacts).distinct(ForestClientDto::clientNumber)
+    return findClientsByNumbers(Flux.concat(locations, contacts)).map(forestClientMapper::toDto)
+        .distinct(ForestClientDto::clientNumber)
         .sort(Comparator.comparing(ForestClientDto::clientNumber)).doOnNext(
             dto -> log.info("Found client with phone number {} as  {} {}", phoneNumber,
                 dto.clientNumber(), dto.clientName()));
@@ -366,10 +366,11 @@ public class ClientSearchService {
       return Flux.error(new MissingRequiredParameterException("address"));
     }
 
-    return locationRepository.matchaddress(address.address(), address.postalCode(), address.city(),
-            address.province(), address.country()).flatMap(entity -> searchClientByQuery(
-            where(ApplicationConstants.CLIENT_NUMBER_LITERAL).is(entity.getClientNumber()),
-            ForestClientEntity.class)).map(forestClientMapper::toDto)
+    return findClientsByNumbers(
+            locationRepository.matchaddress(address.address(), address.postalCode(),
+                    address.city(), address.province(), address.country())
+                .map(ForestClientLocationEntity::getClientNumber))
+        .map(forestClientMapper::toDto)
         .distinct(ForestClientDto::clientNumber)
         .sort(Comparator.comparing(ForestClientDto::clientNumber)).doOnNext(
             dto -> log.info("Found client with address {} as [{}] {}", address, dto.clientNumber(),
@@ -398,16 +399,17 @@ public class ClientSearchService {
     String name = Stream.of(contact.firstName(), contact.middleName(), contact.lastName())
         .filter(StringUtils::isNotBlank).collect(Collectors.joining(" "));
 
-    return contactRepository
-        .matchByExpanded(
-            name,
-            contact.email(),
-            contact.phone(),
-            contact.phone2(),
-            contact.fax()
-        ).flatMap(entity -> searchClientByQuery(
-            where(ApplicationConstants.CLIENT_NUMBER_LITERAL).is(entity.getClientNumber()),
-            ForestClientEntity.class)).map(forestClientMapper::toDto)
+    return findClientsByNumbers(
+            contactRepository
+                .matchByExpanded(
+                    name,
+                    contact.email(),
+                    contact.phone(),
+                    contact.phone2(),
+                    contact.fax()
+                )
+                .map(ForestClientContactEntity::getClientNumber))
+        .map(forestClientMapper::toDto)
         .distinct(ForestClientDto::clientNumber)
         .sort(Comparator.comparing(ForestClientDto::clientNumber)).doOnNext(
             dto -> log.info("Found client with contact {} as [{}] {}", contact, dto.clientNumber(),
@@ -452,12 +454,15 @@ public class ClientSearchService {
       return Flux.error(new MissingRequiredParameterException("doingBusinessAs"));
     }
 
-    return Mono.just(isFuzzy).filter(fuzzy -> fuzzy)
-        .flatMapMany(fuzzy -> doingBusinessAsRepository.matchBy(doingBusinessAs)).switchIfEmpty(
-            searchClientByQuery(where("doingBusinessAsName").is(doingBusinessAs).ignoreCase(true),
-                ClientDoingBusinessAsEntity.class)).flatMap(entity -> searchClientByQuery(
-            where(ApplicationConstants.CLIENT_NUMBER_LITERAL).is(entity.getClientNumber()),
-            ForestClientEntity.class)).map(forestClientMapper::toDto)
+    return findClientsByNumbers(
+            Mono.just(isFuzzy).filter(fuzzy -> fuzzy)
+                .flatMapMany(fuzzy -> doingBusinessAsRepository.matchBy(doingBusinessAs))
+                .switchIfEmpty(
+                    searchClientByQuery(
+                        where("doingBusinessAsName").is(doingBusinessAs).ignoreCase(true),
+                        ClientDoingBusinessAsEntity.class))
+                .map(ClientDoingBusinessAsEntity::getClientNumber))
+        .map(forestClientMapper::toDto)
         .distinct(ForestClientDto::clientNumber)
         .sort(Comparator.comparing(ForestClientDto::clientNumber)).doOnNext(
             dto -> log.info("Found client with doing business as {} as [{}] {}", doingBusinessAs,
@@ -541,7 +546,8 @@ public class ClientSearchService {
    * <p>The method follows these steps:
    * <ul>
    *   <li>If the search value is blank, it returns a {@link MissingRequiredParameterException}.</li>
-   *   <li>Attempts a "like"-based search to find matching clients and their count.</li>
+   *   <li>Attempts a "like"-based search to find matching clients and their count, using the
+   *       in-memory predictive search index when it is enabled and loaded, or Oracle otherwise.</li>
    *   <li>If no matches are found, falls back to a similarity-based search.</li>
    *   <li>Logs the process and returns a {@link Flux} of pairs containing
    *       {@link PredictiveSearchResultDto} and the total match count.</li>
@@ -557,31 +563,46 @@ public class ClientSearchService {
       return Flux.error(new MissingRequiredParameterException("value"));
     }
 
-    return forestClientRepository.countByPredictiveSearchWithLike(value.toUpperCase(Locale.ROOT))
-        .flatMapMany(count -> {
-            if (count > 0) {
-              return forestClientRepository
-                  .findByPredictiveSearchWithLike(
-                      value.toUpperCase(Locale.ROOT), page.getPageSize(), page.getOffset()
-                  )
-                  .doOnNext(dto -> log.info(
-                      "Performed search with like for value {} as {} {} with score {}", 
-                      value, dto.clientNumber(), dto.clientFullName(), dto.score())
-                  )
-                  .map(dto -> Pair.of(dto, count));
-            } else {
-              return forestClientRepository
-                  .countByPredictiveSearchWithSimilarity(value.toUpperCase(Locale.ROOT))
-                  .flatMapMany(similarityCount -> forestClientRepository
-                      .findByPredictiveSearchWithSimilarity(
-                          value.toUpperCase(Locale.ROOT), page.getPageSize(), page.getOffset()
-                      )
-                      .doOnNext(dto -> log.info(
-                          "Performed search with similarity for value {} as {} {} with score {}",
-                          value, dto.clientNumber(), dto.clientFullName(), dto.score()))
-                      .map(dto -> Pair.of(dto, similarityCount)));
+    if (predictiveSearchIndexService.isReady()) {
+      return predictiveSearchIndexService
+          .search(value.toUpperCase(Locale.ROOT))
+          .flatMapMany(results -> {
+            if (results.isEmpty()) {
+              return complexSearchWithSimilarity(value, page);
             }
-        });
+            return Flux
+                .fromIterable(results)
+                .skip(page.getOffset())
+                .take(page.getPageSize())
+                .doOnNext(dto -> log.info(
+                    "Performed indexed search with like for value {} as {} {} with score {}",
+                    value, dto.clientNumber(), dto.clientFullName(), dto.score())
+                )
+                .map(dto -> Pair.of(dto, (long) results.size()));
+          });
+    }
+
+    return forestClientRepository
+        .findByPredictiveSearchWithLike(
+            value.toUpperCase(Locale.ROOT), page.getPageSize(), page.getOffset()
+        )
+        .doOnNext(dto -> log.info(
+            "Performed search with like for value {} as {} {} with score {} out of {}",
+            value, dto.clientNumber(), dto.clientName(), dto.score(), dto.totalCount())
+        )
+        .map(PredictiveSearchPagedResultDto::toPair)
+        .switchIfEmpty(
+            // An empty page past the first one doesn't mean there's no match at all
+            Mono
+                .just(page.getOffset())
+                .filter(offset -> offset > 0)
+                .flatMap(offset -> forestClientRepository
+                    .countByPredictiveSearchWithLike(value.toUpperCase(Locale.ROOT))
+                )
+                .defaultIfEmpty(0L)
+                .filter(count -> count == 0)
+                .flatMapMany(count -> complexSearchWithSimilarity(value, page))
+        );
   }
 
   /**
@@ -593,15 +614,19 @@ public class ClientSearchService {
    *         matching clients
    */
   public Flux<Pair<PredictiveSearchResultDto, Long>> latestEntries(Pageable page) {
-    return forestClientRepository.countByEmptyFullSearch(
-        LocalDateTime.now().minus(configuration.getData().getPredictiveCap())).flatMapMany(
-        count -> forestClientRepository.findByEmptyFullSearch(page.getPageSize(), page.getOffset(),
-            LocalDateTime.now().minus(configuration.getData().getPredictiveCap())).doOnNext(
-            dto -> log.info(
-                "Found complex empty search as {} {} with score {}",
-                dto.clientNumber(),
-                dto.clientFullName(),
-                dto.score())).map(dto -> Pair.of(dto, count)));
+    return forestClientRepository
+        .findByEmptyFullSearch(
+            page.getPageSize(),
+            page.getOffset(),
+            LocalDateTime.now().minus(configuration.getData().getPredictiveCap())
+        )
+        .doOnNext(dto -> log.info(
+            "Found complex empty search as {} {} with score {}",
+            dto.clientNumber(),
+            dto.clientName(),
+            dto.score())
+        )
+        .map(PredictiveSearchPagedResultDto::toPair);
   }
 
   public Flux<ForestClientDto> searchByCorporationValues(
@@ -623,49 +648,78 @@ public class ClientSearchService {
       return Flux.error(new MissingRequiredParameterException("value"));
     }
 
-    return forestClientRepository.countByRelatedClientWithLike(
+    String relationType = Optional.ofNullable(type).map(String::toUpperCase).orElse("NOVALUE");
+
+    return forestClientRepository
+        .findByRelatedClientWithLike(
             clientNumber,
-            Optional.ofNullable(type).map(String::toUpperCase).orElse("NOVALUE"),
-            value.toUpperCase(Locale.ROOT)
+            relationType,
+            value.toUpperCase(Locale.ROOT),
+            // Why have pagination if it is hardcoded? We can add it if required.
+            10, 0
+        )
+        .doOnNext(dto -> log.info(
+            "Performed related client search with like for value {} as {} {} with score {}",
+            value, dto.clientNumber(), dto.clientName(), dto.score())
         )
-        .flatMapMany(count -> {
-          if (count > 0) {
-            return forestClientRepository
-                .findByRelatedClientWithLike(
+        .switchIfEmpty(
+            forestClientRepository
+                .findByRelatedClientWithSimilarity(
                     clientNumber,
-                    Optional.ofNullable(type).map(String::toUpperCase).orElse("NOVALUE"),
+                    relationType,
                     value.toUpperCase(Locale.ROOT),
-                    // Why have pagination if it is hardcoded? We can add it if required.
                     10, 0
                 )
                 .doOnNext(dto -> log.info(
-                     "Performed related client search with like for value {} as {} {} with score"
-                         + " {}",
-                    value, dto.clientNumber(), dto.clientFullName(), dto.score())
-                )
-                .map(dto -> Pair.of(dto, count));
-          } else {
-            return forestClientRepository
-                .countByRelatedClientWithSimilarity(
-                    clientNumber,
-                    Optional.ofNullable(type).map(String::toUpperCase).orElse("NOVALUE"),
-                    value.toUpperCase(Locale.ROOT)
-                )
-                .flatMapMany(similarityCount -> forestClientRepository
-                    .findByRelatedClientWithSimilarity(
-                        clientNumber,
-                        Optional.ofNullable(type).map(String::toUpperCase).orElse("NOVALUE"),
-                        value.toUpperCase(Locale.ROOT),
-                        // Why have pagination if it is hardcoded? We can add it if required.
-                        10, 0
-                    )
-                    .doOnNext(dto -> log.info(
-                        "Performed related client search with similarity for value {} as {} {}"
-                            + " with score {}",
-                        value, dto.clientNumber(), dto.clientFullName(), dto.score()))
-                    .map(dto -> Pair.of(dto, similarityCount)));
-          }
-        });
+                    "Performed related client search with similarity for value {} as {} {}"
+                        + " with score {}",
+                    value, dto.clientNumber(), dto.clientName(), dto.score()))
+        )
+        .map(PredictiveSearchPagedResultDto::toPair);
+  }
+
+  private Flux<Pair<PredictiveSearchResultDto, Long>> complexSearchWithSimilarity(
+      String value,
+      Pageable page
+  ) {
+    return forestClientRepository
+        .findByPredictiveSearchWithSimilarity(
+            value.toUpperCase(Locale.ROOT), page.getPageSize(), page.getOffset()
+        )
+        .doOnNext(dto -> log.info(
+            "Performed search with similarity for value {} as {} {} with score {} out of {}",
+            value, dto.clientNumber(), dto.clientName(), dto.score(), dto.totalCount()))
+        .map(PredictiveSearchPagedResultDto::toPair);
+  }
+
+  /**
+   * Loads the clients for a stream of client numbers, avoiding one query per client number. The
+   * client numbers are deduplicated and grouped into batches, and each batch is loaded with a
+   * single {@code IN} query. The clients are emitted in the same order as their first client number
+   * occurrence, and client numbers without a client are skipped.
+   *
+   * @param clientNumbers the client numbers to be loaded
+   * @return a Flux with the matching client entities
+   */
+  private Flux<ForestClientEntity> findClientsByNumbers(Flux<String> clientNumbers) {
+    return clientNumbers
+        .filter(StringUtils::isNotBlank)
+        .distinct()
+        .buffer(CLIENT_BATCH_SIZE)
+        .concatMap(batch ->
+            searchClientByQuery(
+                where(ApplicationConstants.CLIENT_NUMBER_LITERAL).in(batch),
+                ForestClientEntity.class
+            )
+            .collectMap(ForestClientEntity::getClientNumber)
+            .flatMapIterable(clients ->
+                batch
+                    .stream()
+                    .map(clients::get)
+                    .filter(Objects::nonNull)
+                    .toList()
+            )
+        );
   }
 
   /**
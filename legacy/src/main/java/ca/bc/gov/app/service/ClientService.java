@@ -9,12 +9,11 @@ import ca.bc.gov.app.entity.ForestClientEntity;
 import ca.bc.gov.app.exception.MissingRequiredParameterException;
 import ca.bc.gov.app.exception.NoValueFoundException;
 import ca.bc.gov.app.mappers.AbstractForestClientMapper;
-import ca.bc.gov.app.repository.ForestClientRepository;
+import ca.bc.gov.app.repository.ForestClientQueries;
 import io.micrometer.observation.annotation.Observed;
-import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Comparator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
@@ -40,7 +39,7 @@ public class ClientService {
 
   private final R2dbcEntityOperations entityTemplate;
   private final AbstractForestClientMapper<ForestClientDto, ForestClientEntity> mapper;
-  private final ForestClientRepository forestClientRepository;
+  private final ClientNumberAllocator clientNumberAllocator;
 
   public Mono<String> saveAndGetIndex(ForestClientDto dto) {
     return
@@ -57,23 +56,35 @@ public class ClientService {
             )
             .map(mapper::toEntity)
             .flatMap(entity ->
-                getNextClientNumber()
+                clientNumberAllocator
+                    .nextClientNumber()
                     .map(entity::withClientNumber)
                     .flatMap(numberedEntity -> entityTemplate
                         .insert(ForestClientEntity.class)
                         .using(numberedEntity)
+                        .onErrorResume(
+                            ClientNumberAllocator::isClientNumberTaken,
+                            error -> clientNumberAllocator
+                                .resync()
+                                .then(Mono.error(error))
+                        )
+                        // Any other error leaves the number unused, so it is given back
+                        .doOnError(
+                            error -> !ClientNumberAllocator.isClientNumberTaken(error),
+                            error -> clientNumberAllocator
+                                .release(numberedEntity.getClientNumber())
+                        )
                     )
+                    // A taken number means the counter was behind, so it is resynced and retried
                     .retryWhen(
                         Retry
-                            .backoff(5, Duration.ofMillis(500))
+                            .max(1)
                             .doBeforeRetry(retrySignal -> log.warn(
-                                    "[Check #{}] Saving client {} failed. Will retry",
-                                    retrySignal.totalRetries() + 2,
-                                    //We add 2 because the first one happens before the retry and starts on 0
-                                entity.getName()
+                                    "Client number for {} was already taken. Will retry",
+                                    entity.getName()
                                 )
                             )
-                            .filter(org.springframework.dao.DataIntegrityViolationException.class::isInstance)
+                            .filter(ClientNumberAllocator::isClientNumberTaken)
                     )
             )
             .doOnNext(forestClientContact ->
@@ -97,32 +108,10 @@ public class ClientService {
             );
   }
   
-  private Mono<String> getNextClientNumber() {
-    return
-        entityTemplate
-            .getDatabaseClient()
-            .sql("""
-                UPDATE
-                max_client_nmbr
-                SET
-                client_number =  (SELECT LPAD(TO_NUMBER(NVL(max(CLIENT_NUMBER),'0'))+1,8,'0') FROM FOREST_CLIENT)"""
-            )
-            .fetch()
-            .rowsUpdated()
-            .then(
-                entityTemplate
-                    .getDatabaseClient()
-                    .sql("SELECT client_number FROM max_client_nmbr")
-                    .map((row, rowMetadata) -> row.get("client_number", String.class))
-                    .first()
-            )
-            .doOnNext(clientNumber -> log.info("Next client number is {}", clientNumber));
-  }
-  
   /**
    * Retrieves a reactive stream of client history log entries based on the provided client number,
    * paginated request, and list of source types. Each entry is returned as a pair containing a
-   * consolidated {@link HistoryLogDto} and the count of records grouped into that single entry.
+   * consolidated {@link HistoryLogDto} and the total number of entries available for the client.
    *
    * <p>The method supports filtering logs from multiple source tables, defined by 
    * {@link HistorySourceEnum}.
@@ -130,7 +119,9 @@ public class ClientService {
    * Input sources are expected as comma-separated strings.
    *
    * <p>The log entries are grouped by their table name and index, and each group is consolidated
-   * into a single {@code HistoryLogDto} with associated details and reasons.
+   * into a single {@code HistoryLogDto} with associated details and reasons. The ordering (most
+   * recent first, with the client creation last) and the pagination are applied by the database,
+   * so only the rows of the requested page are loaded, regardless of the size of the history.
    *
    * <p>Examples of history log types include client information, contact data, location data, 
    * DBA (doing-business-as) names, and related client associations.
@@ -141,7 +132,7 @@ public class ClientService {
    * @param sources a list of source identifiers (comma-separated if multiple in one string);
    *                can be empty or null to indicate all sources
    * @return a {@link Flux} emitting {@code Pair<HistoryLogDto, Integer>}, where each pair contains
-   *         a grouped and consolidated history log DTO and the number of entries it was built from
+   *         a grouped and consolidated history log DTO and the total number of entries
    * @throws MissingRequiredParameterException if {@code clientNumber} is blank or the provided
    *         source string is invalid
    * @throws NoValueFoundException if no history logs are found for the given client number
@@ -171,97 +162,89 @@ public class ClientService {
       }
     }
 
-    final List<Flux<HistoryLogDto>> selectedAuditTables = new ArrayList<>();
-    for (HistorySourceEnum source : selectedSources) {
-      switch (source) {
-        case CLIENT_INFORMATION ->
-            selectedAuditTables.add(
-                forestClientRepository.findClientInformationHistoryLogsByClientNumber(clientNumber)
-            );
-        case LOCATION ->
-            selectedAuditTables.add(
-                forestClientRepository.findLocationHistoryLogsByClientNumber(clientNumber)
-            );
-        case CONTACT ->
-            selectedAuditTables.add(
-                forestClientRepository.findContactHistoryLogsByClientNumber(clientNumber)
-            );
-        case DBA ->
-            selectedAuditTables.add(
-                forestClientRepository.findDoingBusinessAsHistoryLogsByClientNumber(clientNumber)
-            );
-        case RELATED_CLIENT ->
-            selectedAuditTables.add(
-                forestClientRepository.findRelatedClientAsHistoryLogsByClientNumber(clientNumber)
-            );
-        default -> {
-          log.warn("Unhandled source type: {}", source);
-        }
-      }
-    }
+    final String sourceQueries =
+        selectedSources
+            .stream()
+            .distinct()
+            .map(ClientService::getHistoryQuery)
+            .map(ForestClientQueries.HISTORY_LOGS_SOURCE::formatted)
+            .collect(Collectors.joining("\nUNION ALL\n"));
 
-    return Flux.merge(selectedAuditTables)
-        .groupBy(dto -> dto.tableName() + dto.idx())
-        .flatMap(
-            groupedFlux ->
-                groupedFlux
-                    .collectList()
-                    .filter(group -> !group.isEmpty())
-                    .map(
-                        group -> {
-                          final Set<HistoryLogDetailsDto> details = new LinkedHashSet<>();
-                          final Set<HistoryLogReasonsDto> reasons = new LinkedHashSet<>();
+    return entityTemplate
+        .getDatabaseClient()
+        .sql(ForestClientQueries.HISTORY_LOGS_PAGE.formatted(sourceQueries))
+        .bind("clientNumber", clientNumber)
+        .bind("offset", page.getOffset())
+        .bind("limit", page.getPageSize())
+        .map((row, rowMetadata) -> Pair.of(
+            new HistoryLogDto(
+                row.get("TABLE_NAME", String.class),
+                row.get("IDX", String.class),
+                row.get("IDENTIFIER_LABEL", String.class),
+                row.get("COLUMN_NAME", String.class),
+                row.get("OLD_VALUE", String.class),
+                row.get("NEW_VALUE", String.class),
+                row.get("UPDATE_TIMESTAMP", LocalDateTime.class),
+                row.get("UPDATE_USERID", String.class),
+                row.get("CHANGE_TYPE", String.class),
+                row.get("ACTION_CODE", String.class),
+                row.get("REASON", String.class),
+                null,
+                null
+            ),
+            row.get("TOTAL_COUNT", Integer.class)
+        ))
+        .all()
+        // Rows come ordered by entry, so each entry is a sequence of rows with the same key
+        .bufferUntilChanged(pair -> pair.getLeft().tableName() + pair.getLeft().idx())
+        .map(group -> {
+          final Set<HistoryLogDetailsDto> details = new LinkedHashSet<>();
+          final Set<HistoryLogReasonsDto> reasons = new LinkedHashSet<>();
 
-                          for (HistoryLogDto dto : group) {
-                            details.add(
-                                new HistoryLogDetailsDto(
-                                    dto.columnName(), 
-                                    dto.oldValue(), 
-                                    dto.newValue()));
-                            reasons.add(
-                                new HistoryLogReasonsDto(
-                                    dto.actionCode(), 
-                                    dto.reason()));
-                          }
+          for (Pair<HistoryLogDto, Integer> pair : group) {
+            HistoryLogDto dto = pair.getLeft();
+            details.add(
+                new HistoryLogDetailsDto(
+                    dto.columnName(),
+                    dto.oldValue(),
+                    dto.newValue()));
+            reasons.add(
+                new HistoryLogReasonsDto(
+                    dto.actionCode(),
+                    dto.reason()));
+          }
 
-                          final HistoryLogDto baseDto = group.get(0);
-                          final HistoryLogDto combinedDto =
-                              new HistoryLogDto(
-                                  baseDto.tableName(),
-                                  baseDto.idx(),
-                                  baseDto.identifierLabel(),
-                                  null,
-                                  null,
-                                  null,
-                                  baseDto.updateTimestamp(),
-                                  baseDto.updateUserid(),
-                                  baseDto.changeType(),
-                                  null,
-                                  null,
-                                  new ArrayList<>(details),
-                                  new ArrayList<>(reasons));
+          final HistoryLogDto baseDto = group.get(0).getLeft();
+          final HistoryLogDto combinedDto =
+              new HistoryLogDto(
+                  baseDto.tableName(),
+                  baseDto.idx(),
+                  baseDto.identifierLabel(),
+                  null,
+                  null,
+                  null,
+                  baseDto.updateTimestamp(),
+                  baseDto.updateUserid(),
+                  baseDto.changeType(),
+                  null,
+                  null,
+                  new ArrayList<>(details),
+                  new ArrayList<>(reasons));
 
-                          return Pair.of(combinedDto, group.size());
-                        }))
-        .collectList()
-        .flatMapMany(
-            list -> {      
-              list.sort(
-                  Comparator
-                      .comparing(
-                          (Pair<HistoryLogDto, Integer> pair) ->
-                              "Client created".equals(pair.getLeft().identifierLabel()) ? 1 : 0
-                      )
-                      .thenComparing(
-                          (Pair<HistoryLogDto, Integer> pair) ->
-                              pair.getLeft().updateTimestamp(),
-                          Comparator.reverseOrder()
-                      )
-              );
+          return Pair.of(combinedDto, group.get(0).getRight());
+        })
+        .doOnComplete(() -> log.info("Loaded page {} of history logs for client {}",
+            page.getPageNumber(), clientNumber));
+  }
 
-              log.info("Total history logs found for client {}: {}", clientNumber, list.size());
-              return Flux.fromIterable(list);
-            });
+  private static String getHistoryQuery(HistorySourceEnum source) {
+    return switch (source) {
+      case CLIENT_INFORMATION -> ForestClientQueries.CLIENT_INFORMATION_HISTORY;
+      case LOCATION -> ForestClientQueries.LOCATION_HISTORY;
+      case CONTACT -> ForestClientQueries.CONTACT_HISTORY;
+      case DBA -> ForestClientQueries.DOING_BUSINESS_AS_HISTORY;
+      case RELATED_CLIENT -> ForestClientQueries.RELATED_CLIENT_HISTORY;
+    };
   }
 
 }
@@ -2,11 +2,16 @@ package ca.bc.gov.app.service.patch;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.micrometer.observation.annotation.Observed;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.util.ClassUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -15,7 +20,9 @@ import reactor.core.publisher.Mono;
  * <p>
  * This service processes a JSON Patch request by delegating the update to a list of
  * {@link ClientPatchOperation} implementations. Each registered operation is given a chance to
- * apply changes based on the provided patch data.
+ * apply changes based on the provided patch data. All operations of a patch run in a single
+ * transaction, so a patch is either fully applied or not applied at all, and the time taken by
+ * each operation is reported by the {@code service.patch.operation} timer.
  * </p>
  */
 @Service
@@ -26,13 +33,16 @@ public class ClientPatchService {
 
   private final ObjectMapper mapper;
   private final List<ClientPatchOperation> partialServices;
+  private final TransactionalOperator transactionalOperator;
+  private final MeterRegistry meterRegistry;
 
   /**
    * Applies the JSON Patch updates to a forest client by invoking all available
    * {@link ClientPatchOperation} services.
    * <p>
    * Each service in {@code partialServices} attempts to apply the patch if relevant. The updates
-   * are chained reactively, ensuring all applicable patches are processed before completion.
+   * are chained reactively, ensuring all applicable patches are processed before completion, and
+   * are rolled back together if any of them fails.
    * </p>
    *
    * @param clientNumber The unique identifier of the forest client being updated.
@@ -50,7 +60,25 @@ public class ClientPatchService {
 
     return Flux
         .fromStream(partialServices.stream())
-        .concatMap(service -> service.applyPatch(clientNumber, forestClient, mapper, userId))
-        .then();
+        .concatMap(service ->
+            timed(service, service.applyPatch(clientNumber, forestClient, mapper, userId))
+        )
+        .then()
+        .as(transactionalOperator::transactional);
+  }
+
+  private Mono<Void> timed(ClientPatchOperation service, Mono<Void> operation) {
+    String operationName = ClassUtils.getUserClass(service).getSimpleName();
+    return Mono.defer(() -> {
+      Timer.Sample sample = Timer.start(meterRegistry);
+      return operation
+          .doFinally(signalType -> {
+            long elapsed = sample.stop(
+                meterRegistry.timer("service.patch.operation", "operation", operationName)
+            );
+            log.debug("Patch operation {} took {} ms", operationName,
+                TimeUnit.NANOSECONDS.toMillis(elapsed));
+          });
+    });
   }
 }
@@ -82,39 +82,40 @@ public class PatchOperationContactEditService implements ClientPatchOperation {
         mapper
     );
 
+    List<Long> contactIds = PatchUtils
+        .loadIds(filteredNodeOps)
+        .stream()
+        .filter(StringUtils::isNumeric)
+        .map(Long::parseLong)
+        .toList();
+
     return
-        // Load ids
-        Flux
-            .fromIterable(PatchUtils.loadIds(filteredNodeOps))
-            .filter(StringUtils::isNumeric)
-            .flatMap(entityId ->
-                Mono.just(entityId)
+        // Load all changed contacts at once, JUST BECAUSE OF REVISION
+        findEntities(clientNumber, contactIds)
+            .flatMap(entity ->
+                Mono.just(String.valueOf(entity.getClientContactId()))
                     // Get changes for just that ID
                     .map(PatchUtils.filterById(filteredNodeOps, mapper))
                     // Filter Patches
                     .map(node -> PatchUtils.filterPatchOperations(
                             node,
-                            entityId,
+                            String.valueOf(entity.getClientContactId()),
                             getRestrictedPaths(),
                             mapper
                         )
                     )
-                    .flatMap(node ->
-                        // Load the entity JUST BECAUSE OF REVISION
-                        findEntity(clientNumber, Long.parseLong(entityId))
-                            // Generate update
-                            .map(entity -> ReplacePatchUtils.buildUpdate(
-                                    node,
-                                    fieldToDataField,
-                                    getExtraFields(userId, entity.getRevision() + 1)
-                                )
-                            )
+                    // Generate update
+                    .map(node -> ReplacePatchUtils.buildUpdate(
+                            node,
+                            fieldToDataField,
+                            getExtraFields(userId, entity.getRevision() + 1)
+                        )
                     )
                     // Turn the map into Update
                     .map(Update::from)
                     .flatMap(update ->
                         // Get all ids related to that entry
-                        getAllEntityIds(clientNumber, Long.parseLong(entityId))
+                        getAllEntityIds(clientNumber, entity.getClientContactId())
                             .doOnNext(entityIds ->
                                 log.info(
                                     "Updating contacts {} with the following changes {}",
@@ -143,10 +144,13 @@ public class PatchOperationContactEditService implements ClientPatchOperation {
     );
   }
 
-  private Mono<ForestClientContactEntity> findEntity(String clientNumber, Long entityId) {
+  private Flux<ForestClientContactEntity> findEntities(String clientNumber, List<Long> entityIds) {
+    if (entityIds.isEmpty()) {
+      return Flux.empty();
+    }
     return entityTemplate
-        .selectOne(
-            getEntityIdentification(clientNumber, List.of(entityId)),
+        .select(
+            getEntityIdentification(clientNumber, entityIds),
             getEntityClass()
         );
   }
@@ -12,6 +12,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -191,47 +192,45 @@ public class PatchOperationLocationService implements ClientPatchOperation {
         mapper
     );
 
-    return Flux
-        //We will loop through it using a flux from the ids
-        .fromIterable(PatchUtils.loadIds(patch))
-        //For each location that was changed
-        .flatMap(locationNumber ->
-            //We look it up in the database
-            findClientLocation(clientNumber, locationNumber)
-                .flatMap(entity ->
-                    Mono.just(locationNumber)
-                        //We load the patch operations for the current location
-                        .map(PatchUtils.filterById(filteredNodeOps, mapper))
-                        //We use filterPatchOperation to remove the location number prefix
-                        .map(node -> PatchUtils.filterPatchOperations(
-                                node,
-                                locationNumber,
-                                getRestrictedPaths(),
-                                mapper
-                            )
+    Set<String> locationNumbers = PatchUtils.loadIds(patch);
+
+    return
+        //We look up all changed locations at once
+        findClientLocations(clientNumber, locationNumbers)
+            //For each location that was changed
+            .flatMap(entity ->
+                Mono.just(entity.getClientLocnCode())
+                    //We load the patch operations for the current location
+                    .map(PatchUtils.filterById(filteredNodeOps, mapper))
+                    //We use filterPatchOperation to remove the location number prefix
+                    .map(node -> PatchUtils.filterPatchOperations(
+                            node,
+                            entity.getClientLocnCode(),
+                            getRestrictedPaths(),
+                            mapper
                         )
-                        //We convert the patch operations to a map to be used in an update op
-                        .map(node ->
-                            ReplacePatchUtils.buildUpdate(
-                                node,
-                                fieldToDataField,
-                                getExtraFields(userId, entity.getRevision() + 1)
-                            )
+                    )
+                    //We convert the patch operations to a map to be used in an update op
+                    .map(node ->
+                        ReplacePatchUtils.buildUpdate(
+                            node,
+                            fieldToDataField,
+                            getExtraFields(userId, entity.getRevision() + 1)
                         )
-                        .map(Update::from)
-                        //We apply the patch to the entity and save it
-                        .flatMap(update -> entityTemplate
-                            .update(
-                                getLocationIdentification(clientNumber, locationNumber),
-                                update,
-                                ForestClientLocationEntity.class
-                            )
+                    )
+                    .map(Update::from)
+                    //We apply the patch to the entity and save it
+                    .flatMap(update -> entityTemplate
+                        .update(
+                            getLocationIdentification(clientNumber, entity.getClientLocnCode()),
+                            update,
+                            ForestClientLocationEntity.class
                         )
-                        .doOnNext(clientChangesApplied -> log.info(
-                            "Applying Client Location changes on {} client", clientChangesApplied))
-                )
-        )
-        .then();
+                    )
+                    .doOnNext(clientChangesApplied -> log.info(
+                        "Applying Client Location changes on {} client", clientChangesApplied))
+            )
+            .then();
   }
 
   private Map<String, Object> getExtraFields(String userId, long revision) {
@@ -243,11 +242,18 @@ public class PatchOperationLocationService implements ClientPatchOperation {
     );
   }
 
-  private Mono<ForestClientLocationEntity> findClientLocation(String clientNumber,
-      String locationNumber) {
+  private Flux<ForestClientLocationEntity> findClientLocations(String clientNumber,
+      Set<String> locationNumbers) {
+    if (locationNumbers.isEmpty()) {
+      return Flux.empty();
+    }
     return entityTemplate
-        .selectOne(
-            getLocationIdentification(clientNumber, locationNumber),
+        .select(
+            Query.query(
+                Criteria
+                    .where("CLIENT_LOCN_CODE").in(locationNumbers)
+                    .and(ApplicationConstants.CLIENT_NUMBER).is(clientNumber)
+            ),
             ForestClientLocationEntity.class
         );
   }
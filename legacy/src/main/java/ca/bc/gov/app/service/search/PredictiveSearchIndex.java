@@ -0,0 +1,232 @@
+package ca.bc.gov.app.service.search;
+
+import ca.bc.gov.app.dto.PredictiveSearchIndexRowDto;
+import ca.bc.gov.app.dto.PredictiveSearchResultDto;
+import ca.bc.gov.app.service.search.PredictiveSearchScorer.SearchPattern;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Trigram index over the predictive search rows. The base rows and their posting lists are
+ * immutable once built; changes are kept in an overlay keyed by client number that hides the base
+ * rows of that client until the index is compacted. Candidates found through the posting lists are
+ * always verified with {@link PredictiveSearchScorer}, so the index only narrows down the rows and
+ * never changes the results.
+ */
+public final class PredictiveSearchIndex {
+
+  private static final int GRAM_SIZE = 3;
+
+  private static final Comparator<String> NULLS_LAST =
+      Comparator.nullsLast(Comparator.naturalOrder());
+
+  /**
+   * Same as {@code ForestClientQueries.ORDER_BY}, with the doing business as name as the last
+   * resort to keep the order stable for clients with more than one name.
+   */
+  private static final Comparator<PredictiveSearchResultDto> ORDER_BY =
+      Comparator
+          .comparingLong(PredictiveSearchResultDto::score)
+          .reversed()
+          .thenComparing(PredictiveSearchResultDto::clientName, NULLS_LAST)
+          .thenComparing(PredictiveSearchResultDto::clientFirstName, NULLS_LAST)
+          .thenComparing(PredictiveSearchResultDto::clientNumber, NULLS_LAST)
+          .thenComparing(PredictiveSearchResultDto::doingBusinessAs, NULLS_LAST);
+
+  private final List<PredictiveSearchIndexRowDto> rows;
+  private final Map<String, int[]> postings;
+  private final Map<String, List<PredictiveSearchIndexRowDto>> overlay = new ConcurrentHashMap<>();
+
+  private PredictiveSearchIndex(
+      List<PredictiveSearchIndexRowDto> rows,
+      Map<String, int[]> postings
+  ) {
+    this.rows = rows;
+    this.postings = postings;
+  }
+
+  /**
+   * Builds a new index with the provided rows.
+   *
+   * @param rows the rows to be indexed
+   * @return the built index
+   */
+  public static PredictiveSearchIndex of(Collection<PredictiveSearchIndexRowDto> rows) {
+    List<PredictiveSearchIndexRowDto> indexedRows = List.copyOf(rows);
+    Map<String, GrowableIntArray> builder = new HashMap<>();
+
+    for (int id = 0; id < indexedRows.size(); id++) {
+      Set<String> grams = new HashSet<>();
+      PredictiveSearchScorer
+          .searchableTexts(indexedRows.get(id))
+          .forEach(text -> grams(text, grams::add));
+      for (String gram : grams) {
+        builder.computeIfAbsent(gram, key -> new GrowableIntArray()).add(id);
+      }
+    }
+
+    Map<String, int[]> postings = HashMap.newHashMap(builder.size());
+    builder.forEach((gram, ids) -> postings.put(gram, ids.toArray()));
+    return new PredictiveSearchIndex(indexedRows, postings);
+  }
+
+  /**
+   * Replaces every row of a client with the provided ones. An empty list removes the client from
+   * the search results.
+   *
+   * @param clientNumber the client number
+   * @param clientRows   the up-to-date rows of that client
+   */
+  public void replace(String clientNumber, List<PredictiveSearchIndexRowDto> clientRows) {
+    overlay.put(clientNumber, List.copyOf(clientRows));
+  }
+
+  /**
+   * Creates a new index merging the base rows with the overlay.
+   *
+   * @return a new index with an empty overlay
+   */
+  public PredictiveSearchIndex compact() {
+    Map<String, List<PredictiveSearchIndexRowDto>> changes = Map.copyOf(overlay);
+    return of(
+        Stream
+            .concat(
+                rows.stream().filter(row -> !changes.containsKey(row.clientNumber())),
+                changes.values().stream().flatMap(List::stream)
+            )
+            .toList()
+    );
+  }
+
+  public int size() {
+    return rows.size();
+  }
+
+  public int overlaySize() {
+    return overlay.size();
+  }
+
+  /**
+   * Searches the index the same way {@code FIND_BY_PREDICTIVE_SEARCH_WITH_LIKE} does.
+   *
+   * @param value the predictive search value
+   * @return every matching row, scored and sorted
+   */
+  public List<PredictiveSearchResultDto> search(String value) {
+    SearchPattern pattern = SearchPattern.of(value);
+    List<PredictiveSearchResultDto> results = new ArrayList<>();
+
+    Consumer<PredictiveSearchIndexRowDto> verify = row -> {
+      if (PredictiveSearchScorer.matches(row, pattern)) {
+        results.add(row.toResult(PredictiveSearchScorer.score(row, pattern)));
+      }
+    };
+
+    int[] candidates = candidates(pattern.value());
+    if (candidates == null) {
+      rows
+          .stream()
+          .filter(row -> !overlay.containsKey(row.clientNumber()))
+          .forEach(verify);
+    } else {
+      for (int id : candidates) {
+        PredictiveSearchIndexRowDto row = rows.get(id);
+        if (!overlay.containsKey(row.clientNumber())) {
+          verify.accept(row);
+        }
+      }
+    }
+    overlay.values().forEach(clientRows -> clientRows.forEach(verify));
+
+    results.sort(ORDER_BY);
+    return results;
+  }
+
+  /**
+   * Finds the rows that contain every trigram of the literal parts of the search value. Wildcards
+   * and spaces split the value, as they can match anything.
+   *
+   * @return the candidate row ids in ascending order, or null if the value has no trigram and a
+   *     full scan is required
+   */
+  private int[] candidates(String value) {
+    Set<String> grams = new HashSet<>();
+    Arrays
+        .stream(value.toUpperCase(Locale.ROOT).split("[ %_]+"))
+        .forEach(part -> grams(part, grams::add));
+
+    if (grams.isEmpty()) {
+      return null;
+    }
+
+    List<int[]> lists = new ArrayList<>(grams.size());
+    for (String gram : grams) {
+      int[] ids = postings.get(gram);
+      if (ids == null) {
+        return new int[0];
+      }
+      lists.add(ids);
+    }
+    lists.sort(Comparator.comparingInt(ids -> ids.length));
+
+    int[] result = lists.get(0);
+    for (int index = 1; index < lists.size() && result.length > 0; index++) {
+      result = intersect(result, lists.get(index));
+    }
+    return result;
+  }
+
+  private static void grams(String text, Consumer<String> consumer) {
+    for (int index = 0; index + GRAM_SIZE <= text.length(); index++) {
+      consumer.accept(text.substring(index, index + GRAM_SIZE));
+    }
+  }
+
+  private static int[] intersect(int[] left, int[] right) {
+    int[] result = new int[Math.min(left.length, right.length)];
+    int leftIndex = 0;
+    int rightIndex = 0;
+    int size = 0;
+    while (leftIndex < left.length && rightIndex < right.length) {
+      if (left[leftIndex] == right[rightIndex]) {
+        result[size++] = left[leftIndex];
+        leftIndex++;
+        rightIndex++;
+      } else if (left[leftIndex] < right[rightIndex]) {
+        leftIndex++;
+      } else {
+        rightIndex++;
+      }
+    }
+    return Arrays.copyOf(result, size);
+  }
+
+  private static final class GrowableIntArray {
+
+    private int[] values = new int[4];
+    private int size;
+
+    void add(int value) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size * 2);
+      }
+      values[size++] = value;
+    }
+
+    int[] toArray() {
+      return Arrays.copyOf(values, size);
+    }
+  }
+
+}
@@ -0,0 +1,174 @@
+package ca.bc.gov.app.service.search;
+
+import ca.bc.gov.app.configuration.ForestClientConfiguration;
+import ca.bc.gov.app.configuration.ForestClientConfiguration.PredictiveIndexConfiguration;
+import ca.bc.gov.app.dto.PredictiveSearchIndexRowDto;
+import ca.bc.gov.app.dto.PredictiveSearchResultDto;
+import ca.bc.gov.app.repository.ForestClientRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Keeps the in-memory {@link PredictiveSearchIndex} up to date. The index is fully loaded once the
+ * application is ready and on every rebuild cycle, and in between it is refreshed with the clients
+ * that had their information, primary location or doing business as name changed since the last
+ * refresh. While the index is not enabled or not loaded yet, callers should use the Oracle
+ * predictive search instead.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PredictiveSearchIndexService {
+
+  private static final int REFRESH_BATCH_SIZE = 500;
+
+  private final ForestClientRepository forestClientRepository;
+  private final ForestClientConfiguration configuration;
+
+  private final AtomicReference<PredictiveSearchIndex> index = new AtomicReference<>();
+  private final AtomicBoolean running = new AtomicBoolean(false);
+  private volatile LocalDateTime lastRefresh;
+
+  /**
+   * Checks if the index is enabled and loaded, and can be used to answer predictive searches.
+   *
+   * @return true if the index can be used
+   */
+  public boolean isReady() {
+    return isEnabled() && index.get() != null;
+  }
+
+  /**
+   * Searches the index for the provided value, returning every matching entry scored and sorted in
+   * the same way as the Oracle predictive search.
+   *
+   * @param value the predictive search value
+   * @return a Mono with the full list of matching entries
+   */
+  public Mono<List<PredictiveSearchResultDto>> search(String value) {
+    PredictiveSearchIndex current = index.get();
+    if (current == null) {
+      return Mono.just(List.of());
+    }
+    return Mono
+        .fromCallable(() -> current.search(value))
+        .subscribeOn(Schedulers.parallel())
+        .doOnNext(results -> log.info("Predictive search index found {} entries for {}",
+            results.size(), value));
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void onApplicationReady() {
+    scheduledRebuild();
+  }
+
+  @Scheduled(
+      initialDelayString = "${ca.bc.gov.nrs.data.predictiveIndex.rebuild:PT6H}",
+      fixedDelayString = "${ca.bc.gov.nrs.data.predictiveIndex.rebuild:PT6H}"
+  )
+  public void scheduledRebuild() {
+    if (isEnabled() && running.compareAndSet(false, true)) {
+      rebuild()
+          .doFinally(signalType -> running.set(false))
+          .subscribe(
+              size -> log.info("Predictive search index rebuilt with {} entries", size),
+              error -> log.error("Unable to rebuild predictive search index", error)
+          );
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${ca.bc.gov.nrs.data.predictiveIndex.refresh:PT1M}")
+  public void scheduledRefresh() {
+    if (isReady() && running.compareAndSet(false, true)) {
+      refresh()
+          .doFinally(signalType -> running.set(false))
+          .subscribe(
+              count -> log.info("Predictive search index refreshed with {} changed clients", count),
+              error -> log.error("Unable to refresh predictive search index", error)
+          );
+    }
+  }
+
+  /**
+   * Loads every predictive search row from Oracle into a brand-new index.
+   *
+   * @return a Mono with the number of indexed rows
+   */
+  Mono<Integer> rebuild() {
+    LocalDateTime startedAt = LocalDateTime.now();
+    return forestClientRepository
+        .findPredictiveIndexRows()
+        .collectList()
+        .publishOn(Schedulers.parallel())
+        .map(PredictiveSearchIndex::of)
+        .doOnNext(built -> {
+          index.set(built);
+          lastRefresh = startedAt;
+        })
+        .map(PredictiveSearchIndex::size);
+  }
+
+  /**
+   * Reloads the rows of every client changed since the last refresh. A small overlap is used to
+   * avoid missing changes committed while the previous refresh was running.
+   *
+   * @return a Mono with the number of changed clients
+   */
+  Mono<Integer> refresh() {
+    PredictiveSearchIndex current = index.get();
+    LocalDateTime startedAt = LocalDateTime.now();
+    LocalDateTime since = lastRefresh.minus(
+        Optional
+            .ofNullable(indexConfiguration().getRefreshOverlap())
+            .orElse(Duration.ofMinutes(2))
+    );
+
+    return forestClientRepository
+        .findPredictiveIndexChangedClients(since)
+        .distinct()
+        .buffer(REFRESH_BATCH_SIZE)
+        .concatMap(clientNumbers -> forestClientRepository
+            .findPredictiveIndexRowsByClientNumbers(clientNumbers)
+            .collectMultimap(PredictiveSearchIndexRowDto::clientNumber)
+            .doOnNext(rowsByClient -> clientNumbers.forEach(clientNumber ->
+                current.replace(
+                    clientNumber,
+                    List.copyOf(rowsByClient.getOrDefault(clientNumber, List.of()))
+                )
+            ))
+            .thenReturn(clientNumbers.size())
+        )
+        .reduce(0, Integer::sum)
+        .doOnNext(count -> {
+          lastRefresh = startedAt;
+          if (current.overlaySize() > indexConfiguration().getOverlayLimit()) {
+            log.info("Compacting predictive search index with {} changed clients",
+                current.overlaySize());
+            index.compareAndSet(current, current.compact());
+          }
+        });
+  }
+
+  private boolean isEnabled() {
+    return indexConfiguration().isEnabled();
+  }
+
+  private PredictiveIndexConfiguration indexConfiguration() {
+    return Optional
+        .ofNullable(configuration.getData().getPredictiveIndex())
+        .orElseGet(PredictiveIndexConfiguration::new);
+  }
+
+}
@@ -0,0 +1,223 @@
+package ca.bc.gov.app.service.search;
+
+import ca.bc.gov.app.dto.PredictiveSearchIndexRowDto;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * In-memory equivalent of the predictive search {@code LIKE} filter and {@code SCORE} expression
+ * found in {@code ForestClientQueries.FIND_BY_PREDICTIVE_SEARCH_LIKE_WHERE} and
+ * {@code ForestClientQueries.FIND_BY_PREDICTIVE_SEARCH_SCORE_LIKE}. Both must be kept in sync, as
+ * the index is expected to return exactly what Oracle would.
+ *
+ * <p>Oracle semantics are reproduced where they matter: an empty string is a {@code NULL} and
+ * never matches, concatenation treats {@code NULL} as empty, {@code TRIM} only removes spaces and
+ * the {@code %} and {@code _} wildcards of the search value keep their {@code LIKE} meaning.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PredictiveSearchScorer {
+
+  /**
+   * Compiled version of the two patterns used by the predictive search, the plain
+   * {@code '%' || :value || '%'} and the spaced {@code '%' || REPLACE(:value, ' ', '%') || '%'}.
+   */
+  public record SearchPattern(String value, Pattern plain, Pattern spaced) {
+
+    public static SearchPattern of(String value) {
+      String upperValue = value.toUpperCase(Locale.ROOT);
+      return new SearchPattern(
+          upperValue,
+          toRegex("%" + upperValue + "%"),
+          toRegex("%" + upperValue.replace(" ", "%") + "%")
+      );
+    }
+
+    boolean plainMatch(String text) {
+      return text != null && plain.matcher(text).matches();
+    }
+
+    boolean spacedMatch(String text) {
+      return text != null && spaced.matcher(text).matches();
+    }
+  }
+
+  /**
+   * Checks if the row would be returned by the predictive search {@code LIKE} where clause.
+   *
+   * @param row     the row to be checked
+   * @param pattern the compiled search pattern
+   * @return true if any of the searchable columns matches
+   */
+  public static boolean matches(PredictiveSearchIndexRowDto row, SearchPattern pattern) {
+    return Stream
+        .of(
+            row.clientNumber(),
+            row.clientAcronym(),
+            row.clientName(),
+            row.clientFirstName(),
+            row.clientMiddleName(),
+            row.doingBusinessAs(),
+            row.clientIdentification(),
+            firstMiddleLast(row),
+            firstLast(row),
+            lastMiddleFirst(row),
+            lastFirst(row),
+            registryNumber(row),
+            spacedRegistryNumber(row),
+            row.address(),
+            row.postalCode(),
+            row.emailAddress()
+        )
+        .map(PredictiveSearchScorer::upper)
+        .anyMatch(pattern::spacedMatch);
+  }
+
+  /**
+   * Calculates the same score as the predictive search {@code CASE} expression. The order of the
+   * checks is relevant, as the first match wins.
+   *
+   * @param row     the row to be scored
+   * @param pattern the compiled search pattern
+   * @return the row score, or zero if nothing matches
+   */
+  public static long score(PredictiveSearchIndexRowDto row, SearchPattern pattern) {
+    if (pattern.plainMatch(upper(row.clientNumber()))
+        || pattern.plainMatch(upper(row.clientAcronym()))
+        || pattern.spacedMatch(upper(row.clientName()))) {
+      return 100;
+    }
+    if (pattern.spacedMatch(upper(row.clientFirstName()))) {
+      return 90;
+    }
+    if (pattern.spacedMatch(upper(row.clientMiddleName()))) {
+      return 50;
+    }
+    if (pattern.spacedMatch(upper(row.doingBusinessAs()))) {
+      return 75;
+    }
+    if (pattern.plainMatch(upper(row.clientIdentification()))) {
+      return 70;
+    }
+    if (pattern.spacedMatch(upper(firstMiddleLast(row)))
+        || pattern.spacedMatch(upper(firstLast(row)))) {
+      return 90;
+    }
+    if (pattern.spacedMatch(upper(lastMiddleFirst(row)))
+        || pattern.spacedMatch(upper(lastFirst(row)))) {
+      return 50;
+    }
+    if (pattern.spacedMatch(upper(registryNumber(row)))) {
+      return 70;
+    }
+    if (pattern.spacedMatch(upper(spacedRegistryNumber(row)))) {
+      return 40;
+    }
+    if (pattern.spacedMatch(upper(row.address()))) {
+      return 50;
+    }
+    if (pattern.spacedMatch(upper(row.postalCode()))) {
+      return 45;
+    }
+    if (pattern.spacedMatch(upper(row.emailAddress()))) {
+      return 40;
+    }
+    return 0;
+  }
+
+  /**
+   * Lists every searchable text of a row, already upper-cased, to be used when building the index.
+   *
+   * @param row the row to extract the texts from
+   * @return a stream of non-null searchable texts
+   */
+  public static Stream<String> searchableTexts(PredictiveSearchIndexRowDto row) {
+    return Stream
+        .of(
+            row.clientNumber(),
+            row.clientAcronym(),
+            row.clientName(),
+            row.clientFirstName(),
+            row.clientMiddleName(),
+            row.doingBusinessAs(),
+            row.clientIdentification(),
+            firstMiddleLast(row),
+            lastMiddleFirst(row),
+            registryNumber(row),
+            spacedRegistryNumber(row),
+            row.address(),
+            row.postalCode(),
+            row.emailAddress()
+        )
+        .map(PredictiveSearchScorer::upper)
+        .filter(StringUtils::isNotEmpty);
+  }
+
+  private static String firstMiddleLast(PredictiveSearchIndexRowDto row) {
+    return concat(" ", row.clientFirstName(), row.clientMiddleName(), row.clientName());
+  }
+
+  private static String firstLast(PredictiveSearchIndexRowDto row) {
+    return concat(" ", row.clientFirstName(), row.clientName());
+  }
+
+  private static String lastMiddleFirst(PredictiveSearchIndexRowDto row) {
+    return concat(" ", row.clientName(), row.clientMiddleName(), row.clientFirstName());
+  }
+
+  private static String lastFirst(PredictiveSearchIndexRowDto row) {
+    return concat(" ", row.clientName(), row.clientFirstName());
+  }
+
+  private static String registryNumber(PredictiveSearchIndexRowDto row) {
+    return concat(StringUtils.EMPTY, row.registryCompanyTypeCode(), row.corpRegnNmbr());
+  }
+
+  private static String spacedRegistryNumber(PredictiveSearchIndexRowDto row) {
+    return concat(" ", row.registryCompanyTypeCode(), row.corpRegnNmbr());
+  }
+
+  /**
+   * Same as {@code TRIM(COALESCE(a, '') || separator || COALESCE(b, '') ...)} in Oracle.
+   */
+  private static String concat(String separator, String... values) {
+    return StringUtils.stripToNull(
+        Stream
+            .of(values)
+            .map(StringUtils::defaultString)
+            .collect(Collectors.joining(separator))
+    );
+  }
+
+  private static String upper(String value) {
+    return StringUtils.isEmpty(value) ? null : value.toUpperCase(Locale.ROOT);
+  }
+
+  /**
+   * Converts an Oracle {@code LIKE} pattern without escape character into a regular expression.
+   */
+  private static Pattern toRegex(String likePattern) {
+    StringBuilder regex = new StringBuilder(likePattern.length() + 8);
+    StringBuilder literal = new StringBuilder();
+    for (char character : likePattern.toCharArray()) {
+      if (character == '%' || character == '_') {
+        if (!literal.isEmpty()) {
+          regex.append(Pattern.quote(literal.toString()));
+          literal.setLength(0);
+        }
+        regex.append(character == '%' ? ".*" : ".");
+      } else {
+        literal.append(character);
+      }
+    }
+    if (!literal.isEmpty()) {
+      regex.append(Pattern.quote(literal.toString()));
+    }
+    return Pattern.compile(regex.toString(), Pattern.DOTALL);
+  }
+
+}
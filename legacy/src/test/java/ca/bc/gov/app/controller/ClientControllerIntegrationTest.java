@@ -1,20 +1,32 @@
 package ca.bc.gov.app.controller;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ca.bc.gov.app.dto.ClientDoingBusinessAsDto;
+import ca.bc.gov.app.dto.ForestClientContactDto;
 import ca.bc.gov.app.dto.ForestClientDto;
+import ca.bc.gov.app.dto.ForestClientGraphDto;
+import ca.bc.gov.app.dto.ForestClientLocationDto;
 import ca.bc.gov.app.entity.ClientRelatedProjection;
 import ca.bc.gov.app.extensions.AbstractTestContainerIntegrationTest;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.TestInstance.Lifecycle;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.web.reactive.function.BodyInserters;
+import reactor.test.StepVerifier;
 
 @Slf4j
 @DisplayName("Integrated Test | Client Controller")
@@ -22,6 +34,9 @@ import org.springframework.web.reactive.function.BodyInserters;
 class ClientControllerIntegrationTest extends
     AbstractTestContainerIntegrationTest {
 
+  @Autowired
+  private DatabaseClient databaseClient;
+
   @ParameterizedTest
   @MethodSource("saveClient")
   @DisplayName("Save a client")
@@ -63,6 +78,150 @@ class ClientControllerIntegrationTest extends
 
   }
 
+  @Test
+  @DisplayName("Save a client with all its details")
+  void shouldSaveClientGraph() {
+    String clientNumber = client
+        .post()
+        .uri("/api/clients/bulk")
+        .header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+        .body(BodyInserters.fromValue(
+                new ForestClientGraphDto(
+                    new ForestClientDto(
+                        null,
+                        "BULK TIMBER LTD.",
+                        null,
+                        null,
+                        "ACT",
+                        "C",
+                        null,
+                        null,
+                        null,
+                        "BC",
+                        "987654321",
+                        "Comment here",
+                        "Test",
+                        "Test",
+                        1L,
+                        StringUtils.EMPTY,
+                        StringUtils.EMPTY
+                    ),
+                    List.of(
+                        new ForestClientLocationDto(
+                            null,
+                            "00",
+                            "MAILING ADDRESS",
+                            "2975 Jutland Rd.",
+                            StringUtils.EMPTY,
+                            StringUtils.EMPTY,
+                            "VICTORIA",
+                            "BC",
+                            "V8V8V8",
+                            "CA",
+                            StringUtils.EMPTY,
+                            StringUtils.EMPTY,
+                            StringUtils.EMPTY,
+                            StringUtils.EMPTY,
+                            StringUtils.EMPTY,
+                            "N",
+                            null,
+                            "N",
+                            StringUtils.EMPTY,
+                            "Test",
+                            "Test",
+                            1L
+                        ),
+                        new ForestClientLocationDto(
+                            null,
+                            "01",
+                            "OFFICE",
+                            "1515 Blanshard St.",
+                            StringUtils.EMPTY,
+                            StringUtils.EMPTY,
+                            "VICTORIA",
+                            "BC",
+                            "V8V8V8",
+                            "CA",
+                            StringUtils.EMPTY,
+                            StringUtils.EMPTY,
+                            StringUtils.EMPTY,
+                            StringUtils.EMPTY,
+                            StringUtils.EMPTY,
+                            "N",
+                            null,
+                            "N",
+                            StringUtils.EMPTY,
+                            "Test",
+                            "Test",
+                            1L
+                        )
+                    ),
+                    List.of(
+                        new ForestClientContactDto(
+                            null,
+                            "00",
+                            null,
+                            "BL",
+                            "JAMES BAXTER",
+                            "2502502555",
+                            StringUtils.EMPTY,
+                            StringUtils.EMPTY,
+                            "bulktimber@mail.ca",
+                            "Test",
+                            "Test",
+                            1L
+                        ),
+                        new ForestClientContactDto(
+                            null,
+                            "01",
+                            null,
+                            "BL",
+                            "MARY BAXTER",
+                            "2502502556",
+                            StringUtils.EMPTY,
+                            StringUtils.EMPTY,
+                            "office@bulktimber.ca",
+                            "Test",
+                            "Test",
+                            1L
+                        )
+                    ),
+                    new ClientDoingBusinessAsDto(
+                        null,
+                        "BULK TIMBER",
+                        "Test",
+                        "Test",
+                        1L
+                    )
+                )
+            )
+        )
+        .exchange()
+        .expectStatus().isCreated()
+        .expectBody(String.class)
+        .returnResult()
+        .getResponseBody();
+
+    assertThat(clientNumber).matches("\\d{8}");
+
+    // Each location and contact keeps its own creation time, as legacy looks them up by it
+    databaseClient
+        .sql("""
+            SELECT add_timestamp FROM THE.CLIENT_LOCATION WHERE client_number = :clientNumber
+            UNION ALL
+            SELECT add_timestamp FROM THE.CLIENT_CONTACT WHERE client_number = :clientNumber""")
+        .bind("clientNumber", clientNumber)
+        .map(row -> row.get("add_timestamp", LocalDateTime.class))
+        .all()
+        .collectList()
+        .as(StepVerifier::create)
+        .assertNext(timestamps -> assertThat(timestamps)
+            .hasSize(4)
+            .doesNotHaveDuplicates()
+        )
+        .verifyComplete();
+  }
+
   @ParameterizedTest
   @MethodSource("related")
   @DisplayName("List related clients")
@@ -50,6 +50,35 @@ public class ClientHistoryControllerIntegrationTest extends
     }
   }
 
+  @ParameterizedTest
+  @MethodSource("byPage")
+  @DisplayName("Get a page of history logs")
+  void shouldReturnHistoryLogsPage(
+      int page,
+      int size,
+      int expectedSize,
+      boolean includesCreation
+  ) {
+    client
+        .get()
+        .uri(uriBuilder -> uriBuilder
+            .path("/api/clients/history-logs/{clientNumber}")
+            .queryParam("page", page)
+            .queryParam("size", size)
+            .build("00000138"))
+        .header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+        .exchange()
+        .expectStatus().isOk()
+        .expectHeader().valueEquals("x-total-count", "3")
+        .expectBodyList(HistoryLogDto.class)
+        .value(logs -> {
+          assertThat(logs).hasSize(expectedSize);
+          // Client creation is always the last entry of the history
+          assertThat("Client created".equals(logs.getLast().identifierLabel()))
+              .isEqualTo(includesCreation);
+        });
+  }
+
   private static Stream<Arguments> byClientNumber() {
     return Stream.of(
         // Valid case
@@ -58,5 +87,13 @@ public class ClientHistoryControllerIntegrationTest extends
         // Invalid case: missing client number
         Arguments.of(null, null, MissingRequiredParameterException.class));
   }
+
+  private static Stream<Arguments> byPage() {
+    return Stream.of(
+        Arguments.of(0, 5, 3, true),
+        Arguments.of(0, 2, 2, false),
+        Arguments.of(1, 2, 1, true)
+    );
+  }
   
 }
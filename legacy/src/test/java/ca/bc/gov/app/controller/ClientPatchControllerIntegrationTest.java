@@ -195,6 +195,16 @@ class ClientPatchControllerIntegrationTest extends AbstractTestContainerIntegrat
             null,
             "4008000001"
         ),
+        argumentSet(
+            "Replace the notes from several locations at once",
+            "00000159",
+            "[{\"op\":\"replace\",\"path\":\"/addresses/00/cliLocnComment\","
+                + "\"value\": \"Main office\"},{\"op\":\"replace\","
+                + "\"path\":\"/addresses/01/cliLocnComment\",\"value\": \"Yard note\"}]",
+            "$.addresses[1].cliLocnComment",
+            null,
+            "Yard note"
+        ),
         argumentSet(
             "Add a new location",
             "00000137",
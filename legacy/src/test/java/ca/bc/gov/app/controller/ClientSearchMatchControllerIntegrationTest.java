@@ -0,0 +1,90 @@
+package ca.bc.gov.app.controller;
+
+import ca.bc.gov.app.dto.ClientMatchCriteriaDto;
+import ca.bc.gov.app.extensions.AbstractTestContainerIntegrationTest;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.BodyInserters;
+
+@Slf4j
+@DisplayName("Integrated Test | Client Search Match Controller")
+class ClientSearchMatchControllerIntegrationTest extends
+    AbstractTestContainerIntegrationTest {
+
+  @Test
+  @DisplayName("Match every criteria at once")
+  void shouldMatchEveryCriteria() {
+    client
+        .post()
+        .uri("/api/search/matches")
+        .header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+        .body(BodyInserters.fromValue(
+            List.of(
+                new ClientMatchCriteriaDto(
+                    "registration",
+                    "registrationOrName",
+                    Map.of("registrationNumber", "FM00000001")
+                ),
+                new ClientMatchCriteriaDto(
+                    "acronym",
+                    "acronym",
+                    Map.of("acronym", "NOACRONYMFOUND")
+                ),
+                new ClientMatchCriteriaDto(
+                    "missing",
+                    "clientName",
+                    Map.of()
+                )
+            )
+        ))
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody()
+        .jsonPath("$.length()").isEqualTo(3)
+        .jsonPath("$[0].id").isEqualTo("registration")
+        .jsonPath("$[0].clients[0].clientNumber").isEqualTo("00000001")
+        .jsonPath("$[1].id").isEqualTo("acronym")
+        .jsonPath("$[1].clients").isEmpty()
+        .jsonPath("$[2].id").isEqualTo("missing")
+        .jsonPath("$[2].clients").isEmpty();
+  }
+
+  @Test
+  @DisplayName("Unsupported criteria type fails")
+  void shouldFailForUnsupportedType() {
+    client
+        .post()
+        .uri("/api/search/matches")
+        .header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+        .body(BodyInserters.fromValue(
+            List.of(new ClientMatchCriteriaDto("name", "unknown", Map.of("value", "BAXTER")))
+        ))
+        .exchange()
+        .expectStatus().isBadRequest();
+  }
+
+  @Test
+  @DisplayName("Invalid date of birth fails")
+  void shouldFailForInvalidDateOfBirth() {
+    client
+        .post()
+        .uri("/api/search/matches")
+        .header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+        .body(BodyInserters.fromValue(
+            List.of(
+                new ClientMatchCriteriaDto(
+                    "individual",
+                    "individual",
+                    Map.of("firstName", "JAMES", "lastName", "BAXTER", "dob", "1959-13-45")
+                )
+            )
+        ))
+        .exchange()
+        .expectStatus().isBadRequest();
+  }
+
+}
@@ -0,0 +1,138 @@
+package ca.bc.gov.app.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ca.bc.gov.app.dto.ForestClientDto;
+import ca.bc.gov.app.extensions.AbstractTestContainerIntegrationTest;
+import io.r2dbc.spi.R2dbcDataIntegrityViolationException;
+import java.util.stream.Stream;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+@DisplayName("Integrated Test | Client Number Allocator")
+class ClientNumberAllocatorIntegrationTest extends AbstractTestContainerIntegrationTest {
+
+  @Autowired
+  private ClientNumberAllocator allocator;
+
+  @Autowired
+  private ClientService clientService;
+
+  @Test
+  @DisplayName("Hand out unique numbers to concurrent callers")
+  void shouldHandOutUniqueNumbers() {
+    Flux
+        .range(0, 25)
+        .flatMap(index -> allocator.nextClientNumber(), 25)
+        .collectList()
+        .as(StepVerifier::create)
+        .assertNext(numbers -> assertThat(numbers)
+            .hasSize(25)
+            .doesNotHaveDuplicates()
+            .allMatch(number -> number.matches("\\d{8}"))
+        )
+        .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("Reuse released numbers")
+  void shouldReuseReleasedNumber() {
+    String number = allocator.nextClientNumber().block();
+    allocator.release(number);
+
+    allocator
+        .nextClientNumber()
+        .as(StepVerifier::create)
+        .expectNext(number)
+        .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("Resync after the highest client number")
+  void shouldResync() {
+    String before = allocator.nextClientNumber().block();
+
+    allocator
+        .resync()
+        .then(allocator.nextClientNumber())
+        .as(StepVerifier::create)
+        .assertNext(number -> assertThat(number).isGreaterThan(before))
+        .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("Give back the number when the client breaks another constraint")
+  void shouldReleaseOnOtherViolation() {
+    String number = allocator.nextClientNumber().block();
+    allocator.release(number);
+
+    // There is no such client status, so the foreign key is violated
+    clientService
+        .saveAndGetIndex(new ForestClientDto(
+            null,
+            "BROKEN STATUS LTD.",
+            null,
+            null,
+            "ZZZ",
+            "C",
+            null,
+            null,
+            null,
+            "BC",
+            "555555555",
+            null,
+            "Test",
+            "Test",
+            1L,
+            StringUtils.EMPTY,
+            StringUtils.EMPTY
+        ))
+        .as(StepVerifier::create)
+        .expectError(DataIntegrityViolationException.class)
+        .verify();
+
+    allocator
+        .nextClientNumber()
+        .as(StepVerifier::create)
+        .expectNext(number)
+        .verifyComplete();
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("violations")
+  @DisplayName("Only a taken client number is retried")
+  void shouldTellTakenNumber(String message, int errorCode, boolean expected) {
+    assertThat(ClientNumberAllocator.isClientNumberTaken(
+        new DataIntegrityViolationException(
+            "insert failed",
+            new R2dbcDataIntegrityViolationException(message, "23000", errorCode)
+        )
+    )).isEqualTo(expected);
+  }
+
+  private static Stream<Arguments> violations() {
+    return Stream.of(
+        Arguments.of("ORA-00001: unique constraint (THE.FOREST_CLIENT_PK) violated", 1, true),
+        Arguments.of("ORA-00001: unique constraint (THE.CLIENT_LOCATION_PK) violated", 1, false),
+        Arguments.of(
+            "ORA-02291: integrity constraint (THE.FC_CSC_FK) violated - parent key not found",
+            2291,
+            false
+        ),
+        Arguments.of(
+            "ORA-01400: cannot insert NULL into (\"THE\".\"FOREST_CLIENT\".\"CLIENT_NAME\")",
+            1400,
+            false
+        )
+    );
+  }
+
+}
@@ -0,0 +1,85 @@
+package ca.bc.gov.app.service.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import ca.bc.gov.app.dto.PredictiveSearchIndexRowDto;
+import ca.bc.gov.app.dto.PredictiveSearchResultDto;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+@DisplayName("Unit Test | Predictive Search Index")
+class PredictiveSearchIndexTest {
+
+  private static final PredictiveSearchIndexRowDto INDIVIDUAL = new PredictiveSearchIndexRowDto(
+      "00000001", null, "SMITH", "JOHN", "PETER", null, "12345678", null, null,
+      "2975 JUTLAND RD", "V8T5J9", "john@mail.ca", "VICTORIA", "Individual", "Active"
+  );
+
+  private static final PredictiveSearchIndexRowDto COMPANY = new PredictiveSearchIndexRowDto(
+      "00000002", "ACME", "ACME FORESTRY LTD", null, null, "WOODS & CO", null, "BC", "0123456",
+      "1 MAIN ST", "V0V0V0", "info@acme.ca", "PRINCE GEORGE", "Corporation", "Active"
+  );
+
+  private static final PredictiveSearchIndexRowDto SECOND_COMPANY = new PredictiveSearchIndexRowDto(
+      "00000003", null, "BIG TREE LTD", null, null, null, null, "BC", "0999999",
+      "33 ACME LANE", "V1V1V1", "trees@mail.ca", "KAMLOOPS", "Corporation", "Active"
+  );
+
+  private final PredictiveSearchIndex index =
+      PredictiveSearchIndex.of(List.of(INDIVIDUAL, COMPANY, SECOND_COMPANY));
+
+  @ParameterizedTest(name = "{0} should match {1} with score {2}")
+  @DisplayName("Search and score like Oracle")
+  @MethodSource("searchValues")
+  void shouldSearchAndScore(String value, List<String> clientNumbers, List<Long> scores) {
+    List<PredictiveSearchResultDto> results = index.search(value);
+
+    assertEquals(clientNumbers, results.stream().map(PredictiveSearchResultDto::clientNumber)
+        .toList());
+    assertEquals(scores, results.stream().map(PredictiveSearchResultDto::score).toList());
+  }
+
+  @Test
+  @DisplayName("Replace client rows through the overlay")
+  void shouldReplaceClient() {
+    index.replace("00000002", List.of());
+    assertEquals(List.of("00000003"),
+        index.search("acme").stream().map(PredictiveSearchResultDto::clientNumber).toList());
+
+    index.replace("00000001", List.of(new PredictiveSearchIndexRowDto(
+        "00000001", null, "SMYTHE", "JOHN", null, null, null, null, null,
+        "2975 JUTLAND RD", "V8T5J9", null, "VICTORIA", "Individual", "Active"
+    )));
+    assertTrue(index.search("smith").isEmpty());
+    assertEquals(1, index.search("smythe").size());
+
+    PredictiveSearchIndex compacted = index.compact();
+    assertEquals(0, compacted.overlaySize());
+    assertEquals(2, compacted.size());
+    assertEquals(1, compacted.search("smythe").size());
+  }
+
+  private static Stream<Arguments> searchValues() {
+    return Stream.of(
+        Arguments.of("acme", List.of("00000002", "00000003"), List.of(100L, 50L)),
+        Arguments.of("john smith", List.of("00000001"), List.of(90L)),
+        Arguments.of("peter", List.of("00000001"), List.of(50L)),
+        Arguments.of("woods", List.of("00000002"), List.of(75L)),
+        Arguments.of("bc0123", List.of("00000002"), List.of(70L)),
+        Arguments.of("bc 0123", List.of("00000002"), List.of(70L)),
+        Arguments.of("bc_0123", List.of("00000002"), List.of(40L)),
+        Arguments.of("V8T", List.of("00000001"), List.of(45L)),
+        Arguments.of("trees@", List.of("00000003"), List.of(40L)),
+        Arguments.of("ltd", List.of("00000002", "00000003"), List.of(100L, 100L)),
+        Arguments.of("b_g", List.of("00000003"), List.of(100L)),
+        Arguments.of("zz", List.of(), List.of())
+    );
+  }
+
+}
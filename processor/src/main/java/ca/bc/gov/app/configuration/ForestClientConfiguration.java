@@ -2,6 +2,7 @@ package ca.bc.gov.app.configuration;
 
 
 import java.time.Duration;
+import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -36,12 +37,43 @@ public class ForestClientConfiguration {
   @NestedConfigurationProperty
   private SecurityConfiguration security;
 
+  @NestedConfigurationProperty
+  private PostgresConfiguration postgres;
+
   @Data
   @Builder
   @NoArgsConstructor
   @AllArgsConstructor
   public static class ProcessorConfiguration {
     private Duration poolTime;
+    private String events;
+    @Builder.Default
+    private Duration matchTimeout = Duration.ofSeconds(30);
+    @Builder.Default
+    @NestedConfigurationProperty
+    private ConcurrencyConfiguration concurrency = new ConcurrencyConfiguration();
+    @Builder.Default
+    private Duration lease = Duration.ofMinutes(5);
+    @Builder.Default
+    private int batchSize = 100;
+    @Builder.Default
+    private String instanceId = UUID.randomUUID().toString();
+  }
+
+  /**
+   * The maximum number of submissions on each processor stage at once.
+   */
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class ConcurrencyConfiguration {
+    @Builder.Default
+    private int loading = 4;
+    @Builder.Default
+    private int matching = 2;
+    @Builder.Default
+    private int persistence = 2;
   }
 
   @Data
@@ -75,4 +107,19 @@ public class ForestClientConfiguration {
     private String serviceAccountSecret;
   }
 
+  /**
+   * The postgres configuration, used by the connection that listens for submission events.
+   */
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class PostgresConfiguration {
+    private String database;
+    private String host;
+    private String username;
+    private String password;
+    private String url;
+  }
+
 }
@@ -0,0 +1,46 @@
+package ca.bc.gov.app.dto;
+
+import ca.bc.gov.app.entity.SubmissionStatusEnum;
+import ca.bc.gov.app.entity.SubmissionTypeCodeEnum;
+
+/**
+ * This record represents a submission that was created or had its status or type changed, as
+ * notified by the database on the {@code submission_events} channel.
+ */
+public record SubmissionEventDto(
+    Integer submissionId,
+    SubmissionStatusEnum status,
+    SubmissionTypeCodeEnum type
+) {
+
+  /**
+   * Parses the notification payload, formatted as {@code submission_id,status,type}.
+   *
+   * @param payload The notification payload.
+   * @return The submission event.
+   */
+  public static SubmissionEventDto fromPayload(String payload) {
+    String[] values = payload.split(",");
+    return new SubmissionEventDto(
+        Integer.valueOf(values[0].trim()),
+        SubmissionStatusEnum.valueOf(values[1].trim()),
+        SubmissionTypeCodeEnum.valueOf(values[2].trim())
+    );
+  }
+
+  /**
+   * A submission pending processing, that needs to go through the matchers.
+   */
+  public boolean isPendingProcessing() {
+    return SubmissionTypeCodeEnum.SPP.equals(type);
+  }
+
+  /**
+   * An external submission that was approved or rejected, either automatically or by a reviewer.
+   */
+  public boolean isExternalProcessed() {
+    return !SubmissionTypeCodeEnum.SSD.equals(type)
+           && (SubmissionStatusEnum.A.equals(status) || SubmissionStatusEnum.R.equals(status));
+  }
+
+}
@@ -0,0 +1,16 @@
+package ca.bc.gov.app.dto.legacy;
+
+import java.util.List;
+
+/**
+ * A whole client sent to legacy in a single request, with its locations, the contacts of each
+ * location and the optional doing business as name.
+ */
+public record ForestClientGraphDto(
+    ForestClientDto client,
+    List<ForestClientLocationDto> locations,
+    List<ForestClientContactDto> contacts,
+    ClientDoingBusinessAsDto doingBusinessAs
+) {
+
+}
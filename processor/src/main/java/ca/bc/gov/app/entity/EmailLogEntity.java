@@ -0,0 +1,64 @@
+package ca.bc.gov.app.entity;
+
+import ca.bc.gov.app.ApplicationConstant;
+import io.r2dbc.postgresql.codec.Json;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.With;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+@Table(name = "email_log", schema = ApplicationConstant.POSTGRES_ATTRIBUTE_SCHEMA)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@With
+public class EmailLogEntity {
+
+  @Id
+  @Column("email_log_id")
+  private Integer emailLogId;
+
+  @Column("email_key")
+  @Size(max = 100)
+  private String emailKey;
+
+  @Column("email_sent_ind")
+  @Size(min = 1, max = 1)
+  private String emailSentInd;
+
+  @Column("template_name")
+  @NotNull
+  @Size(min = 3, max = 40)
+  private String templateName;
+
+  @Column("email_address")
+  @NotNull
+  @Size(min = 5, max = 1000)
+  private String emailAddress;
+
+  @Column("email_subject")
+  @NotNull
+  @Size(min = 5, max = 100)
+  private String emailSubject;
+
+  @Column("email_variables")
+  private Json emailVariables;
+
+  @Column("send_attempts")
+  private int sendAttempts;
+
+  @Column("next_attempt_timestamp")
+  private LocalDateTime nextAttempt;
+
+  @Column("create_timestamp")
+  private LocalDateTime createDate;
+
+}
@@ -86,19 +86,28 @@ public class ContactMatcher implements ProcessorMatcher {
         contactRepository
             .findBySubmissionId(submission.submissionId())
             .flatMap(contact ->
-                legacyClientApi
-                    .get()
-                    .uri(
-                        uriBuilder ->
-                            uriBuilder
-                                .path("/api/contacts/search")
-                                .queryParam("firstName", contact.getFirstName())
-                                .queryParam("lastName", contact.getLastName())
-                                .queryParam("email", contact.getEmailAddress())
-                                .queryParam("phone", contact.getBusinessPhoneNumber())
-                                .build()
-                    )
-                    .exchangeToFlux(response -> response.bodyToFlux(ForestClientContactDto.class))
+                MatcherLookup.lookup(
+                    "/api/contacts/search",
+                    () -> legacyClientApi
+                        .get()
+                        .uri(
+                            uriBuilder ->
+                                uriBuilder
+                                    .path("/api/contacts/search")
+                                    .queryParam("firstName", contact.getFirstName())
+                                    .queryParam("lastName", contact.getLastName())
+                                    .queryParam("email", contact.getEmailAddress())
+                                    .queryParam("phone", contact.getBusinessPhoneNumber())
+                                    .build()
+                        )
+                        .exchangeToFlux(
+                            response -> response.bodyToFlux(ForestClientContactDto.class)
+                        ),
+                    contact.getFirstName(),
+                    contact.getLastName(),
+                    contact.getEmailAddress(),
+                    contact.getBusinessPhoneNumber()
+                )
             )
             .map(ForestClientContactDto::clientNumber)
             .collect(initializeResult(), compileResult());
@@ -72,8 +72,8 @@ public class DoingBusinessAsProcessorMatcher implements ProcessorMatcher {
    * @return a {@link Flux} of matching legacy clients; empty if none are found
    */
   private Flux<ClientDoingBusinessAsDto> matchBy(String companyName) {
-    return legacyService
-        .matchDba(companyName)
+    return MatcherLookup
+        .lookup("/api/dba/search", () -> legacyService.matchDba(companyName), companyName)
         .doOnNext(entity -> log.info("Found a match {}", entity));
   }
 }
\ No newline at end of file
@@ -80,16 +80,21 @@ public class LegalNameProcessorMatcher implements ProcessorMatcher {
     log.info("{} :: Validating {}", name(), submission.corporationName());
 
     return
-        legacyClientApi
-            .get()
-            .uri(
-                uriBuilder ->
-                    uriBuilder
-                        .path("/api/search/match")
-                        .queryParam("companyName", submission.corporationName())
-                        .build(Map.of())
+        MatcherLookup
+            .lookup(
+                "/api/search/match",
+                () -> legacyClientApi
+                    .get()
+                    .uri(
+                        uriBuilder ->
+                            uriBuilder
+                                .path("/api/search/match")
+                                .queryParam("companyName", submission.corporationName())
+                                .build(Map.of())
+                    )
+                    .exchangeToFlux(response -> response.bodyToFlux(ForestClientDto.class)),
+                submission.corporationName()
             )
-            .exchangeToFlux(response -> response.bodyToFlux(ForestClientDto.class))
             .map(ForestClientDto::clientNumber)
             .doOnNext(entity -> log.info("Found a match {}", entity))
             .collect(initializeResult(), compileResult());
@@ -87,18 +87,22 @@ public class LocationMatcher implements ProcessorMatcher {
 
     return locationRepository
         .findBySubmissionId(submission.submissionId())
-        .flatMap(location -> legacyClientApi
-            .get()
-            .uri(
-                uriBuilder ->
-                    uriBuilder
-                        .path("/api/locations/search")
-                        .queryParam("address", location.getStreetAddress())
-                        .queryParam("postalCode", location.getPostalCode())
-                        .build()
-            )
-            .exchangeToFlux(response -> response.bodyToFlux(ForestClientLocationDto.class))
-        )
+        .flatMap(location -> MatcherLookup.lookup(
+            "/api/locations/search",
+            () -> legacyClientApi
+                .get()
+                .uri(
+                    uriBuilder ->
+                        uriBuilder
+                            .path("/api/locations/search")
+                            .queryParam("address", location.getStreetAddress())
+                            .queryParam("postalCode", location.getPostalCode())
+                            .build()
+                )
+                .exchangeToFlux(response -> response.bodyToFlux(ForestClientLocationDto.class)),
+            location.getStreetAddress(),
+            location.getPostalCode()
+        ))
         .map(ForestClientLocationDto::clientNumber)
         .collect(initializeResult(), compileResult());
   }
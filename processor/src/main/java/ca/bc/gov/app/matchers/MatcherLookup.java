@@ -0,0 +1,66 @@
+package ca.bc.gov.app.matchers;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.util.context.Context;
+
+/**
+ * Shares the legacy lookups done by the matchers of a single submission. Matchers that search
+ * legacy with the same parameters, such as the individual and sole proprietor matchers, get the
+ * same response instead of sending the same request again. Concurrent identical lookups wait for
+ * the first one to complete.
+ *
+ * <p>The lookups are kept in the reactor context of a matching run, see
+ * {@link #withRun(Context)}, so nothing is kept once the submission is matched. Outside of a run
+ * each lookup is sent as is.
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MatcherLookup {
+
+  private static final String CONTEXT_KEY = MatcherLookup.class.getName();
+
+  /**
+   * Starts a new matching run, with its own set of lookups.
+   *
+   * @param context the current context
+   * @return the context with an empty set of lookups
+   */
+  public static Context withRun(Context context) {
+    return context.put(CONTEXT_KEY, new ConcurrentHashMap<String, Flux<?>>());
+  }
+
+  /**
+   * Runs a legacy lookup once per matching run.
+   *
+   * @param path   the legacy endpoint path
+   * @param search the lookup to run if it was not done yet
+   * @param values the values used in the lookup, in a fixed order
+   * @return a Flux with the lookup response
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> Flux<T> lookup(String path, Supplier<Flux<T>> search, Object... values) {
+    String key = Stream
+        .of(values)
+        .map(String::valueOf)
+        .collect(Collectors.joining("|", path + "?", ""));
+
+    return Flux.deferContextual(context ->
+        context
+            .<Map<String, Flux<?>>>getOrEmpty(CONTEXT_KEY)
+            .map(lookups -> (Flux<T>) lookups.computeIfAbsent(key, newKey -> {
+              log.info("Looking up {}", newKey);
+              return search.get().cache();
+            }))
+            .orElseGet(search)
+    );
+  }
+
+}
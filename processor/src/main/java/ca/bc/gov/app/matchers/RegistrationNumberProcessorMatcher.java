@@ -80,16 +80,21 @@ public class RegistrationNumberProcessorMatcher implements ProcessorMatcher {
     log.info("{} :: Validating {}", name(), submission.registrationNumber());
 
     return
-        legacyClientApi
-            .get()
-            .uri(
-                uriBuilder ->
-                    uriBuilder
-                        .path("/api/search/registrationOrName")
-                        .queryParam("registrationNumber", submission.registrationNumber())
-                        .build(Map.of())
+        MatcherLookup
+            .lookup(
+                "/api/search/registrationOrName",
+                () -> legacyClientApi
+                    .get()
+                    .uri(
+                        uriBuilder ->
+                            uriBuilder
+                                .path("/api/search/registrationOrName")
+                                .queryParam("registrationNumber", submission.registrationNumber())
+                                .build(Map.of())
+                    )
+                    .exchangeToFlux(response -> response.bodyToFlux(ForestClientDto.class)),
+                submission.registrationNumber()
             )
-            .exchangeToFlux(response -> response.bodyToFlux(ForestClientDto.class))
             .doOnNext(entity -> log.info("Found a match {}", entity))
             .map(ForestClientDto::clientNumber)
             .collect(initializeResult(), compileResult());
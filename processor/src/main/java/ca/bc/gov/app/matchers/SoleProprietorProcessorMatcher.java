@@ -83,21 +83,28 @@ public class SoleProprietorProcessorMatcher implements ProcessorMatcher {
 
     log.info("{} :: Validating {}", name(), submission.corporationName());
 
+    String[] name = ProcessorUtil.splitName(submission.corporationName());
+
     return
-        legacyClientApi
-            .get()
-            .uri(
-                uriBuilder ->
-                    uriBuilder
-                        .path("/api/search/individual")
-                        .queryParam("firstName",
-                            ProcessorUtil.splitName(submission.corporationName())[1])
-                        .queryParam("lastName",
-                            ProcessorUtil.splitName(submission.corporationName())[0])
-                        .queryParam("dob", submission.dateOfBirth())
-                        .build(Map.of())
+        MatcherLookup
+            .lookup(
+                "/api/search/individual",
+                () -> legacyClientApi
+                    .get()
+                    .uri(
+                        uriBuilder ->
+                            uriBuilder
+                                .path("/api/search/individual")
+                                .queryParam("firstName", name[1])
+                                .queryParam("lastName", name[0])
+                                .queryParam("dob", submission.dateOfBirth())
+                                .build(Map.of())
+                    )
+                    .exchangeToFlux(response -> response.bodyToFlux(ForestClientDto.class)),
+                name[1],
+                name[0],
+                submission.dateOfBirth()
             )
-            .exchangeToFlux(response -> response.bodyToFlux(ForestClientDto.class))
             .doOnNext(entity -> log.info("Found a match {}", entity))
             .map(ForestClientDto::clientNumber)
             .collect(initializeResult(), compileResult());
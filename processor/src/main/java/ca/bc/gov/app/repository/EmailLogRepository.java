@@ -0,0 +1,36 @@
+package ca.bc.gov.app.repository;
+
+import ca.bc.gov.app.entity.EmailLogEntity;
+import io.r2dbc.postgresql.codec.Json;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface EmailLogRepository extends ReactiveCrudRepository<EmailLogEntity, Integer> {
+
+  Mono<EmailLogEntity> findByEmailKey(String emailKey);
+
+  /**
+   * Queues an email to be sent by the backend. An email with the same key is only queued once.
+   *
+   * @return the number of emails queued, either 1 or 0 if it was already queued
+   */
+  @Modifying
+  @Query("""
+      INSERT INTO nrfc.email_log
+      (email_key, email_sent_ind, template_name, email_address, email_subject, email_variables)
+      VALUES (:emailKey, 'N', :templateName, :emailAddress, :emailSubject, :emailVariables)
+      ON CONFLICT (email_key) DO NOTHING"""
+  )
+  Mono<Integer> queue(
+      String emailKey,
+      String templateName,
+      String emailAddress,
+      String emailSubject,
+      Json emailVariables
+  );
+
+}
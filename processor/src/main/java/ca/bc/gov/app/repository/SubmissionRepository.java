@@ -2,6 +2,7 @@ package ca.bc.gov.app.repository;
 
 import ca.bc.gov.app.entity.SubmissionEntity;
 import ca.bc.gov.app.entity.SubmissionTypeCodeEnum;
+import org.springframework.data.r2dbc.repository.Modifying;
 import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import org.springframework.stereotype.Repository;
@@ -13,44 +14,139 @@ public interface SubmissionRepository extends ReactiveCrudRepository<SubmissionE
 
   Flux<SubmissionEntity> findBySubmissionType(SubmissionTypeCodeEnum submissionType);
 
+  /**
+   * Claims up to {@code limit} submissions pending processing, leasing them to {@code owner} for
+   * {@code leaseSeconds}. Submissions leased to another processor instance, or locked by another
+   * claim, are skipped, so each submission is only claimed by one instance at a time.
+   *
+   * @return the ids of the claimed submissions
+   */
   @Query("""
-      SELECT nrfc.submission.submission_id
-      FROM nrfc.submission
-      WHERE nrfc.submission.submission_type_code = 'SPP'"""
+      UPDATE nrfc.submission
+      SET lease_owner = :owner,
+      lease_expiry_timestamp = now() + make_interval(secs => :leaseSeconds)
+      WHERE nrfc.submission.submission_id IN (
+        SELECT s.submission_id
+        FROM nrfc.submission s
+        WHERE
+        s.submission_type_code = 'SPP'
+        AND (s.lease_expiry_timestamp is null or s.lease_expiry_timestamp < now())
+        ORDER BY s.submission_id
+        LIMIT :limit
+        FOR UPDATE OF s SKIP LOCKED
+      )
+      RETURNING nrfc.submission.submission_id"""
   )
-  Flux<Integer> loadProcessingSubmissions();
+  Flux<Integer> claimProcessingSubmissions(String owner, long leaseSeconds, int limit);
 
+  /**
+   * Claims up to {@code limit} external submissions that were approved or rejected and were not
+   * completed yet, the same way as {@link #claimProcessingSubmissions(String, long, int)}.
+   *
+   * @return the ids of the claimed submissions
+   */
   @Query("""
-      SELECT nrfc.submission.submission_id
-      FROM nrfc.submission
-      LEFT JOIN nrfc.submission_matching_detail
-      ON nrfc.submission_matching_detail.submission_id = nrfc.submission.submission_id
-      WHERE
-      nrfc.submission.submission_status_code in ('R','A')
-      AND nrfc.submission.submission_type_code != 'SSD'
-      AND ( nrfc.submission_matching_detail.submission_matching_processed  is null or
-      nrfc.submission_matching_detail.submission_matching_processed = false)
-      AND (nrfc.submission_matching_detail.submission_matching_processed_time is null or
-      nrfc.submission_matching_detail.submission_matching_processed_time
-      < now() - interval '2 minutes')"""
+      UPDATE nrfc.submission
+      SET lease_owner = :owner,
+      lease_expiry_timestamp = now() + make_interval(secs => :leaseSeconds)
+      WHERE nrfc.submission.submission_id IN (
+        SELECT s.submission_id
+        FROM nrfc.submission s
+        LEFT JOIN nrfc.submission_matching_detail smd
+        ON smd.submission_id = s.submission_id
+        WHERE
+        s.submission_status_code in ('R','A')
+        AND s.submission_type_code != 'SSD'
+        AND (smd.submission_matching_processed is null or smd.submission_matching_processed = false)
+        AND (s.lease_expiry_timestamp is null or s.lease_expiry_timestamp < now())
+        ORDER BY s.submission_id
+        LIMIT :limit
+        FOR UPDATE OF s SKIP LOCKED
+      )
+      RETURNING nrfc.submission.submission_id"""
   )
-  Flux<Integer> loadProcessedSubmissions();
+  Flux<Integer> claimProcessedSubmissions(String owner, long leaseSeconds, int limit);
 
+  /**
+   * Claims up to {@code limit} staff submissions that failed to complete, the same way as
+   * {@link #claimProcessingSubmissions(String, long, int)}.
+   *
+   * @return the ids of the claimed submissions
+   */
   @Query("""
-      SELECT nrfc.submission.submission_id
-      FROM nrfc.submission
-      LEFT JOIN nrfc.submission_matching_detail
-      ON nrfc.submission_matching_detail.submission_id = nrfc.submission.submission_id
-      WHERE
-      nrfc.submission.submission_status_code = 'A'
-      AND nrfc.submission.submission_type_code = 'SSD'
-      AND ( nrfc.submission_matching_detail.submission_matching_processed  is null or
-      nrfc.submission_matching_detail.submission_matching_processed = false)
-      AND (nrfc.submission_matching_detail.submission_matching_processed_time is null or
-      nrfc.submission_matching_detail.submission_matching_processed_time
-      < now() - interval '2 minutes')"""
+      UPDATE nrfc.submission
+      SET lease_owner = :owner,
+      lease_expiry_timestamp = now() + make_interval(secs => :leaseSeconds)
+      WHERE nrfc.submission.submission_id IN (
+        SELECT s.submission_id
+        FROM nrfc.submission s
+        LEFT JOIN nrfc.submission_matching_detail smd
+        ON smd.submission_id = s.submission_id
+        WHERE
+        s.submission_status_code = 'A'
+        AND s.submission_type_code = 'SSD'
+        AND (smd.submission_matching_processed is null or smd.submission_matching_processed = false)
+        AND (s.lease_expiry_timestamp is null or s.lease_expiry_timestamp < now())
+        ORDER BY s.submission_id
+        LIMIT :limit
+        FOR UPDATE OF s SKIP LOCKED
+      )
+      RETURNING nrfc.submission.submission_id"""
   )
-  Flux<Integer> loadStaffSubmissions();
+  Flux<Integer> claimStaffSubmissions(String owner, long leaseSeconds, int limit);
+
+  /**
+   * Claims a single submission, such as one notified by a submission event, unless it is leased to
+   * another processor instance or it has nothing left to process. The submission must be in one of
+   * the states claimed by the batch claims, so an instance that receives the event late does not
+   * process again a submission that another instance already completed and released.
+   *
+   * @return the submission id, or empty if the submission is already claimed or processed
+   */
+  @Query("""
+      UPDATE nrfc.submission
+      SET lease_owner = :owner,
+      lease_expiry_timestamp = now() + make_interval(secs => :leaseSeconds)
+      WHERE nrfc.submission.submission_id IN (
+        SELECT s.submission_id
+        FROM nrfc.submission s
+        LEFT JOIN nrfc.submission_matching_detail smd
+        ON smd.submission_id = s.submission_id
+        WHERE
+        s.submission_id = :submissionId
+        AND (
+          s.submission_type_code = 'SPP'
+          OR (
+            s.submission_status_code in ('R','A')
+            AND s.submission_type_code != 'SSD'
+            AND (smd.submission_matching_processed is null or smd.submission_matching_processed = false)
+          )
+          OR (
+            s.submission_status_code = 'A'
+            AND s.submission_type_code = 'SSD'
+            AND (smd.submission_matching_processed is null or smd.submission_matching_processed = false)
+          )
+        )
+        AND (s.lease_expiry_timestamp is null or s.lease_expiry_timestamp < now())
+        FOR UPDATE OF s SKIP LOCKED
+      )
+      RETURNING nrfc.submission.submission_id"""
+  )
+  Mono<Integer> claimSubmission(Integer submissionId, String owner, long leaseSeconds);
+
+  /**
+   * Releases the lease of a submission once it was processed, if it is still leased to
+   * {@code owner}.
+   *
+   * @return the number of submissions released, either 1 or 0
+   */
+  @Modifying
+  @Query("""
+      UPDATE nrfc.submission
+      SET lease_owner = null, lease_expiry_timestamp = null
+      WHERE submission_id = :submissionId AND lease_owner = :owner"""
+  )
+  Mono<Integer> releaseSubmission(Integer submissionId, String owner);
 
   Mono<SubmissionEntity> findBySubmissionId(Integer submissionId);
 }
@@ -42,9 +42,7 @@ public class ClientSubmissionAutoProcessingService {
     int submissionId =
         (int) message.parameters().get(ApplicationConstant.SUBMISSION_ID);
 
-    return persistData(submissionId, SubmissionTypeCodeEnum.AAC)
-        .doOnNext(id -> log.info("Request {} was approved", id))
-        .flatMap(this::loadFirstOrNew)
+    return loadFirstOrNew(submissionId)
         .doOnNext(entity -> entity.setStatus("Y"))
         // Preserve existing MATCHING_INFO when approving; clear other matcher entries
         .doOnNext(entity -> {
@@ -63,6 +61,9 @@ public class ClientSubmissionAutoProcessingService {
           entity.setMatchers(keep);
         })
         .flatMap(submissionMatchDetailRepository::save)
+        // The type is changed last, as it notifies the processor to persist the submission
+        .then(persistData(submissionId, SubmissionTypeCodeEnum.AAC))
+        .doOnNext(id -> log.info("Request {} was approved", id))
         .thenReturn(new MessagingWrapper<>(submissionId, Map.of()));
   }
 
@@ -1,66 +1,77 @@
 package ca.bc.gov.app.service.client;
 
 import ca.bc.gov.app.dto.EmailRequestDto;
-import java.util.Optional;
+import ca.bc.gov.app.repository.EmailLogRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.r2dbc.postgresql.codec.Json;
+import java.util.Map;
+import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.StringUtils;
-import org.springframework.http.HttpCookie;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
+/**
+ * Queues the submission emails on the email log, to be sent by the backend. Queueing is a single
+ * insert, so it can be done in the same transaction that changes the submission, and a slow email
+ * service does not hold the submission processing.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ClientSubmissionMailService {
 
-  private final WebClient forestClientApi;
+  private final EmailLogRepository emailLogRepository;
+  private final Jackson2ObjectMapperBuilder builder;
 
-  public Mono<String> sendMail(EmailRequestDto mailMessage) {
+  /**
+   * Queues an email to be sent. The same email queued again, such as when a submission is
+   * processed again, is ignored.
+   *
+   * @param emailKey    the unique key of this email
+   * @param mailMessage the email to be sent
+   * @return a Mono with the email key
+   */
+  public Mono<String> queueMail(String emailKey, EmailRequestDto mailMessage) {
 
-    log.info("Sending email to {} {} -> {}",
+    log.info("Queueing email {} to {} {} -> {}",
+        emailKey,
         mailMessage.emailsCsv(),
         mailMessage.subject(),
         mailMessage.variables()
     );
 
-    return
-        getCsrfToken()
-            .flatMap(csrfToken ->
-                forestClientApi
-                    .post()
-                    .uri("/ches/email")
-                    .header("X-XSRF-TOKEN", csrfToken)
-                    .cookie("XSRF-TOKEN", csrfToken)
-                    .body(Mono.just(mailMessage), EmailRequestDto.class)
-                    .exchangeToMono(clientResponse -> clientResponse.bodyToMono(String.class))
-                    .doOnNext(
-                        source -> log.info("Email sent to {} {}", mailMessage.emailsCsv(), source))
-                    .doOnError(
-                        throwable ->
-                            log.error(
-                                "Error sending email to {}",
-                                mailMessage.emailsCsv(),
-                                throwable
-                            )
-                    )
-            );
+    return emailLogRepository
+        .queue(
+            emailKey,
+            mailMessage.templateName(),
+            mailMessage.emailsCsv(),
+            mailMessage.subject(),
+            convertTo(mailMessage.variables())
+        )
+        .doOnNext(queued -> {
+          if (queued > 0) {
+            log.info("Email {} queued to {}", emailKey, mailMessage.emailsCsv());
+          } else {
+            log.info("Email {} was already queued", emailKey);
+          }
+        })
+        .thenReturn(emailKey);
   }
 
-  private Mono<String> getCsrfToken() {
-    return forestClientApi
-        .options()
-        .uri("/ches/email")
-        .exchangeToMono(clientResponse ->
-            Mono.justOrEmpty(
-                Optional
-                    .of(clientResponse.cookies())
-                    .map(httpCookies -> httpCookies.getFirst("XSRF-TOKEN"))
-            )
-        )
-        .map(HttpCookie::getValue)
-        .defaultIfEmpty(StringUtils.EMPTY);
+  private Json convertTo(Map<String, Object> variables) {
+    String json = "{}";
+
+    try {
+      json = builder
+          .build()
+          .writeValueAsString(Objects.requireNonNullElse(variables, Map.of()));
+    } catch (JsonProcessingException e) {
+      log.error("Error while converting email variables to json", e);
+    }
+
+    return Json.of(json);
   }
 
 }
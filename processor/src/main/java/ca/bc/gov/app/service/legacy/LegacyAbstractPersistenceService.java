@@ -3,8 +3,11 @@ package ca.bc.gov.app.service.legacy;
 import ca.bc.gov.app.ApplicationConstant;
 import ca.bc.gov.app.dto.MessagingWrapper;
 import ca.bc.gov.app.dto.SubmissionProcessTypeEnum;
+import ca.bc.gov.app.dto.legacy.ClientDoingBusinessAsDto;
 import ca.bc.gov.app.dto.legacy.ForestClientContactDto;
 import ca.bc.gov.app.dto.legacy.ForestClientDto;
+import ca.bc.gov.app.dto.legacy.ForestClientGraphDto;
+import ca.bc.gov.app.dto.legacy.ForestClientLocationDto;
 import ca.bc.gov.app.entity.SubmissionDetailEntity;
 import ca.bc.gov.app.entity.SubmissionLocationEntity;
 import ca.bc.gov.app.repository.SubmissionContactRepository;
@@ -13,9 +16,10 @@ import ca.bc.gov.app.repository.SubmissionLocationContactRepository;
 import ca.bc.gov.app.repository.SubmissionLocationRepository;
 import ca.bc.gov.app.repository.SubmissionRepository;
 import ca.bc.gov.app.util.ProcessorUtil;
-import java.time.Duration;
+import java.util.List;
 import java.util.Locale;
-import java.util.function.Function;
+import java.util.Objects;
+import java.util.Optional;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,7 +28,6 @@ import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
 /**
  * This class is responsible for persisting the submission into the legacy database.
@@ -110,38 +113,61 @@ public abstract class LegacyAbstractPersistenceService {
   }
 
   /**
-   * Creates a client if does not exist on oracle and get back the client number.
-   * If a client number already exists for this submission, creation is skipped to
-   * prevent duplicate client creation (e.g. during processor restarts/deployments).
+   * Creates the client with all its locations, contacts and doing business as on oracle, in a
+   * single request, and gets back the client number. If a client number already exists for this
+   * submission, the client is not created again (e.g. during processor restarts/deployments), but
+   * any missing location, contact or doing business as is still created.
    */
   public Mono<MessagingWrapper<Integer>> createForestClient(
       MessagingWrapper<ForestClientDto> message) {
 
     String existingClientNumber = message.payload().clientNumber();
+    Integer submissionId = (Integer) message.parameters().get(ApplicationConstant.SUBMISSION_ID);
 
     if (StringUtils.isNotBlank(existingClientNumber)) {
       log.info("Client {} already exists for submission {}, skipping creation",
           existingClientNumber,
-          message.parameters().get(ApplicationConstant.SUBMISSION_ID)
+          submissionId
       );
-      return Mono.just(
-          new MessagingWrapper<>(
-              (Integer) message.parameters().get(ApplicationConstant.SUBMISSION_ID),
-              message.parameters()
-          )
-              .withParameter(ApplicationConstant.FOREST_CLIENT_NUMBER, existingClientNumber)
+    } else {
+      log.info("Creating Forest Client {} {}",
+          message.parameters().get(ApplicationConstant.FOREST_CLIENT_NAME),
+          message.payload().clientNumber()
       );
     }
 
-    log.info("Creating Forest Client {} {}",
-        message.parameters().get(ApplicationConstant.FOREST_CLIENT_NAME),
-        message.payload().clientNumber()
-    );
-
     return
-        // Create the client
-        legacyService
-            .createClient(message.payload())
+        // Load everything that belongs to the client
+        loadLocations(submissionId)
+            .flatMap(locations ->
+                Mono.zip(
+                    Flux
+                        .fromIterable(locations)
+                        .index((index, detail) ->
+                            toLocation(
+                                detail,
+                                existingClientNumber,
+                                index,
+                                getUser(message, ApplicationConstant.CREATED_BY)
+                            )
+                        )
+                        .collectList(),
+                    loadContacts(message, locations).collectList(),
+                    loadDoingBusinessAs(message)
+                        .map(Optional::of)
+                        .defaultIfEmpty(Optional.empty())
+                )
+            )
+            .map(graph ->
+                new ForestClientGraphDto(
+                    message.payload(),
+                    graph.getT1(),
+                    graph.getT2(),
+                    graph.getT3().orElse(null)
+                )
+            )
+            // Create it all at once
+            .flatMap(legacyService::createClientGraph)
             .doOnNext(forestClientNumber ->
                 log.info(
                     "Created forest client {} {}",
@@ -149,25 +175,23 @@ public abstract class LegacyAbstractPersistenceService {
                     forestClientNumber
                 )
             )
-            // Create the doing business as IF exists
-            .flatMap(clientNumber -> createClientDoingBusinessAs(message, clientNumber))
             // Updates the submission detail with the client number
             .flatMap(clientNumber ->
-                submissionDetailRepository
-                    .findBySubmissionId(
-                        (Integer) message.parameters().get(ApplicationConstant.SUBMISSION_ID)
-                    )
-                    .map(submissionDetail -> submissionDetail.withClientNumber(clientNumber))
-                    .doOnNext(submissionDetail ->
-                        log.info(
-                            "Updating submission detail for persistence on oracle {} {} {}",
-                            clientNumber,
-                            submissionDetail.getOrganizationName(),
-                            submissionDetail.getRegistrationNumber()
+                StringUtils.isNotBlank(existingClientNumber)
+                    ? Mono.just(existingClientNumber)
+                    : submissionDetailRepository
+                        .findBySubmissionId(submissionId)
+                        .map(submissionDetail -> submissionDetail.withClientNumber(clientNumber))
+                        .doOnNext(submissionDetail ->
+                            log.info(
+                                "Updating submission detail for persistence on oracle {} {} {}",
+                                clientNumber,
+                                submissionDetail.getOrganizationName(),
+                                submissionDetail.getRegistrationNumber()
+                            )
                         )
-                    )
-                    .flatMap(submissionDetailRepository::save)
-                    .map(SubmissionDetailEntity::getClientNumber)
+                        .flatMap(submissionDetailRepository::save)
+                        .map(SubmissionDetailEntity::getClientNumber)
             )
             .doOnNext(forestClientNumber ->
                 log.info(
@@ -178,7 +202,7 @@ public abstract class LegacyAbstractPersistenceService {
             )
             .map(forestClientNumber ->
                 new MessagingWrapper<>(
-                    (Integer) message.parameters().get(ApplicationConstant.SUBMISSION_ID),
+                    submissionId,
                     message.parameters()
                 )
                     .withParameter(ApplicationConstant.FOREST_CLIENT_NUMBER, forestClientNumber)
@@ -186,113 +210,87 @@ public abstract class LegacyAbstractPersistenceService {
   }
 
   /**
-   * Creates a location if it does not exist on oracle. The creation happens by
-   * sending a request to the legacy service.
+   * Loads the submission locations, in the order that defines their location code.
    *
-   * @param message A message containing the submission id
-   * @return A flux of messages containing the submission id and the location id
+   * @param submissionId The submission id
+   * @return A mono with the list of submission locations
    */
-  public Flux<MessagingWrapper<Integer>> createLocations(MessagingWrapper<Integer> message) {
-
-    Flux<SubmissionLocationEntity> data = locationRepository.findBySubmissionId(
-            message.payload()
-        )
+  private Mono<List<SubmissionLocationEntity>> loadLocations(Integer submissionId) {
+    return locationRepository
+        .findBySubmissionId(submissionId)
         .doOnNext(submissionLocation ->
             log.info(
                 "Loaded submission location [{}] {} for persistence on oracle for submission {}",
                 submissionLocation.getSubmissionLocationId(),
                 submissionLocation.getName(),
-                message.payload()
+                submissionId
             )
-        );
-
-    return data
-        .index((index, detail) ->
-            legacyService
-                .createLocation(
-                    detail,
-                    getClientNumber(message),
-                    index,
-                    getUser(message, ApplicationConstant.CREATED_BY)
-                )
-                .delayElement(Duration.ofSeconds(1)) //This is to prevent same creation time
-                .map(forestClient ->
-                    new MessagingWrapper<>(
-                        message.payload(),
-                        message.parameters()
-                    )
-                        .withParameter(ApplicationConstant.LOCATION_ID,
-                            detail.getSubmissionLocationId()
-                        )
-                        .withParameter(ApplicationConstant.LOCATION_CODE,
-                            String.format("%02d", index))
-                )
         )
-        .flatMap(Function.identity());
-
+        .collectList();
   }
 
   /**
-   * Creates a contact if does not exist on oracle. It first checks for an existing entry and if it
-   * does not have, create it.
+   * Loads the contacts of each submission location, one entry per location the contact is
+   * associated with.
+   *
+   * @param message A message containing the client being created
+   * @param locations The submission locations, in the order that defines their location code
+   * @return A flux of contacts to be created
    */
-  public Mono<MessagingWrapper<Integer>> createContact(MessagingWrapper<Integer> message) {
-
-    // Load all contacts for this location
-    return locationContactRepository
-        .findBySubmissionLocationId(
-            (Integer) message.parameters().get(ApplicationConstant.LOCATION_ID)
-        )
-        // Load the contact detail
-        .flatMap(locationContact ->
-            contactRepository
-                .findById(locationContact.getSubmissionContactId())
-        )
-        // Log the contact detail
-        .doOnNext(submissionContact ->
-            log.info(
-                "Loaded submission contact for persistence on oracle "
-                    + "Submission: {} Contact {} {} Location Code {}",
-                message.payload(),
-                submissionContact.getFirstName(),
-                submissionContact.getLastName(),
-                message.parameters().get(ApplicationConstant.LOCATION_CODE)
-            )
-        )
-        //Delay to avoid conflicts
-        .delayElements(Duration.ofSeconds(1), Schedulers.newSingle("contact-creation"))
-        // Convert it to a DTO
-        .map(submissionContact ->
-            new ForestClientContactDto(
-                getClientNumber(message),
-                message.parameters().get(ApplicationConstant.LOCATION_CODE).toString(),
-                submissionContact.getContactTypeCode(),
-                String.format("%s %s", submissionContact.getFirstName(),
-                    submissionContact.getLastName()).toUpperCase(Locale.ROOT),
-                RegExUtils.replaceAll(submissionContact.getBusinessPhoneNumber(), "\\D",
-                    StringUtils.EMPTY),
-                RegExUtils.replaceAll(
-                    StringUtils.defaultString(submissionContact.getSecondaryPhoneNumber()),
-                    "\\D",
-                    StringUtils.EMPTY
-                ),
-                RegExUtils.replaceAll(
-                    StringUtils.defaultString(submissionContact.getFaxNumber()),
-                    "\\D",
-                    StringUtils.EMPTY
-                ),
-                submissionContact.getEmailAddress(),
-                getUser(message, ApplicationConstant.CREATED_BY),
-                getUser(message, ApplicationConstant.UPDATED_BY),
-                ApplicationConstant.ORG_UNIT
-            )
-        )
-        // Send it to the legacy service for processing
-        .flatMap(legacyService::createContact)
-        // Gets all back in sequence
-        .collectList()
-        // Move on to the next step
-        .thenReturn(message);
+  private Flux<ForestClientContactDto> loadContacts(
+      MessagingWrapper<ForestClientDto> message,
+      List<SubmissionLocationEntity> locations
+  ) {
+    return Flux
+        .fromIterable(locations)
+        .index()
+        .concatMap(location ->
+            // Load all contacts for this location
+            locationContactRepository
+                .findBySubmissionLocationId(location.getT2().getSubmissionLocationId())
+                // Load the contact detail
+                .concatMap(locationContact ->
+                    contactRepository
+                        .findById(locationContact.getSubmissionContactId())
+                )
+                // Log the contact detail
+                .doOnNext(submissionContact ->
+                    log.info(
+                        "Loaded submission contact for persistence on oracle "
+                            + "Submission: {} Contact {} {} Location Code {}",
+                        location.getT2().getSubmissionId(),
+                        submissionContact.getFirstName(),
+                        submissionContact.getLastName(),
+                        String.format("%02d", location.getT1())
+                    )
+                )
+                // Convert it to a DTO
+                .map(submissionContact ->
+                    new ForestClientContactDto(
+                        message.payload().clientNumber(),
+                        String.format("%02d", location.getT1()),
+                        submissionContact.getContactTypeCode(),
+                        String.format("%s %s", submissionContact.getFirstName(),
+                            submissionContact.getLastName()).toUpperCase(Locale.ROOT),
+                        RegExUtils.replaceAll(submissionContact.getBusinessPhoneNumber(), "\\D",
+                            StringUtils.EMPTY),
+                        RegExUtils.replaceAll(
+                            StringUtils.defaultString(submissionContact.getSecondaryPhoneNumber()),
+                            "\\D",
+                            StringUtils.EMPTY
+                        ),
+                        RegExUtils.replaceAll(
+                            StringUtils.defaultString(submissionContact.getFaxNumber()),
+                            "\\D",
+                            StringUtils.EMPTY
+                        ),
+                        submissionContact.getEmailAddress(),
+                        getUser(message, ApplicationConstant.CREATED_BY),
+                        getUser(message, ApplicationConstant.UPDATED_BY),
+                        ApplicationConstant.ORG_UNIT
+                    )
+                )
+        );
   }
 
   protected ForestClientDto getBaseForestClient(String createdBy, String updatedBy) {
@@ -329,48 +327,75 @@ public abstract class LegacyAbstractPersistenceService {
     );
   }
 
-  private String getClientNumber(MessagingWrapper<?> message) {
-    return message.parameters().get(ApplicationConstant.FOREST_CLIENT_NUMBER).toString();
-  }
-
-  private Mono<String> createClientDoingBusinessAs(MessagingWrapper<ForestClientDto> message,
-      String clientNumber) {
+  private Mono<ClientDoingBusinessAsDto> loadDoingBusinessAs(
+      MessagingWrapper<ForestClientDto> message
+  ) {
     return Mono
-        .just(clientNumber)
+        .just(message)
         //FSADT1-1388: Allow doing business as based on parameter
-        .filter(
-            forestClientNumber ->
-                Boolean.TRUE.equals(message
-                    .getParameter(
-                        ApplicationConstant.IS_DOING_BUSINESS_AS,
-                        Boolean.class
-                    )
+        .filter(forestClient ->
+            Boolean.TRUE.equals(message
+                .getParameter(
+                    ApplicationConstant.IS_DOING_BUSINESS_AS,
+                    Boolean.class
                 )
-        )
-        .doOnNext(forestClientNumber ->
-            log.info(
-                "Creating doing business as for {} {}",
-                forestClientNumber,
-                message.parameters().get(ApplicationConstant.DOING_BUSINESS_AS)
             )
         )
-        .flatMap(forestClientNumber ->
-            legacyService
-                .createDoingBusinessAs(
-                    forestClientNumber,
-                    message.parameters().get(ApplicationConstant.DOING_BUSINESS_AS).toString(),
-                    getUser(message, ApplicationConstant.CREATED_BY),
-                    getUser(message, ApplicationConstant.UPDATED_BY)
-                )
-        )
-        .doOnNext(forestClientNumber ->
+        .doOnNext(forestClient ->
             log.info(
-                "Created doing business as for {} {}",
-                forestClientNumber,
+                "Loaded doing business as {} for {}",
+                message.parameters().get(ApplicationConstant.DOING_BUSINESS_AS),
                 message.parameters().get(ApplicationConstant.FOREST_CLIENT_NAME)
             )
         )
-        .defaultIfEmpty(clientNumber);
+        .map(forestClient ->
+            new ClientDoingBusinessAsDto(
+                forestClient.payload().clientNumber(),
+                message.parameters().get(ApplicationConstant.DOING_BUSINESS_AS).toString(),
+                Objects.toString(
+                    message.parameters().get(ApplicationConstant.CREATED_BY),
+                    ApplicationConstant.PROCESSOR_USER_NAME
+                ),
+                Objects.toString(
+                    message.parameters().get(ApplicationConstant.UPDATED_BY),
+                    ApplicationConstant.PROCESSOR_USER_NAME
+                ),
+                ApplicationConstant.ORG_UNIT
+            )
+        );
+  }
+
+  private ForestClientLocationDto toLocation(
+      SubmissionLocationEntity detail,
+      String clientNumber,
+      Long index,
+      String user
+  ) {
+    return
+        new ForestClientLocationDto(
+            clientNumber,
+            String.format("%02d", index),
+            detail.getName().toUpperCase(Locale.ROOT),
+            detail.getAddressValue1(),
+            detail.getAddressValue2(),
+            detail.getAddressValue3(),
+            detail.getCityName().toUpperCase(Locale.ROOT),
+            detail.getProvinceCode().toUpperCase(Locale.ROOT),
+            detail.getPostalCode(),
+            detail.getCountryCode().toUpperCase(Locale.ROOT),
+            RegExUtils.replaceAll(detail.getBusinessPhoneNumber(), "\\D", StringUtils.EMPTY),
+            StringUtils.EMPTY,
+            RegExUtils.replaceAll(detail.getSecondaryPhoneNumber(), "\\D", StringUtils.EMPTY),
+            RegExUtils.replaceAll(detail.getFaxNumber(), "\\D", StringUtils.EMPTY),
+            StringUtils.defaultString(detail.getEmailAddress()),
+            "N",
+            null,
+            "N",
+            StringUtils.defaultString(detail.getNotes()),
+            user, user,
+            ApplicationConstant.ORG_UNIT,
+            ApplicationConstant.ORG_UNIT
+        );
   }
 
 }
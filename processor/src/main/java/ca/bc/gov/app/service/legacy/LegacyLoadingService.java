@@ -1,24 +1,41 @@
 package ca.bc.gov.app.service.legacy;
 
 import ca.bc.gov.app.ApplicationConstant;
+import ca.bc.gov.app.configuration.ForestClientConfiguration;
 import ca.bc.gov.app.dto.MatcherResult;
 import ca.bc.gov.app.dto.MessagingWrapper;
 import ca.bc.gov.app.dto.SubmissionInformationDto;
+import ca.bc.gov.app.matchers.MatcherLookup;
 import ca.bc.gov.app.matchers.ProcessorMatcher;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+/**
+ * Runs the enabled matchers of a submission in parallel. Identical legacy lookups done by
+ * different matchers are only sent once per submission, see {@link MatcherLookup}, and the whole
+ * run is bounded by {@code ca.bc.gov.nrs.processor.matchTimeout}. The time taken by each matcher is
+ * recorded in the {@code processor.matcher.latency} timer.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class LegacyLoadingService {
 
+  private static final Duration DEFAULT_MATCH_TIMEOUT = Duration.ofSeconds(30);
+
   private final List<ProcessorMatcher> matchers;
+  private final MeterRegistry registry;
+  private final ForestClientConfiguration configuration;
 
   public Mono<MessagingWrapper<List<MatcherResult>>> matchCheck(
       MessagingWrapper<SubmissionInformationDto> eventMono
@@ -38,15 +55,51 @@ public class LegacyLoadingService {
   }
 
   private Mono<List<MatcherResult>> validateSubmission(SubmissionInformationDto message) {
+    Duration timeout = getMatchTimeout();
+
     return Flux
         .fromIterable(matchers)
         .filter(matcher -> matcher.enabled(message))
         .doOnNext(matcher -> log.info("Running {}", matcher.name()))
         //If matcher returns empty, all good, if not, it is a problem
-        .flatMap(matcher -> matcher.matches(message))
+        .flatMap(matcher -> timed(matcher, message))
         .filter(MatcherResult::hasMatch)
         .doOnNext(results -> log.info("Matched a result {}", results))
-        .collectList();
+        .collectList()
+        // A submission that can't be fully matched is not approved, it is retried later
+        .timeout(timeout)
+        .doOnError(throwable -> log.error(
+            "Matching submission {} failed or took longer than {}",
+            message.submissionId(),
+            timeout,
+            throwable
+        ))
+        .contextWrite(MatcherLookup::withRun);
+  }
+
+  private Mono<MatcherResult> timed(ProcessorMatcher matcher, SubmissionInformationDto message) {
+    return Mono.defer(() -> {
+      Timer.Sample sample = Timer.start(registry);
+      return matcher
+          .matches(message)
+          .doFinally(signalType -> {
+            long elapsed = sample.stop(
+                Timer
+                    .builder("processor.matcher.latency")
+                    .description("Time taken by each matcher")
+                    .tag("matcher", matcher.name())
+                    .register(registry)
+            );
+            log.info("{} took {} ms", matcher.name(), TimeUnit.NANOSECONDS.toMillis(elapsed));
+          });
+    });
+  }
+
+  private Duration getMatchTimeout() {
+    return Optional
+        .ofNullable(configuration.getProcessor())
+        .map(ForestClientConfiguration.ProcessorConfiguration::getMatchTimeout)
+        .orElse(DEFAULT_MATCH_TIMEOUT);
   }
 
 }
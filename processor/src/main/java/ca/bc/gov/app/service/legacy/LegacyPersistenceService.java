@@ -38,19 +38,6 @@ public class LegacyPersistenceService {
                     .flatMap(service::checkClientData)
                     .flatMap(service::generateForestClient)
                     .flatMap(service::createForestClient)
-                    .flatMap(submission ->
-                        service
-                            .createLocations(submission)
-                            .flatMap(service::createContact)
-                            .collectList()
-                    )
-            )
-            .map(submissionList ->
-                new MessagingWrapper<>(
-                    (Integer) submissionList.get(0).parameters()
-                        .get(ApplicationConstant.SUBMISSION_ID),
-                    submissionList.get(0).parameters()
-                )
             );
 
   }
@@ -0,0 +1,37 @@
+package ca.bc.gov.app.service.processor;
+
+import ca.bc.gov.app.dto.SubmissionEventDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+/**
+ * An in-process stand-in for the postgres notifications, used when the database does not notify
+ * submission events, such as during tests. Events are only emitted when published.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(value = "ca.bc.gov.nrs.processor.events", havingValue = "local")
+public class LocalSubmissionEventSource implements SubmissionEventSource {
+
+  private final Sinks.Many<SubmissionEventDto> sink =
+      Sinks.many().multicast().directBestEffort();
+
+  /**
+   * Publishes a submission event to the current listeners.
+   *
+   * @param event The submission event.
+   */
+  public void publish(SubmissionEventDto event) {
+    Sinks.EmitResult result = sink.tryEmitNext(event);
+    log.info("Published local submission event {} with result {}", event, result);
+  }
+
+  @Override
+  public Flux<SubmissionEventDto> events() {
+    return sink.asFlux();
+  }
+
+}
@@ -0,0 +1,77 @@
+package ca.bc.gov.app.service.processor;
+
+import ca.bc.gov.app.configuration.ForestClientConfiguration;
+import ca.bc.gov.app.dto.SubmissionEventDto;
+import io.r2dbc.postgresql.api.Notification;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.postgresql.api.PostgresqlResult;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * Listens to the {@code submission_events} channel, notified by the submission table trigger. The
+ * listener holds its own connection, outside the r2dbc pool, as a pooled connection would be kept
+ * busy forever. If the connection drops, it is opened again and the scheduled safety net picks up
+ * anything notified in between.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(
+    value = "ca.bc.gov.nrs.processor.events",
+    havingValue = "postgres",
+    matchIfMissing = true
+)
+public class PostgresSubmissionEventSource implements SubmissionEventSource {
+
+  private static final String CHANNEL = "submission_events";
+
+  private final ConnectionFactory connectionFactory;
+
+  public PostgresSubmissionEventSource(ForestClientConfiguration configuration) {
+    this.connectionFactory = ConnectionFactories.get(
+        ConnectionFactoryOptions
+            .parse(configuration.getPostgres().getUrl())
+            .mutate()
+            .option(ConnectionFactoryOptions.USER, configuration.getPostgres().getUsername())
+            .option(ConnectionFactoryOptions.PASSWORD, configuration.getPostgres().getPassword())
+            .build()
+    );
+  }
+
+  @Override
+  public Flux<SubmissionEventDto> events() {
+    return Flux
+        .usingWhen(
+            Mono.from(connectionFactory.create()).cast(PostgresqlConnection.class),
+            connection ->
+                connection
+                    .createStatement("LISTEN " + CHANNEL)
+                    .execute()
+                    .flatMap(PostgresqlResult::getRowsUpdated)
+                    .doOnComplete(() -> log.info("Listening for submission events"))
+                    .thenMany(connection.getNotifications()),
+            PostgresqlConnection::close
+        )
+        .mapNotNull(Notification::getParameter)
+        .doOnNext(payload -> log.info("Received submission event {}", payload))
+        .map(SubmissionEventDto::fromPayload)
+        .retryWhen(
+            Retry
+                .backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+                .maxBackoff(Duration.ofMinutes(1))
+                .doBeforeRetry(retrySignal -> log.warn(
+                    "Submission events listener failed, reconnecting: {}",
+                    retrySignal.failure().getMessage()
+                ))
+        );
+  }
+
+}
@@ -0,0 +1,118 @@
+package ca.bc.gov.app.service.processor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Runs the processor pipelines in stages with a bounded concurrency, and measures them. Each job
+ * reports how many submissions were taken and not finished yet, and each stage reports how many
+ * submissions are in flight and how long it takes for each one.
+ *
+ * <ul>
+ *   <li>{@code processor.queue.depth} gauge, tagged by job</li>
+ *   <li>{@code processor.stage.inflight} gauge, tagged by job and stage</li>
+ *   <li>{@code processor.stage.latency} timer, tagged by job and stage</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProcessorMetrics {
+
+  private final MeterRegistry registry;
+
+  private final Map<String, AtomicInteger> queued = new ConcurrentHashMap<>();
+  private final Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+  private final Map<String, Timer> latency = new ConcurrentHashMap<>();
+
+  /**
+   * Counts each submission taken by the job as queued, until it finishes the pipeline.
+   */
+  public <T> Function<Flux<T>, Flux<T>> enqueue(String job) {
+    return flux -> flux.doOnNext(item -> queue(job).incrementAndGet());
+  }
+
+  /**
+   * Marks each submission that reached the end of the pipeline as finished.
+   */
+  public <T> Function<Flux<T>, Flux<T>> dequeue(String job) {
+    return flux -> flux.doOnNext(item -> queue(job).decrementAndGet());
+  }
+
+  /**
+   * Runs a stage of the pipeline, with at most {@code concurrency} submissions at once. Upstream
+   * is only requested for more submissions once one of them leaves the stage. A submission that
+   * fails or produces nothing leaves the pipeline here, without affecting the others.
+   *
+   * @param job         the job running the pipeline
+   * @param stage       the stage name
+   * @param concurrency the maximum number of submissions in this stage at once
+   * @param step        the stage work for a single submission
+   */
+  public <T, R> Function<Flux<T>, Flux<R>> stage(
+      String job,
+      String stage,
+      int concurrency,
+      Function<T, Mono<R>> step
+  ) {
+    AtomicInteger running = inFlight(job, stage);
+    Timer timer = timer(job, stage);
+
+    return flux -> flux.flatMap(item ->
+            Mono
+                .defer(() -> {
+                  running.incrementAndGet();
+                  Timer.Sample sample = Timer.start(registry);
+                  return step
+                      .apply(item)
+                      .doFinally(signalType -> {
+                        running.decrementAndGet();
+                        sample.stop(timer);
+                      });
+                })
+                .onErrorResume(throwable -> {
+                  log.error("Error on {} stage of {} for {}", stage, job, item, throwable);
+                  return Mono.empty();
+                })
+                .switchIfEmpty(Mono.fromRunnable(() -> queue(job).decrementAndGet())),
+        Math.max(1, concurrency)
+    );
+  }
+
+  private AtomicInteger queue(String job) {
+    return queued.computeIfAbsent(job, key ->
+        registry.gauge("processor.queue.depth", Tags.of("job", job), new AtomicInteger())
+    );
+  }
+
+  private AtomicInteger inFlight(String job, String stage) {
+    return inFlight.computeIfAbsent(job + "." + stage, key ->
+        registry.gauge(
+            "processor.stage.inflight",
+            Tags.of("job", job, "stage", stage),
+            new AtomicInteger()
+        )
+    );
+  }
+
+  private Timer timer(String job, String stage) {
+    return latency.computeIfAbsent(job + "." + stage, key ->
+        Timer
+            .builder("processor.stage.latency")
+            .description("Time taken by a submission on each processor stage")
+            .tags("job", job, "stage", stage)
+            .register(registry)
+    );
+  }
+
+}
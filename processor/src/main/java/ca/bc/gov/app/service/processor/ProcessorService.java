@@ -1,9 +1,15 @@
 package ca.bc.gov.app.service.processor;
 
 import ca.bc.gov.app.ApplicationConstant;
+import ca.bc.gov.app.configuration.ForestClientConfiguration;
+import ca.bc.gov.app.configuration.ForestClientConfiguration.ConcurrencyConfiguration;
+import ca.bc.gov.app.configuration.ForestClientConfiguration.ProcessorConfiguration;
+import ca.bc.gov.app.dto.MatcherResult;
 import ca.bc.gov.app.dto.MessagingWrapper;
+import ca.bc.gov.app.dto.SubmissionEventDto;
 import ca.bc.gov.app.dto.SubmissionProcessKindEnum;
 import ca.bc.gov.app.dto.SubmissionProcessTypeEnum;
+import ca.bc.gov.app.entity.SubmissionMatchDetailEntity;
 import ca.bc.gov.app.entity.SubmissionStatusEnum;
 import ca.bc.gov.app.repository.SubmissionRepository;
 import ca.bc.gov.app.service.client.ClientSubmissionAutoProcessingService;
@@ -12,18 +18,49 @@ import ca.bc.gov.app.service.client.ClientSubmissionMailService;
 import ca.bc.gov.app.service.client.ClientSubmissionProcessingService;
 import ca.bc.gov.app.service.legacy.LegacyLoadingService;
 import ca.bc.gov.app.service.legacy.LegacyPersistenceService;
+import jakarta.annotation.PreDestroy;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+/**
+ * Runs the submission pipelines, either from submission events or from the scheduled safety net.
+ * Each pipeline is split in stages (loading, matching and persistence), each one with its own
+ * concurrency limit, so a backlog is drained at a controlled pace instead of all at once. Emails
+ * are queued in the same transaction that changes the submission, and sent later by the backend.
+ *
+ * <p>Several processor instances can run at once. Each submission is claimed with a lease before
+ * being processed, so only one instance processes it at a time, and the lease is released in the
+ * same transaction that completes the submission. A submission that leaves the pipeline without
+ * being completed, either filtered out or failed on a stage, has its lease released right away, so
+ * it can be claimed again, such as by the backend triggering a staff submission. If an instance
+ * stops before that, the submission is claimed again by the safety net once the lease expires.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ProcessorService {
 
+  private static final String PENDING_JOB = "pending";
+  private static final String EXTERNAL_JOB = "external";
+  private static final String STAFF_JOB = "staff";
+
   private final SubmissionRepository submissionRepository;
   private final ClientSubmissionLoadingService submissionLoadingService;
   private final LegacyLoadingService legacyLoadingService;
@@ -31,112 +68,119 @@ public class ProcessorService {
   private final ClientSubmissionProcessingService submissionProcessingService;
   private final ClientSubmissionMailService mailService;
   private final LegacyPersistenceService legacyPersistenceService;
+  private final SubmissionEventSource eventSource;
+  private final ProcessorMetrics metrics;
+  private final ForestClientConfiguration configuration;
+  private final TransactionalOperator transactionalOperator;
+
+  private final Map<String, AtomicBoolean> runningJobs = new ConcurrentHashMap<>();
+
+  private Disposable subscription;
 
   /**
-   * Process newly created submissions each 30 seconds
+   * Starts listening for submission events once the application is ready, so submissions are
+   * processed as soon as they are created or change status. Staff submissions are not handled
+   * here, as the backend triggers their processing directly through the {@code /api/processor}
+   * endpoint.
    */
-  @Scheduled(fixedDelay = 30_000)
-  public void submissionMessages() {
-    //Load submission
-    submissionRepository
-        .loadProcessingSubmissions()
-        .doOnNext(submission -> log.info("Loading submission for processing {}", submission))
-        //Load details
-        .flatMap(submissionLoadingService::loadSubmissionDetails)
-        .doOnNext(submission -> log.info("Submission loaded, checking for matches {}",
-            submission.parameters().get(
-                ApplicationConstant.SUBMISSION_ID))
-        )
-        //Check matches
-        .flatMap(legacyLoadingService::matchCheck)
-        .doOnNext(
-            submission ->
-                log.info("Submission matches checked {} {}",
-                    submission.parameters().get(ApplicationConstant.SUBMISSION_ID),
-                    submission.parameters().get(ApplicationConstant.SUBMISSION_STATUS)
-                )
-        )
-        //Mark as approved or for review
-        .flatMap(submission ->
-            Mono.just(submission)
-                //If is true, means no matches, so auto-approved
-                .filter(submissionStatus -> Boolean.TRUE.equals(submissionStatus.parameters().get(
-                    ApplicationConstant.SUBMISSION_STATUS))
+  @EventListener(ApplicationReadyEvent.class)
+  public void listenForEvents() {
+    subscription = eventSource
+        .events()
+        .publish(events ->
+            Flux.merge(
+                newSubmissions(
+                    claim(
+                        events
+                            .filter(SubmissionEventDto::isPendingProcessing)
+                            .map(SubmissionEventDto::submissionId)
+                    )
+                ),
+                processedSubmissions(
+                    EXTERNAL_JOB,
+                    claim(
+                        events
+                            .filter(SubmissionEventDto::isExternalProcessed)
+                            .map(SubmissionEventDto::submissionId)
+                    )
+                        .map(submissionId ->
+                            toMessage(submissionId, SubmissionProcessTypeEnum.EXTERNAL)
+                        )
                 )
-                .flatMap(autoProcessingService::approved)
-                //If filter is false, means there are matches, so send to manual review
-                .switchIfEmpty(autoProcessingService.reviewed(submission))
-        )
-        .doOnNext(submission -> log.info("Submission processed {} as {}",
-                submission.payload(),
-                submission.parameters().get(ApplicationConstant.SUBMISSION_TYPE)
             )
         )
-        //Build mail message and send it
-        .flatMap(submissionLoadingService::buildMailMessage)
-        .doOnNext(
-            message -> log.info("Post submission analysis email ready to be sent {}", message))
-        .flatMap(mailService::sendMail)
-        .subscribe();
+        .subscribe(
+            submission -> log.info("Submission event handled {}", submission),
+            throwable -> log.error("Submission events listener stopped", throwable)
+        );
+  }
+
+  @PreDestroy
+  public void stopListening() {
+    if (subscription != null) {
+      subscription.dispose();
+    }
   }
 
   /**
-   * Process external approved and rejected submissions each 30 seconds, but with an initial delay
-   * after the application starts of 10 seconds
+   * Safety net for newly created submissions that were not notified, such as when the events
+   * listener was reconnecting.
    */
-  @Scheduled(fixedDelay = 30_000, initialDelay = 10_000)
+  @Scheduled(fixedDelayString = "${ca.bc.gov.nrs.processor.safetyNet:PT5M}")
+  public void submissionMessages() {
+    runExclusive(PENDING_JOB, () ->
+        //Claim the submissions pending processing
+        newSubmissions(claimBatches(submissionRepository::claimProcessingSubmissions))
+    );
+  }
+
+  /**
+   * Safety net for external approved and rejected submissions that were not notified, with an
+   * initial delay after the application starts of 10 seconds
+   */
+  @Scheduled(
+      fixedDelayString = "${ca.bc.gov.nrs.processor.safetyNet:PT5M}",
+      initialDelay = 10_000
+  )
   public void processedMessages() {
-    //Load the submissions that were processed
-    submissionRepository
-        .loadProcessedSubmissions()
-        .map(submissionId ->
-            new MessagingWrapper<>(
-                submissionId,
-                Map.of(
-                    ApplicationConstant.SUBMISSION_ID, submissionId,
-                    ApplicationConstant.SUBMISSION_STARTER, SubmissionProcessTypeEnum.EXTERNAL
-                )
-            )
+    runExclusive(EXTERNAL_JOB, () ->
+        processedSubmissions(
+            EXTERNAL_JOB,
+            //Claim the submissions that were processed
+            claimBatches(submissionRepository::claimProcessedSubmissions)
+                .map(submissionId -> toMessage(submissionId, SubmissionProcessTypeEnum.EXTERNAL))
         )
-        .flatMap(autoProcessingService::loadMatchingInfo)
-        //Call the processedMessage method
-        .flatMap(this::processedMessage)
-        .subscribe();
+    );
   }
 
   /**
-   * Process staff submitted submissions that failed to complete each 10 seconds, but with an
-   * initial delay after the application starts of 5 seconds.
+   * Safety net for staff submitted submissions that failed to complete, with an initial delay after
+   * the application starts of 5 seconds.
    * <p>The failed to complete part here is important</p>
    * It means that the submission was processed, but failed in the middle of the process, so it
    * needs to be reprocessed.
    */
-  @Scheduled(fixedDelay = 10_000, initialDelay = 5_000)
+  @Scheduled(
+      fixedDelayString = "${ca.bc.gov.nrs.processor.safetyNet:PT5M}",
+      initialDelay = 5_000
+  )
   public void processStaffSubmitted() {
-    //Load the submissions that were processed
-    submissionRepository
-        .loadStaffSubmissions()
-        .map(submissionId ->
-            new MessagingWrapper<>(
-                submissionId,
-                Map.of(
-                    ApplicationConstant.SUBMISSION_ID, submissionId,
-                    ApplicationConstant.SUBMISSION_STARTER, SubmissionProcessTypeEnum.STAFF
-                )
-            )
+    runExclusive(STAFF_JOB, () ->
+        processedSubmissions(
+            STAFF_JOB,
+            //Claim the submissions that were processed
+            claimBatches(submissionRepository::claimStaffSubmissions)
+                .map(submissionId -> toMessage(submissionId, SubmissionProcessTypeEnum.STAFF))
         )
-        .flatMap(autoProcessingService::loadMatchingInfo)
-        //Call the processedMessage method
-        .flatMap(this::processedMessage)
-        .subscribe();
+    );
   }
 
   /**
    * Processes a submission message based on its ID and type.
    * <p>
    * This method wraps the submission ID and type into a {@link MessagingWrapper}
-   * object, then calls the overloaded {@code processedMessage} method to handle the
-   * processing.
+   * object, then runs it through the same stages as the scheduled processing. If the submission
+   * is being processed by another instance, it is not processed again.
    * </p>
    *
    * @param submissionId   the ID of the submission to be processed
@@ -149,90 +193,331 @@ public class ProcessorService {
       Integer submissionId,
       SubmissionProcessTypeEnum submissionType
   ) {
-    return Mono.just(
-            new MessagingWrapper<>(
-                submissionId,
-                Map.of(
-                    ApplicationConstant.SUBMISSION_ID, submissionId,
-                    ApplicationConstant.SUBMISSION_STARTER, submissionType
+    return processedSubmissions(
+        SubmissionProcessTypeEnum.STAFF.equals(submissionType) ? STAFF_JOB : EXTERNAL_JOB,
+        claim(Flux.just(submissionId))
+            .map(claimed -> toMessage(claimed, submissionType))
+    )
+        .next();
+  }
+
+  /**
+   * Runs a scheduled job, unless the previous run of the same job is still going. This prevents a
+   * slow run, such as one draining a backlog, from having the same submissions picked up again.
+   */
+  private void runExclusive(String job, Supplier<Flux<?>> run) {
+    AtomicBoolean running = runningJobs.computeIfAbsent(job, key -> new AtomicBoolean());
+
+    if (!running.compareAndSet(false, true)) {
+      log.info("Skipping {} submissions run, as the previous one is still running", job);
+      return;
+    }
+
+    Mono
+        .defer(() -> run.get().count())
+        .doFinally(signalType -> running.set(false))
+        .subscribe(
+            count -> log.info("Finished {} submissions run with {} submissions", job, count),
+            throwable -> log.error("Error running {} submissions", job, throwable)
+        );
+  }
+
+  /**
+   * Runs the newly created submissions through the matchers, marks them as approved or for review
+   * and queues the email with the result.
+   */
+  private Flux<String> newSubmissions(Flux<Integer> submissionIds) {
+    ConcurrencyConfiguration concurrency = getConcurrency();
+
+    return submissionIds
+        .doOnNext(submission -> log.info("Loading submission for processing {}", submission))
+        .transform(metrics.enqueue(PENDING_JOB))
+        //Load details
+        .transform(metrics.stage(
+            PENDING_JOB,
+            "loading",
+            concurrency.getLoading(),
+            releaseOnDrop(Function.identity(), submissionLoadingService::loadSubmissionDetails)
+        ))
+        .doOnNext(submission -> log.info("Submission loaded, checking for matches {}",
+            submission.parameters().get(
+                ApplicationConstant.SUBMISSION_ID))
+        )
+        //Check matches
+        .transform(metrics.stage(
+            PENDING_JOB,
+            "matching",
+            concurrency.getMatching(),
+            releaseOnDrop(ProcessorService::submissionId, legacyLoadingService::matchCheck)
+        ))
+        .doOnNext(
+            submission ->
+                log.info("Submission matches checked {} {}",
+                    submission.parameters().get(ApplicationConstant.SUBMISSION_ID),
+                    submission.parameters().get(ApplicationConstant.SUBMISSION_STATUS)
                 )
-            )
         )
-        .flatMap(autoProcessingService::loadMatchingInfo)
-        //Call the processedMessage method
-        .flatMap(this::processedMessage);
+        //Mark as approved or for review, and queue the mail message
+        .transform(metrics.stage(
+            PENDING_JOB,
+            "persistence",
+            concurrency.getPersistence(),
+            releaseOnDrop(ProcessorService::submissionId, this::approveOrReview)
+        ))
+        .transform(metrics.dequeue(PENDING_JOB));
   }
 
   /**
-   * Processes a submission message based on its ID and type.
+   * Processes approved and rejected submissions.
    * <p>
-   * This method wraps the submission ID and type into a {@link MessagingWrapper} object, then
-   * proceeds through a series of steps to process the submission. Initially, it loads matching
-   * information for the submission. After loading, it processes the submission and checks if it is
-   * approved or auto-approved. If approved, the submission is persisted in the legacy system. If
-   * not approved, it proceeds to complete the processing without persistence. Finally, it builds
-   * and sends an email regarding the post-processing status.
+   * Initially, it loads matching information for the submission. After loading, it processes the
+   * submission and checks if it is approved or auto-approved. If approved, the submission is
+   * persisted in the legacy system. If not approved, it proceeds to complete the processing without
+   * persistence. Finally, it builds and queues an email regarding the post-processing status.
    * </p>
-   * If any error occurs during the processing, it logs the error and continues with the next
-   * operations.
-   *
-   * @param submissionWrapper a {@link MessagingWrapper} object containing the submission ID and
-   *                          type
-   * @return a {@link Mono<String>} that completes when the processing is done. The Mono emits the
-   * ID of the processed submission or an error signal if an error occurs during processing.
+   * If any error occurs while processing a submission, it is logged and the other submissions
+   * continue.
    */
-  private Mono<String> processedMessage(MessagingWrapper<Integer> submissionWrapper) {
-    log.info("Processing submission {} of type {}",
-        submissionWrapper.payload(),
-        submissionWrapper.getParameter(ApplicationConstant.SUBMISSION_STARTER, String.class)
-    );
-    return
-        //Little wrapper to make it easier to pass around
-        Mono
-            .just(submissionWrapper)
-            // Only process HOT submissions, see
-            // ClientSubmissionAutoProcessingService.loadMatchingInfo for info.
-            .filter(submission -> submission.getParameter(ApplicationConstant.MATCHING_KIND,
-                SubmissionProcessKindEnum.class) == SubmissionProcessKindEnum.HOT
+  private Flux<String> processedSubmissions(
+      String job,
+      Flux<MessagingWrapper<Integer>> submissions
+  ) {
+    ConcurrencyConfiguration concurrency = getConcurrency();
+
+    return submissions
+        .doOnNext(submission -> log.info("Processing submission {} of type {}",
+            submission.payload(),
+            submission.parameters().get(ApplicationConstant.SUBMISSION_STARTER)
+        ))
+        .transform(metrics.enqueue(job))
+        //Process the submission by loading some information
+        .transform(metrics.stage(
+            job,
+            "loading",
+            concurrency.getLoading(),
+            releaseOnDrop(MessagingWrapper::payload, this::loadProcessedSubmission)
+        ))
+        .doOnNext(
+            submission -> log.info("Submission loaded for post processing {}", submission))
+        //If the submission is approved or auto approved, go save on oracle
+        .transform(metrics.stage(
+            job,
+            "persistence",
+            concurrency.getPersistence(),
+            releaseOnDrop(ProcessorService::submissionId, this::persistProcessedSubmission)
+        ))
+        .doOnNext(submission -> log.info("Submission post processed, email {}", submission))
+        .transform(metrics.dequeue(job));
+  }
+
+  private Mono<String> approveOrReview(
+      MessagingWrapper<List<MatcherResult>> submission
+  ) {
+    return Mono.just(submission)
+        //If is true, means no matches, so auto-approved
+        .filter(submissionStatus -> Boolean.TRUE.equals(submissionStatus.parameters().get(
+            ApplicationConstant.SUBMISSION_STATUS))
+        )
+        .flatMap(autoProcessingService::approved)
+        //If filter is false, means there are matches, so send to manual review
+        .switchIfEmpty(Mono.defer(() -> autoProcessingService.reviewed(submission)))
+        .doOnNext(processed -> log.info("Submission processed {} as {}",
+                processed.payload(),
+                processed.parameters().get(ApplicationConstant.SUBMISSION_TYPE)
             )
-            .doOnNext(submission -> log.info("Loaded submission for processing {}", submission))
-            //Process the submission by loading some information
-            .flatMap(submissionProcessingService::processSubmission)
-            .doOnNext(
-                submission -> log.info("Submission loaded for post processing {}", submission))
-            .flatMap(message ->
-                Mono
-                    .just(message)
-                    //If the submission is approved or auto approved, go save on oracle
-                    .filter(submission ->
-                        SubmissionStatusEnum.A.equals(
-                            submission.parameters()
-                                .get(ApplicationConstant.SUBMISSION_STATUS)
-                        )
-                    )
-                    .flatMap(legacyPersistenceService::persist)
-                    //If rejected, just send the email
-                    .defaultIfEmpty(
-                        new MessagingWrapper<>(
-                            (Integer) message.parameters().get(ApplicationConstant.SUBMISSION_ID),
-                            message.parameters()
-                        )
-                    )
+        )
+        .flatMap(this::queueMail)
+        .flatMap(emailKey -> release(submissionId(submission)).thenReturn(emailKey))
+        .as(transactionalOperator::transactional);
+  }
+
+  private Mono<MessagingWrapper<SubmissionMatchDetailEntity>> loadProcessedSubmission(
+      MessagingWrapper<Integer> submission
+  ) {
+    return autoProcessingService
+        .loadMatchingInfo(submission)
+        // Only process HOT submissions, see
+        // ClientSubmissionAutoProcessingService.loadMatchingInfo for info.
+        .filter(message -> message.getParameter(ApplicationConstant.MATCHING_KIND,
+            SubmissionProcessKindEnum.class) == SubmissionProcessKindEnum.HOT
+        )
+        .doOnNext(message -> log.info("Loaded submission for processing {}", message))
+        .flatMap(submissionProcessingService::processSubmission);
+  }
 
-                    .flatMap(submission ->
-                        autoProcessingService
-                            .completeProcessing(submission.payload())
-                            .map(id -> new MessagingWrapper<>(id, submission.parameters()))
+  private Mono<String> persistProcessedSubmission(
+      MessagingWrapper<SubmissionMatchDetailEntity> message
+  ) {
+    return Mono
+        .just(message)
+        //If the submission is approved or auto approved, go save on oracle
+        .filter(submission ->
+            SubmissionStatusEnum.A.equals(
+                submission.parameters()
+                    .get(ApplicationConstant.SUBMISSION_STATUS)
+            )
+        )
+        .flatMap(legacyPersistenceService::persist)
+        //If rejected, just send the email
+        .defaultIfEmpty(
+            new MessagingWrapper<>(
+                (Integer) message.parameters().get(ApplicationConstant.SUBMISSION_ID),
+                message.parameters()
+            )
+        )
+        .flatMap(submission ->
+            autoProcessingService
+                .completeProcessing(submission.payload())
+                .map(id -> new MessagingWrapper<>(id, submission.parameters()))
+                .flatMap(this::queueMail)
+                .flatMap(emailKey -> release(submission.payload()).thenReturn(emailKey))
+                .as(transactionalOperator::transactional)
+        );
+  }
+
+  /**
+   * Claims each notified submission, skipping the ones being processed by another instance, such
+   * as when every instance receives the same event.
+   */
+  private Flux<Integer> claim(Flux<Integer> submissionIds) {
+    ProcessorConfiguration processor = getProcessor();
+
+    return submissionIds
+        .flatMap(submissionId ->
+                submissionRepository
+                    .claimSubmission(
+                        submissionId,
+                        processor.getInstanceId(),
+                        processor.getLease().toSeconds()
                     )
+                    .switchIfEmpty(Mono.fromRunnable(() ->
+                        log.info("Submission {} is claimed by another processor", submissionId)
+                    ))
+                    .onErrorResume(throwable -> {
+                      log.error("Error claiming submission {}", submissionId, throwable);
+                      return Mono.empty();
+                    }),
+            getConcurrency().getLoading()
+        );
+  }
+
+  /**
+   * Claims the submissions in batches, claiming the next batch only once the previous one was
+   * taken by the pipeline, so the leases do not expire while waiting on a long backlog. The run
+   * stops once a batch has no submission that was not claimed on this run already, such as a
+   * submission that was released without being completed.
+   */
+  private Flux<Integer> claimBatches(BatchClaim batchClaim) {
+    ProcessorConfiguration processor = getProcessor();
+
+    return Flux.defer(() -> {
+      Set<Integer> claimed = new HashSet<>();
+
+      return Mono
+          .defer(() ->
+              batchClaim
+                  .claim(
+                      processor.getInstanceId(),
+                      processor.getLease().toSeconds(),
+                      processor.getBatchSize()
+                  )
+                  // Released submissions can be claimed again on the same run, so they are released
+                  // once more instead of being held until the lease expires
+                  .filterWhen(submissionId ->
+                      claimed.add(submissionId)
+                          ? Mono.just(true)
+                          : releaseDropped(submissionId).thenReturn(false)
+                  )
+                  .collectList()
+          )
+          .repeat()
+          .takeWhile(batch -> !batch.isEmpty())
+          .concatMapIterable(Function.identity(), 1);
+    });
+  }
+
+  /**
+   * Wraps a stage so the lease of a submission that leaves the pipeline on it, either because the
+   * stage produced nothing or failed, is released. The stage error is kept, so it is still logged
+   * by the stage.
+   */
+  private <T, R> Function<T, Mono<R>> releaseOnDrop(
+      Function<T, Integer> submissionId,
+      Function<T, Mono<R>> step
+  ) {
+    return item ->
+        Mono
+            .defer(() -> step.apply(item))
+            .onErrorResume(throwable ->
+                releaseDropped(submissionId.apply(item)).then(Mono.<R>error(throwable))
+            )
+            .switchIfEmpty(Mono.defer(() ->
+                releaseDropped(submissionId.apply(item)).then(Mono.<R>empty())
+            ));
+  }
+
+  private Mono<Integer> releaseDropped(Integer submissionId) {
+    return release(submissionId)
+        .doOnNext(released -> log.info("Submission {} was not completed, lease released",
+            submissionId))
+        .onErrorResume(throwable -> {
+          log.error("Error releasing submission {}", submissionId, throwable);
+          return Mono.empty();
+        });
+  }
+
+  private Mono<Integer> release(Integer submissionId) {
+    return submissionRepository.releaseSubmission(submissionId, getProcessor().getInstanceId());
+  }
+
+  private static Integer submissionId(MessagingWrapper<?> submission) {
+    return (Integer) submission.parameters().get(ApplicationConstant.SUBMISSION_ID);
+  }
 
+  private Mono<String> queueMail(MessagingWrapper<Integer> submission) {
+    return submissionLoadingService
+        .buildMailMessage(submission)
+        .doOnNext(message -> log.info("Email ready to be queued {}", message))
+        .flatMap(message ->
+            mailService.queueMail(
+                String.format("submission-%d-%s", submission.payload(), message.templateName()),
+                message
             )
-            .doOnNext(submission -> log.info("Submission post processed {}, building message",
-                submission))
-            .onErrorContinue(
-                (throwable, o) -> log.error("Error processing submission {}", o, throwable))
-            .flatMap(submissionLoadingService::buildMailMessage)
-            .doOnNext(message -> log.info("Post process email ready to be sent {}", message))
-            .flatMap(mailService::sendMail);
+        );
+  }
+
+  private MessagingWrapper<Integer> toMessage(
+      Integer submissionId,
+      SubmissionProcessTypeEnum submissionType
+  ) {
+    return new MessagingWrapper<>(
+        submissionId,
+        Map.of(
+            ApplicationConstant.SUBMISSION_ID, submissionId,
+            ApplicationConstant.SUBMISSION_STARTER, submissionType
+        )
+    );
+  }
+
+  private ConcurrencyConfiguration getConcurrency() {
+    return Optional
+        .ofNullable(getProcessor().getConcurrency())
+        .orElseGet(ConcurrencyConfiguration::new);
+  }
+
+  private ProcessorConfiguration getProcessor() {
+    return Optional
+        .ofNullable(configuration.getProcessor())
+        .orElseGet(ProcessorConfiguration::new);
+  }
+
+  /**
+   * One of the repository queries that claims a batch of submissions.
+   */
+  @FunctionalInterface
+  private interface BatchClaim {
+
+    Flux<Integer> claim(String owner, long leaseSeconds, int limit);
   }
 
 }
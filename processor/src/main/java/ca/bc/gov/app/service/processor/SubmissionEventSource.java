@@ -0,0 +1,20 @@
+package ca.bc.gov.app.service.processor;
+
+import ca.bc.gov.app.dto.SubmissionEventDto;
+import reactor.core.publisher.Flux;
+
+/**
+ * A source of submission events, used to start processing a submission as soon as it is created
+ * or changes status, instead of waiting for the next scheduled run.
+ */
+public interface SubmissionEventSource {
+
+  /**
+   * Listens for submission events. The returned flux never completes while the application is
+   * running.
+   *
+   * @return A flux of submission events.
+   */
+  Flux<SubmissionEventDto> events();
+
+}
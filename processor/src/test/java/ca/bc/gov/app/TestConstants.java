@@ -57,25 +57,6 @@ public class TestConstants {
           )
       );
 
-  public static final String EMAIL_REQUEST_JSON = """
-      {
-        "registrationNumber": "ABC1234",
-        "name": "Test Corp",
-        "userId": "testuserid",
-        "userName": "Test User",
-        "emailsCsv": "[testuser@mail.tst](mailto:testuser@mail.tst)",
-        "templateName": "test",
-        "subject": "Processor Tests",
-        "variables": {
-          "name": "Test User",
-          "business": {
-            "name": "Test Corp",
-            "identifier": "ABC1234"
-          }
-        }
-      }
-      """;
-
   public static final SubmissionContactEntity SUBMISSION_CONTACT =
       SubmissionContactEntity.builder()
           .firstName("James")
@@ -1,10 +1,8 @@
 package ca.bc.gov.app.controller;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
-import static com.github.tomakehurst.wiremock.client.WireMock.jsonResponse;
 import static com.github.tomakehurst.wiremock.client.WireMock.post;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
-import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
@@ -49,28 +47,7 @@ class ProcessControllerIntegrationTest extends AbstractTestContainer {
     backendStub.resetAll();
     legacyStub
         .stubFor(
-            post("/api/clients").willReturn(aResponse().withStatus(201).withBody("01000100"))
-        );
-
-    legacyStub
-        .stubFor(
-            post("/api/locations").willReturn(aResponse().withStatus(201).withBody("01000100"))
-        );
-
-    legacyStub
-        .stubFor(
-            post("/api/contacts").willReturn(aResponse().withStatus(201).withBody("01000100"))
-        );
-
-    backendStub
-        .stubFor(
-            post("/ches/email")
-                .withBasicAuth("uat", "thisisasupersecret")
-                .willReturn(jsonResponse(
-                        "Transaction ID: " + UUID.randomUUID(),
-                        200
-                    )
-                )
+            post("/api/clients/bulk").willReturn(aResponse().withStatus(201).withBody("01000100"))
         );
 
     log.info("Should submit by staff");
@@ -0,0 +1,44 @@
+package ca.bc.gov.app.dto;
+
+import ca.bc.gov.app.entity.SubmissionStatusEnum;
+import ca.bc.gov.app.entity.SubmissionTypeCodeEnum;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+@DisplayName("Unit Test | Submission Event")
+class SubmissionEventDtoTest {
+
+  @ParameterizedTest(name = "should parse {0}")
+  @MethodSource("events")
+  @DisplayName("should parse payload")
+  void shouldParsePayload(
+      String payload,
+      SubmissionStatusEnum status,
+      SubmissionTypeCodeEnum type,
+      boolean pending,
+      boolean processed
+  ) {
+    SubmissionEventDto event = SubmissionEventDto.fromPayload(payload);
+
+    Assertions.assertEquals(10, event.submissionId());
+    Assertions.assertEquals(status, event.status());
+    Assertions.assertEquals(type, event.type());
+    Assertions.assertEquals(pending, event.isPendingProcessing());
+    Assertions.assertEquals(processed, event.isExternalProcessed());
+  }
+
+  private static Stream<Arguments> events() {
+    return Stream.of(
+        Arguments.of("10,N,SPP", SubmissionStatusEnum.N, SubmissionTypeCodeEnum.SPP, true, false),
+        Arguments.of("10,A,AAC", SubmissionStatusEnum.A, SubmissionTypeCodeEnum.AAC, false, true),
+        Arguments.of("10,R,RNC", SubmissionStatusEnum.R, SubmissionTypeCodeEnum.RNC, false, true),
+        Arguments.of("10,N,RNC", SubmissionStatusEnum.N, SubmissionTypeCodeEnum.RNC, false, false),
+        Arguments.of("10,A,SSD", SubmissionStatusEnum.A, SubmissionTypeCodeEnum.SSD, false, false)
+    );
+  }
+
+}
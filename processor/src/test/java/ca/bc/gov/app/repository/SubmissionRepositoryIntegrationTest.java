@@ -0,0 +1,174 @@
+package ca.bc.gov.app.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ca.bc.gov.app.extensions.AbstractTestContainer;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@DisplayName("Integrated Test | Submission Repository")
+class SubmissionRepositoryIntegrationTest extends AbstractTestContainer {
+
+  private static final int FIRST_ID = 9000;
+  private static final int SUBMISSIONS = 60;
+
+  @Autowired
+  private SubmissionRepository repository;
+
+  @Autowired
+  private DatabaseClient databaseClient;
+
+  @BeforeEach
+  void setUp() {
+    Flux
+        .range(FIRST_ID, SUBMISSIONS)
+        .concatMap(submissionId ->
+            databaseClient
+                .sql("""
+                    INSERT INTO nrfc.submission
+                    VALUES (:submissionId, 'N', 'SPP', current_timestamp, current_timestamp,
+                    'processor-test', 'processor-test') ON CONFLICT DO NOTHING""")
+                .bind("submissionId", submissionId)
+                .then()
+        )
+        .then()
+        .block();
+  }
+
+  @AfterEach
+  void tearDown() {
+    databaseClient
+        .sql("DELETE FROM nrfc.submission_matching_detail WHERE submission_id >= :firstId")
+        .bind("firstId", FIRST_ID)
+        .then()
+        .then(
+            databaseClient
+                .sql("DELETE FROM nrfc.submission WHERE submission_id >= :firstId")
+                .bind("firstId", FIRST_ID)
+                .then()
+        )
+        .then(
+            databaseClient
+                .sql("UPDATE nrfc.submission SET lease_owner = null, lease_expiry_timestamp = null")
+                .then()
+        )
+        .block();
+  }
+
+  @Test
+  @DisplayName("each submission is claimed once under contention")
+  void shouldClaimExclusively() {
+    List<Integer> claimed = Flux
+        .range(0, 8)
+        .flatMap(worker -> claimAll("processor-" + worker), 8)
+        .filter(submissionId -> submissionId >= FIRST_ID)
+        .collectList()
+        .block();
+
+    assertThat(claimed)
+        .doesNotHaveDuplicates()
+        .containsExactlyInAnyOrderElementsOf(
+            IntStream.range(FIRST_ID, FIRST_ID + SUBMISSIONS).boxed().toList()
+        );
+  }
+
+  @Test
+  @DisplayName("a leased submission is only claimed again once the lease expires")
+  void shouldClaimAfterLeaseExpires() {
+    repository
+        .claimSubmission(FIRST_ID, "processor-a", 300)
+        .as(StepVerifier::create)
+        .expectNext(FIRST_ID)
+        .verifyComplete();
+
+    repository
+        .claimSubmission(FIRST_ID, "processor-b", 300)
+        .as(StepVerifier::create)
+        .verifyComplete();
+
+    repository
+        .claimSubmission(FIRST_ID + 1, "processor-a", 0)
+        .then(Mono.delay(Duration.ofMillis(50)))
+        .then(repository.claimSubmission(FIRST_ID + 1, "processor-b", 300))
+        .as(StepVerifier::create)
+        .expectNext(FIRST_ID + 1)
+        .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("a submission is only released by its owner")
+  void shouldReleaseByOwner() {
+    repository
+        .claimSubmission(FIRST_ID, "processor-a", 300)
+        .then(repository.releaseSubmission(FIRST_ID, "processor-b"))
+        .as(StepVerifier::create)
+        .expectNext(0)
+        .verifyComplete();
+
+    repository
+        .releaseSubmission(FIRST_ID, "processor-a")
+        .then(repository.claimSubmission(FIRST_ID, "processor-b", 300))
+        .as(StepVerifier::create)
+        .expectNext(FIRST_ID)
+        .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("a completed submission is not claimed again by a late event")
+  void shouldNotClaimCompleted() {
+    // Pending processing completed, moving the submission to review
+    repository
+        .claimSubmission(FIRST_ID, "processor-a", 300)
+        .then(execute("""
+            UPDATE nrfc.submission SET submission_type_code = 'RNC'
+            WHERE submission_id = :submissionId""", FIRST_ID))
+        .then(repository.releaseSubmission(FIRST_ID, "processor-a"))
+        .then(repository.claimSubmission(FIRST_ID, "processor-b", 300))
+        .as(StepVerifier::create)
+        .verifyComplete();
+
+    // Approved external submission, claimable until its matching is processed
+    execute("""
+        UPDATE nrfc.submission SET submission_type_code = 'AAC', submission_status_code = 'A'
+        WHERE submission_id = :submissionId""", FIRST_ID + 1)
+        .then(repository.claimSubmission(FIRST_ID + 1, "processor-a", 300))
+        .as(StepVerifier::create)
+        .expectNext(FIRST_ID + 1)
+        .verifyComplete();
+
+    execute("""
+        INSERT INTO nrfc.submission_matching_detail
+        (submission_matching_detail_id, submission_id, submission_matching_processed)
+        VALUES (:submissionId, :submissionId, true)""", FIRST_ID + 1)
+        .then(repository.releaseSubmission(FIRST_ID + 1, "processor-a"))
+        .then(repository.claimSubmission(FIRST_ID + 1, "processor-b", 300))
+        .as(StepVerifier::create)
+        .verifyComplete();
+  }
+
+  private Mono<Void> execute(String sql, Integer submissionId) {
+    return databaseClient
+        .sql(sql)
+        .bind("submissionId", submissionId)
+        .then();
+  }
+
+  private Flux<Integer> claimAll(String owner) {
+    return Mono
+        .defer(() -> repository.claimProcessingSubmissions(owner, 300, 5).collectList())
+        .repeat()
+        .takeWhile(batch -> !batch.isEmpty())
+        .concatMapIterable(batch -> batch);
+  }
+
+}
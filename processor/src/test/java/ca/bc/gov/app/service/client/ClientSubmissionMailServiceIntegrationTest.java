@@ -0,0 +1,65 @@
+package ca.bc.gov.app.service.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ca.bc.gov.app.TestConstants;
+import ca.bc.gov.app.extensions.AbstractTestContainer;
+import ca.bc.gov.app.repository.EmailLogRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import reactor.test.StepVerifier;
+
+@DisplayName("Integrated Test | Client Submission Mail Service")
+class ClientSubmissionMailServiceIntegrationTest extends AbstractTestContainer {
+
+  @Autowired
+  private ClientSubmissionMailService service;
+
+  @Autowired
+  private EmailLogRepository emailLogRepository;
+
+  @Test
+  @DisplayName("queue an email")
+  void shouldQueueEmail() {
+    service
+        .queueMail("submission-test-queue", TestConstants.EMAIL_REQUEST)
+        .as(StepVerifier::create)
+        .expectNext("submission-test-queue")
+        .verifyComplete();
+
+    emailLogRepository
+        .findByEmailKey("submission-test-queue")
+        .as(StepVerifier::create)
+        .assertNext(email -> {
+          assertThat(email.getEmailSentInd()).isEqualTo("N");
+          assertThat(email.getTemplateName()).isEqualTo("test");
+          assertThat(email.getEmailAddress())
+              .isEqualTo(TestConstants.EMAIL_REQUEST.emailsCsv());
+          assertThat(email.getEmailSubject()).isEqualTo("Processor Tests");
+          assertThat(email.getEmailVariables().asString()).contains("Test Corp");
+          assertThat(email.getSendAttempts()).isZero();
+        })
+        .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("queue the same email once")
+  void shouldQueueEmailOnce() {
+    service
+        .queueMail("submission-test-once", TestConstants.EMAIL_REQUEST)
+        .then(service.queueMail("submission-test-once", TestConstants.EMAIL_REQUEST))
+        .as(StepVerifier::create)
+        .expectNext("submission-test-once")
+        .verifyComplete();
+
+    emailLogRepository
+        .findAll()
+        .filter(email -> "submission-test-once".equals(email.getEmailKey()))
+        .count()
+        .as(StepVerifier::create)
+        .expectNext(1L)
+        .verifyComplete();
+  }
+
+}
@@ -2,15 +2,21 @@ package ca.bc.gov.app.service.legacy;
 
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import ca.bc.gov.app.ApplicationConstant;
 import ca.bc.gov.app.dto.MessagingWrapper;
+import ca.bc.gov.app.dto.legacy.ClientDoingBusinessAsDto;
+import ca.bc.gov.app.dto.legacy.ForestClientContactDto;
 import ca.bc.gov.app.dto.legacy.ForestClientDto;
+import ca.bc.gov.app.dto.legacy.ForestClientGraphDto;
+import ca.bc.gov.app.dto.legacy.ForestClientLocationDto;
 import ca.bc.gov.app.entity.SubmissionContactEntity;
 import ca.bc.gov.app.entity.SubmissionDetailEntity;
 import ca.bc.gov.app.entity.SubmissionLocationContactEntity;
@@ -27,6 +33,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -54,11 +61,22 @@ class LegacyAbstractPersistenceServiceTest {
   );
 
 
-  @ParameterizedTest
-  @MethodSource("contactExist")
-  @DisplayName("create locations")
-  void shouldCreateLocations(boolean locationExisted) {
+  @Test
+  @DisplayName("create client with locations and contacts in a single request")
+  void shouldCreateClientGraph() {
+
+    SubmissionDetailEntity detailEntity = SubmissionDetailEntity
+        .builder()
+        .submissionId(2)
+        .registrationNumber("XX0000000")
+        .organizationName("Sample test")
+        .clientTypeCode("C")
+        .build();
 
+    when(submissionDetailRepository.findBySubmissionId(any()))
+        .thenReturn(Mono.just(detailEntity));
+    when(submissionDetailRepository.save(any()))
+        .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
     when(locationRepository.findBySubmissionId(eq(2)))
         .thenReturn(Flux.just(
                 SubmissionLocationEntity
@@ -71,186 +89,96 @@ class LegacyAbstractPersistenceServiceTest {
                     .cityName("VICTORIA")
                     .postalCode("V8V 3V3")
                     .name("Mailing address")
+                    .build(),
+                SubmissionLocationEntity
+                    .builder()
+                    .submissionLocationId(2)
+                    .submissionId(2)
+                    .streetAddress("2975 JUTLAND RD")
+                    .countryCode("CA")
+                    .provinceCode("BC")
+                    .cityName("VICTORIA")
+                    .postalCode("V8T 5J9")
+                    .name("Billing address")
                     .build()
             )
         );
-    when(legacyService.createLocation(any(), anyString(), any(), anyString()))
-        .thenReturn(Mono.just("00123456"));
-
-    service
-        .createLocations(
-            new MessagingWrapper<>(
-                2,
-                Map.of(
-                    ApplicationConstant.SUBMISSION_ID, 2,
-                    ApplicationConstant.CREATED_BY, ApplicationConstant.PROCESSOR_USER_NAME,
-                    ApplicationConstant.UPDATED_BY, ApplicationConstant.PROCESSOR_USER_NAME,
-                    ApplicationConstant.FOREST_CLIENT_NUMBER, "00000000",
-                    ApplicationConstant.FOREST_CLIENT_NAME, "STAR DOT STAR VENTURES",
-                    ApplicationConstant.REGISTRATION_NUMBER, "FM0159297",
-                    ApplicationConstant.CLIENT_TYPE_CODE, "C"
-                )
-            )
-        )
-        .as(StepVerifier::create)
-        .assertNext(message -> {
-          assertThat(message)
-              .isNotNull()
-              .hasFieldOrPropertyWithValue("payload", 2);
-
-          assertThat(message.parameters().get(ApplicationConstant.SUBMISSION_ID))
-              .as("submission id")
-              .isNotNull()
-              .isInstanceOf(Integer.class)
-              .isEqualTo(2);
-
-          assertThat(message.parameters().get(ApplicationConstant.CREATED_BY))
-              .as("created by")
-              .isNotNull()
-              .isInstanceOf(String.class);
-
-          assertThat(message.parameters().get(ApplicationConstant.UPDATED_BY))
-              .as("updated by")
-              .isNotNull()
-              .isInstanceOf(String.class);
-
-          assertThat(message.parameters().get(ApplicationConstant.FOREST_CLIENT_NAME))
-              .as("forest client name")
-              .isNotNull()
-              .isInstanceOf(String.class)
-              .isEqualTo("STAR DOT STAR VENTURES");
-
-          assertThat(message.parameters().get(ApplicationConstant.REGISTRATION_NUMBER))
-              .as("registration number")
-              .isNotNull()
-              .isInstanceOf(String.class)
-              .isEqualTo("FM0159297");
-
-          assertThat(message.parameters().get(ApplicationConstant.FOREST_CLIENT_NUMBER))
-              .as("forest client number")
-              .isNotNull()
-              .isInstanceOf(String.class)
-              .isEqualTo("00000000");
-
-          assertThat(message.parameters().get(ApplicationConstant.LOCATION_CODE))
-              .as("location code")
-              .isNotNull()
-              .isInstanceOf(String.class)
-              .isEqualTo("00");
-
-          assertThat(message.parameters().get(ApplicationConstant.LOCATION_ID))
-              .as("location id")
-              .isNotNull()
-              .isInstanceOf(Integer.class)
-              .isEqualTo(1);
-
-
-        })
-        .verifyComplete();
-
-  }
-
-  @ParameterizedTest
-  @MethodSource("contactExist")
-  @DisplayName("create contacts")
-  void shouldCreateContacts(boolean contactExisted) {
-
-    SubmissionContactEntity contact = SubmissionContactEntity
-        .builder()
-        .submissionContactId(1)
-        .submissionId(2)
-        .contactTypeCode("BL")
-        .firstName("JOHN")
-        .lastName("DOE")
-        .businessPhoneNumber("2505555555")
-        .emailAddress("mail@mail.ca")
-        .build();
-    when(locationContactRepository.findBySubmissionLocationId(any()))
+    when(locationContactRepository.findBySubmissionLocationId(eq(1)))
+        .thenReturn(Flux.empty());
+    when(locationContactRepository.findBySubmissionLocationId(eq(2)))
         .thenReturn(Flux.just(
                 SubmissionLocationContactEntity
                     .builder()
-                    .submissionLocationId(1)
+                    .submissionLocationId(2)
                     .submissionContactId(1)
                     .build()
             )
         );
     when(contactRepository.findById(any(Integer.class)))
-        .thenReturn(Mono.just(contact));
-    when(legacyService.createContact(any()))
-        .thenReturn(Mono.just("00000000"));
+        .thenReturn(Mono.just(
+                SubmissionContactEntity
+                    .builder()
+                    .submissionContactId(1)
+                    .submissionId(2)
+                    .contactTypeCode("BL")
+                    .firstName("JOHN")
+                    .lastName("DOE")
+                    .businessPhoneNumber("(250) 555-5555")
+                    .emailAddress("mail@mail.ca")
+                    .build()
+            )
+        );
+    when(legacyService.createClientGraph(any()))
+        .thenReturn(Mono.just("00000001"));
 
-    Map<String, Object> params = Map.of(
-        ApplicationConstant.SUBMISSION_ID, 2,
-        ApplicationConstant.CREATED_BY, ApplicationConstant.PROCESSOR_USER_NAME,
-        ApplicationConstant.UPDATED_BY, ApplicationConstant.PROCESSOR_USER_NAME,
-        ApplicationConstant.FOREST_CLIENT_NUMBER, "00000000",
-        ApplicationConstant.FOREST_CLIENT_NAME, "STAR DOT STAR VENTURES",
-        ApplicationConstant.REGISTRATION_NUMBER, "FM0159297",
-        ApplicationConstant.LOCATION_CODE, "00",
-        ApplicationConstant.LOCATION_ID, 1,
-        ApplicationConstant.CLIENT_TYPE_CODE, "C"
+    ForestClientDto newClient = new ForestClientDto(
+        null, null, null, null, null, null, null, null,
+        null, null, null, null, null, null, null, null, null
     );
 
-    service.createContact(
+    service
+        .createForestClient(
             new MessagingWrapper<>(
-                2,
-                params
+                newClient,
+                Map.of(
+                    ApplicationConstant.SUBMISSION_ID, 2,
+                    ApplicationConstant.CREATED_BY, ApplicationConstant.PROCESSOR_USER_NAME,
+                    ApplicationConstant.UPDATED_BY, ApplicationConstant.PROCESSOR_USER_NAME,
+                    ApplicationConstant.CLIENT_TYPE_CODE, "C",
+                    ApplicationConstant.FOREST_CLIENT_NAME, "STAR DOT STAR VENTURES",
+                    ApplicationConstant.IS_DOING_BUSINESS_AS, true,
+                    ApplicationConstant.DOING_BUSINESS_AS, "STAR DOT"
+                )
             )
         )
         .as(StepVerifier::create)
-        .assertNext(message -> {
-          assertThat(message)
-              .isNotNull()
-              .hasFieldOrPropertyWithValue("payload", 2);
-
-          assertThat(message.parameters().get(ApplicationConstant.SUBMISSION_ID))
-              .as("submission id")
-              .isNotNull()
-              .isInstanceOf(Integer.class)
-              .isEqualTo(2);
-
-          assertThat(message.parameters().get(ApplicationConstant.CREATED_BY))
-              .as("created by")
-              .isNotNull()
-              .isInstanceOf(String.class);
-
-          assertThat(message.parameters().get(ApplicationConstant.UPDATED_BY))
-              .as("updated by")
-              .isNotNull()
-              .isInstanceOf(String.class);
-
-          assertThat(message.parameters().get(ApplicationConstant.FOREST_CLIENT_NAME))
-              .as("forest client name")
-              .isNotNull()
-              .isInstanceOf(String.class)
-              .isEqualTo("STAR DOT STAR VENTURES");
-
-          assertThat(message.parameters().get(ApplicationConstant.REGISTRATION_NUMBER))
-              .as("registration number")
-              .isNotNull()
-              .isInstanceOf(String.class)
-              .isEqualTo("FM0159297");
-
+        .assertNext(message ->
           assertThat(message.parameters().get(ApplicationConstant.FOREST_CLIENT_NUMBER))
               .as("forest client number")
-              .isNotNull()
-              .isInstanceOf(String.class)
-              .isEqualTo("00000000");
+              .isEqualTo("00000001")
+        )
+        .verifyComplete();
 
-          assertThat(message.parameters().get(ApplicationConstant.LOCATION_CODE))
-              .as("location code")
-              .isNotNull()
-              .isInstanceOf(String.class)
-              .isEqualTo("00");
+    ArgumentCaptor<ForestClientGraphDto> graph =
+        ArgumentCaptor.forClass(ForestClientGraphDto.class);
+    verify(legacyService, times(1)).createClientGraph(graph.capture());
 
-          assertThat(message.parameters().get(ApplicationConstant.LOCATION_ID))
-              .as("location id")
-              .isNotNull()
-              .isInstanceOf(Integer.class)
-              .isEqualTo(1);
+    assertThat(graph.getValue().locations())
+        .extracting(ForestClientLocationDto::clientLocnCode, ForestClientLocationDto::city)
+        .containsExactly(tuple("00", "VICTORIA"), tuple("01", "VICTORIA"));
 
-        })
-        .verifyComplete();
+    assertThat(graph.getValue().contacts())
+        .extracting(
+            ForestClientContactDto::clientLocnCode,
+            ForestClientContactDto::contactName,
+            ForestClientContactDto::businessPhone
+        )
+        .containsExactly(tuple("01", "JOHN DOE", "2505555555"));
+
+    assertThat(graph.getValue().doingBusinessAs())
+        .isNotNull()
+        .extracting(ClientDoingBusinessAsDto::doingBusinessAsName)
+        .isEqualTo("STAR DOT");
   }
 
   @ParameterizedTest
@@ -350,7 +278,9 @@ class LegacyAbstractPersistenceServiceTest {
         .thenReturn(Mono.just(detailEntity));
     when(submissionDetailRepository.save(any()))
         .thenReturn(Mono.just(detailEntity));
-    when(legacyService.createClient(any()))
+    when(locationRepository.findBySubmissionId(any()))
+        .thenReturn(Flux.empty());
+    when(legacyService.createClientGraph(any()))
         .thenReturn(Mono.just("00000000"));
 
     ForestClientDto newClient = new ForestClientDto(
@@ -397,6 +327,11 @@ class LegacyAbstractPersistenceServiceTest {
         null, null, null, null, null, null, null, null, null
     ).withClientNumber("00001000");
 
+    when(locationRepository.findBySubmissionId(any()))
+        .thenReturn(Flux.empty());
+    when(legacyService.createClientGraph(any()))
+        .thenReturn(Mono.just("00001000"));
+
     service
         .createForestClient(
             new MessagingWrapper<>(
@@ -438,8 +373,4 @@ class LegacyAbstractPersistenceServiceTest {
     return Stream.of("I", "RSP", "USP");
   }
 
-  private static Stream<Boolean> contactExist() {
-    return Stream.of(true, false);
-  }
-
 }
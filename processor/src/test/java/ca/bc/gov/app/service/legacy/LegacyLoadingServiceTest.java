@@ -5,19 +5,26 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import ca.bc.gov.app.ApplicationConstant;
 import ca.bc.gov.app.TestConstants;
+import ca.bc.gov.app.configuration.ForestClientConfiguration;
 import ca.bc.gov.app.dto.MatcherResult;
 import ca.bc.gov.app.dto.MessagingWrapper;
 import ca.bc.gov.app.dto.SubmissionInformationDto;
+import ca.bc.gov.app.matchers.MatcherLookup;
 import ca.bc.gov.app.matchers.ProcessorMatcher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -25,7 +32,10 @@ import reactor.test.StepVerifier;
 class LegacyLoadingServiceTest {
 
   private final LegacyLoadingService service = new LegacyLoadingService(
-      List.of(new TestProcessorMatcher()));
+      List.of(new TestProcessorMatcher()),
+      new SimpleMeterRegistry(),
+      ForestClientConfiguration.builder().build()
+  );
 
 
   @ParameterizedTest
@@ -56,6 +66,36 @@ class LegacyLoadingServiceTest {
         .verifyComplete();
   }
 
+  @Test
+  @DisplayName("Share identical lookups between matchers")
+  void shouldShareIdenticalLookups() {
+    AtomicInteger lookups = new AtomicInteger();
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    LegacyLoadingService sharedService = new LegacyLoadingService(
+        List.of(
+            new LookupProcessorMatcher("first", lookups),
+            new LookupProcessorMatcher("second", lookups)
+        ),
+        registry,
+        ForestClientConfiguration.builder().build()
+    );
+
+    sharedService
+        .matchCheck(
+            new MessagingWrapper<>(
+                TestConstants.SUBMISSION_INFORMATION,
+                Map.of(ApplicationConstant.SUBMISSION_ID, 1)
+            )
+        )
+        .as(StepVerifier::create)
+        .assertNext(message -> assertThat(message.payload()).hasSize(2))
+        .verifyComplete();
+
+    assertThat(lookups).hasValue(1);
+    assertThat(registry.find("processor.matcher.latency").timers()).hasSize(2);
+  }
+
   private static Stream<Arguments> matchCheck() {
     return
         Stream.of(
@@ -96,5 +136,35 @@ class LegacyLoadingServiceTest {
     }
   }
 
+  private record LookupProcessorMatcher(
+      String name,
+      AtomicInteger lookups
+  ) implements ProcessorMatcher {
+
+    @Override
+    public boolean enabled(SubmissionInformationDto submission) {
+      return true;
+    }
+
+    @Override
+    public String fieldName() {
+      return name;
+    }
+
+    @Override
+    public Mono<MatcherResult> matches(SubmissionInformationDto submission) {
+      return MatcherLookup
+          .lookup(
+              "/api/search/match",
+              () -> Flux
+                  .just("00000001")
+                  .delayElements(Duration.ofMillis(50))
+                  .doOnSubscribe(subscription -> lookups.incrementAndGet()),
+              submission.corporationName()
+          )
+          .collect(initializeResult(), compileResult());
+    }
+  }
+
 
 }
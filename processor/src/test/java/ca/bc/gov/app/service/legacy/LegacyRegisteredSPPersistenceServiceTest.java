@@ -287,9 +287,9 @@ class LegacyRegisteredSPPersistenceServiceTest {
         .thenReturn(Mono.just(detailEntity));
     when(submissionDetailRepository.save(any()))
         .thenReturn(Mono.just(detailEntity));
-    when(legacyService.createDoingBusinessAs(any(), any(), any(), any()))
-        .thenReturn(Mono.just("00000000"));
-    when(legacyService.createClient(any()))
+    when(locationRepository.findBySubmissionId(any()))
+        .thenReturn(Flux.empty());
+    when(legacyService.createClientGraph(any()))
         .thenReturn(Mono.just("00000000"));
 
     ForestClientDto newClient = new ForestClientDto(
@@ -350,9 +350,9 @@ class LegacyRegisteredSPPersistenceServiceTest {
         .thenReturn(Mono.just(detailEntity));
     when(submissionDetailRepository.save(any()))
         .thenReturn(Mono.just(detailEntity));
-    when(legacyService.createDoingBusinessAs(any(), any(), any(), any()))
-        .thenReturn(Mono.just(expectedClientNumber));
-    when(legacyService.createClient(any()))
+    when(locationRepository.findBySubmissionId(any()))
+        .thenReturn(Flux.empty());
+    when(legacyService.createClientGraph(any()))
         .thenReturn(Mono.just(expectedClientNumber));
 
     service
@@ -0,0 +1,114 @@
+package ca.bc.gov.app.service.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+@DisplayName("Unit Test | Processor Metrics")
+class ProcessorMetricsTest {
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final ProcessorMetrics metrics = new ProcessorMetrics(registry);
+
+  @Test
+  @DisplayName("Count the submissions in flight until they leave the stage")
+  void shouldCountInFlight() {
+    Sinks.One<Integer> first = Sinks.one();
+    Sinks.One<Integer> second = Sinks.one();
+
+    Flux
+        .just(first, second)
+        .transform(metrics.enqueue("test"))
+        .transform(metrics.<Sinks.One<Integer>, Integer>stage(
+            "test", "work", 2, Sinks.One::asMono
+        ))
+        .transform(metrics.dequeue("test"))
+        .as(StepVerifier::create)
+        .then(() -> {
+          assertThat(inFlight()).isEqualTo(2);
+          assertThat(queueDepth()).isEqualTo(2);
+        })
+        .then(() -> first.tryEmitValue(1))
+        .expectNext(1)
+        .then(() -> {
+          assertThat(inFlight()).isEqualTo(1);
+          assertThat(queueDepth()).isEqualTo(1);
+        })
+        .then(() -> second.tryEmitError(new IllegalStateException("failed")))
+        .verifyComplete();
+
+    assertThat(inFlight()).isZero();
+    assertThat(queueDepth()).isZero();
+    assertThat(registry.get("processor.stage.latency").tag("stage", "work").timer().count())
+        .isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("Keep the stage going when a submission fails")
+  void shouldContinueAfterFailure() {
+    Flux
+        .just(1, 2, 3)
+        .transform(metrics.enqueue("test"))
+        .transform(metrics.<Integer, Integer>stage("test", "work", 1, item ->
+            item == 2
+                ? Mono.error(new IllegalStateException("failed"))
+                : Mono.just(item * 10)
+        ))
+        .transform(metrics.dequeue("test"))
+        .as(StepVerifier::create)
+        .expectNext(10, 30)
+        .verifyComplete();
+
+    assertThat(inFlight()).isZero();
+    assertThat(queueDepth()).isZero();
+  }
+
+  @Test
+  @DisplayName("Limit the submissions in the stage at once")
+  void shouldLimitConcurrency() {
+    Sinks.One<Integer> first = Sinks.one();
+    Sinks.One<Integer> second = Sinks.one();
+
+    Flux
+        .just(first, second)
+        .transform(metrics.enqueue("test"))
+        .transform(metrics.<Sinks.One<Integer>, Integer>stage(
+            "test", "work", 1, Sinks.One::asMono
+        ))
+        .transform(metrics.dequeue("test"))
+        .as(StepVerifier::create)
+        .then(() -> assertThat(inFlight()).isEqualTo(1))
+        .then(() -> first.tryEmitValue(1))
+        .expectNext(1)
+        .then(() -> assertThat(inFlight()).isEqualTo(1))
+        .then(() -> second.tryEmitValue(2))
+        .expectNext(2)
+        .verifyComplete();
+
+    assertThat(inFlight()).isZero();
+    assertThat(queueDepth()).isZero();
+  }
+
+  private double inFlight() {
+    return registry
+        .get("processor.stage.inflight")
+        .tags("job", "test", "stage", "work")
+        .gauge()
+        .value();
+  }
+
+  private double queueDepth() {
+    return registry
+        .get("processor.queue.depth")
+        .tag("job", "test")
+        .gauge()
+        .value();
+  }
+
+}
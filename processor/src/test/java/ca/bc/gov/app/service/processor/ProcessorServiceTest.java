@@ -0,0 +1,123 @@
+package ca.bc.gov.app.service.processor;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import ca.bc.gov.app.dto.SubmissionProcessTypeEnum;
+
+import ca.bc.gov.app.configuration.ForestClientConfiguration;
+import ca.bc.gov.app.configuration.ForestClientConfiguration.ProcessorConfiguration;
+import ca.bc.gov.app.repository.SubmissionRepository;
+import ca.bc.gov.app.service.client.ClientSubmissionAutoProcessingService;
+import ca.bc.gov.app.service.client.ClientSubmissionLoadingService;
+import ca.bc.gov.app.service.client.ClientSubmissionMailService;
+import ca.bc.gov.app.service.client.ClientSubmissionProcessingService;
+import ca.bc.gov.app.service.legacy.LegacyLoadingService;
+import ca.bc.gov.app.service.legacy.LegacyPersistenceService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+@DisplayName("Unit Test | Processor Service")
+class ProcessorServiceTest {
+
+  private final SubmissionRepository submissionRepository = mock(SubmissionRepository.class);
+  private final ClientSubmissionLoadingService loadingService =
+      mock(ClientSubmissionLoadingService.class);
+  private final ClientSubmissionAutoProcessingService autoProcessingService =
+      mock(ClientSubmissionAutoProcessingService.class);
+  private final ProcessorConfiguration processor = ProcessorConfiguration.builder().build();
+
+  private final ProcessorService service = new ProcessorService(
+      submissionRepository,
+      loadingService,
+      mock(LegacyLoadingService.class),
+      autoProcessingService,
+      mock(ClientSubmissionProcessingService.class),
+      mock(ClientSubmissionMailService.class),
+      mock(LegacyPersistenceService.class),
+      mock(SubmissionEventSource.class),
+      new ProcessorMetrics(new SimpleMeterRegistry()),
+      ForestClientConfiguration
+          .builder()
+          .processor(processor)
+          .build(),
+      mock(TransactionalOperator.class)
+  );
+
+  @Test
+  @DisplayName("Skip a run while the previous one is still running")
+  void shouldSkipOverlappingRun() {
+    Sinks.Empty<Void> claim = Sinks.empty();
+    when(submissionRepository.claimProcessingSubmissions(anyString(), anyLong(), anyInt()))
+        .thenReturn(claim.asMono().thenMany(Flux.empty()));
+
+    service.submissionMessages();
+    service.submissionMessages();
+    verify(submissionRepository, times(1))
+        .claimProcessingSubmissions(anyString(), anyLong(), anyInt());
+
+    claim.tryEmitEmpty();
+
+    service.submissionMessages();
+    verify(submissionRepository, times(2))
+        .claimProcessingSubmissions(anyString(), anyLong(), anyInt());
+  }
+
+  @Test
+  @DisplayName("Run again after the previous run failed")
+  void shouldRunAgainAfterError() {
+    when(submissionRepository.claimStaffSubmissions(anyString(), anyLong(), anyInt()))
+        .thenReturn(Flux.error(new IllegalStateException("failed")));
+
+    service.processStaffSubmitted();
+    service.processStaffSubmitted();
+
+    verify(submissionRepository, times(2))
+        .claimStaffSubmissions(anyString(), anyLong(), anyInt());
+  }
+
+  @Test
+  @DisplayName("Release a submission that has nothing to process")
+  void shouldReleaseEmptySubmission() {
+    when(submissionRepository.claimProcessingSubmissions(anyString(), anyLong(), anyInt()))
+        .thenReturn(Flux.just(10), Flux.empty());
+    when(loadingService.loadSubmissionDetails(10)).thenReturn(Mono.empty());
+    when(submissionRepository.releaseSubmission(10, processor.getInstanceId()))
+        .thenReturn(Mono.just(1));
+
+    service.submissionMessages();
+
+    verify(submissionRepository, times(1)).releaseSubmission(10, processor.getInstanceId());
+  }
+
+  @Test
+  @DisplayName("Release a submission that failed, so it can be claimed again")
+  void shouldReleaseFailedSubmission() {
+    when(submissionRepository.claimSubmission(anyInt(), anyString(), anyLong()))
+        .thenReturn(Mono.just(20));
+    when(autoProcessingService.loadMatchingInfo(any()))
+        .thenReturn(Mono.error(new IllegalStateException("failed")));
+    when(submissionRepository.releaseSubmission(20, processor.getInstanceId()))
+        .thenReturn(Mono.just(1));
+
+    service
+        .processedMessage(20, SubmissionProcessTypeEnum.STAFF)
+        .as(StepVerifier::create)
+        .verifyComplete();
+
+    verify(submissionRepository, times(1)).releaseSubmission(20, processor.getInstanceId());
+  }
+
+}